@@ -0,0 +1,68 @@
+package com.codeit.mopl.event.codec;
+
+import com.codeit.mopl.domain.notification.dto.NotificationDto;
+import com.codeit.mopl.domain.notification.entity.Level;
+import com.codeit.mopl.event.event.NotificationCreateEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 이벤트 코덱 별 인코딩 / 디코딩 비용 비교 (가장 트래픽이 많은 NotificationCreateEvent 기준)
+ * - json: 기존 JSON 문자열 페이로드
+ * - smile-v1: Jackson Smile 바이너리 페이로드
+ * 페이로드 크기는 setUp 에서 한 번 출력하고, 운영에서는 kafka.event.payload.bytes 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventCodecBenchmark {
+
+    @Param({EventCodecs.JSON, EventCodecs.SMILE_V1})
+    private String codec;
+
+    private EventCodecs eventCodecs;
+    private NotificationCreateEvent event;
+    private ConsumerRecord<String, byte[]> record;
+
+    @Setup
+    public void setUp() throws Exception {
+        eventCodecs = new EventCodecs(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), codec);
+        event = new NotificationCreateEvent(new NotificationDto(
+                UUID.randomUUID(),
+                Instant.now(),
+                UUID.randomUUID(),
+                "새 플레이리스트",
+                "팔로우한 사용자가 새 플레이리스트 [주말에 볼 영화 모음] 을 만들었습니다.",
+                Level.INFO));
+
+        EncodedEvent encoded = eventCodecs.encode(event);
+        record = new ConsumerRecord<>("mopl-notification-create", 0, 0L, null, encoded.payload());
+        record.headers().add(new RecordHeader(EventCodecs.CODEC_HEADER, encoded.codec().getBytes(StandardCharsets.UTF_8)));
+        System.out.printf("%n[%s] payload bytes = %d%n", codec, encoded.payload().length);
+    }
+
+    @Benchmark
+    public EncodedEvent encode() throws Exception {
+        return eventCodecs.encode(event);
+    }
+
+    @Benchmark
+    public NotificationCreateEvent decode() throws Exception {
+        return eventCodecs.decode(record, NotificationCreateEvent.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.codeit.mopl.security.jwt;
+
+import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 한 번의 요청에서 발생하는 토큰 검증 비용 비교
+ * - legacyPipeline: verifyJws + getEmail + validateAccessToken (3회 파싱, 요청마다 MACVerifier 생성)
+ * - verifiedPipeline: verifyAccessToken (1회 파싱, 캐싱된 MACVerifier)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 30, 60 * 24);
+        accessToken = jwtTokenProvider.generateAccessToken(
+                Map.of("userId", UUID.randomUUID(), "roles", "USER"), "bench@example.com");
+    }
+
+    @Benchmark
+    public void legacyPipeline(Blackhole blackhole) throws Exception {
+        // verifyJws
+        SignedJWT jws = SignedJWT.parse(accessToken);
+        blackhole.consume(jws.verify(new MACVerifier(SECRET.getBytes(StandardCharsets.UTF_8))));
+        blackhole.consume(jws.getJWTClaimsSet().getExpirationTime());
+        // getEmail
+        blackhole.consume(SignedJWT.parse(accessToken).getJWTClaimsSet().getSubject());
+        // validateAccessToken (Redis fallback)
+        SignedJWT validated = SignedJWT.parse(accessToken);
+        blackhole.consume(validated.verify(new MACVerifier(SECRET.getBytes(StandardCharsets.UTF_8))));
+        blackhole.consume(validated.getJWTClaimsSet().getClaim("type"));
+    }
+
+    @Benchmark
+    public VerifiedJwt verifiedPipeline() {
+        return jwtTokenProvider.verifyAccessToken(accessToken);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskDecorator;
@@ -63,4 +64,18 @@ public class AsyncConfig {
     executor.initialize();
     return executor;
   }
-}
\ No newline at end of file
+
+  // SSE 송신 전용, 느린 클라이언트가 다른 작업 스레드를 점유하지 않도록 분리
+  // 쓰기가 막힌 연결 수만큼 스레드가 묶이므로 sse.writer.pool-size 는 동시에 막힐 수 있는 연결 수보다 넉넉히 둔다
+  @Bean(name = "sseWriterExecutor")
+  public Executor sseWriterExecutor(@Value("${sse.writer.pool-size:8}") int poolSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(10_000);
+    executor.setThreadNamePrefix("sseWriter-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.initialize();
+    return executor;
+  }
+}
@@ -1,8 +1,66 @@
 package com.codeit.mopl.config;
 
+import com.codeit.mopl.event.autoscale.KafkaAutoscaleProperties;
+import com.codeit.mopl.event.idempotency.ProcessedEventRetentionProperties;
+import com.codeit.mopl.event.lane.NotificationLaneProperties;
+import java.util.Properties;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
 @EnableKafka
-public class KafkaConsumerConfig { }
\ No newline at end of file
+@EnableConfigurationProperties({KafkaAutoscaleProperties.class, NotificationLaneProperties.class,
+    ProcessedEventRetentionProperties.class})
+public class KafkaConsumerConfig {
+
+  // 처리에 실패한 레코드를 {topic}.DLT 로 보낸다
+  @Bean
+  public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, byte[]> kafkaTemplate) {
+    return new DeadLetterPublishingRecoverer(kafkaTemplate);
+  }
+
+  // 한 번의 poll 을 List 로 받는 배치 리스너용
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+      ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+      ConsumerFactory<Object, Object> kafkaConsumerFactory,
+      DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+    ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+    configurer.configure(factory, kafkaConsumerFactory);
+    factory.setBatchListener(true);
+    // 리스너가 배치 전체를 던진 경우(중복 조회 실패 등)만 해당, 재시도 후 레코드 별로 DLT 전송
+    factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(1000L, 2)));
+    return factory;
+  }
+
+  // BULK lane(팔로워 fan-out) 배치 리스너용, 컨슈머 스레드 / poll 크기를 INTERACTIVE 와 분리한다
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<Object, Object> bulkBatchKafkaListenerContainerFactory(
+      ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+      ConsumerFactory<Object, Object> kafkaConsumerFactory,
+      DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+      NotificationLaneProperties notificationLaneProperties) {
+    ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+    configurer.configure(factory, kafkaConsumerFactory);
+    factory.setBatchListener(true);
+    factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(1000L, 2)));
+
+    Properties consumerProperties = new Properties();
+    consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+        String.valueOf(notificationLaneProperties.bulkMaxPollRecords()));
+    factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+    factory.getContainerProperties().setListenerTaskExecutor(new SimpleAsyncTaskExecutor("mopl-notification-bulk-"));
+    return factory;
+  }
+}
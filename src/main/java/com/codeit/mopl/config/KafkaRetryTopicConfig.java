@@ -0,0 +1,46 @@
+package com.codeit.mopl.config;
+
+import com.codeit.mopl.event.retry.KafkaRetryTopics;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+
+/**
+ * KafkaConsumer 의 단건 리스너를 재시도 토픽으로 돌린다. 토픽 / 헤더 규칙은 KafkaRetryTopics 참고.
+ * 배치 리스너(NotificationBatchKafkaConsumer)는 재시도 토픽을 지원하지 않으므로 기존 DefaultErrorHandler 를 그대로 쓴다.
+ */
+@Configuration
+public class KafkaRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+  @Bean
+  public RetryTopicConfiguration kafkaConsumerRetryTopicConfiguration(
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      @Value("${mopl.kafka.retry.attempts:4}") int attempts,
+      @Value("${mopl.kafka.retry.initial-delay:1s}") Duration initialDelay,
+      @Value("${mopl.kafka.retry.multiplier:5.0}") double multiplier,
+      @Value("${mopl.kafka.retry.max-delay:5m}") Duration maxDelay) {
+    return RetryTopicConfigurationBuilder.newInstance()
+        .includeTopics(KafkaRetryTopics.TOPICS)
+        .maxAttempts(attempts)
+        .exponentialBackoff(initialDelay.toMillis(), multiplier, maxDelay.toMillis())
+        .suffixTopicsWithIndexValues()
+        .retryTopicSuffix(KafkaRetryTopics.RETRY_SUFFIX)
+        .dltSuffix(KafkaRetryTopics.DLT_SUFFIX)
+        // 알 수 없는 코덱 등 다시 읽어도 실패할 레코드는 바로 DLT 로 보낸다
+        .notRetryOn(List.of(IllegalArgumentException.class))
+        .dltHandlerMethod("kafkaDltHandler", "handle")
+        .create(kafkaTemplate);
+  }
+
+  @Override
+  protected void configureCustomizers(CustomizersConfigurer customizersConfigurer) {
+    customizersConfigurer.customizeDeadLetterPublishingRecoverer(recoverer ->
+        recoverer.setHeadersFunction((record, exception) -> KafkaRetryTopics.nextAttemptHeaders(record)));
+  }
+}
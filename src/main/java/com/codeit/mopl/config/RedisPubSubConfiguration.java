@@ -2,6 +2,10 @@ package com.codeit.mopl.config;
 
 import com.codeit.mopl.domain.watchingsession.dto.MessagePayload;
 import com.codeit.mopl.domain.watchingsession.service.RedisSubscriber;
+import com.codeit.mopl.security.UserPrincipalCache;
+import com.codeit.mopl.sse.service.SseNodeRouter;
+import com.codeit.mopl.sse.service.SseRoutedEventListener;
+import com.codeit.mopl.security.jwt.registry.AccessTokenNearCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -22,6 +26,10 @@ public class RedisPubSubConfiguration {
 
   private final RedisConnectionFactory connectionFactory;
   private final RedisSubscriber redisSubscriber;
+  private final AccessTokenNearCache accessTokenNearCache;
+  private final UserPrincipalCache userPrincipalCache;
+  private final SseNodeRouter sseNodeRouter;
+  private final SseRoutedEventListener sseRoutedEventListener;
 
   // 토픽
   @Bean
@@ -35,11 +43,32 @@ public class RedisPubSubConfiguration {
     return new MessageListenerAdapter(redisSubscriber, "onMessage");
   }
 
+  // AccessTokenNearCache의 onMessage() -> 토큰 무효화 메세지 수신
+  @Bean
+  public MessageListenerAdapter jwtInvalidationListenerAdapter() {
+    return new MessageListenerAdapter(accessTokenNearCache, "onMessage");
+  }
+
+  // UserPrincipalCache의 onMessage() -> 회원 정보 변경 메세지 수신
+  @Bean
+  public MessageListenerAdapter principalEvictionListenerAdapter() {
+    return new MessageListenerAdapter(userPrincipalCache, "onMessage");
+  }
+
+  // SseRoutedEventListener의 onMessage() -> 이 노드로 전달된 SSE 이벤트 수신
+  @Bean
+  public MessageListenerAdapter sseRoutedEventListenerAdapter() {
+    return new MessageListenerAdapter(sseRoutedEventListener, "onMessage");
+  }
+
   @Bean
   public RedisMessageListenerContainer redisContainer() {
     RedisMessageListenerContainer container = new RedisMessageListenerContainer();
     container.setConnectionFactory(connectionFactory);
     container.addMessageListener(listenerAdapter(), chatTopic());
+    container.addMessageListener(jwtInvalidationListenerAdapter(), accessTokenNearCache.getInvalidationTopic());
+    container.addMessageListener(principalEvictionListenerAdapter(), userPrincipalCache.getEvictionTopic());
+    container.addMessageListener(sseRoutedEventListenerAdapter(), sseNodeRouter.getNodeTopic());
     return container;
   }
 
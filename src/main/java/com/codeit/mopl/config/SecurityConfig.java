@@ -9,8 +9,12 @@ import com.codeit.mopl.domain.user.repository.UserRepository;
 import com.codeit.mopl.oauth.client.GoogleClientProperties;
 import com.codeit.mopl.oauth.client.KakaoClientProperties;
 import com.codeit.mopl.oauth.service.OAuth2UserService;
+import com.codeit.mopl.ratelimit.RateLimitFilter;
+import com.codeit.mopl.ratelimit.RateLimitProperties;
+import com.codeit.mopl.ratelimit.RedisRateLimiter;
 import com.codeit.mopl.security.CustomUserDetailsService;
 import com.codeit.mopl.security.TempPasswordAuthenticationProvider;
+import com.codeit.mopl.security.UserPrincipalCache;
 import com.codeit.mopl.security.jwt.filter.JwtAuthenticationFilter;
 import com.codeit.mopl.security.jwt.handler.JwtAuthenticationEntryPoint;
 import com.codeit.mopl.security.jwt.handler.JwtLoginSuccessHandler;
@@ -19,6 +23,7 @@ import com.codeit.mopl.security.jwt.handler.LoginFailureHandler;
 import com.codeit.mopl.security.jwt.handler.OAuth2UserSuccessHandler;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
 import com.codeit.mopl.security.jwt.registry.JwtRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
@@ -86,7 +91,10 @@ public class SecurityConfig {
                                            TempPasswordAuthenticationProvider tempPasswordAuthenticationProvider,
                                            PasswordEncoder passwordEncoder,
                                            OAuth2UserSuccessHandler oAuth2UserSuccessHandler,
-                                           OAuth2UserService oAuth2UserService) throws Exception {
+                                           OAuth2UserService oAuth2UserService,
+                                           RedisRateLimiter redisRateLimiter,
+                                           RateLimitProperties rateLimitProperties,
+                                           ObjectMapper objectMapper) throws Exception {
         http
                 .csrf(csrf -> csrf
                         .ignoringRequestMatchers("/api/batch/**")
@@ -96,6 +104,8 @@ public class SecurityConfig {
 //                .csrf(AbstractHttpConfigurer::disable)
                 .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService, jwtRegistry),
                         UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new RateLimitFilter(redisRateLimiter, jwtTokenProvider, rateLimitProperties, objectMapper),
+                        JwtAuthenticationFilter.class)
                 .formLogin(login ->
                     login.loginProcessingUrl("/api/auth/sign-in")
                             .successHandler(jwtLoginSuccessHandler)
@@ -123,6 +133,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/refresh").permitAll()  // 토큰 재발급
                         .requestMatchers("/api/auth/reset-password").permitAll()  // 비밀번호 초기화
                         .requestMatchers("/ws/**").permitAll()  // 웹소켓
+                        // 수신자 ID 와 대기 이벤트 수가 노출되므로 /actuator/** permitAll 보다 먼저 ADMIN 으로 제한
+                        .requestMatchers("/actuator/sse", "/actuator/sse/**").hasRole("ADMIN")
                         .requestMatchers( "*","/actuator/**", "/swagger-resource/**"
                                 , "/swagger-ui.html", "/swagger-ui/**", "/v3/**",
                                 "/assets/**","/h2/**").permitAll()
@@ -210,14 +222,15 @@ public class SecurityConfig {
 
 
     @Bean
-    public UserDetailsService customUserDetailsService(UserRepository userRepository, UserMapper userMapper) {
+    public UserDetailsService customUserDetailsService(UserRepository userRepository, UserMapper userMapper,
+                                                       UserPrincipalCache userPrincipalCache) {
         if(!userRepository.existsByEmail(adminEmail)) {
             String encodedPassword = passwordEncoder().encode(adminPassword);
             User admin = new User(adminEmail,encodedPassword,adminName);
             admin.updateRole(Role.ADMIN);
             userRepository.save(admin);
         }
-        return new CustomUserDetailsService(userRepository, userMapper);
+        return new CustomUserDetailsService(userRepository, userMapper, userPrincipalCache);
     }
 
     @Bean
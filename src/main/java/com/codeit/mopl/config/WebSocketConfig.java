@@ -1,5 +1,6 @@
 package com.codeit.mopl.config;
 
+import com.codeit.mopl.ratelimit.RateLimitChannelInterceptor;
 import com.codeit.mopl.websocket.AuthChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +15,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   private final AuthChannelInterceptor authChannelInterceptor;
+  private final RateLimitChannelInterceptor rateLimitChannelInterceptor;
 
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -30,6 +32,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   @Override
   public void configureClientInboundChannel(ChannelRegistration registry) {
-    registry.interceptors(authChannelInterceptor);
+    registry.interceptors(authChannelInterceptor, rateLimitChannelInterceptor);
   }
 }
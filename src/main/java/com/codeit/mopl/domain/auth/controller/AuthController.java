@@ -8,6 +8,7 @@ import com.codeit.mopl.domain.user.service.UserService;
 import com.codeit.mopl.exception.auth.AuthErrorCode;
 import com.codeit.mopl.exception.auth.InvalidTokenException;
 import com.codeit.mopl.security.jwt.JwtInformation;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
 import com.codeit.mopl.security.jwt.registry.JwtRegistry;
 import jakarta.mail.MessagingException;
@@ -43,16 +44,17 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity reissueToken(@CookieValue("REFRESH_TOKEN") String refreshToken, HttpServletResponse response) {
         log.info("[JWT] AccessToken 재발급 요청");
-        Map<String, Object> claims = jwtTokenProvider.getClaims(refreshToken);
-        UserDto findUserDto = userService.findByEmail((String) claims.get("sub"));
+        // 서명 / 타입(refresh) / 만료를 한 번에 검증한다. access 토큰을 refresh 쿠키에 넣어도 통과하지 못한다
+        VerifiedJwt verifiedRefreshToken = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        UserDto findUserDto = userService.findByEmail(verifiedRefreshToken.subject());
 
         if (!jwtRegistry.hasActiveJwtInformationByRefreshToken(refreshToken)) {
             log.warn("[JWT] RefreshToken이 만료 됨 refreshToken = {}", refreshToken);
             throw new InvalidTokenException(AuthErrorCode.TOKEN_INVALID, Map.of("type", "refresh"));
         }
 
-        String newAccessToken = authService.reissueAccessToken(claims,findUserDto);
-        String newRefreshToken = authService.reissueRefreshToken(claims,findUserDto);
+        String newAccessToken = authService.reissueAccessToken(verifiedRefreshToken, findUserDto);
+        String newRefreshToken = authService.reissueRefreshToken(verifiedRefreshToken, findUserDto);
 
         JwtDto responseDto = new JwtDto(findUserDto, newAccessToken);
 
@@ -5,12 +5,11 @@ import com.codeit.mopl.domain.user.dto.response.UserDto;
 import com.codeit.mopl.domain.user.entity.Provider;
 import com.codeit.mopl.domain.user.repository.UserRepository;
 import com.codeit.mopl.event.event.MailSendEvent;
-import com.codeit.mopl.exception.auth.AuthErrorCode;
-import com.codeit.mopl.exception.auth.InvalidTokenException;
 import com.codeit.mopl.exception.user.SocialAccountPasswordChangeNotAllowedException;
 import com.codeit.mopl.exception.user.UserErrorCode;
 import com.codeit.mopl.exception.user.UserNotFoundException;
 import com.codeit.mopl.mail.utils.PasswordUtils;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +18,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
 
@@ -32,28 +30,17 @@ public class AuthService {
     private final PasswordUtils passwordUtils;
     private final ApplicationEventPublisher publisher;
 
+    // 만료는 verifyRefreshToken 에서 이미 검사했으므로 검증된 클레임을 그대로 옮겨 담는다
     @Transactional
-    public String reissueAccessToken(Map<String, Object> claims, UserDto userDto) {
+    public String reissueAccessToken(VerifiedJwt refreshToken, UserDto userDto) {
         log.info("AccessToken 재발급 시도");
-        Date expiredAt = (Date) claims.get("exp");
-        if (expiredAt.before(new Date())) {
-            log.warn("[JWT] RefreshToken 유효기간이 만료 됨");
-            throw new InvalidTokenException(AuthErrorCode.TOKEN_INVALID,Map.of("type","access","expiredAt",expiredAt));
-        }
-
-        return jwtTokenProvider.generateAccessToken(claims, userDto.email());
+        return jwtTokenProvider.generateAccessToken(refreshToken.claims(), userDto.email());
     }
 
     @Transactional
-    public String reissueRefreshToken(Map<String, Object> claims, UserDto userDto) {
+    public String reissueRefreshToken(VerifiedJwt refreshToken, UserDto userDto) {
         log.info("RefreshToken 재발급 시도");
-        Date expiredAt = (Date) claims.get("exp");
-        if (expiredAt.before(new Date())) {
-            log.warn("[JWT] RefreshToken 유효기간이 만료 됨");
-            throw new InvalidTokenException(AuthErrorCode.TOKEN_INVALID,Map.of("type","refresh","expiredAt",expiredAt));
-        }
-
-        return jwtTokenProvider.generateRefreshToken(claims, userDto.email());
+        return jwtTokenProvider.generateRefreshToken(refreshToken.claims(), userDto.email());
     }
 
     @Transactional(rollbackFor = MessagingException.class)
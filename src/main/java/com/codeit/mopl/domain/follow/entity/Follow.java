@@ -18,6 +18,10 @@ import org.hibernate.annotations.OnDeleteAction;
                         name = "uk_follower_followee",
                         columnNames = {"follower_id", "followee_id"}
                 )
+        },
+        indexes = {
+                // 팔로워 fan-out 의 keyset 페이지 조회용
+                @Index(name = "idx_follows_followee_follower", columnList = "followee_id, follower_id")
         })
 @NoArgsConstructor
 public class Follow extends BaseEntity {
@@ -17,6 +17,17 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
 
     List<Follow> findByFolloweeId(UUID ownerId);
 
+    // 팔로워 fan-out 용 keyset 페이지, 엔티티 / 연관 유저를 읽지 않고 (followee_id, follower_id) 인덱스만 탄다
+    @Query(value = "SELECT f.follower_id FROM follows f WHERE f.followee_id = :followeeId AND f.follower_id > :afterId "
+            + "ORDER BY f.follower_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findFollowerIdsAfter(@Param("followeeId") UUID followeeId, @Param("afterId") UUID afterId,
+                                    @Param("limit") int limit);
+
+    @Query(value = "SELECT f.follower_id FROM follows f WHERE f.followee_id = :followeeId AND f.follower_id > :afterId "
+            + "AND f.follower_id <= :lastId ORDER BY f.follower_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findFollowerIdsBetween(@Param("followeeId") UUID followeeId, @Param("afterId") UUID afterId,
+                                      @Param("lastId") UUID lastId, @Param("limit") int limit);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT f FROM Follow f WHERE f.id = :id")
     Optional<Follow> findByIdForUpdate(@Param("id") UUID followId);
@@ -17,6 +17,7 @@ import com.codeit.mopl.event.entity.EventType;
 import com.codeit.mopl.event.entity.ProcessedEvent;
 import com.codeit.mopl.event.event.FollowerDecreaseEvent;
 import com.codeit.mopl.event.event.FollowerIncreaseEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
 import com.codeit.mopl.event.repository.ProcessedEventRepository;
 import com.codeit.mopl.exception.follow.*;
 import com.codeit.mopl.exception.user.UserErrorCode;
@@ -44,6 +45,7 @@ public class FollowService {
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ProcessedEventRepository processedEventRepository;
+    private final IdempotencyGuard idempotencyGuard;
 
     @Transactional
     public FollowDto createFollow(FollowRequest request, UUID followerId) {
@@ -199,7 +201,7 @@ public class FollowService {
     }
 
     private boolean isAlreadyProcessed(UUID followId, EventType eventType) {
-        boolean isProcessed = processedEventRepository.existsByEventIdAndEventType(followId, eventType);
+        boolean isProcessed = idempotencyGuard.isProcessed(followId, eventType);
         if (isProcessed) {
             log.warn("[팔로우 관리] 이벤트 처리 중단 - 이미 처리된 이벤트입니다: eventId = {}, eventType = {}", followId, eventType);
         }
@@ -2,7 +2,9 @@ package com.codeit.mopl.domain.notification.repository;
 
 import com.codeit.mopl.domain.base.SortBy;
 import com.codeit.mopl.domain.base.SortDirection;
+import com.codeit.mopl.domain.notification.entity.Level;
 import com.codeit.mopl.domain.notification.entity.Notification;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +17,11 @@ public interface CustomNotificationRepository {
       int limit,
       SortDirection sortDirection,
       SortBy sortBy);
+
+  /**
+   * 같은 내용의 알림을 수신자마다 한 행씩 JDBC 배치로 insert 한다. 유저를 조회하지 않으므로 receiverIds 는 존재하는 유저여야 한다.
+   *
+   * @return receiverIds 와 같은 순서의 알림 id
+   */
+  List<UUID> insertAll(List<UUID> receiverIds, String title, String content, Level level, Instant createdAt);
 }
@@ -9,17 +9,27 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.codeit.mopl.domain.notification.entity.Level;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements CustomNotificationRepository {
 
+  // 한 번의 executeBatch 로 보내는 행 수, PostgreSQL 은 reWriteBatchedInserts=true 면 multi-row insert 로 바뀐다
+  private static final int INSERT_BATCH_SIZE = 500;
+
+  private static final String INSERT_SQL = "INSERT INTO notifications "
+      + "(id, created_at, updated_at, user_id, title, content, level, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
   private final JPAQueryFactory queryFactory;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public List<Notification> searchNotifications(
@@ -53,6 +63,25 @@ public class NotificationRepositoryImpl implements CustomNotificationRepository
     return notifications;
   }
 
+  @Override
+  public List<UUID> insertAll(List<UUID> receiverIds, String title, String content, Level level, Instant createdAt) {
+    List<UUID> ids = new ArrayList<>(receiverIds.size());
+    List<Object[]> rows = new ArrayList<>(receiverIds.size());
+    Timestamp timestamp = Timestamp.from(createdAt);
+    for (UUID receiverId : receiverIds) {
+      UUID id = UUID.randomUUID();
+      ids.add(id);
+      rows.add(new Object[]{id, timestamp, timestamp, receiverId, title, content, level.name(), Status.UNREAD.name()});
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_BATCH_SIZE, (ps, row) -> {
+      for (int i = 0; i < row.length; i++) {
+        ps.setObject(i + 1, row[i]);
+      }
+    });
+    return ids;
+  }
+
   private List<OrderSpecifier<?>> buildOrderSpecifiers(
       SortBy sortBy,
       SortDirection sortDirection,
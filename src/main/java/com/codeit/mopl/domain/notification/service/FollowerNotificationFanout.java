@@ -0,0 +1,47 @@
+package com.codeit.mopl.domain.notification.service;
+
+import com.codeit.mopl.domain.follow.repository.FollowRepository;
+import com.codeit.mopl.domain.notification.entity.Level;
+import com.codeit.mopl.domain.notification.template.NotificationMessage;
+import com.codeit.mopl.domain.notification.template.NotificationTemplate;
+import com.codeit.mopl.event.event.FollowerNotificationChunkEvent;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로워 fan-out 을 follower_id keyset 청크(FollowerNotificationChunkEvent)로 나눈다. 청크 처리는 KeysetChunkFanout 에 맡긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowerNotificationFanout {
+
+  private final FollowRepository followRepository;
+  private final KeysetChunkFanout keysetChunkFanout;
+
+  /**
+   * @param sourceId        원본 이벤트 id
+   * @param messageSupplier 팔로워가 있을 때만 호출된다
+   * @return 발행한 청크 수
+   */
+  public int publishChunks(NotificationTemplate template, UUID sourceId, UUID followeeId, Level level,
+      Supplier<NotificationMessage> messageSupplier) {
+    return keysetChunkFanout.publishChunks(template.name() + ":" + sourceId,
+        (afterId, limit) -> followRepository.findFollowerIdsAfter(followeeId, afterId, limit),
+        messageSupplier,
+        (chunkId, afterId, lastId, message) -> new FollowerNotificationChunkEvent(chunkId, followeeId, afterId,
+            lastId, message.title(), message.content(), level));
+  }
+
+  /**
+   * @return 넘긴 팔로워 수
+   */
+  public int forEachFollowerPage(FollowerNotificationChunkEvent chunk, Consumer<List<UUID>> pageConsumer) {
+    return keysetChunkFanout.forEachPage(chunk.afterFollowerId(), chunk.lastFollowerId(),
+        (afterId, lastId, limit) -> followRepository.findFollowerIdsBetween(chunk.followeeId(), afterId, lastId, limit),
+        pageConsumer);
+  }
+}
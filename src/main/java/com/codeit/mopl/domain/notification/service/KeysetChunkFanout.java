@@ -0,0 +1,110 @@
+package com.codeit.mopl.domain.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신자 id keyset 청크 fan-out 공통 로직. 팔로워 / 구독자 fan-out 은 id 페이지 쿼리와 청크 이벤트 생성만 넘긴다.
+ *
+ * 1. 원본 이벤트 컨슈머가 publishChunks 로 수신자 id 만 chunkSize 씩 읽어 청크 경계마다 청크 이벤트를 발행한다
+ * 2. 청크 이벤트는 청크 id 를 키로 여러 파티션에 흩어지고, 각 컨슈머가 forEachPage 로 범위 안의 id 만 다시 읽어 일괄 insert 한다
+ *
+ * 수신자가 아무리 많아도 원본 트랜잭션에는 청크 수만큼의 outbox 행만 쌓이고, insert 는 청크마다 자기 트랜잭션에서 한다.
+ */
+@Slf4j
+@Component
+public class KeysetChunkFanout {
+
+  // 수신자 id 가 이보다 작을 수 없으므로 첫 페이지의 keyset 시작값으로 쓴다
+  static final UUID FIRST_ID = new UUID(0L, 0L);
+
+  private final ApplicationEventPublisher eventPublisher;
+  private final int chunkSize;
+
+  public KeysetChunkFanout(ApplicationEventPublisher eventPublisher,
+      @Value("${mopl.notification.fanout.chunk-size:1000}") int chunkSize) {
+    this.eventPublisher = eventPublisher;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @param sourceKey       원본 이벤트 식별자, 같은 원본을 다시 처리해도 같은 청크 id 가 나와 청크 컨슈머에서 중복으로 걸러진다
+   * @param idsAfter        (afterId, limit) 다음 id 페이지
+   * @param contextSupplier 청크 이벤트에 공통으로 담을 값, 수신자가 있을 때만 호출된다
+   * @return 발행한 청크 수
+   */
+  public <C> int publishChunks(String sourceKey, IdsAfter idsAfter, Supplier<C> contextSupplier,
+      ChunkFactory<C> chunkFactory) {
+    List<UUID> page = idsAfter.find(FIRST_ID, chunkSize);
+    if (page.isEmpty()) {
+      return 0;
+    }
+
+    C context = contextSupplier.get();
+    UUID after = FIRST_ID;
+    int chunks = 0;
+    while (!page.isEmpty()) {
+      UUID last = page.get(page.size() - 1);
+      eventPublisher.publishEvent(chunkFactory.create(chunkId(sourceKey, chunks), after, last, context));
+      chunks++;
+      if (page.size() < chunkSize) {
+        break;
+      }
+      after = last;
+      page = idsAfter.find(after, chunkSize);
+    }
+    log.debug("[알림] fan-out 청크 발행 sourceKey = {}, chunks = {}", sourceKey, chunks);
+    return chunks;
+  }
+
+  /**
+   * 청크 범위 (afterId, lastId] 의 id 를 chunkSize 씩 keyset 으로 읽어 넘긴다. 발행 이후 범위 안에 수신자가 늘었어도 한 번에 다 읽지 않는다.
+   *
+   * @return 읽은 id 수
+   */
+  public int forEachPage(UUID afterId, UUID lastId, IdsBetween idsBetween, Consumer<List<UUID>> pageConsumer) {
+    UUID after = afterId;
+    int total = 0;
+    while (true) {
+      List<UUID> page = idsBetween.find(after, lastId, chunkSize);
+      if (page.isEmpty()) {
+        return total;
+      }
+      pageConsumer.accept(page);
+      total += page.size();
+      if (page.size() < chunkSize) {
+        return total;
+      }
+      after = page.get(page.size() - 1);
+    }
+  }
+
+  private UUID chunkId(String sourceKey, int index) {
+    return UUID.nameUUIDFromBytes((sourceKey + ":" + index).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @FunctionalInterface
+  public interface IdsAfter {
+
+    List<UUID> find(UUID afterId, int limit);
+  }
+
+  @FunctionalInterface
+  public interface IdsBetween {
+
+    List<UUID> find(UUID afterId, UUID lastId, int limit);
+  }
+
+  @FunctionalInterface
+  public interface ChunkFactory<C> {
+
+    Object create(UUID chunkId, UUID afterId, UUID lastId, C context);
+  }
+}
@@ -1,14 +1,14 @@
 package com.codeit.mopl.domain.notification.service;
 
+import com.codeit.mopl.domain.base.FrontendKstOffsetAdjuster;
 import com.codeit.mopl.domain.base.SortBy;
-import com.codeit.mopl.domain.follow.entity.Follow;
-import com.codeit.mopl.domain.follow.repository.FollowRepository;
 import com.codeit.mopl.domain.message.directmessage.dto.DirectMessageDto;
 import com.codeit.mopl.domain.notification.dto.CursorResponseNotificationDto;
 import com.codeit.mopl.domain.notification.dto.NotificationDto;
 import com.codeit.mopl.domain.notification.entity.*;
 import com.codeit.mopl.domain.notification.mapper.NotificationMapper;
 import com.codeit.mopl.domain.notification.repository.NotificationRepository;
+import com.codeit.mopl.domain.notification.template.NotificationLane;
 import com.codeit.mopl.domain.notification.template.NotificationMessage;
 import com.codeit.mopl.domain.notification.template.NotificationTemplate;
 import com.codeit.mopl.domain.notification.template.context.DirectMessageContext;
@@ -16,8 +16,12 @@ import com.codeit.mopl.domain.notification.template.context.PlaylistCreatedConte
 import com.codeit.mopl.domain.notification.template.context.WatchingSessionStartedContext;
 import com.codeit.mopl.domain.user.entity.User;
 import com.codeit.mopl.domain.user.repository.UserRepository;
+import com.codeit.mopl.event.event.FollowerNotificationChunkEvent;
+import com.codeit.mopl.event.event.NotificationBulkCreateEvent;
 import com.codeit.mopl.event.event.NotificationCreateEvent;
 import com.codeit.mopl.event.event.PlayListCreateEvent;
+import com.codeit.mopl.event.event.PlaylistContentAddedEvent;
+import com.codeit.mopl.event.event.SubscriberNotificationChunkEvent;
 import com.codeit.mopl.event.event.WatchingSessionCreateEvent;
 import com.codeit.mopl.exception.notification.NotificationErrorCode;
 import com.codeit.mopl.exception.notification.NotificationForbidden;
@@ -29,11 +33,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.codeit.mopl.domain.base.SortDirection;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,7 +62,8 @@ public class NotificationService {
   private final UserRepository userRepository;
   private final ApplicationEventPublisher eventPublisher;
   private final StringRedisTemplate stringRedisTemplate;
-  private final FollowRepository followRepository;
+  private final FollowerNotificationFanout followerNotificationFanout;
+  private final SubscriberNotificationFanout subscriberNotificationFanout;
 
   public static final String NOTIFICATIONS_FIRST_PAGE = "notifications:first-page";
   public static final String EVENT_NOTIFICATIONS = "notifications";
@@ -117,11 +129,19 @@ public class NotificationService {
   }
 
   public void createNotification(UUID userId, String title, String content, Level level) {
-    log.info("[알림] 알림 생성 시작, userId = {}, title = {}, content = {}, level = {}", userId, title, content, level);
+    createNotification(userId, title, content, level, NotificationLane.INTERACTIVE);
+  }
+
+  /**
+   * @param lane 팔로워 / 구독자 fan-out 은 NotificationTemplate.lane() 의 BULK 를 넘겨 단건 알림과 다른 토픽으로 보낸다
+   */
+  public void createNotification(UUID userId, String title, String content, Level level, NotificationLane lane) {
+    log.info("[알림] 알림 생성 시작, userId = {}, title = {}, content = {}, level = {}, lane = {}",
+        userId, title, content, level, lane);
 
     Notification notification = saveNotification(userId, title, content, level);
     NotificationDto notificationDto = notificationMapper.toDto(notification);
-    eventPublisher.publishEvent(new NotificationCreateEvent(notificationDto));
+    eventPublisher.publishEvent(new NotificationCreateEvent(notificationDto, lane));
 
     log.info("[알림] 알림 생성 종료, userId = {}, notificationId = {}", userId, notification.getId());
   }
@@ -158,56 +178,89 @@ public class NotificationService {
 
   public void notifyFollowersOnPlaylistCreated(PlayListCreateEvent playListCreateEvent) {
     log.info("[알림] 팔로우한 유저가 플레이리스트 생성시 팔로워 알림 송신 시작 : playListId = {}", playListCreateEvent.playListId());
-    UUID ownerId = playListCreateEvent.ownerId();
-    List<Follow> followList = followRepository.findByFolloweeId(ownerId);
+    NotificationTemplate template = NotificationTemplate.PLAYLIST_CREATED;
+
+    int chunks = followerNotificationFanout.publishChunks(template, playListCreateEvent.playListId(),
+        playListCreateEvent.ownerId(), Level.INFO,
+        () -> template.build(new PlaylistCreatedContext(
+            getUsername(playListCreateEvent.ownerId()), playListCreateEvent.title())));
+    log.info("[알림] 팔로우한 유저가 플레이리스트 생성시 팔로워 알림 송신 완료 : playListId = {}, chunks = {}",
+        playListCreateEvent.playListId(), chunks);
+  }
 
-    for (Follow follow : followList) {
-      UUID receiverId = follow.getFollower().getId();
+  public void notifyFollowersOnWatchingEvent(WatchingSessionCreateEvent watchingSessionCreateEvent) {
+    log.info("[알림] 팔로우한 유저가 실시간 콘텐츠 시청시 팔로워 알림 송신 시작 : watchingSessionId = {}", watchingSessionCreateEvent.watchingSessionId());
+    NotificationTemplate template = NotificationTemplate.WATCHING_SESSION_STARTED;
+
+    int chunks = followerNotificationFanout.publishChunks(template, watchingSessionCreateEvent.watchingSessionId(),
+        watchingSessionCreateEvent.ownerId(), Level.INFO,
+        () -> template.build(new WatchingSessionStartedContext(
+            getUsername(watchingSessionCreateEvent.ownerId()), watchingSessionCreateEvent.watchingSessionContentTitle())));
+    log.info("[알림] 팔로우한 유저가 실시간 콘텐츠 시청시 알림 송신 완료 : watchingSessionId = {}, chunks = {}",
+        watchingSessionCreateEvent.watchingSessionId(), chunks);
+  }
 
-      String username = follow.getFollowee().getName();
-      String playlistTitle = playListCreateEvent.title();
+  /**
+   * 팔로워 fan-out 청크 하나를 처리한다. 범위 안의 팔로워 id 만 keyset 으로 읽어 페이지마다 일괄 insert 한다.
+   */
+  public void deliverFollowerNotificationChunk(FollowerNotificationChunkEvent chunk) {
+    log.info("[알림] 팔로워 알림 청크 처리 시작, chunkId = {}, followeeId = {}", chunk.chunkId(), chunk.followeeId());
+    NotificationMessage message = new NotificationMessage(chunk.title(), chunk.content());
 
-      PlaylistCreatedContext ctx =
-          new PlaylistCreatedContext(username, playlistTitle);
+    int receivers = followerNotificationFanout.forEachFollowerPage(chunk,
+        receiverIds -> createNotifications(receiverIds, message, chunk.level(), NotificationLane.BULK));
+    log.info("[알림] 팔로워 알림 청크 처리 종료, chunkId = {}, receivers = {}", chunk.chunkId(), receivers);
+  }
 
-      NotificationTemplate template = NotificationTemplate.PLAYLIST_CREATED;
-      NotificationMessage message = template.build(ctx);
+  /**
+   * 플레이리스트 구독자(소유자 제외)에게 콘텐츠 추가 알림을 보낸다. 구독자 id 범위마다 청크 이벤트만 발행하고 insert 는 청크 컨슈머가 한다.
+   */
+  public void notifySubscribersOnContentAdded(PlaylistContentAddedEvent event) {
+    log.info("[알림] 플레이리스트 콘텐츠 추가 구독자 알림 송신 시작 : playlistId = {}", event.playlistId());
+    NotificationMessage message = new NotificationMessage(event.title(), event.content());
+
+    int chunks = subscriberNotificationFanout.publishChunks(NotificationTemplate.PLAYLIST_CONTENT_ADDED,
+        event.eventId(), event.playlistId(), event.ownerId(), message, Level.INFO);
+    log.info("[알림] 플레이리스트 콘텐츠 추가 구독자 알림 송신 완료 : playlistId = {}, chunks = {}",
+        event.playlistId(), chunks);
+  }
 
-      createNotification(
-          receiverId,
-          message.title(),
-          message.content(),
-          Level.INFO
-      );
-    }
-    log.info("[알림] 팔로우한 유저가 플레이리스트 생성시 팔로워 알림 송신 완료 : playListId = {}", playListCreateEvent.playListId());
+  /**
+   * 구독자 fan-out 청크 하나를 처리한다. 범위 안의 구독자 id 만 keyset 으로 읽어 소유자를 빼고 페이지마다 일괄 insert 한다.
+   */
+  public void deliverSubscriberNotificationChunk(SubscriberNotificationChunkEvent chunk) {
+    log.info("[알림] 구독자 알림 청크 처리 시작, chunkId = {}, playlistId = {}", chunk.chunkId(), chunk.playlistId());
+    NotificationMessage message = new NotificationMessage(chunk.title(), chunk.content());
+
+    int receivers = subscriberNotificationFanout.forEachSubscriberPage(chunk,
+        receiverIds -> createNotifications(receiverIds, message, chunk.level(), NotificationLane.BULK));
+    log.info("[알림] 구독자 알림 청크 처리 종료, chunkId = {}, receivers = {}", chunk.chunkId(), receivers);
   }
 
-  public void notifyFollowersOnWatchingEvent(WatchingSessionCreateEvent watchingSessionCreateEvent) {
-    log.info("[알림] 팔로우한 유저가 실시간 콘텐츠 시청시 팔로워 알림 송신 시작 : watchingSessionId = {}", watchingSessionCreateEvent.watchingSessionId());
-    UUID ownerId = watchingSessionCreateEvent.ownerId();
-    List<Follow> followList = followRepository.findByFolloweeId(ownerId);
-
-    for (Follow follow : followList) {
-      UUID receiverId = follow.getFollower().getId();
-
-      String username = follow.getFollowee().getName();
-      String contentTitle = watchingSessionCreateEvent.watchingSessionContentTitle();
-
-      WatchingSessionStartedContext ctx =
-          new WatchingSessionStartedContext(username, contentTitle);
-
-      NotificationTemplate template = NotificationTemplate.WATCHING_SESSION_STARTED;
-      NotificationMessage message = template.build(ctx);
-      createNotification(
-          receiverId,
-          message.title(),
-          message.content(),
-          Level.INFO
-      );
+  /**
+   * 여러 수신자에게 같은 알림을 한 번에 저장한다.
+   * 유저를 조회하지 않고 id 로 JDBC 배치 insert 하며, 첫 페이지 캐시도 한 번의 SCAN 으로 비운다.
+   * 이벤트도 NotificationBulkCreateEvent 하나로 묶어 outbox 에 한 번에 저장한다.
+   */
+  public void createNotifications(List<UUID> receiverIds, NotificationMessage message, Level level,
+      NotificationLane lane) {
+    if (receiverIds.isEmpty()) {
+      return;
     }
-
-    log.info("[알림] 팔로우한 유저가 실시간 콘텐츠 시청시 알림 송신 완료 : watchingSessionId = {}", watchingSessionCreateEvent.watchingSessionId());
+    // DB(timestamptz) 정밀도에 맞춰 두어야 커서 페이지네이션 값이 저장된 값과 같다
+    Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    List<UUID> notificationIds = notificationRepository.insertAll(
+        receiverIds, message.title(), message.content(), level, createdAt);
+    evictFirstPageCacheByUserIds(receiverIds);
+
+    Instant displayedAt = FrontendKstOffsetAdjuster.adjust(createdAt);
+    List<NotificationDto> notificationDtos = new ArrayList<>(receiverIds.size());
+    for (int i = 0; i < receiverIds.size(); i++) {
+      notificationDtos.add(new NotificationDto(notificationIds.get(i), displayedAt, receiverIds.get(i),
+          message.title(), message.content(), level));
+    }
+    eventPublisher.publishEvent(new NotificationBulkCreateEvent(notificationDtos, lane));
+    log.debug("[알림] 알림 일괄 생성, size = {}, lane = {}", receiverIds.size(), lane);
   }
 
   public void deleteNotification(UUID userId, UUID notificationId) {
@@ -241,6 +294,17 @@ public class NotificationService {
     return notification;
   }
 
+  private String getUsername(UUID userId) {
+    return userRepository.findById(userId)
+        .map(User::getName)
+        .orElseThrow(() ->
+            new UserNotFoundException(
+                UserErrorCode.USER_NOT_FOUND,
+                Map.of("userId", userId)
+            )
+        );
+  }
+
   private List<Notification> searchNotifications(
       UUID userId, String cursor, UUID idAfter, int limit, SortDirection sortDirection, SortBy sortBy) {
     return notificationRepository.searchNotifications(userId, cursor, idAfter, limit, sortDirection,
@@ -261,6 +325,31 @@ public class NotificationService {
     }
   }
 
+  // 유저마다 KEYS 를 호출하지 않고 첫 페이지 캐시 키를 한 번 SCAN 해서 대상 유저의 키만 지운다
+  private void evictFirstPageCacheByUserIds(Collection<UUID> userIds) {
+    Set<String> targets = new HashSet<>(userIds.size());
+    for (UUID userId : userIds) {
+      targets.add(userId.toString());
+    }
+
+    String prefix = NOTIFICATIONS_FIRST_PAGE + "::";
+    List<String> keys = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        String key = cursor.next();
+        int end = key.indexOf(':', prefix.length());
+        if (end > 0 && targets.contains(key.substring(prefix.length(), end))) {
+          keys.add(key);
+        }
+      }
+    }
+    if (!keys.isEmpty()) {
+      stringRedisTemplate.delete(keys);
+      log.info("[알림] 알림 조회 캐싱 일괄 초기화, users = {}, evictedKeys = {}", userIds.size(), keys.size());
+    }
+  }
+
   private Notification getOwnedNotification(UUID userId, UUID notificationId) {
     Notification notification = notificationRepository.findById(notificationId)
         .orElseThrow(() -> {
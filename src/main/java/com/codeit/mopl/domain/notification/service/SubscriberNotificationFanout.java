@@ -0,0 +1,55 @@
+package com.codeit.mopl.domain.notification.service;
+
+import com.codeit.mopl.domain.notification.entity.Level;
+import com.codeit.mopl.domain.notification.template.NotificationMessage;
+import com.codeit.mopl.domain.notification.template.NotificationTemplate;
+import com.codeit.mopl.domain.playlist.subscription.repository.SubscriptionRepository;
+import com.codeit.mopl.event.event.SubscriberNotificationChunkEvent;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 플레이리스트 구독자 fan-out 을 subscriber_id keyset 청크(SubscriberNotificationChunkEvent)로 나눈다.
+ * 청크 처리는 KeysetChunkFanout 에 맡기고, 페이지를 넘길 때 플레이리스트 소유자를 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscriberNotificationFanout {
+
+  private final SubscriptionRepository subscriptionRepository;
+  private final KeysetChunkFanout keysetChunkFanout;
+
+  /**
+   * @param sourceId 원본 이벤트 id
+   * @return 발행한 청크 수
+   */
+  public int publishChunks(NotificationTemplate template, UUID sourceId, UUID playlistId, UUID ownerId,
+      NotificationMessage message, Level level) {
+    return keysetChunkFanout.publishChunks(template.name() + ":" + sourceId,
+        (afterId, limit) -> subscriptionRepository.findSubscriberIdsAfter(playlistId, afterId, limit),
+        () -> message,
+        (chunkId, afterId, lastId, chunkMessage) -> new SubscriberNotificationChunkEvent(chunkId, playlistId,
+            ownerId, afterId, lastId, chunkMessage.title(), chunkMessage.content(), level));
+  }
+
+  /**
+   * @return 넘긴 구독자 수 (소유자 제외)
+   */
+  public int forEachSubscriberPage(SubscriberNotificationChunkEvent chunk, Consumer<List<UUID>> pageConsumer) {
+    int[] receivers = {0};
+    keysetChunkFanout.forEachPage(chunk.afterSubscriberId(), chunk.lastSubscriberId(),
+        (afterId, lastId, limit) -> subscriptionRepository.findSubscriberIdsBetween(chunk.playlistId(), afterId,
+            lastId, limit),
+        page -> {
+          List<UUID> receiverIds = page.stream()
+              .filter(subscriberId -> !subscriberId.equals(chunk.ownerId()))
+              .toList();
+          pageConsumer.accept(receiverIds);
+          receivers[0] += receiverIds.size();
+        });
+    return receivers[0];
+  }
+}
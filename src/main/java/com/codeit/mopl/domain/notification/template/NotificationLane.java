@@ -0,0 +1,14 @@
+package com.codeit.mopl.domain.notification.template;
+
+/**
+ * 알림이 Kafka 로 전달되는 경로.
+ *
+ * - INTERACTIVE : 한 사람에게 가는 알림 (DM, 팔로우, 권한 변경 등), mopl-notification-create
+ * - BULK : 팔로워 / 구독자 전체에게 퍼지는 알림, mopl-notification-create-bulk
+ *
+ * 팔로워가 많은 유저의 fan-out 이 DM 알림 뒤에 쌓이지 않도록 토픽 / 컨슈머 그룹을 나눈다.
+ */
+public enum NotificationLane {
+  INTERACTIVE,
+  BULK
+}
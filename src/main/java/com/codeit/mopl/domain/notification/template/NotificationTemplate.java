@@ -11,7 +11,7 @@ import com.codeit.mopl.domain.notification.template.context.WatchingSessionStart
 
 public enum NotificationTemplate {
 
-  PLAYLIST_CREATED {
+  PLAYLIST_CREATED(NotificationLane.BULK) {
     @Override
     public NotificationMessage build(PlaylistCreatedContext ctx) {
       String josa = BetterKorean.with(ctx.playlistTitle()).get_을_를();
@@ -24,7 +24,7 @@ public enum NotificationTemplate {
     }
   },
 
-  WATCHING_SESSION_STARTED {
+  WATCHING_SESSION_STARTED(NotificationLane.BULK) {
     @Override
     public NotificationMessage build(WatchingSessionStartedContext ctx) {
       String josa = BetterKorean.with(ctx.contentTitle()).get_을_를();
@@ -37,7 +37,7 @@ public enum NotificationTemplate {
     }
   },
 
-  PLAYLIST_CONTENT_ADDED {
+  PLAYLIST_CONTENT_ADDED(NotificationLane.BULK) {
     @Override
     public NotificationMessage build(PlaylistContentAddedContext ctx) {
       String title = "구독한 플레이리스트에 새로운 콘텐츠 추가";
@@ -93,6 +93,21 @@ public enum NotificationTemplate {
     }
   };
 
+  private final NotificationLane lane;
+
+  NotificationTemplate() {
+    this(NotificationLane.INTERACTIVE);
+  }
+
+  NotificationTemplate(NotificationLane lane) {
+    this.lane = lane;
+  }
+
+  // 팔로워 / 구독자 fan-out 템플릿은 BULK, 나머지는 INTERACTIVE
+  public NotificationLane lane() {
+    return lane;
+  }
+
   public NotificationMessage build(PlaylistCreatedContext ctx) {
     throw unsupported();
   }
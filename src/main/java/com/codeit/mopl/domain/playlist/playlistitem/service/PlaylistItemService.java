@@ -2,30 +2,25 @@ package com.codeit.mopl.domain.playlist.playlistitem.service;
 
 import com.codeit.mopl.domain.content.entity.Content;
 import com.codeit.mopl.domain.content.repository.ContentRepository;
-import com.codeit.mopl.domain.notification.entity.Level;
-import com.codeit.mopl.domain.notification.service.NotificationService;
 import com.codeit.mopl.domain.notification.template.NotificationMessage;
 import com.codeit.mopl.domain.notification.template.NotificationTemplate;
-import com.codeit.mopl.domain.notification.template.context.DirectMessageContext;
 import com.codeit.mopl.domain.notification.template.context.PlaylistContentAddedContext;
 import com.codeit.mopl.domain.playlist.entity.Playlist;
 import com.codeit.mopl.domain.playlist.playlistitem.entity.PlaylistItem;
 import com.codeit.mopl.domain.playlist.playlistitem.repository.PlaylistItemRepository;
 import com.codeit.mopl.domain.playlist.repository.PlaylistRepository;
-import com.codeit.mopl.domain.playlist.subscription.entity.Subscription;
-import com.codeit.mopl.domain.playlist.subscription.repository.SubscriptionRepository;
+import com.codeit.mopl.event.event.PlaylistContentAddedEvent;
 import com.codeit.mopl.exception.content.ContentErrorCode;
 import com.codeit.mopl.exception.content.ContentNotFoundException;
 import com.codeit.mopl.exception.playlist.PlaylistItemNotFoundException;
 import com.codeit.mopl.exception.playlist.PlaylistNotFoundException;
 import com.codeit.mopl.exception.playlist.PlaylistUpdateForbiddenException;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -38,8 +33,7 @@ public class PlaylistItemService {
     private final PlaylistItemRepository playlistItemRepository;
     private final PlaylistRepository playlistRepository;
     private final ContentRepository contentRepository;
-    private final SubscriptionRepository subscriptionRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void addContent(UUID playlistId, UUID contentId, UUID ownerId) {
         log.info("[플레이리스트] 플레이리스트에 콘텐츠 추가 시작 - playlistId = {}", playlistId);
@@ -62,28 +56,13 @@ public class PlaylistItemService {
         log.info("[플레이리스트] 플레이리스트에 콘텐츠 추가 완료 - playlistId = {}, contentId = {}", playlistId, contentId);
         playlist.addPlaylistItem(playlistItem);
 
-        // 구독자들에게 알림 생성함 (동기 처리)
-        List<Subscription> subscriptions = subscriptionRepository.findByPlaylistId(playlistId);
-
+        // 구독자 알림은 커밋과 함께 이벤트 하나만 남기고, 컨슈머가 구독자 수만큼 일괄 생성한다
         PlaylistContentAddedContext ctx =
             new PlaylistContentAddedContext(playlist.getTitle(), content.getTitle());
+        NotificationMessage message = NotificationTemplate.PLAYLIST_CONTENT_ADDED.build(ctx);
 
-        NotificationTemplate template = NotificationTemplate.PLAYLIST_CONTENT_ADDED;
-        NotificationMessage message = template.build(ctx);
-
-        for (Subscription subscription : subscriptions) {
-            UUID subscriberId = subscription.getSubscriber().getId();
-
-            // 본인 플레이리스트에 추가한 경우 알림 제외
-            if (!subscriberId.equals(ownerId)) {
-                notificationService.createNotification(
-                    subscriberId,
-                    message.title(),
-                    message.content(),
-                    Level.INFO
-                );
-            }
-        }
+        eventPublisher.publishEvent(new PlaylistContentAddedEvent(
+            UUID.randomUUID(), playlistId, ownerId, message.title(), message.content()));
     }
 
     public void deleteContent(UUID playlistId, UUID contentId, UUID requestUserId) {
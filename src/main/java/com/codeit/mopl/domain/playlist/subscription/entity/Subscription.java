@@ -12,7 +12,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(name = "playlist_subscriptions",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"playlist_id", "subscriber_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"playlist_id", "subscriber_id"}),
+        indexes = {
+                // 구독자 fan-out 의 keyset 페이지 조회용
+                @Index(name = "idx_playlist_subscriptions_playlist_subscriber", columnList = "playlist_id, subscriber_id")
+        })
 @Builder
 public class Subscription extends UpdatableEntity {
 
@@ -3,6 +3,8 @@ package com.codeit.mopl.domain.playlist.subscription.repository;
 import com.codeit.mopl.domain.playlist.subscription.entity.Subscription;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,18 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
 
     List<Subscription> findByPlaylistId(UUID playlistId);
 
+    // 구독자 fan-out 용 keyset 페이지, 엔티티 / 연관 유저를 읽지 않고 (playlist_id, subscriber_id) 인덱스만 탄다
+    @Query(value = "SELECT s.subscriber_id FROM playlist_subscriptions s WHERE s.playlist_id = :playlistId "
+            + "AND s.subscriber_id > :afterId ORDER BY s.subscriber_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findSubscriberIdsAfter(@Param("playlistId") UUID playlistId, @Param("afterId") UUID afterId,
+                                      @Param("limit") int limit);
+
+    @Query(value = "SELECT s.subscriber_id FROM playlist_subscriptions s WHERE s.playlist_id = :playlistId "
+            + "AND s.subscriber_id > :afterId AND s.subscriber_id <= :lastId ORDER BY s.subscriber_id LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findSubscriberIdsBetween(@Param("playlistId") UUID playlistId, @Param("afterId") UUID afterId,
+                                        @Param("lastId") UUID lastId, @Param("limit") int limit);
+
     @Transactional
     @Modifying
     void deleteByPlaylistId(UUID playlistId);
@@ -13,6 +13,7 @@ import com.codeit.mopl.event.event.UserRoleUpdateEvent;
 import com.codeit.mopl.exception.user.*;
 import com.codeit.mopl.mail.utils.PasswordUtils;
 import com.codeit.mopl.s3.S3Storage;
+import com.codeit.mopl.security.UserPrincipalCache;
 import com.codeit.mopl.security.jwt.registry.JwtRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +49,7 @@ public class UserService {
     private final S3Storage s3Storage;
     private final StringRedisTemplate redisTemplate;
     private final PasswordUtils passwordUtils;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Transactional
     @CachePut(value = "users", key = "#result.id")
@@ -80,6 +82,7 @@ public class UserService {
         }
         String encodedNewPassword = passwordEncoder.encode(request.password());
         findUser.updatePassword(encodedNewPassword);
+        userPrincipalCache.evict(userId);
         try{
             if (redisTemplate.delete(findUser.getEmail())) {
                 log.debug("[Redis] 임시 비밀번호 삭제 & 비밀번호 변경 완료");
@@ -108,6 +111,7 @@ public class UserService {
         Role beforeRole = findUser.getRole();
         log.debug("[사용자 관리] 회원 권한 수정 {} -> {}", findUser.getRole(), request.role());
         findUser.updateRole(request.role());
+        userPrincipalCache.evict(userId);
 
         removeToken(findUser.getId());
 
@@ -122,6 +126,7 @@ public class UserService {
         User findUser = getValidUserByUserId(userId);
         log.debug("[사용자 관리] 회원 잠금 상태 변경 {} -> {}", findUser.isLocked(), request.locked());
         findUser.updateLock(request.locked());
+        userPrincipalCache.evict(userId);
 
         removeToken(findUser.getId());
 
@@ -184,6 +189,7 @@ public class UserService {
             findUser.setProfileImageUrl(key);
         });
         userRepository.save(findUser);
+        userPrincipalCache.evict(userId);
         return userMapper.toDto(findUser);
     }
 
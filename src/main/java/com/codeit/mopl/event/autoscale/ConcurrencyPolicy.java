@@ -0,0 +1,51 @@
+package com.codeit.mopl.event.autoscale;
+
+/**
+ * lag / 핸들러 처리 시간으로 다음 concurrency 를 정한다.
+ *
+ * - 쿨다운 중이면 유지
+ * - lag > concurrency * scaleUpLagPerConsumer 이면 절반만큼(최소 1) 늘린다. 단 처리 시간이 latencyCeiling 을 넘으면 유지
+ * - lag <= scaleDownLag 가 scaleDownAfter 번 연속이면 하나 줄인다
+ * 결과는 [minConcurrency, maxConcurrency] 와 할당된 파티션 수 안으로 자른다 (파티션보다 많은 스레드는 놀기만 한다).
+ */
+public class ConcurrencyPolicy {
+
+  private final KafkaAutoscaleProperties properties;
+
+  public ConcurrencyPolicy(KafkaAutoscaleProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * @param lowLagStreak     lag 이 scaleDownLag 이하로 연속 관측된 횟수 (이번 관측 포함)
+   * @param partitions       이 컨테이너에 할당된 파티션 수, 모르면 0
+   */
+  public ScalingDecision decide(int current, long lag, double latencyMillis, int lowLagStreak,
+      boolean coolingDown, int partitions) {
+    if (coolingDown) {
+      return ScalingDecision.hold(current, "cooldown");
+    }
+
+    int upperBound = partitions > 0 ? Math.min(properties.maxConcurrency(), partitions) : properties.maxConcurrency();
+    if (lag > (long) current * properties.scaleUpLagPerConsumer()) {
+      if (latencyMillis > properties.latencyCeiling().toMillis()) {
+        return ScalingDecision.hold(current, "latency");
+      }
+      int target = Math.min(upperBound, current + Math.max(1, current / 2));
+      return target > current ? new ScalingDecision(target, "up") : ScalingDecision.hold(current, "max");
+    }
+
+    if (lag <= properties.scaleDownLag() && lowLagStreak >= properties.scaleDownAfter()
+        && current > properties.minConcurrency()) {
+      return new ScalingDecision(current - 1, "down");
+    }
+    return ScalingDecision.hold(current, "steady");
+  }
+
+  public record ScalingDecision(int target, String reason) {
+
+    static ScalingDecision hold(int current, String reason) {
+      return new ScalingDecision(current, reason);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.codeit.mopl.event.autoscale;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리스너 컨테이너 concurrency 자동 조정 설정.
+ * listeners 는 @KafkaListener 의 id 이며, 같은 그룹 안의 리스너라도 각각 따로 조정한다.
+ */
+@ConfigurationProperties(prefix = "mopl.kafka.autoscale")
+public record KafkaAutoscaleProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> listeners,
+        @DefaultValue("1") int minConcurrency,
+        @DefaultValue("12") int maxConcurrency,
+        // 컨슈머 스레드 하나가 감당할 lag, 전체 lag 이 concurrency * 이 값을 넘으면 늘린다
+        @DefaultValue("1000") long scaleUpLagPerConsumer,
+        // lag 이 이 값 이하로 scaleDownAfter 번 연속 유지되면 하나 줄인다
+        @DefaultValue("100") long scaleDownLag,
+        @DefaultValue("5") int scaleDownAfter,
+        // 핸들러 평균 처리 시간이 이보다 길면 하위 자원(DB 등)이 밀리는 중이므로 lag 이 커도 늘리지 않는다
+        @DefaultValue("500ms") Duration latencyCeiling,
+        // 조정하면 리밸런스가 일어나므로 다음 조정까지 기다리는 시간
+        @DefaultValue("2m") Duration cooldown
+) {
+}
@@ -0,0 +1,161 @@
+package com.codeit.mopl.event.autoscale;
+
+import com.codeit.mopl.event.autoscale.ConcurrencyPolicy.ScalingDecision;
+import com.codeit.mopl.event.metrics.KafkaLagMonitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * mopl.kafka.autoscale.listeners 의 리스너 컨테이너 concurrency 를 lag / 핸들러 처리 시간에 맞춰 조정한다.
+ *
+ * 1. 이 노드 컨테이너에 할당된 파티션의 lag 과 kafka.listener.handler.duration 의 직전 주기 평균을 읽는다
+ *    (그룹 전체 lag 을 쓰면 모든 노드가 같은 lag 을 보고 함께 늘리므로 그룹 크기만큼 과하게 조정된다)
+ * 2. ConcurrencyPolicy 로 다음 concurrency 를 정한다
+ * 3. 바뀌면 컨테이너를 멈춘 뒤 새 concurrency 로 다시 시작한다 (리밸런스가 일어나므로 쿨다운을 둔다)
+ *
+ * - kafka.listener.concurrency{listener} : 현재 concurrency
+ * - kafka.listener.scaling{listener, decision=up|down|latency|max} : 조정 / 보류 결정 수
+ */
+@Slf4j
+@Component
+public class KafkaConcurrencyAutoscaler {
+
+  private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  private final KafkaLagMonitor kafkaLagMonitor;
+  private final MeterRegistry meterRegistry;
+  private final KafkaAutoscaleProperties properties;
+  private final ConcurrencyPolicy concurrencyPolicy;
+  private final Map<String, ListenerState> states = new ConcurrentHashMap<>();
+
+  public KafkaConcurrencyAutoscaler(KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+      KafkaLagMonitor kafkaLagMonitor,
+      MeterRegistry meterRegistry,
+      KafkaAutoscaleProperties properties) {
+    this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+    this.kafkaLagMonitor = kafkaLagMonitor;
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+    this.concurrencyPolicy = new ConcurrencyPolicy(properties);
+  }
+
+  @Scheduled(fixedDelayString = "${mopl.kafka.autoscale.interval-ms:30000}",
+      initialDelayString = "${mopl.kafka.autoscale.interval-ms:30000}")
+  public void evaluate() {
+    if (!properties.enabled()) {
+      return;
+    }
+    for (String listenerId : properties.listeners()) {
+      try {
+        evaluate(listenerId);
+      } catch (Exception e) {
+        log.warn("[Kafka] concurrency 조정 실패 listener = {}, msg = {}", listenerId, e.getMessage(), e);
+      }
+    }
+  }
+
+  void evaluate(String listenerId) {
+    MessageListenerContainer found = kafkaListenerEndpointRegistry.getListenerContainer(listenerId);
+    if (!(found instanceof ConcurrentMessageListenerContainer<?, ?> container) || !container.isRunning()) {
+      return;
+    }
+    ListenerState state = states.computeIfAbsent(listenerId, id -> register(id, container));
+    List<String> topics = List.of(container.getContainerProperties().getTopics());
+
+    Collection<TopicPartition> assigned = assignedPartitions(container);
+    long lag = kafkaLagMonitor.partitionLag(container.getGroupId(), assigned);
+    double latencyMillis = state.meanLatencySinceLastCheck(meterRegistry, topics);
+    state.lowLagStreak = lag <= properties.scaleDownLag() ? state.lowLagStreak + 1 : 0;
+    boolean coolingDown = state.lastScaledAt != null
+        && state.lastScaledAt.plus(properties.cooldown()).isAfter(Instant.now());
+    int current = container.getConcurrency();
+
+    ScalingDecision decision = concurrencyPolicy.decide(current, lag, latencyMillis, state.lowLagStreak,
+        coolingDown, assigned.size());
+    switch (decision.reason()) {
+      case "up", "down" -> {
+        log.info("[Kafka] concurrency 조정 listener = {}, {} -> {}, lag = {}, latencyMs = {}",
+            listenerId, current, decision.target(), lag, String.format("%.1f", latencyMillis));
+        count(listenerId, decision.reason());
+        state.lastScaledAt = Instant.now();
+        state.lowLagStreak = 0;
+        restart(container, decision.target());
+      }
+      case "latency", "max" -> {
+        log.info("[Kafka] concurrency 유지 listener = {}, concurrency = {}, lag = {}, latencyMs = {}, reason = {}",
+            listenerId, current, lag, String.format("%.1f", latencyMillis), decision.reason());
+        count(listenerId, decision.reason());
+      }
+      default -> log.debug("[Kafka] concurrency 유지 listener = {}, concurrency = {}, lag = {}, reason = {}",
+          listenerId, current, lag, decision.reason());
+    }
+  }
+
+  private void restart(ConcurrentMessageListenerContainer<?, ?> container, int concurrency) {
+    // 모든 자식 컨테이너가 멈춘 뒤에만 concurrency 를 바꿀 수 있다
+    container.stop(() -> {
+      container.setConcurrency(concurrency);
+      container.start();
+    });
+  }
+
+  private Collection<TopicPartition> assignedPartitions(ConcurrentMessageListenerContainer<?, ?> container) {
+    Collection<TopicPartition> partitions = container.getAssignedPartitions();
+    return partitions == null ? List.of() : partitions;
+  }
+
+  private void count(String listenerId, String decision) {
+    meterRegistry.counter("kafka.listener.scaling", "listener", listenerId, "decision", decision).increment();
+  }
+
+  private ListenerState register(String listenerId, ConcurrentMessageListenerContainer<?, ?> container) {
+    Gauge.builder("kafka.listener.concurrency", container, c -> c.getConcurrency())
+        .description("리스너 컨테이너의 현재 concurrency")
+        .tag("listener", listenerId)
+        .register(meterRegistry);
+    return new ListenerState();
+  }
+
+  private static class ListenerState {
+
+    private double lastTotalMillis;
+    private long lastCount;
+    private int lowLagStreak;
+    private Instant lastScaledAt;
+
+    /**
+     * 직전 확인 이후 성공한 핸들러 호출의 평균 처리 시간, 호출이 없었으면 0
+     */
+    double meanLatencySinceLastCheck(MeterRegistry meterRegistry, List<String> topics) {
+      double totalMillis = 0;
+      long count = 0;
+      for (String topic : topics) {
+        Timer timer = meterRegistry.find("kafka.listener.handler.duration")
+            .tags("topic", topic, "result", "success")
+            .timer();
+        if (timer != null) {
+          totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+          count += timer.count();
+        }
+      }
+      long calls = count - lastCount;
+      double mean = calls > 0 ? (totalMillis - lastTotalMillis) / calls : 0;
+      lastTotalMillis = totalMillis;
+      lastCount = count;
+      return mean;
+    }
+  }
+}
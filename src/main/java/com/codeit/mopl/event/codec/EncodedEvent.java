@@ -0,0 +1,5 @@
+package com.codeit.mopl.event.codec;
+
+public record EncodedEvent(String codec, byte[] payload) {
+
+}
@@ -0,0 +1,15 @@
+package com.codeit.mopl.event.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Kafka 이벤트 값의 인코딩 방식. name() 은 x-event-codec 헤더로 전달되어 컨슈머가 같은 코덱을 고른다.
+ */
+public interface EventCodec {
+
+  String name();
+
+  byte[] encode(Object event) throws JsonProcessingException;
+
+  <T> T decode(byte[] payload, Class<T> type) throws JsonProcessingException;
+}
@@ -0,0 +1,68 @@
+package com.codeit.mopl.event.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 인코딩 / 디코딩 진입점.
+ *
+ * - 쓰기 : mopl.kafka.event-codec 로 지정한 코덱 하나로 인코딩하고, 코덱 이름을 x-event-codec 헤더로 붙인다
+ * - 읽기 : 레코드의 x-event-codec 헤더로 코덱을 고른다. 헤더가 없으면 도입 이전 레코드이므로 JSON 으로 읽는다
+ *
+ * 컨슈머가 모든 코덱을 읽을 수 있으므로, 배포가 모두 끝난 뒤 쓰기 코덱만 바꾸면 된다.
+ * 코덱 이름의 버전(smile-v1)은 인코딩 방식이 바뀔 때 올리고, 이전 버전 디코더는 남겨 둔다.
+ */
+@Component
+public class EventCodecs {
+
+  public static final String CODEC_HEADER = "x-event-codec";
+  public static final String JSON = "json";
+  public static final String SMILE_V1 = "smile-v1";
+
+  private final Map<String, EventCodec> codecs;
+  private final EventCodec writeCodec;
+  private final MeterRegistry meterRegistry;
+
+  public EventCodecs(ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.kafka.event-codec:json}") String writeCodec) {
+    this.codecs = Map.of(
+        JSON, new JacksonEventCodec(JSON, objectMapper),
+        SMILE_V1, new JacksonEventCodec(SMILE_V1, objectMapper.copyWith(new SmileFactory())));
+    this.writeCodec = codecs.get(writeCodec);
+    if (this.writeCodec == null) {
+      throw new IllegalArgumentException("지원하지 않는 이벤트 코덱: " + writeCodec);
+    }
+    this.meterRegistry = meterRegistry;
+  }
+
+  public EncodedEvent encode(Object event) throws JsonProcessingException {
+    byte[] payload = writeCodec.encode(event);
+    DistributionSummary.builder("kafka.event.payload.bytes")
+        .tag("codec", writeCodec.name())
+        .tag("event", event.getClass().getSimpleName())
+        .baseUnit("bytes")
+        .register(meterRegistry)
+        .record(payload.length);
+    return new EncodedEvent(writeCodec.name(), payload);
+  }
+
+  public <T> T decode(ConsumerRecord<String, byte[]> record, Class<T> type) throws JsonProcessingException {
+    Header header = record.headers().lastHeader(CODEC_HEADER);
+    String name = header == null ? JSON : new String(header.value(), StandardCharsets.UTF_8);
+    EventCodec codec = codecs.get(name);
+    if (codec == null) {
+      throw new IllegalArgumentException("지원하지 않는 이벤트 코덱: " + name);
+    }
+    return codec.decode(record.value(), type);
+  }
+}
@@ -0,0 +1,43 @@
+package com.codeit.mopl.event.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * ObjectMapper 의 JsonFactory 에 따라 JSON / Smile 로 동작하는 코덱.
+ * 같은 모듈 / 설정을 쓰므로 이벤트 record 별 직렬화 규칙은 코덱과 무관하게 동일하다.
+ */
+public class JacksonEventCodec implements EventCodec {
+
+  private final String name;
+  private final ObjectMapper objectMapper;
+
+  public JacksonEventCodec(String name, ObjectMapper objectMapper) {
+    this.name = name;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public byte[] encode(Object event) throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(event);
+  }
+
+  @Override
+  public <T> T decode(byte[] payload, Class<T> type) throws JsonProcessingException {
+    try {
+      return objectMapper.readValue(payload, type);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      // 메모리 상의 byte[] 를 읽으므로 파싱 오류 외의 IOException 은 발생하지 않는다
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -1,12 +1,13 @@
 package com.codeit.mopl.event.consumer;
 
 import com.codeit.mopl.domain.follow.service.FollowService;
+import com.codeit.mopl.event.codec.EventCodecs;
 import com.codeit.mopl.event.event.FollowerDecreaseEvent;
 import com.codeit.mopl.event.event.FollowerIncreaseEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
@@ -19,38 +20,38 @@ import java.util.UUID;
 public class FollowEventKafkaConsumer {
 
     private final FollowService followService;
-    private final ObjectMapper objectMapper;
+    private final EventCodecs eventCodecs;
 
     @KafkaListener(topics = "mopl-follower-increase", groupId = "mopl-follow", concurrency = "3")
-    public void onFollowerIncrease(String kafkaEventJson, Acknowledgment ack) {
+    public void onFollowerIncrease(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
         try {
-            FollowerIncreaseEvent event = objectMapper.readValue(kafkaEventJson, FollowerIncreaseEvent.class);
+            FollowerIncreaseEvent event = eventCodecs.decode(record, FollowerIncreaseEvent.class);
             UUID followId = event.followId();
             UUID followeeId = event.followeeId();
             followService.processFollowerIncrease(followId, followeeId);
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[Kafka] 팔로워 증가 이벤트 역직렬화 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 팔로워 증가 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             ack.acknowledge();
         } catch (Exception e) {
-            log.error("[Kafka] 팔로워 증가 이벤트 처리 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 팔로워 증가 이벤트 처리 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             throw e;
         }
     }
 
     @KafkaListener(topics = "mopl-follower-decrease", groupId = "mopl-follow", concurrency = "3")
-    public void onFollowerDecrease(String kafkaEventJson, Acknowledgment ack) {
+    public void onFollowerDecrease(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
         try {
-            FollowerDecreaseEvent event = objectMapper.readValue(kafkaEventJson, FollowerDecreaseEvent.class);
+            FollowerDecreaseEvent event = eventCodecs.decode(record, FollowerDecreaseEvent.class);
             UUID followId = event.followId();
             UUID followeeId = event.followeeId();
             followService.processFollowerDecrease(followId, followeeId);
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[Kafka] 팔로워 감소 이벤트 역직렬화 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 팔로워 감소 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             ack.acknowledge();
         } catch (Exception e) {
-            log.error("[Kafka] 팔로워 감소 이벤트 처리 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 팔로워 감소 이벤트 처리 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             throw e;
         }
     }
@@ -1,8 +1,6 @@
 package com.codeit.mopl.event.consumer;
 
 import com.codeit.mopl.domain.follow.service.FollowService;
-import com.codeit.mopl.domain.message.directmessage.dto.DirectMessageDto;
-import com.codeit.mopl.domain.notification.dto.NotificationDto;
 import com.codeit.mopl.domain.notification.entity.Level;
 import com.codeit.mopl.domain.notification.service.NotificationService;
 import com.codeit.mopl.domain.notification.template.NotificationMessage;
@@ -11,74 +9,53 @@ import com.codeit.mopl.domain.notification.template.context.DirectMessageContext
 import com.codeit.mopl.domain.notification.template.context.RoleChangedContext;
 import com.codeit.mopl.domain.playlist.entity.Playlist;
 import com.codeit.mopl.domain.watchingsession.entity.WatchingSession;
+import com.codeit.mopl.event.codec.EventCodecs;
 import com.codeit.mopl.event.entity.EventType;
 import com.codeit.mopl.event.entity.ProcessedEvent;
 import com.codeit.mopl.event.event.*;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
 import com.codeit.mopl.event.repository.ProcessedEventRepository;
+import com.codeit.mopl.event.retry.KafkaRetryTopics;
 import com.codeit.mopl.mail.service.MailService;
 import com.codeit.mopl.mail.utils.RedisStoreUtils;
-import com.codeit.mopl.sse.repository.SseEmitterRegistry;
 import com.codeit.mopl.sse.service.SseService;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.mail.MessagingException;
 import jakarta.transaction.Transactional;
-import java.util.Optional;
 import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+/**
+ * 역직렬화 실패는 ack 후 건너뛰고, 그 외 예외는 던져서 재시도 토픽으로 넘긴다 (KafkaRetryTopicConfig).
+ * mopl-user-login-out 만 재시도 토픽 없이 제자리에서 재시도한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaConsumer {
-    private final ObjectMapper objectMapper;
+    private final EventCodecs eventCodecs;
     private final NotificationService notificationService;
     private final ProcessedEventRepository processedEventRepository;
     private final SseService sseService;
-    private final SseEmitterRegistry sseEmitterRegistry;
     private final MailService mailService;
     private final RedisStoreUtils redisStoreUtils;
+    private final IdempotencyGuard idempotencyGuard;
 
     @Transactional
-    @KafkaListener(topics = "mopl-notification-create", groupId = "mopl-notification", concurrency = "3")
-    public void onNotificationCreated(String kafkaEventJson, Acknowledgment ack) {
+    @KafkaListener(id = "notification-role-update", topics = {"mopl-user-role-update"},
+            groupId = "mopl-notification", concurrency = "3")
+    public void onNotificationCreate(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
         try {
-            NotificationCreateEvent event = objectMapper.readValue(kafkaEventJson, NotificationCreateEvent.class);
-            NotificationDto notificationDto = event.notificationDto();
-
-            Optional<ProcessedEvent> processedEvent = processedEventRepository.findByEventIdAndEventType(notificationDto.id(), EventType.NOTIFICATION_CREATED);
-            if (processedEvent.isPresent()) {
-                log.warn("[Kafka] 이미 처리된 알림 생성 이벤트입니다. eventId = {}", processedEvent.get().getId());
-                ack.acknowledge();
-                return;
-            }
-
-            notificationService.sendNotification(notificationDto);
-            processedEventRepository.save(new ProcessedEvent(notificationDto.id(), EventType.NOTIFICATION_CREATED));
-            ack.acknowledge();
-        } catch (JsonProcessingException e) {
-            log.error("[Kafka] 알림 생성 역직렬화 실패: {}", kafkaEventJson, e);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[Kafka] 알림 생성 이벤트 처리 실패: {}", kafkaEventJson, e);
-            throw e;
-        }
-    }
-
-    @Transactional
-    @KafkaListener(topics = {"mopl-user-role-update"}, groupId = "mopl-notification", concurrency = "3")
-    public void onNotificationCreate(String kafkaEventJson, Acknowledgment ack) {
-        try {
-            UserRoleUpdateEvent event = objectMapper.readValue(kafkaEventJson, UserRoleUpdateEvent.class);
+            UserRoleUpdateEvent event = eventCodecs.decode(record, UserRoleUpdateEvent.class);
             UUID userId = event.userId();
-            Optional<ProcessedEvent> processedEvent = processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.NOTIFICATION_CREATE);
-            if (processedEvent.isPresent()) {
-                log.warn("[Kafka] 이미 처리된 알림 생성 이벤트입니다. eventId = {}", processedEvent.get().getId());
+            if (idempotencyGuard.isProcessed(event.eventId(), EventType.NOTIFICATION_CREATE)) {
+                log.warn("[Kafka] 이미 처리된 알림 생성 이벤트입니다. eventId = {}", event.eventId());
                 ack.acknowledge();
                 return;
             }
@@ -98,123 +75,178 @@ public class KafkaConsumer {
             processedEventRepository.save(new ProcessedEvent(event.eventId(), EventType.NOTIFICATION_CREATE));
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[Kafka] 알림 생성 역직렬화 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 알림 생성 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             ack.acknowledge();
         } catch (Exception e) {
-            log.error("[Kafka] 알림 생성 이벤트 처리 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 알림 생성 이벤트 처리 실패: partition = {}, offset = {}, attempt = {}",
+                    record.partition(), record.offset(), KafkaRetryTopics.attempt(record), e);
             throw e;
         }
     }
 
-    @KafkaListener(topics = "mopl-user-login-out", groupId = "mopl-login-out", concurrency = "3")
-    public void onUserLogInOutEvent(String kafkaEvent, Acknowledgment ack) {
+    @KafkaListener(id = "user-login-out", topics = "mopl-user-login-out",
+            groupId = "mopl-login-out", concurrency = "3")
+    public void onUserLogInOutEvent(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
         try {
             log.info("[Kafka] User LogInOut 이벤트");
-            UserLogInOutEvent event = objectMapper.readValue(kafkaEvent,
-                    UserLogInOutEvent.class);
+            UserLogInOutEvent event = eventCodecs.decode(record, UserLogInOutEvent.class);
             if (event.status()) {
-                log.info("[Kafka] 유저 로그인 SseConnect. userId = {}", event.userId());
-                sseService.connect(event.userId(), null);
+                // SSE 연결은 클라이언트의 /api/sse 요청에서만 만든다. 요청 없이 만든 emitter 는 클라이언트에 쓰지 못하고
+                // heartbeat / 노드 경로만 남긴다
+                log.info("[Kafka] 유저 로그인 userId = {}", event.userId());
             } else {
-                log.info("[Kafka] 유저 로그아웃 SseEmitter 제거 userId = {}", event.userId());
-                sseEmitterRegistry.getData().remove(event.userId());
+                log.info("[Kafka] 유저 로그아웃 SseEmitter 종료 userId = {}", event.userId());
+                sseService.disconnect(event.userId());
             }
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[Kafka] LogInOut 이벤트 역직렬화 실패: {}", kafkaEvent, e);
+            log.error("[Kafka] LogInOut 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             ack.acknowledge();
         } catch (Exception e) {
-            log.error("[Kafka] LogInOut 이벤트 처리 실패: {}", kafkaEvent, e);
+            log.error("[Kafka] LogInOut 이벤트 처리 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             throw e;
         }
     }
 
     @Transactional
-    @KafkaListener(topics = "mopl-directMessage-create", groupId = "mopl-notification", concurrency = "3")
-    public void onDirectMessageCreated(String kafkaEventJson, Acknowledgment ack) {
+    @KafkaListener(id = "notification-playlist-create", topics = "mopl-playList-create",
+            groupId = "mopl-notification", concurrency = "3")
+    public void onPlayListCreated(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
         try {
-            DirectMessageCreateEvent event = objectMapper.readValue(kafkaEventJson, DirectMessageCreateEvent.class);
-            DirectMessageDto directMessageDto = event.directMessageDto();
+            PlayListCreateEvent event = eventCodecs.decode(record, PlayListCreateEvent.class);
 
-            Optional<ProcessedEvent> processedEvent = processedEventRepository.findByEventIdAndEventType(directMessageDto.id(), EventType.DIRECT_MESSAGE_CREATED);
-            if (processedEvent.isPresent()) {
-                log.warn("[Kafka] 이미 처리된 DM 생성 이벤트입니다. eventId = {}", processedEvent.get().getId());
+            if (idempotencyGuard.isProcessed(event.playListId(), EventType.PLAY_LIST_CREATED)) {
+                log.warn("[Kafka] 플레이리스트 생성 이벤트입니다. eventId = {}", event.playListId());
                 ack.acknowledge();
                 return;
             }
 
-            notificationService.sendDirectMessage(directMessageDto);
-            processedEventRepository.save(new ProcessedEvent(directMessageDto.id(), EventType.DIRECT_MESSAGE_CREATED));
+            notificationService.notifyFollowersOnPlaylistCreated(event);
+            processedEventRepository.save(new ProcessedEvent(event.playListId(), EventType.PLAY_LIST_CREATED));
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[Kafka] DM 생성 이벤트 역직렬화 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 플레이리스트 생성 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             ack.acknowledge();
         } catch (Exception e) {
-            log.error("[Kafka] DM 생성 이벤트 처리 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 플레이리스트 생성 이벤트 처리 실패: partition = {}, offset = {}, attempt = {}",
+                    record.partition(), record.offset(), KafkaRetryTopics.attempt(record), e);
             throw e;
         }
     }
 
     @Transactional
-    @KafkaListener(topics = "mopl-playList-create", groupId = "mopl-notification", concurrency = "3")
-    public void onPlayListCreated(String kafkaEventJson, Acknowledgment ack) {
+    @KafkaListener(id = "notification-watching-session-create", topics = "mopl-watchingSession-create",
+            groupId = "mopl-notification", concurrency = "3")
+    public void onWatchingSessionCreated(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
         try {
-            PlayListCreateEvent event = objectMapper.readValue(kafkaEventJson, PlayListCreateEvent.class);
+            WatchingSessionCreateEvent event = eventCodecs.decode(record, WatchingSessionCreateEvent.class);
 
-            Optional<ProcessedEvent> processedEvent = processedEventRepository.findByEventIdAndEventType(event.playListId(), EventType.PLAY_LIST_CREATED);
-            if (processedEvent.isPresent()) {
-                log.warn("[Kafka] 플레이리스트 생성 이벤트입니다. eventId = {}", processedEvent.get().getId());
+            if (idempotencyGuard.isProcessed(event.watchingSessionId(), EventType.WATCH_SESSION_CREATED)) {
+                log.warn("[Kafka] WatchingSession 생성 이벤트입니다. eventId = {}", event.watchingSessionId());
                 ack.acknowledge();
                 return;
             }
 
-            notificationService.notifyFollowersOnPlaylistCreated(event);
-            processedEventRepository.save(new ProcessedEvent(event.playListId(), EventType.PLAY_LIST_CREATED));
+            notificationService.notifyFollowersOnWatchingEvent(event);
+            processedEventRepository.save(new ProcessedEvent(event.watchingSessionId(), EventType.WATCH_SESSION_CREATED));
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[Kafka] 플레이리스트 생성 이벤트 역직렬화 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] WatchingSession 생성 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             ack.acknowledge();
         } catch (Exception e) {
-            log.error("[Kafka] 플레이리스트 생성 이벤트 처리 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] WatchingSession 생성 이벤트 처리 실패: partition = {}, offset = {}, attempt = {}",
+                    record.partition(), record.offset(), KafkaRetryTopics.attempt(record), e);
             throw e;
         }
     }
 
     @Transactional
-    @KafkaListener(topics = "mopl-watchingSession-create", groupId = "mopl-notification", concurrency = "3")
-    public void onWatchingSessionCreated(String kafkaEventJson, Acknowledgment ack) {
+    @KafkaListener(id = "notification-fanout-chunk", topics = "mopl-notification-fanout-chunk",
+            groupId = "mopl-notification-bulk", concurrency = "3")
+    public void onFollowerNotificationChunk(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
         try {
-            WatchingSessionCreateEvent event = objectMapper.readValue(kafkaEventJson, WatchingSessionCreateEvent.class);
+            FollowerNotificationChunkEvent event = eventCodecs.decode(record, FollowerNotificationChunkEvent.class);
 
-            Optional<ProcessedEvent> processedEvent = processedEventRepository.findByEventIdAndEventType(event.watchingSessionId(), EventType.WATCH_SESSION_CREATED);
-            if (processedEvent.isPresent()) {
-                log.warn("[Kafka] WatchingSession 생성 이벤트입니다. eventId = {}", processedEvent.get().getId());
+            if (idempotencyGuard.isProcessed(event.chunkId(), EventType.FOLLOWER_NOTIFICATION_CHUNK)) {
+                log.warn("[Kafka] 이미 처리된 팔로워 알림 청크 이벤트입니다. chunkId = {}", event.chunkId());
                 ack.acknowledge();
                 return;
             }
 
-            notificationService.notifyFollowersOnWatchingEvent(event);
-            processedEventRepository.save(new ProcessedEvent(event.watchingSessionId(), EventType.WATCH_SESSION_CREATED));
+            notificationService.deliverFollowerNotificationChunk(event);
+            processedEventRepository.save(new ProcessedEvent(event.chunkId(), EventType.FOLLOWER_NOTIFICATION_CHUNK));
+            ack.acknowledge();
+        } catch (JsonProcessingException e) {
+            log.error("[Kafka] 팔로워 알림 청크 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("[Kafka] 팔로워 알림 청크 이벤트 처리 실패: partition = {}, offset = {}, attempt = {}",
+                    record.partition(), record.offset(), KafkaRetryTopics.attempt(record), e);
+            throw e;
+        }
+    }
+
+    @Transactional
+    @KafkaListener(id = "notification-playlist-content-added", topics = "mopl-playlist-content-added",
+            groupId = "mopl-notification-bulk", concurrency = "3")
+    public void onPlaylistContentAdded(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        try {
+            PlaylistContentAddedEvent event = eventCodecs.decode(record, PlaylistContentAddedEvent.class);
+
+            if (idempotencyGuard.isProcessed(event.eventId(), EventType.PLAYLIST_CONTENT_ADDED)) {
+                log.warn("[Kafka] 이미 처리된 플레이리스트 콘텐츠 추가 이벤트입니다. eventId = {}", event.eventId());
+                ack.acknowledge();
+                return;
+            }
+
+            notificationService.notifySubscribersOnContentAdded(event);
+            processedEventRepository.save(new ProcessedEvent(event.eventId(), EventType.PLAYLIST_CONTENT_ADDED));
+            ack.acknowledge();
+        } catch (JsonProcessingException e) {
+            log.error("[Kafka] 플레이리스트 콘텐츠 추가 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("[Kafka] 플레이리스트 콘텐츠 추가 이벤트 처리 실패: partition = {}, offset = {}, attempt = {}",
+                    record.partition(), record.offset(), KafkaRetryTopics.attempt(record), e);
+            throw e;
+        }
+    }
+
+    @Transactional
+    @KafkaListener(id = "notification-subscriber-chunk", topics = "mopl-notification-subscriber-chunk",
+            groupId = "mopl-notification-bulk", concurrency = "3")
+    public void onSubscriberNotificationChunk(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        try {
+            SubscriberNotificationChunkEvent event = eventCodecs.decode(record, SubscriberNotificationChunkEvent.class);
+
+            if (idempotencyGuard.isProcessed(event.chunkId(), EventType.SUBSCRIBER_NOTIFICATION_CHUNK)) {
+                log.warn("[Kafka] 이미 처리된 구독자 알림 청크 이벤트입니다. chunkId = {}", event.chunkId());
+                ack.acknowledge();
+                return;
+            }
+
+            notificationService.deliverSubscriberNotificationChunk(event);
+            processedEventRepository.save(new ProcessedEvent(event.chunkId(), EventType.SUBSCRIBER_NOTIFICATION_CHUNK));
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[Kafka] WatchingSession 생성 이벤트 역직렬화 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 구독자 알림 청크 이벤트 역직렬화 실패: partition = {}, offset = {}", record.partition(), record.offset(), e);
             ack.acknowledge();
         } catch (Exception e) {
-            log.error("[Kafka] WatchingSession 생성 이벤트 처리 실패: {}", kafkaEventJson, e);
+            log.error("[Kafka] 구독자 알림 청크 이벤트 처리 실패: partition = {}, offset = {}, attempt = {}",
+                    record.partition(), record.offset(), KafkaRetryTopics.attempt(record), e);
             throw e;
         }
     }
 
     @Transactional
-    @KafkaListener(topics = "mopl-mail-send", groupId = "mopl-mail-send")
-    public void onMailSend(String kafkaEventJson, Acknowledgment ack) throws MessagingException {
+    @KafkaListener(id = "mail-send", topics = "mopl-mail-send", groupId = "mopl-mail-send")
+    public void onMailSend(ConsumerRecord<String, byte[]> record, Acknowledgment ack) throws MessagingException {
         MailSendEvent event = null;
         try {
-            event = objectMapper.readValue(kafkaEventJson, MailSendEvent.class);
+            event = eventCodecs.decode(record, MailSendEvent.class);
 
-            Optional<ProcessedEvent> processedEvent = processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.MAIL_SEND);
-            if (processedEvent.isPresent()) {
-                log.warn("[Kafka] 이미 처리된 이벤트입니다. eventId = {}, eventType = {}", processedEvent.get().getId(), processedEvent.get().getEventType());
+            if (idempotencyGuard.isProcessed(event.eventId(), EventType.MAIL_SEND)) {
+                log.warn("[Kafka] 이미 처리된 이벤트입니다. eventId = {}, eventType = {}", event.eventId(), EventType.MAIL_SEND);
                 ack.acknowledge();
                 return;
             }
@@ -228,15 +260,17 @@ public class KafkaConsumer {
             log.error("[Kafka] 메일 발송 이벤트 역직렬화 실패", e);
             ack.acknowledge();
         } catch (MessagingException e) {
-            log.error("[Kafka] 메일 발송 실패: eventId = {}, email = {}",
+            log.error("[Kafka] 메일 발송 실패: eventId = {}, email = {}, attempt = {}",
                     event != null ? event.eventId() : "unknown",
                     event != null ? event.email() : "unknown",
+                    KafkaRetryTopics.attempt(record),
                     e);
             throw e;
         } catch (Exception e) {
-            log.error("[Kafka] 메일 발송 이벤트 처리 실패: eventId = {}, email = {}",
+            log.error("[Kafka] 메일 발송 이벤트 처리 실패: eventId = {}, email = {}, attempt = {}",
                     event != null ? event.eventId() : "unknown",
                     event != null ? event.email() : "unknown",
+                    KafkaRetryTopics.attempt(record),
                     e);
             throw e;
         }
@@ -0,0 +1,36 @@
+package com.codeit.mopl.event.consumer;
+
+import com.codeit.mopl.event.retry.KafkaRetryTopics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재시도를 모두 소진해 {topic}.DLT 에 도착한 레코드를 기록한다.
+ * 레코드는 DLT 에 그대로 남아 있으므로 원인을 고친 뒤 DltReplayService 로 원본 토픽에 다시 보낸다.
+ */
+@Slf4j
+@Component("kafkaDltHandler")
+@RequiredArgsConstructor
+public class KafkaDltHandler {
+
+  private final MeterRegistry meterRegistry;
+
+  public void handle(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+    meterRegistry.counter("kafka.dlt.records", "topic", record.topic()).increment();
+    log.error("[Kafka] 재시도 소진, DLT 도착 topic = {}, key = {}, attempt = {}, traceId = {}, eventType = {}",
+        record.topic(), record.key(), KafkaRetryTopics.attempt(record),
+        header(record, "x-trace-id"), header(record, "x-event-type"));
+    ack.acknowledge();
+  }
+
+  private String header(ConsumerRecord<String, byte[]> record, String name) {
+    Header header = record.headers().lastHeader(name);
+    return header == null ? "N/A" : new String(header.value(), StandardCharsets.UTF_8);
+  }
+}
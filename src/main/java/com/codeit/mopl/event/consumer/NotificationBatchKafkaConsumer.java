@@ -0,0 +1,149 @@
+package com.codeit.mopl.event.consumer;
+
+import com.codeit.mopl.domain.notification.service.NotificationService;
+import com.codeit.mopl.event.codec.EventCodecs;
+import com.codeit.mopl.event.entity.EventType;
+import com.codeit.mopl.event.entity.ProcessedEvent;
+import com.codeit.mopl.event.event.DirectMessageCreateEvent;
+import com.codeit.mopl.event.event.NotificationCreateEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
+import com.codeit.mopl.event.lane.NotificationLaneGate;
+import com.codeit.mopl.event.repository.ProcessedEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 / DM 생성 이벤트를 poll 단위로 처리한다.
+ *
+ * 1. 배치 전체의 중복 여부를 IdempotencyGuard 로 한 번에 확인 (테이블은 IN 쿼리 한 번)
+ * 2. 남은 이벤트를 처리하고 processed_events 를 saveAll, 한 번 커밋
+ * 3. 배치 트랜잭션이 실패하면 레코드 별 트랜잭션으로 다시 처리하고, 실패한 레코드만 DLT 로 보낸다
+ *    (배치 전체를 재전송하지 않는다)
+ *
+ * 팔로워 / 구독자 fan-out 알림(BULK lane)은 mopl-notification-create-bulk 를 별도 그룹 / 실행기로 처리하며,
+ * 단건 알림 지연이 예산을 넘는 동안 NotificationLaneGate 로 청크 사이에서 양보한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchKafkaConsumer {
+
+    private final EventCodecs eventCodecs;
+    private final NotificationService notificationService;
+    private final ProcessedEventRepository processedEventRepository;
+    private final IdempotencyGuard idempotencyGuard;
+    private final TransactionTemplate transactionTemplate;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final NotificationLaneGate notificationLaneGate;
+
+    @KafkaListener(id = "notification-create-batch", topics = "mopl-notification-create", groupId = "mopl-notification",
+            concurrency = "3",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void onNotificationsCreated(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        notificationLaneGate.recordInteractive(records);
+        consume(records, EventType.NOTIFICATION_CREATED, NotificationCreateEvent.class,
+                event -> event.notificationDto().id(),
+                event -> notificationService.sendNotification(event.notificationDto()));
+        ack.acknowledge();
+    }
+
+    @KafkaListener(id = "direct-message-create-batch", topics = "mopl-directMessage-create", groupId = "mopl-notification",
+            concurrency = "3",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void onDirectMessagesCreated(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        notificationLaneGate.recordInteractive(records);
+        consume(records, EventType.DIRECT_MESSAGE_CREATED, DirectMessageCreateEvent.class,
+                event -> event.directMessageDto().id(),
+                event -> notificationService.sendDirectMessage(event.directMessageDto()));
+        ack.acknowledge();
+    }
+
+    @KafkaListener(id = "notification-create-bulk-batch", topics = "mopl-notification-create-bulk",
+            groupId = "mopl-notification-bulk",
+            concurrency = "2",
+            containerFactory = "bulkBatchKafkaListenerContainerFactory")
+    public void onBulkNotificationsCreated(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        // 청크마다 커밋하므로 양보하는 동안 DB 커넥션 / 락을 잡고 있지 않는다
+        int chunkSize = notificationLaneGate.bulkChunkSize();
+        for (int from = 0; from < records.size(); from += chunkSize) {
+            notificationLaneGate.awaitBulkTurn();
+            consume(records.subList(from, Math.min(records.size(), from + chunkSize)),
+                    EventType.NOTIFICATION_CREATED, NotificationCreateEvent.class,
+                    event -> event.notificationDto().id(),
+                    event -> notificationService.sendNotification(event.notificationDto()));
+        }
+        ack.acknowledge();
+    }
+
+    private <T> void consume(List<ConsumerRecord<String, byte[]>> records, EventType eventType, Class<T> eventClass,
+                             Function<T, UUID> eventIdOf, Consumer<T> handler) {
+        // 같은 배치 안의 중복도 eventId 기준으로 한 번만 처리
+        Map<UUID, Pending<T>> pendingById = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                T event = eventCodecs.decode(record, eventClass);
+                pendingById.putIfAbsent(eventIdOf.apply(event), new Pending<>(record, event));
+            } catch (JsonProcessingException e) {
+                log.error("[Kafka] {} 이벤트 역직렬화 실패: partition = {}, offset = {}", eventType, record.partition(), record.offset(), e);
+            }
+        }
+        if (pendingById.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> processedIds = idempotencyGuard.findProcessed(eventType, pendingById.keySet());
+        if (!processedIds.isEmpty()) {
+            log.warn("[Kafka] 이미 처리된 {} 이벤트 {}건 스킵", eventType, processedIds.size());
+            pendingById.keySet().removeAll(processedIds);
+        }
+        if (pendingById.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<ProcessedEvent> markers = new ArrayList<>(pendingById.size());
+                pendingById.forEach((eventId, pending) -> {
+                    handler.accept(pending.event());
+                    markers.add(new ProcessedEvent(eventId, eventType));
+                });
+                processedEventRepository.saveAll(markers);
+            });
+        } catch (Exception e) {
+            // 배치 안에서 이미 처리된 레코드는 다시 처리될 수 있다 (at-least-once)
+            log.warn("[Kafka] {} 배치 처리 실패, 레코드 별 처리로 전환 size = {}, msg = {}",
+                    eventType, pendingById.size(), e.getMessage());
+            pendingById.forEach((eventId, pending) -> consumeOne(eventId, eventType, pending, handler));
+        }
+    }
+
+    private <T> void consumeOne(UUID eventId, EventType eventType, Pending<T> pending, Consumer<T> handler) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                handler.accept(pending.event());
+                processedEventRepository.save(new ProcessedEvent(eventId, eventType));
+            });
+        } catch (Exception e) {
+            log.error("[Kafka] {} 이벤트 처리 실패, DLT 전송 eventId = {}", eventType, eventId, e);
+            deadLetterPublishingRecoverer.accept(pending.record(), e);
+        }
+    }
+
+    private record Pending<T>(ConsumerRecord<String, byte[]> record, T event) {
+    }
+}
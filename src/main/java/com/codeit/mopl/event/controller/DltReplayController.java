@@ -0,0 +1,32 @@
+package com.codeit.mopl.event.controller;
+
+import com.codeit.mopl.event.dto.DltReplayResult;
+import com.codeit.mopl.event.retry.DltReplayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/kafka/dlt")
+public class DltReplayController {
+
+  private final DltReplayService dltReplayService;
+
+  @PreAuthorize("hasRole('ADMIN')")
+  @PostMapping("/{topic}/replay")
+  public ResponseEntity<DltReplayResult> replay(
+      @PathVariable String topic,
+      @RequestParam(defaultValue = "100") int limit
+  ) {
+    log.info("[Kafka] DLT 재발행 요청 topic = {}, limit = {}", topic, limit);
+    return ResponseEntity.ok(dltReplayService.replay(topic, limit));
+  }
+}
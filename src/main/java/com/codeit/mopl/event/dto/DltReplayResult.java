@@ -0,0 +1,9 @@
+package com.codeit.mopl.event.dto;
+
+public record DltReplayResult(
+
+    String topic,
+
+    int replayed
+
+) {}
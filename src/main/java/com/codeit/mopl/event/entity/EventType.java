@@ -8,5 +8,8 @@ public enum EventType {
   NOTIFICATION_CREATE,
   PLAY_LIST_CREATED,
   WATCH_SESSION_CREATED,
-  MAIL_SEND
+  MAIL_SEND,
+  FOLLOWER_NOTIFICATION_CHUNK,
+  PLAYLIST_CONTENT_ADDED,
+  SUBSCRIBER_NOTIFICATION_CHUNK
 }
@@ -0,0 +1,82 @@
+package com.codeit.mopl.event.entity;
+
+import com.codeit.mopl.domain.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에서 저장되는 Kafka 발행 대기 이벤트.
+ * OutboxRelay 가 sent_at 이 비어 있는 행을 priority, created_at 순으로 읽어 발행한 뒤 sent_at 을 채운다.
+ * 발행에 실패한 행은 next_attempt_at 까지 건너뛰고, 최대 시도 횟수를 넘기면 failed_at 을 채워 더 이상 읽지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_sent_at_priority_created_at", columnList = "sent_at, priority, created_at")
+        })
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    public static final int DEFAULT_PRIORITY = 0;
+    // 팔로워 fan-out 처럼 한 번에 대량으로 쌓이는 이벤트, 밀린 단건 이벤트가 모두 나간 뒤에 발행된다
+    public static final int BULK_PRIORITY = 1;
+
+    @Column(name = "topic", nullable = false, updatable = false)
+    private String topic;
+
+    @Column(name = "message_key", updatable = false)
+    private String messageKey;
+
+    @Column(name = "payload", nullable = false, updatable = false)
+    private byte[] payload;
+
+    // 발행 시 x-event-codec 헤더로 붙는 인코딩 방식
+    @Column(name = "codec", nullable = false, updatable = false)
+    private String codec;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "trace_id", updatable = false)
+    private String traceId;
+
+    // 작을수록 먼저 발행한다
+    @Column(name = "priority", nullable = false, updatable = false)
+    private int priority;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 발행 실패 후 다음으로 시도할 시각 (지수 backoff)
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    // 최대 시도 횟수까지 실패해 릴레이 대상에서 빠진 시각, 원인 확인 후 직접 되돌린다
+    @Column(name = "failed_at")
+    private Instant failedAt;
+
+    public OutboxEvent(String topic, String messageKey, byte[] payload, String codec, String eventType, String traceId) {
+        this(topic, messageKey, payload, codec, eventType, traceId, DEFAULT_PRIORITY);
+    }
+
+    public OutboxEvent(String topic, String messageKey, byte[] payload, String codec, String eventType, String traceId,
+                       int priority) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.codec = codec;
+        this.eventType = eventType;
+        this.traceId = traceId;
+        this.priority = priority;
+    }
+}
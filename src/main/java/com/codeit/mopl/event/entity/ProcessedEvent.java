@@ -18,6 +18,9 @@ import java.util.UUID;
                         name = "uk_processed_events_event_id_type",
                         columnNames = {"event_id", "event_type"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_processed_events_type_created_at", columnList = "event_type, created_at")
         })
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor
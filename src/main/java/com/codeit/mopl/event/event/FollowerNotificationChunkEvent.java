@@ -0,0 +1,20 @@
+package com.codeit.mopl.event.event;
+
+import com.codeit.mopl.domain.notification.entity.Level;
+
+import java.util.UUID;
+
+/**
+ * 팔로워 fan-out 알림 한 청크. followeeId 의 팔로워 중 follower_id 가 (afterFollowerId, lastFollowerId] 인 유저에게 보낸다.
+ * chunkId 를 키로 발행하므로 한 번의 fan-out 이 여러 파티션 / 컨슈머에 나뉘어 처리된다.
+ */
+public record FollowerNotificationChunkEvent(
+        UUID chunkId,
+        UUID followeeId,
+        UUID afterFollowerId,
+        UUID lastFollowerId,
+        String title,
+        String content,
+        Level level
+) {
+}
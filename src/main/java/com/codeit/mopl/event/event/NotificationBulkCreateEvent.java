@@ -0,0 +1,12 @@
+package com.codeit.mopl.event.event;
+
+import com.codeit.mopl.domain.notification.dto.NotificationDto;
+import com.codeit.mopl.domain.notification.template.NotificationLane;
+
+import java.util.List;
+
+/**
+ * 일괄 생성한 알림 묶음. 애플리케이션 안에서만 쓰며, outbox 에는 수신자마다 NotificationCreateEvent 레코드로 한 번에 저장된다.
+ */
+public record NotificationBulkCreateEvent(List<NotificationDto> notifications, NotificationLane lane) {
+}
@@ -2,7 +2,20 @@ package com.codeit.mopl.event.event;
 
 
 import com.codeit.mopl.domain.notification.dto.NotificationDto;
+import com.codeit.mopl.domain.notification.template.NotificationLane;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
-public record NotificationCreateEvent(NotificationDto notificationDto) {
+/**
+ * @param lane 발행할 토픽을 고르는 데만 쓴다. lane 이 없던 이전 레코드는 null 로 읽히며 INTERACTIVE 로 취급한다.
+ */
+public record NotificationCreateEvent(NotificationDto notificationDto, NotificationLane lane) {
 
+  public NotificationCreateEvent(NotificationDto notificationDto) {
+    this(notificationDto, NotificationLane.INTERACTIVE);
+  }
+
+  @JsonIgnore
+  public boolean isBulk() {
+    return lane == NotificationLane.BULK;
+  }
 }
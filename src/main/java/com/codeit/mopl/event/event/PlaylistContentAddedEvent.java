@@ -0,0 +1,17 @@
+package com.codeit.mopl.event.event;
+
+import java.util.UUID;
+
+/**
+ * 플레이리스트에 콘텐츠가 추가됨. 구독자 알림은 컨슈머가 구독자 id 를 keyset 으로 읽어 일괄 생성한다.
+ *
+ * @param ownerId 구독자이기도 하면 알림에서 제외한다
+ */
+public record PlaylistContentAddedEvent(
+        UUID eventId,
+        UUID playlistId,
+        UUID ownerId,
+        String title,
+        String content
+) {
+}
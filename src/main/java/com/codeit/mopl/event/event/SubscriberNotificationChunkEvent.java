@@ -0,0 +1,21 @@
+package com.codeit.mopl.event.event;
+
+import com.codeit.mopl.domain.notification.entity.Level;
+
+import java.util.UUID;
+
+/**
+ * 플레이리스트 구독자 fan-out 알림 한 청크. playlistId 의 구독자 중 subscriber_id 가 (afterSubscriberId, lastSubscriberId] 이고
+ * 소유자(ownerId)가 아닌 유저에게 보낸다. chunkId 를 키로 발행해 청크마다 outbox 행 / 컨슈머 트랜잭션이 따로 잡힌다.
+ */
+public record SubscriberNotificationChunkEvent(
+        UUID chunkId,
+        UUID playlistId,
+        UUID ownerId,
+        UUID afterSubscriberId,
+        UUID lastSubscriberId,
+        String title,
+        String content,
+        Level level
+) {
+}
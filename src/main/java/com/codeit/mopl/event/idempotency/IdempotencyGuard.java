@@ -0,0 +1,168 @@
+package com.codeit.mopl.event.idempotency;
+
+import com.codeit.mopl.event.entity.EventType;
+import com.codeit.mopl.event.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * processed_events 조회 앞단의 중복 처리 확인.
+ *
+ * idempotency:{eventType}:{eventId} 를 SET NX 로 먼저 선점한다.
+ * - 선점 성공 : 처음 보는 이벤트이므로 테이블을 조회하지 않는다
+ * - 선점 실패 : 처리되었을 수도 있으므로(이전 처리, 처리 실패 후 재전송 등) 테이블을 확인한다
+ * - Redis 장애 : 테이블을 확인한다
+ * 테이블이 최종 기준이며, TTL 은 재전송이 일어날 수 있는 기간보다 길게 잡는다.
+ * 키가 만료되면 테이블을 보지 않으므로 실제 중복 제거 기간은 min(TTL, 보관 기간)이다.
+ * 따라서 TTL 이 EventType 별 보관 기간(ProcessedEventRetentionProperties) 중 가장 긴 값보다 짧으면 기동하지 않는다.
+ *
+ * - processed_events.lookup{event_type, mode=single|batch} : 테이블 조회 시간
+ */
+@Slf4j
+@Component
+public class IdempotencyGuard {
+
+  private static final String KEY_PREFIX = "idempotency:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ProcessedEventRepository processedEventRepository;
+  private final MeterRegistry meterRegistry;
+  private final Duration ttl;
+
+  private final Counter firstSeenCounter;
+  private final Counter duplicateCounter;
+  private final Counter falsePositiveCounter;
+  private final Counter fallbackCounter;
+
+  public IdempotencyGuard(StringRedisTemplate stringRedisTemplate,
+      ProcessedEventRepository processedEventRepository,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.idempotency.ttl:7d}") Duration ttl,
+      ProcessedEventRetentionProperties retentionProperties) {
+    Duration maxWindow = retentionProperties.maxWindow();
+    if (ttl.compareTo(maxWindow) < 0) {
+      throw new IllegalStateException("mopl.idempotency.ttl(" + ttl + ") 은 processed_events 보관 기간 중 가장 긴 값("
+          + maxWindow + ") 이상이어야 함");
+    }
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.processedEventRepository = processedEventRepository;
+    this.meterRegistry = meterRegistry;
+    this.ttl = ttl;
+    this.firstSeenCounter = meterRegistry.counter("idempotency.checks", "result", "first_seen");
+    this.duplicateCounter = meterRegistry.counter("idempotency.checks", "result", "duplicate");
+    this.falsePositiveCounter = meterRegistry.counter("idempotency.checks", "result", "false_positive");
+    this.fallbackCounter = meterRegistry.counter("idempotency.checks", "result", "fallback");
+    // 선점 실패로 테이블까지 갔지만 처리된 적 없던 비율
+    Gauge.builder("idempotency.false_positive.ratio", this, IdempotencyGuard::falsePositiveRatio)
+        .description("테이블 조회까지 간 확인 중 실제로는 처리되지 않았던 비율")
+        .register(meterRegistry);
+  }
+
+  public boolean isProcessed(UUID eventId, EventType eventType) {
+    Boolean claimed;
+    try {
+      claimed = stringRedisTemplate.opsForValue().setIfAbsent(key(eventId, eventType), "1", ttl);
+    } catch (Exception e) {
+      log.warn("[Idempotency] Redis 확인 실패, 테이블 조회 eventId = {}, eventType = {}, msg = {}",
+          eventId, eventType, e.getMessage());
+      claimed = null;
+    }
+    if (Boolean.TRUE.equals(claimed)) {
+      firstSeenCounter.increment();
+      return false;
+    }
+
+    boolean processed = lookupTimer(eventType, "single")
+        .record(() -> processedEventRepository.existsByEventIdAndEventType(eventId, eventType));
+    record(eventType, claimed != null, processed ? 1 : 0, processed ? 0 : 1);
+    return processed;
+  }
+
+  /**
+   * 여러 이벤트를 한 번에 확인한다. SET NX 는 파이프라인 한 번, 테이블은 선점에 실패한 ID 만 IN 조회 한 번.
+   *
+   * @return 이미 처리된 이벤트 ID
+   */
+  public Set<UUID> findProcessed(EventType eventType, Collection<UUID> eventIds) {
+    List<UUID> ids = List.copyOf(eventIds);
+    List<UUID> candidates = new ArrayList<>();
+    boolean redisAvailable = true;
+    try {
+      List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object execute(RedisOperations operations) throws DataAccessException {
+          for (UUID eventId : ids) {
+            operations.opsForValue().setIfAbsent(key(eventId, eventType), "1", ttl);
+          }
+          return null;
+        }
+      });
+      for (int i = 0; i < ids.size(); i++) {
+        if (!Boolean.TRUE.equals(results.get(i))) {
+          candidates.add(ids.get(i));
+        }
+      }
+    } catch (Exception e) {
+      log.warn("[Idempotency] Redis 확인 실패, 테이블 조회 eventType = {}, size = {}, msg = {}",
+          eventType, ids.size(), e.getMessage());
+      redisAvailable = false;
+      candidates.addAll(ids);
+    }
+    firstSeenCounter.increment(ids.size() - candidates.size());
+    if (candidates.isEmpty()) {
+      return Set.of();
+    }
+
+    Set<UUID> processed = new HashSet<>(lookupTimer(eventType, "batch")
+        .record(() -> processedEventRepository.findProcessedEventIds(eventType, candidates)));
+    record(eventType, redisAvailable, processed.size(), candidates.size() - processed.size());
+    return processed;
+  }
+
+  private Timer lookupTimer(EventType eventType, String mode) {
+    return Timer.builder("processed_events.lookup")
+        .description("processed_events 중복 확인 조회 시간")
+        .tag("event_type", eventType.name())
+        .tag("mode", mode)
+        .register(meterRegistry);
+  }
+
+  private void record(EventType eventType, boolean redisAvailable, int duplicates, int misses) {
+    if (duplicates > 0) {
+      // 테이블 기준으로 실제로 걸러낸 중복 (재전송 / 재시도 토픽 / DLT 재발행 등)
+      meterRegistry.counter("processed_events.dedupe.hits", "event_type", eventType.name()).increment(duplicates);
+    }
+    if (!redisAvailable) {
+      fallbackCounter.increment(duplicates + misses);
+      return;
+    }
+    duplicateCounter.increment(duplicates);
+    falsePositiveCounter.increment(misses);
+  }
+
+  private double falsePositiveRatio() {
+    double possibleHits = duplicateCounter.count() + falsePositiveCounter.count();
+    return possibleHits == 0 ? 0 : falsePositiveCounter.count() / possibleHits;
+  }
+
+  private String key(UUID eventId, EventType eventType) {
+    return KEY_PREFIX + eventType + ":" + eventId;
+  }
+}
@@ -0,0 +1,116 @@
+package com.codeit.mopl.event.idempotency;
+
+import com.codeit.mopl.event.entity.EventType;
+import com.codeit.mopl.event.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * processed_events 에서 EventType 별 보관 기간이 지난 행을 지운다.
+ *
+ * 1. EventType 마다 (event_type, created_at) 인덱스 범위를 batch-size 만큼씩 지운다 (배치마다 별도 트랜잭션)
+ * 2. 한 주기에 max-batches-per-type 을 넘으면 나머지는 다음 주기로 미룬다
+ * 3. 정리 후 EventType 별 행 수를 다시 센다
+ *
+ * (event_id, event_type) 유니크 제약이 중복 처리의 최종 기준이라 created_at 파티셔닝은 하지 않는다.
+ * 파티션 키가 유니크 제약에 들어가야 해서 파티션이 다른 같은 이벤트를 막지 못한다.
+ *
+ * - processed_events.rows{event_type} : 마지막 정리 후 행 수
+ * - processed_events.retention.deleted{event_type} : 지운 행 수
+ * - processed_events.retention.duration : 한 주기 소요 시간
+ */
+@Slf4j
+@Component
+public class ProcessedEventRetentionJob {
+
+  private final ProcessedEventRepository processedEventRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final ProcessedEventRetentionProperties properties;
+  private final Clock clock;
+  private final Timer durationTimer;
+  private final Map<EventType, AtomicLong> rows = new EnumMap<>(EventType.class);
+
+  @Autowired
+  public ProcessedEventRetentionJob(ProcessedEventRepository processedEventRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      ProcessedEventRetentionProperties properties) {
+    this(processedEventRepository, transactionTemplate, meterRegistry, properties, Clock.systemUTC());
+  }
+
+  public ProcessedEventRetentionJob(ProcessedEventRepository processedEventRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      ProcessedEventRetentionProperties properties,
+      Clock clock) {
+    this.processedEventRepository = processedEventRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+    this.clock = clock;
+    this.durationTimer = meterRegistry.timer("processed_events.retention.duration");
+    for (EventType eventType : EventType.values()) {
+      AtomicLong value = new AtomicLong();
+      Gauge.builder("processed_events.rows", value, AtomicLong::get)
+          .description("마지막 정리 후 processed_events 행 수")
+          .tag("event_type", eventType.name())
+          .register(meterRegistry);
+      rows.put(eventType, value);
+    }
+  }
+
+  @Scheduled(cron = "${mopl.idempotency.retention.cron:0 15 * * * *}")
+  public void purge() {
+    if (!properties.enabled()) {
+      return;
+    }
+    durationTimer.record(() -> {
+      for (EventType eventType : EventType.values()) {
+        try {
+          purge(eventType);
+        } catch (Exception e) {
+          log.warn("[Idempotency] 처리 이벤트 정리 실패 eventType = {}, msg = {}", eventType, e.getMessage(), e);
+        }
+      }
+      refreshRows();
+    });
+  }
+
+  int purge(EventType eventType) {
+    Instant before = Instant.now(clock).minus(properties.windowOf(eventType));
+    int total = 0;
+    for (int batch = 0; batch < properties.maxBatchesPerType(); batch++) {
+      Integer deleted = transactionTemplate.execute(status ->
+          processedEventRepository.deleteExpired(eventType.name(), before, properties.batchSize()));
+      int count = deleted == null ? 0 : deleted;
+      total += count;
+      if (count < properties.batchSize()) {
+        break;
+      }
+    }
+    if (total > 0) {
+      meterRegistry.counter("processed_events.retention.deleted", "event_type", eventType.name()).increment(total);
+      log.info("[Idempotency] 처리 이벤트 정리 eventType = {}, before = {}, deleted = {}", eventType, before, total);
+    }
+    return total;
+  }
+
+  private void refreshRows() {
+    rows.values().forEach(value -> value.set(0));
+    for (Object[] row : processedEventRepository.countByEventType()) {
+      rows.get((EventType) row[0]).set((Long) row[1]);
+    }
+  }
+}
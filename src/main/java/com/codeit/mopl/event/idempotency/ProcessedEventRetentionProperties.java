@@ -0,0 +1,47 @@
+package com.codeit.mopl.event.idempotency;
+
+import com.codeit.mopl.event.entity.EventType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * processed_events 보관 설정.
+ * 보관 기간(dedupe window)이 지난 행은 더 이상 중복으로 걸러지지 않으므로,
+ * 재시도 토픽 / DLT 재발행으로 같은 이벤트가 다시 들어올 수 있는 기간보다 길게 잡는다.
+ * IdempotencyGuard 의 Redis 키가 먼저 만료되면 테이블을 보지 않고 처음 보는 이벤트로 처리하므로,
+ * mopl.idempotency.ttl 은 maxWindow() 이상이어야 한다 (기동 시 IdempotencyGuard 가 검사).
+ */
+@ConfigurationProperties(prefix = "mopl.idempotency.retention")
+public record ProcessedEventRetentionProperties(
+        @DefaultValue("true") boolean enabled,
+        // windows 에 없는 EventType 의 보관 기간
+        @DefaultValue("7d") Duration defaultWindow,
+        // EventType 별 보관 기간
+        Map<EventType, Duration> windows,
+        // 한 번의 DELETE 로 지우는 최대 행 수, 트랜잭션과 잠금을 짧게 유지한다
+        @DefaultValue("5000") int batchSize,
+        // EventType 하나를 한 주기에 지우는 최대 배치 수, 남은 행은 다음 주기에 지운다
+        @DefaultValue("100") int maxBatchesPerType
+) {
+
+    public ProcessedEventRetentionProperties {
+        windows = windows == null ? Map.of() : Map.copyOf(windows);
+    }
+
+    public Duration windowOf(EventType eventType) {
+        return windows.getOrDefault(eventType, defaultWindow);
+    }
+
+    public Duration maxWindow() {
+        Duration max = defaultWindow;
+        for (Duration window : windows.values()) {
+            if (window.compareTo(max) > 0) {
+                max = window;
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,116 @@
+package com.codeit.mopl.event.lane;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * INTERACTIVE 알림의 지연 예산을 지키기 위해 BULK 알림 처리 속도를 조절한다.
+ *
+ * 1. INTERACTIVE 리스너가 받은 레코드의 end-to-end 지연(now - record timestamp)을 EWMA 로 유지한다
+ * 2. BULK 리스너는 청크마다 awaitBulkTurn() 을 호출하고, EWMA 가 예산을 넘는 동안 bulkBackoff 만큼씩 쉰다
+ * 3. bulkMaxWait 을 넘기면 그대로 진행한다 (BULK 가 굶거나 max.poll.interval.ms 를 넘기지 않도록)
+ *
+ * - notification.lane.interactive.latency : 현재 EWMA (ms)
+ * - notification.lane.bulk.throttled : 양보한 청크 수
+ * - notification.lane.bulk.wait : 청크 하나가 양보한 시간
+ */
+@Slf4j
+@Component
+public class NotificationLaneGate {
+
+  // 새 관측값 가중치, 대략 최근 10 건 정도가 반영된다
+  private static final double ALPHA = 0.2;
+
+  private final NotificationLaneProperties properties;
+  private final Clock clock;
+  private final Counter throttledCounter;
+  private final Timer bulkWaitTimer;
+
+  private double interactiveLatencyMillis;
+  private long lastInteractiveAt = -1;
+
+  @Autowired
+  public NotificationLaneGate(NotificationLaneProperties properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, Clock.systemUTC());
+  }
+
+  public NotificationLaneGate(NotificationLaneProperties properties, MeterRegistry meterRegistry, Clock clock) {
+    this.properties = properties;
+    this.clock = clock;
+    this.throttledCounter = meterRegistry.counter("notification.lane.bulk.throttled");
+    this.bulkWaitTimer = Timer.builder("notification.lane.bulk.wait")
+        .description("INTERACTIVE 지연 예산 초과로 BULK 청크가 양보한 시간")
+        .register(meterRegistry);
+    Gauge.builder("notification.lane.interactive.latency", this, NotificationLaneGate::interactiveLatencyMillis)
+        .description("INTERACTIVE 알림 end-to-end 지연 EWMA (ms)")
+        .register(meterRegistry);
+  }
+
+  public void recordInteractive(List<? extends ConsumerRecord<?, ?>> records) {
+    long now = clock.millis();
+    for (ConsumerRecord<?, ?> record : records) {
+      if (record.timestamp() >= 0) {
+        observe(Math.max(0, now - record.timestamp()), now);
+      }
+    }
+  }
+
+  private synchronized void observe(long latencyMillis, long now) {
+    interactiveLatencyMillis = lastInteractiveAt < 0
+        ? latencyMillis
+        : ALPHA * latencyMillis + (1 - ALPHA) * interactiveLatencyMillis;
+    lastInteractiveAt = now;
+  }
+
+  /**
+   * INTERACTIVE 지연 EWMA, interactiveIdleAfter 동안 관측이 없었으면 0
+   */
+  public synchronized double interactiveLatencyMillis() {
+    if (lastInteractiveAt < 0 || clock.millis() - lastInteractiveAt > properties.interactiveIdleAfter().toMillis()) {
+      return 0;
+    }
+    return interactiveLatencyMillis;
+  }
+
+  public boolean interactiveOverBudget() {
+    return interactiveLatencyMillis() > properties.interactiveLatencyBudget().toMillis();
+  }
+
+  /**
+   * INTERACTIVE 지연이 예산 안으로 돌아오거나 bulkMaxWait 이 지날 때까지 기다린다.
+   */
+  public void awaitBulkTurn() {
+    if (!interactiveOverBudget()) {
+      return;
+    }
+    throttledCounter.increment();
+    long backoffMillis = Math.max(1, properties.bulkBackoff().toMillis());
+    long rounds = Math.max(1, properties.bulkMaxWait().toMillis() / backoffMillis);
+    long start = System.nanoTime();
+    try {
+      for (long i = 0; i < rounds && interactiveOverBudget(); i++) {
+        Thread.sleep(backoffMillis);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      long waited = System.nanoTime() - start;
+      bulkWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+      log.debug("[Kafka] BULK 알림 양보 waitedMs = {}, interactiveLatencyMs = {}",
+          TimeUnit.NANOSECONDS.toMillis(waited), String.format("%.1f", interactiveLatencyMillis()));
+    }
+  }
+
+  public int bulkChunkSize() {
+    return Math.max(1, properties.bulkChunkSize());
+  }
+}
@@ -0,0 +1,26 @@
+package com.codeit.mopl.event.lane;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 알림 lane(INTERACTIVE / BULK) 설정.
+ * BULK 컨슈머는 INTERACTIVE 알림의 end-to-end 지연이 예산을 넘는 동안 청크 사이에서 양보한다.
+ */
+@ConfigurationProperties(prefix = "mopl.notification.lanes")
+public record NotificationLaneProperties(
+        // INTERACTIVE 레코드가 발행된 뒤 컨슈머에 도착하기까지 허용하는 지연 (EWMA 기준)
+        @DefaultValue("500ms") Duration interactiveLatencyBudget,
+        // 이 시간 동안 INTERACTIVE 레코드가 없으면 지연이 없는 것으로 본다
+        @DefaultValue("10s") Duration interactiveIdleAfter,
+        // BULK 컨슈머가 한 번의 poll 로 가져오는 최대 레코드 수
+        @DefaultValue("200") int bulkMaxPollRecords,
+        // BULK 배치를 이 크기로 나눠 각각 커밋하고, 청크마다 양보 여부를 확인한다
+        @DefaultValue("50") int bulkChunkSize,
+        @DefaultValue("100ms") Duration bulkBackoff,
+        // 청크 하나가 양보하는 최대 시간, max.poll.interval.ms 를 넘지 않도록 짧게 둔다
+        @DefaultValue("5s") Duration bulkMaxWait
+) {
+}
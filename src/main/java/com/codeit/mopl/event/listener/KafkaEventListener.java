@@ -1,20 +1,19 @@
 package com.codeit.mopl.event.listener;
 
+import com.codeit.mopl.event.codec.EncodedEvent;
+import com.codeit.mopl.event.codec.EventCodecs;
+import com.codeit.mopl.event.entity.OutboxEvent;
 import com.codeit.mopl.event.event.*;
+import com.codeit.mopl.event.repository.OutboxEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.header.internals.RecordHeader;
 import org.slf4j.MDC;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -22,51 +21,68 @@ import java.util.Optional;
 @Component
 public class KafkaEventListener {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventCodecs eventCodecs;
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(NotificationCreateEvent event) {
         log.info("kafka NotificationCreate Event");
-        String key = Optional.ofNullable(event.notificationDto().id())
-                .map(Object::toString)
-                .orElse(null);
+        toOutboxEvent(event).ifPresent(this::save);
+    }
+
+    // 일괄 생성된 알림은 수신자마다 단건과 같은 레코드로 나누되, outbox 에는 saveAll 한 번(JDBC 배치)으로 저장한다
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(NotificationBulkCreateEvent event) {
+        List<OutboxEvent> outboxEvents = event.notifications().stream()
+                .map(notificationDto -> toOutboxEvent(new NotificationCreateEvent(notificationDto, event.lane())))
+                .flatMap(Optional::stream)
+                .toList();
+        outboxEventRepository.saveAll(outboxEvents);
+        log.debug("[Outbox] 알림 일괄 저장 size={}, lane={}", outboxEvents.size(), event.lane());
+    }
 
-        send("mopl-notification-create", key, event);
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(PlaylistContentAddedEvent event) {
+        send("mopl-playlist-content-added", event.playlistId().toString(), event, OutboxEvent.BULK_PRIORITY);
     }
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 청크 id 를 키로 써서 한 번의 fan-out 이 여러 파티션에 고르게 퍼지게 한다
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(FollowerNotificationChunkEvent event) {
+        send("mopl-notification-fanout-chunk", event.chunkId().toString(), event, OutboxEvent.BULK_PRIORITY);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(SubscriberNotificationChunkEvent event) {
+        send("mopl-notification-subscriber-chunk", event.chunkId().toString(), event, OutboxEvent.BULK_PRIORITY);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(FollowerIncreaseEvent event) {
         String key = event.followeeId().toString();
         send("mopl-follower-increase", key, event);
     }
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(FollowerDecreaseEvent event) {
         String key = event.followeeId().toString();
         send("mopl-follower-decrease", key, event);
     }
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(UserRoleUpdateEvent event) {
         String key = event.userId().toString();
         send("mopl-user-role-update", key, event);
     }
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(UserLogInOutEvent event) {
         log.info("kafka UserLogInOut Event");
         String key = event.userId().toString();
         send("mopl-user-login-out", key, event);
     }
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(DirectMessageCreateEvent event){
         log.info("kafka DirectMessageCreate Event");
         String key = Optional.ofNullable(event.directMessageDto().id())
@@ -75,8 +91,7 @@ public class KafkaEventListener {
         send("mopl-directMessage-create", key, event);
     }
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(PlayListCreateEvent event){
         log.info("kafka PlayListCreate Event");
         String key = Optional.ofNullable(event.playListId())
@@ -85,8 +100,7 @@ public class KafkaEventListener {
         send("mopl-playList-create", key, event);
     }
 
-    @Async("taskExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(WatchingSessionCreateEvent event){
         log.info("kafka WatchingSessionCreate Event");
         String key = Optional.ofNullable(event.watchingSessionId())
@@ -95,8 +109,7 @@ public class KafkaEventListener {
         send("mopl-watchingSession-create", key, event);
     }
 
-    @Async("mailExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void on(MailSendEvent event) {
         log.info("[Kafka] MailSendEvent Event");
         String key = Optional.ofNullable(event.email())
@@ -105,28 +118,44 @@ public class KafkaEventListener {
         send("mopl-mail-send", key, event);
     }
 
+    /**
+     * 이벤트를 발행 트랜잭션 안에서 outbox_events 에 저장한다. 실제 Kafka 발행은 OutboxRelay 가 커밋 이후에 한다.
+     * 저장에 실패하면 도메인 변경도 함께 롤백된다.
+     */
     private void send(String topic, String key, Object payload) {
+        send(topic, key, payload, OutboxEvent.DEFAULT_PRIORITY);
+    }
+
+    private void send(String topic, String key, Object payload, int priority) {
+        toOutboxEvent(topic, key, payload, priority).ifPresent(this::save);
+    }
+
+    private void save(OutboxEvent outboxEvent) {
+        outboxEventRepository.save(outboxEvent);
+        log.debug("[Outbox] 이벤트 저장 topic={}, key={}", outboxEvent.getTopic(), outboxEvent.getMessageKey());
+    }
+
+    // 팔로워 / 구독자 fan-out 은 별도 토픽 / 컨슈머 그룹으로 보내고, outbox 에서도 단건 알림 뒤로 미룬다
+    private Optional<OutboxEvent> toOutboxEvent(NotificationCreateEvent event) {
+        String key = Optional.ofNullable(event.notificationDto().id())
+                .map(Object::toString)
+                .orElse(null);
+        if (event.isBulk()) {
+            return toOutboxEvent("mopl-notification-create-bulk", key, event, OutboxEvent.BULK_PRIORITY);
+        }
+        return toOutboxEvent("mopl-notification-create", key, event, OutboxEvent.DEFAULT_PRIORITY);
+    }
+
+    private Optional<OutboxEvent> toOutboxEvent(String topic, String key, Object payload, int priority) {
         try {
-            String json = objectMapper.writeValueAsString(payload);
+            EncodedEvent encoded = eventCodecs.encode(payload);
 
             String traceId = Optional.ofNullable(MDC.get("requestId")).orElse("N/A");
-            ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, json);
-            record.headers().add(new RecordHeader("x-trace-id", traceId.getBytes(StandardCharsets.UTF_8)));
-            record.headers().add(new RecordHeader("x-event-type",
-                    payload.getClass().getSimpleName().getBytes(StandardCharsets.UTF_8)));
-
-            kafkaTemplate.send(record).whenComplete((result, ex) -> {
-                if (ex != null) {
-                    log.warn("[Kafka] 전송 실패 topic={}, key={}, error={}", topic, key, ex.getMessage(), ex);
-                } else {
-                    log.info("[Kafka] 전송 성공 topic={}, key={}, partition={}, offset={}",
-                            topic, key,
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                }
-            });
+            return Optional.of(new OutboxEvent(topic, key, encoded.payload(), encoded.codec(),
+                    payload.getClass().getSimpleName(), traceId, priority));
         } catch (JsonProcessingException e) {
             log.warn("[Kafka] 이벤트 직렬화 실패 topic={}, error={}", topic, e.getMessage(), e);
+            return Optional.empty();
         }
     }
-}
\ No newline at end of file
+}
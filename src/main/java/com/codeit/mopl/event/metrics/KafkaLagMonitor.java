@@ -0,0 +1,145 @@
+package com.codeit.mopl.event.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨슈머 그룹의 파티션 별 lag 을 AdminClient 로 주기적으로 계산해 gauge 로 노출한다.
+ *
+ * - kafka.consumer.group.lag{group, topic, partition} = 파티션 끝 오프셋 - 그룹 커밋 오프셋
+ *
+ * 컨슈머 클라이언트의 records-lag 과 달리 그 그룹의 컨슈머가 모두 내려가 있어도 lag 이 보인다.
+ * 스케줄러 스레드를 오래 잡지 않도록 호출마다 timeout 을 짧게 둔다.
+ */
+@Slf4j
+@Component
+public class KafkaLagMonitor implements DisposableBean {
+
+  private final KafkaAdmin kafkaAdmin;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final List<String> groups;
+  private final Duration timeout;
+
+  private final Map<LagKey, AtomicLong> lags = new ConcurrentHashMap<>();
+  private volatile AdminClient adminClient;
+
+  public KafkaLagMonitor(KafkaAdmin kafkaAdmin,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.kafka.lag.enabled:true}") boolean enabled,
+      @Value("${mopl.kafka.lag.groups:mopl-notification,mopl-notification-bulk,mopl-follow,mopl-mail-send,mopl-login-out}") List<String> groups,
+      @Value("${mopl.kafka.lag.timeout:3s}") Duration timeout) {
+    this.kafkaAdmin = kafkaAdmin;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.groups = groups;
+    this.timeout = timeout;
+  }
+
+  @Scheduled(fixedDelayString = "${mopl.kafka.lag.interval-ms:30000}")
+  public void refresh() {
+    if (!enabled) {
+      return;
+    }
+    for (String group : groups) {
+      try {
+        refresh(group);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        log.warn("[Kafka] 컨슈머 lag 조회 실패 group = {}, msg = {}", group, e.getMessage());
+      }
+    }
+  }
+
+  void refresh(String group) throws Exception {
+    Map<TopicPartition, OffsetAndMetadata> committed = admin().listConsumerGroupOffsets(group)
+        .partitionsToOffsetAndMetadata()
+        .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    if (committed.isEmpty()) {
+      return;
+    }
+
+    Map<TopicPartition, OffsetSpec> request = committed.keySet().stream()
+        .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.latest()));
+    Map<TopicPartition, ListOffsetsResultInfo> endOffsets = admin().listOffsets(request).all()
+        .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+    committed.forEach((partition, offset) -> {
+      ListOffsetsResultInfo end = endOffsets.get(partition);
+      if (offset == null || end == null) {
+        return;
+      }
+      lag(group, partition).set(Math.max(0, end.offset() - offset.offset()));
+    });
+  }
+
+  /**
+   * 마지막으로 조회한 lag 중 group 의 partitions lag 합계. 아직 조회되지 않은 파티션은 0
+   */
+  public long partitionLag(String group, Collection<TopicPartition> partitions) {
+    long sum = 0;
+    for (TopicPartition partition : partitions) {
+      AtomicLong value = lags.get(new LagKey(group, partition));
+      if (value != null) {
+        sum += value.get();
+      }
+    }
+    return sum;
+  }
+
+  private AtomicLong lag(String group, TopicPartition partition) {
+    return lags.computeIfAbsent(new LagKey(group, partition), key -> {
+      AtomicLong value = new AtomicLong();
+      Gauge.builder("kafka.consumer.group.lag", value, AtomicLong::get)
+          .description("파티션 끝 오프셋과 컨슈머 그룹 커밋 오프셋의 차이")
+          .tag("group", group)
+          .tag("topic", partition.topic())
+          .tag("partition", String.valueOf(partition.partition()))
+          .register(meterRegistry);
+      return value;
+    });
+  }
+
+  private AdminClient admin() {
+    if (adminClient == null) {
+      synchronized (this) {
+        if (adminClient == null) {
+          adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        }
+      }
+    }
+    return adminClient;
+  }
+
+  @Override
+  public void destroy() {
+    if (adminClient != null) {
+      adminClient.close(Duration.ofSeconds(5));
+    }
+  }
+
+  private record LagKey(String group, TopicPartition partition) {
+  }
+}
@@ -0,0 +1,114 @@
+package com.codeit.mopl.event.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 @KafkaListener 호출 전후에서 처리 시간을 잰다. Spring Boot 가 기본 / 배치 리스너 컨테이너 팩토리에 자동으로 등록한다.
+ *
+ * - kafka.listener.handler.duration{topic, result=success|failure} : 핸들러 처리 시간 (배치 리스너는 배치 한 번)
+ * - kafka.event.e2e.latency{topic} : 레코드 timestamp(프로듀서 전송 시각)부터 핸들러 처리 완료까지
+ *
+ * 인터셉터는 리스너와 같은 컨슈머 스레드에서 호출되므로 시작 시각은 ThreadLocal 에 둔다.
+ */
+@Component
+public class KafkaListenerMetrics implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+  private final MeterRegistry meterRegistry;
+  private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+  private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> e2eTimers = new ConcurrentHashMap<>();
+
+  public KafkaListenerMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record,
+      Consumer<Object, Object> consumer) {
+    startedAt.set(System.nanoTime());
+    return record;
+  }
+
+  @Override
+  public void success(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+    recordHandler(record.topic(), "success");
+    recordEndToEnd(record);
+  }
+
+  @Override
+  public void failure(ConsumerRecord<Object, Object> record, Exception exception,
+      Consumer<Object, Object> consumer) {
+    recordHandler(record.topic(), "failure");
+  }
+
+  @Override
+  public void afterRecord(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+    startedAt.remove();
+  }
+
+  @Override
+  public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records,
+      Consumer<Object, Object> consumer) {
+    startedAt.set(System.nanoTime());
+    return records;
+  }
+
+  @Override
+  public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+    recordBatch(records, "success");
+    for (ConsumerRecord<Object, Object> record : records) {
+      recordEndToEnd(record);
+    }
+  }
+
+  @Override
+  public void failure(ConsumerRecords<Object, Object> records, Exception exception,
+      Consumer<Object, Object> consumer) {
+    recordBatch(records, "failure");
+  }
+
+  private void recordBatch(ConsumerRecords<Object, Object> records, String result) {
+    // 배치 리스너는 토픽 하나만 구독하므로 첫 파티션의 토픽으로 태그를 단다
+    records.partitions().stream()
+        .findFirst()
+        .ifPresentOrElse(partition -> recordHandler(partition.topic(), result), startedAt::remove);
+  }
+
+  private void recordHandler(String topic, String result) {
+    Long started = startedAt.get();
+    startedAt.remove();
+    if (started == null) {
+      return;
+    }
+    handlerTimers.computeIfAbsent(topic + ":" + result, key -> Timer.builder("kafka.listener.handler.duration")
+            .description("@KafkaListener 핸들러 처리 시간")
+            .tag("topic", topic)
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(meterRegistry))
+        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+  }
+
+  private void recordEndToEnd(ConsumerRecord<Object, Object> record) {
+    if (record.timestamp() <= 0) {
+      return;
+    }
+    long latencyMillis = Math.max(0, System.currentTimeMillis() - record.timestamp());
+    e2eTimers.computeIfAbsent(record.topic(), topic -> Timer.builder("kafka.event.e2e.latency")
+            .description("레코드 timestamp 부터 핸들러 처리 완료까지")
+            .tag("topic", topic)
+            .publishPercentileHistogram()
+            .register(meterRegistry))
+        .record(latencyMillis, TimeUnit.MILLISECONDS);
+  }
+}
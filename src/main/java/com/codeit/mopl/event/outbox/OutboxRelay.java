@@ -0,0 +1,187 @@
+package com.codeit.mopl.event.outbox;
+
+import com.codeit.mopl.event.codec.EventCodecs;
+import com.codeit.mopl.event.entity.OutboxEvent;
+import com.codeit.mopl.event.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox_events 의 미발행 행을 배치 단위로 Kafka 에 발행한다.
+ *
+ * 1. 미발행 행을 FOR UPDATE SKIP LOCKED 로 batch-size 만큼 잠근다 (노드 간 분배)
+ * 2. 모두 send 한 뒤 flush 하여 프로듀서가 배치로 묶어 보내게 한다
+ * 3. ack 를 받은 행은 sent_at 을 채우고, 실패한 행은 attempts 를 올리고 next_attempt_at 까지 지수 backoff 한다
+ * 4. max-attempts 번 실패한 행은 failed_at 을 채워 보류한다 (계속 실패하는 행이 매 배치를 차지하지 않게)
+ *
+ * 발행 후 sent_at 갱신 전에 죽으면 다시 발행되므로 at-least-once 이며, 컨슈머는 processed_events 로 중복을 거른다.
+ * 실패한 행이 뒤따르는 행보다 늦게 나갈 수 있어 같은 키의 순서는 보장하지 않는다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Duration sendTimeout;
+  private final Duration retention;
+  private final int maxAttempts;
+  private final Duration backoffInitial;
+  private final Duration backoffMax;
+
+  private final Counter sentCounter;
+  private final Counter failedCounter;
+  private final Counter parkedCounter;
+
+  public OutboxRelay(OutboxEventRepository outboxEventRepository,
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.outbox.relay.batch-size:500}") int batchSize,
+      @Value("${mopl.outbox.relay.send-timeout:10s}") Duration sendTimeout,
+      @Value("${mopl.outbox.retention:3d}") Duration retention,
+      @Value("${mopl.outbox.relay.max-attempts:10}") int maxAttempts,
+      @Value("${mopl.outbox.relay.backoff-initial:1s}") Duration backoffInitial,
+      @Value("${mopl.outbox.relay.backoff-max:5m}") Duration backoffMax) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.kafkaTemplate = kafkaTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.sendTimeout = sendTimeout;
+    this.retention = retention;
+    this.maxAttempts = maxAttempts;
+    this.backoffInitial = backoffInitial;
+    this.backoffMax = backoffMax;
+    this.sentCounter = meterRegistry.counter("outbox.events", "result", "sent");
+    this.failedCounter = meterRegistry.counter("outbox.events", "result", "failed");
+    this.parkedCounter = meterRegistry.counter("outbox.events", "result", "parked");
+  }
+
+  @Scheduled(fixedDelayString = "${mopl.outbox.relay.interval-ms:500}")
+  public void relay() {
+    try {
+      // 가득 찬 배치를 모두 성공적으로 보냈다면 밀린 행이 더 있을 수 있으므로 바로 이어서 보낸다
+      while (Boolean.TRUE.equals(transactionTemplate.execute(status -> relayBatch()))) {
+        log.debug("[Outbox] 밀린 이벤트 계속 발행");
+      }
+    } catch (Exception e) {
+      log.warn("[Outbox] 이벤트 발행 주기 실패, 다음 주기에 재시도 msg = {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * @return 이어서 다음 배치를 보내야 하면 true
+   */
+  boolean relayBatch() {
+    List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(batchSize, Instant.now());
+    if (events.isEmpty()) {
+      return false;
+    }
+
+    List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(events.size());
+    for (OutboxEvent event : events) {
+      futures.add(kafkaTemplate.send(toRecord(event)));
+    }
+    // linger.ms 를 기다리지 않고 마지막 배치까지 바로 내보낸다
+    kafkaTemplate.flush();
+
+    List<UUID> sentIds = new ArrayList<>(events.size());
+    List<OutboxEvent> failed = new ArrayList<>();
+    long deadline = System.nanoTime() + sendTimeout.toNanos();
+    for (int i = 0; i < events.size(); i++) {
+      OutboxEvent event = events.get(i);
+      try {
+        futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        sentIds.add(event.getId());
+      } catch (ExecutionException | TimeoutException e) {
+        log.warn("[Outbox] 이벤트 발행 실패 id = {}, topic = {}, key = {}, attempts = {}, msg = {}",
+            event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts() + 1, e.getMessage());
+        failed.add(event);
+      } catch (InterruptedException e) {
+        // 결과를 확인하지 못한 행은 미발행으로 남겨 다음 주기에 다시 보낸다
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    if (!sentIds.isEmpty()) {
+      outboxEventRepository.markSent(sentIds, Instant.now());
+      sentCounter.increment(sentIds.size());
+    }
+    if (!failed.isEmpty()) {
+      handleFailed(failed);
+      failedCounter.increment(failed.size());
+    }
+    log.debug("[Outbox] 이벤트 발행 sent = {}, failed = {}", sentIds.size(), failed.size());
+    return events.size() == batchSize && sentIds.size() == events.size();
+  }
+
+  private void handleFailed(List<OutboxEvent> failed) {
+    Instant now = Instant.now();
+    List<UUID> parkedIds = new ArrayList<>();
+    // 같은 시도 횟수의 행은 같은 시각으로 미뤄지므로 시각 별로 한 번씩만 갱신한다
+    Map<Instant, List<UUID>> retryIdsByNextAttemptAt = new LinkedHashMap<>();
+    for (OutboxEvent event : failed) {
+      int attempts = event.getAttempts() + 1;
+      if (attempts >= maxAttempts) {
+        log.error("[Outbox] 최대 시도 횟수 초과, 발행 보류 id = {}, topic = {}, key = {}, attempts = {}",
+            event.getId(), event.getTopic(), event.getMessageKey(), attempts);
+        parkedIds.add(event.getId());
+        continue;
+      }
+      retryIdsByNextAttemptAt.computeIfAbsent(now.plus(backoff(attempts)), at -> new ArrayList<>())
+          .add(event.getId());
+    }
+    retryIdsByNextAttemptAt.forEach((nextAttemptAt, ids) -> outboxEventRepository.scheduleRetry(ids, nextAttemptAt));
+    if (!parkedIds.isEmpty()) {
+      outboxEventRepository.markFailed(parkedIds, now);
+      parkedCounter.increment(parkedIds.size());
+    }
+  }
+
+  // backoff-initial * 2^(attempts - 1), 최대 backoff-max
+  private Duration backoff(int attempts) {
+    Duration delay = backoffInitial.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+  }
+
+  @Scheduled(cron = "${mopl.outbox.cleanup-cron:0 30 4 * * *}")
+  public void purgeSent() {
+    Integer deleted = transactionTemplate.execute(status ->
+        outboxEventRepository.deleteSentBefore(Instant.now().minus(retention)));
+    log.info("[Outbox] 발행 완료 이벤트 정리 deleted = {}", deleted);
+  }
+
+  private ProducerRecord<String, byte[]> toRecord(OutboxEvent event) {
+    ProducerRecord<String, byte[]> record =
+        new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+    String traceId = event.getTraceId() != null ? event.getTraceId() : "N/A";
+    record.headers().add(new RecordHeader("x-trace-id", traceId.getBytes(StandardCharsets.UTF_8)));
+    record.headers().add(new RecordHeader("x-event-type", event.getEventType().getBytes(StandardCharsets.UTF_8)));
+    record.headers().add(new RecordHeader(EventCodecs.CODEC_HEADER, event.getCodec().getBytes(StandardCharsets.UTF_8)));
+    return record;
+  }
+}
@@ -0,0 +1,39 @@
+package com.codeit.mopl.event.repository;
+
+import com.codeit.mopl.event.entity.OutboxEvent;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+  // 여러 노드의 릴레이가 같은 행을 집지 않도록 잠긴 행은 건너뛴다
+  // priority 가 낮은(대량) 행이 많이 밀려 있어도 단건 이벤트가 먼저 나간다
+  // 실패 후 backoff 중인 행과 최대 시도 횟수를 넘겨 보류된 행은 읽지 않는다
+  @Query(value = "SELECT * FROM outbox_events WHERE sent_at IS NULL AND failed_at IS NULL"
+      + " AND (next_attempt_at IS NULL OR next_attempt_at <= :now)"
+      + " ORDER BY priority, created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<OutboxEvent> findPendingForUpdate(@Param("limit") int limit, @Param("now") Instant now);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent o SET o.sentAt = :sentAt WHERE o.id IN :ids")
+  int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") Instant sentAt);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+  int scheduleRetry(@Param("ids") Collection<UUID> ids, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1, o.failedAt = :failedAt WHERE o.id IN :ids")
+  int markFailed(@Param("ids") Collection<UUID> ids, @Param("failedAt") Instant failedAt);
+
+  @Modifying
+  @Query("DELETE FROM OutboxEvent o WHERE o.sentAt < :before")
+  int deleteSentBefore(@Param("before") Instant before);
+}
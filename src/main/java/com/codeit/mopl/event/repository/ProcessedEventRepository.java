@@ -3,13 +3,32 @@ package com.codeit.mopl.event.repository;
 import com.codeit.mopl.event.entity.EventType;
 import com.codeit.mopl.event.entity.ProcessedEvent;
 import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, UUID> {
 
   Optional<ProcessedEvent> findByEventIdAndEventType(@NotNull UUID eventId, EventType eventType);
   boolean existsByEventIdAndEventType(@NotNull UUID eventId, EventType eventType);
-}
 
+  // 배치 리스너에서 한 번의 IN 쿼리로 이미 처리된 이벤트를 걸러낸다
+  @Query("select p.eventId from ProcessedEvent p where p.eventType = :eventType and p.eventId in :eventIds")
+  List<UUID> findProcessedEventIds(@Param("eventType") EventType eventType, @Param("eventIds") Collection<UUID> eventIds);
+
+  // (event_type, created_at) 인덱스 범위에서 limit 만큼만 지워 한 번의 트랜잭션을 짧게 유지한다
+  @Modifying
+  @Query(value = "DELETE FROM processed_events WHERE id IN "
+      + "(SELECT id FROM processed_events WHERE event_type = :eventType AND created_at < :before LIMIT :limit)",
+      nativeQuery = true)
+  int deleteExpired(@Param("eventType") String eventType, @Param("before") Instant before, @Param("limit") int limit);
+
+  @Query("select p.eventType, count(p) from ProcessedEvent p group by p.eventType")
+  List<Object[]> countByEventType();
+}
@@ -0,0 +1,164 @@
+package com.codeit.mopl.event.retry;
+
+import com.codeit.mopl.event.dto.DltReplayResult;
+import com.codeit.mopl.exception.global.InvalidInputValueException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+/**
+ * {topic}.DLT 에 쌓인 레코드를 원본 토픽으로 다시 보낸다.
+ * 대상은 재시도 토픽(KafkaRetryTopics.TOPICS)과 배치 리스너의 DLT 토픽(BATCH_DLT_TOPICS)이다.
+ *
+ * 1. mopl-dlt-replay 그룹의 커밋 위치부터 DLT 를 읽는다 (이미 재발행한 레코드는 다시 읽지 않는다)
+ * 2. kafka_dlt-* / retry_topic-* / x-attempt 헤더만 빼고 원본 헤더 그대로 원본 토픽에 보낸다 (시도 횟수는 1 부터 다시 센다)
+ * 3. 모두 ack 를 받은 뒤에만 오프셋을 커밋한다
+ *
+ * 중간에 실패하면 커밋하지 않으므로 일부가 다시 발행될 수 있지만, 컨슈머는 processed_events 로 중복을 거른다.
+ */
+@Slf4j
+@Service
+public class DltReplayService {
+
+  static final String REPLAY_GROUP_ID = "mopl-dlt-replay";
+
+  // 재시도 토픽 없이 배치 리스너의 DeadLetterPublishingRecoverer 가 {topic}.DLT 로 보내는 토픽
+  static final List<String> BATCH_DLT_TOPICS = List.of(
+      "mopl-notification-create",
+      "mopl-directMessage-create",
+      "mopl-notification-create-bulk");
+
+  private final ConsumerFactory<String, byte[]> consumerFactory;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final MeterRegistry meterRegistry;
+  private final int maxRecords;
+  private final Duration pollTimeout;
+  private final Duration sendTimeout;
+
+  public DltReplayService(ConsumerFactory<String, byte[]> consumerFactory,
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${mopl.kafka.dlt-replay.max-records:1000}") int maxRecords,
+      @Value("${mopl.kafka.dlt-replay.poll-timeout:2s}") Duration pollTimeout,
+      @Value("${mopl.kafka.dlt-replay.send-timeout:10s}") Duration sendTimeout) {
+    this.consumerFactory = consumerFactory;
+    this.kafkaTemplate = kafkaTemplate;
+    this.meterRegistry = meterRegistry;
+    this.maxRecords = maxRecords;
+    this.pollTimeout = pollTimeout;
+    this.sendTimeout = sendTimeout;
+  }
+
+  public DltReplayResult replay(String topic, int limit) {
+    if (!isReplayable(topic)) {
+      throw new InvalidInputValueException(Map.of("topic", topic));
+    }
+    int max = Math.min(Math.max(limit, 1), maxRecords);
+    String dltTopic = topic + KafkaRetryTopics.DLT_SUFFIX;
+
+    Properties properties = new Properties();
+    properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, max);
+
+    int replayed = 0;
+    try (Consumer<String, byte[]> consumer =
+        consumerFactory.createConsumer(REPLAY_GROUP_ID, null, null, properties)) {
+      List<TopicPartition> partitions = consumer.partitionsFor(dltTopic).stream()
+          .map(info -> new TopicPartition(info.topic(), info.partition()))
+          .toList();
+      if (partitions.isEmpty()) {
+        return new DltReplayResult(topic, 0);
+      }
+      consumer.assign(partitions);
+
+      while (replayed < max) {
+        ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+        if (records.isEmpty()) {
+          break;
+        }
+        List<ConsumerRecord<String, byte[]>> batch = new ArrayList<>(records.count());
+        for (ConsumerRecord<String, byte[]> record : records) {
+          if (replayed + batch.size() >= max) {
+            break;
+          }
+          batch.add(record);
+        }
+        republish(topic, batch);
+        consumer.commitSync(nextOffsets(batch));
+        replayed += batch.size();
+      }
+    }
+
+    meterRegistry.counter("kafka.dlt.replayed", "topic", topic).increment(replayed);
+    log.info("[Kafka] DLT 재발행 완료 topic = {}, replayed = {}", topic, replayed);
+    return new DltReplayResult(topic, replayed);
+  }
+
+  private boolean isReplayable(String topic) {
+    return KafkaRetryTopics.TOPICS.contains(topic) || BATCH_DLT_TOPICS.contains(topic);
+  }
+
+  private void republish(String topic, List<ConsumerRecord<String, byte[]>> batch) {
+    List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+    for (ConsumerRecord<String, byte[]> record : batch) {
+      futures.add(kafkaTemplate.send(
+          new ProducerRecord<>(topic, null, record.key(), record.value(), originalHeaders(record.headers()))));
+    }
+    kafkaTemplate.flush();
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+          .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("DLT 재발행 중단 topic = " + topic, e);
+    } catch (Exception e) {
+      throw new IllegalStateException("DLT 재발행 실패 topic = " + topic, e);
+    }
+  }
+
+  private Headers originalHeaders(Headers headers) {
+    Headers copied = new RecordHeaders();
+    for (Header header : headers) {
+      String key = header.key();
+      if (key.startsWith("kafka_dlt-") || key.startsWith("retry_topic-")
+          || key.equals(KafkaRetryTopics.ATTEMPT_HEADER)) {
+        continue;
+      }
+      copied.add(header);
+    }
+    return copied;
+  }
+
+  private Map<TopicPartition, OffsetAndMetadata> nextOffsets(List<ConsumerRecord<String, byte[]>> batch) {
+    Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+    for (ConsumerRecord<String, byte[]> record : batch) {
+      offsets.merge(new TopicPartition(record.topic(), record.partition()),
+          new OffsetAndMetadata(record.offset() + 1),
+          (prev, next) -> next.offset() > prev.offset() ? next : prev);
+    }
+    return offsets;
+  }
+}
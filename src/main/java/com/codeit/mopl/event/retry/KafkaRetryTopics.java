@@ -0,0 +1,60 @@
+package com.codeit.mopl.event.retry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+/**
+ * KafkaConsumer 토픽의 non-blocking 재시도 토픽 규칙.
+ *
+ * {topic} 에서 실패한 레코드는 {topic}.retry-0, {topic}.retry-1 ... 로 지연되어 다시 소비되고,
+ * 마지막 시도까지 실패하면 {topic}.DLT 에 남는다. 원본 파티션은 막히지 않는다.
+ * 재발행 시 원본 헤더(x-trace-id, x-event-type, x-event-codec)는 그대로 복사되고 x-attempt 만 새로 붙는다.
+ */
+public final class KafkaRetryTopics {
+
+  // mopl-user-login-out 은 늦게 재처리하면 이후 로그인 / 로그아웃 상태를 덮어쓰므로 기존처럼 제자리 재시도한다
+  public static final List<String> TOPICS = List.of(
+      "mopl-user-role-update",
+      "mopl-playList-create",
+      "mopl-watchingSession-create",
+      "mopl-notification-fanout-chunk",
+      "mopl-playlist-content-added",
+      "mopl-notification-subscriber-chunk",
+      "mopl-mail-send");
+
+  public static final String RETRY_SUFFIX = ".retry";
+  public static final String DLT_SUFFIX = ".DLT";
+  public static final String ATTEMPT_HEADER = "x-attempt";
+
+  private KafkaRetryTopics() {
+  }
+
+  /**
+   * @return 이 레코드가 몇 번째 처리 시도인지, 원본 토픽에서 처음 받은 레코드면 1
+   */
+  public static int attempt(ConsumerRecord<?, ?> record) {
+    Header header = record.headers().lastHeader(ATTEMPT_HEADER);
+    if (header == null) {
+      return 1;
+    }
+    try {
+      return Integer.parseInt(new String(header.value(), StandardCharsets.UTF_8));
+    } catch (NumberFormatException e) {
+      return 1;
+    }
+  }
+
+  /**
+   * 실패한 레코드를 다음 재시도 토픽 또는 DLT 로 보낼 때 덧붙이는 헤더.
+   * 원본 헤더는 복사된 뒤 이 헤더가 마지막에 붙으므로 lastHeader 로 읽으면 최신 시도 횟수가 된다.
+   */
+  public static Headers nextAttemptHeaders(ConsumerRecord<?, ?> record) {
+    Headers headers = new RecordHeaders();
+    headers.add(ATTEMPT_HEADER, String.valueOf(attempt(record) + 1).getBytes(StandardCharsets.UTF_8));
+    return headers;
+  }
+}
@@ -0,0 +1,9 @@
+package com.codeit.mopl.exception.ratelimit;
+
+import java.util.Map;
+
+public class RateLimitExceededException extends RateLimitException {
+    public RateLimitExceededException(RateLimitErrorCode rateLimitErrorCode, Map<String, Object> details) {
+        super(rateLimitErrorCode, details);
+    }
+}
@@ -0,0 +1,11 @@
+package com.codeit.mopl.exception.ratelimit;
+
+import com.codeit.mopl.exception.global.MoplException;
+
+import java.util.Map;
+
+public class RateLimitException extends MoplException {
+    public RateLimitException(RateLimitErrorCode rateLimitErrorCode, Map<String, Object> details) {
+        super(rateLimitErrorCode, details);
+    }
+}
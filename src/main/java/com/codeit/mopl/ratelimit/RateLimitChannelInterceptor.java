@@ -0,0 +1,51 @@
+package com.codeit.mopl.ratelimit;
+
+import com.codeit.mopl.exception.ratelimit.RateLimitErrorCode;
+import com.codeit.mopl.exception.ratelimit.RateLimitExceededException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * STOMP SEND 프레임(@MessageMapping 채팅, DM)에 사용자 별 요청 제한을 적용한다.
+ * AuthChannelInterceptor 다음에 등록되어야 세션 사용자를 알 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitChannelInterceptor implements ChannelInterceptor {
+    private static final String RULE_NAME = "stomp";
+
+    private final RedisRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!properties.enabled() || properties.stomp() == null) {
+            return message;
+        }
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String bucket = accessor.getUser() != null
+                ? "user:" + accessor.getUser().getName()
+                : "session:" + accessor.getSessionId();
+        RateLimitDecision decision = rateLimiter.tryAcquire(RULE_NAME, bucket, properties.stomp());
+        if (!decision.allowed()) {
+            log.warn("[RateLimit] STOMP 요청 제한 초과 sessionId = {}, destination = {}", accessor.getSessionId(), accessor.getDestination());
+            throw new RateLimitExceededException(RateLimitErrorCode.RATE_LIMIT_EXCEEDED,
+                    Map.of("rule", RULE_NAME, "retryAfterSeconds", decision.retryAfterSeconds()));
+        }
+        return message;
+    }
+}
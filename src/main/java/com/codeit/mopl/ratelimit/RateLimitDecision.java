@@ -0,0 +1,17 @@
+package com.codeit.mopl.ratelimit;
+
+public record RateLimitDecision(
+        boolean allowed,
+        long retryAfterSeconds
+) {
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        // Retry-After 는 초 단위이므로 올림하고 최소 1초로 맞춘다
+        return new RateLimitDecision(false, Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+}
@@ -0,0 +1,109 @@
+package com.codeit.mopl.ratelimit;
+
+import com.codeit.mopl.exception.global.ErrorResponse;
+import com.codeit.mopl.exception.ratelimit.RateLimitErrorCode;
+import com.codeit.mopl.exception.ratelimit.RateLimitExceededException;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
+import com.codeit.mopl.security.jwt.filter.AccessTokenVerification;
+import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * JwtAuthenticationFilter 이전에 실행되는 요청 제한 필터.
+ * 사용자 버킷은 서명, 만료 검증을 통과한 AccessToken 의 userId 로만 잡고,
+ * 검증에 실패한 토큰은 IP 버킷에서만 제한한다. 검증 결과는 AccessTokenVerification 으로 JwtAuthenticationFilter 와 공유한다.
+ * IP 는 server.forward-headers-strategy 로 신뢰하는 프록시의 X-Forwarded-For 를 반영한 remoteAddr 를 사용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RedisRateLimiter rateLimiter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Rule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String userId = resolveUserId(request);
+        if (rule.user() != null && userId != null) {
+            RateLimitDecision decision = rateLimiter.tryAcquire(rule.name(), "user:" + userId, rule.user());
+            if (!decision.allowed()) {
+                reject(response, rule, decision);
+                return;
+            }
+        }
+        if (rule.ip() != null) {
+            RateLimitDecision decision = rateLimiter.tryAcquire(rule.name(), "ip:" + request.getRemoteAddr(), rule.ip());
+            if (!decision.allowed()) {
+                reject(response, rule, decision);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || properties.rules().isEmpty();
+    }
+
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (RateLimitProperties.Rule rule : properties.rules()) {
+            boolean methodMatches = !StringUtils.hasText(rule.method()) || rule.method().equalsIgnoreCase(request.getMethod());
+            if (methodMatches && pathMatcher.match(rule.path(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveUserId(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            VerifiedJwt verifiedJwt = AccessTokenVerification.verify(request, header.substring(7), jwtTokenProvider);
+            return verifiedJwt.userId() != null ? verifiedJwt.userId().toString() : null;
+        } catch (Exception e) {
+            // 위조, 만료 토큰의 userId 로 다른 사용자 버킷을 소진시키지 못하도록 IP 버킷만 적용
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, RateLimitProperties.Rule rule, RateLimitDecision decision) throws IOException {
+        log.warn("[RateLimit] 요청 제한 초과 rule = {}, retryAfter = {}s", rule.name(), decision.retryAfterSeconds());
+        response.setStatus(RateLimitErrorCode.RATE_LIMIT_EXCEEDED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        RateLimitExceededException e = new RateLimitExceededException(RateLimitErrorCode.RATE_LIMIT_EXCEEDED,
+                Map.of("rule", rule.name(), "retryAfterSeconds", decision.retryAfterSeconds()));
+        ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode().getName(), e.getErrorCode().getMessage(), e.getDetails(), e.getTimestamp());
+        objectMapper.writeValue(response.getWriter(), errorResponse);
+    }
+}
@@ -0,0 +1,39 @@
+package com.codeit.mopl.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 경로 별 요청 제한 설정.
+ * rules 는 위에서부터 처음 일치하는 규칙 하나만 적용되며, user / ip 중 설정된 버킷만 검사한다.
+ */
+@ConfigurationProperties(prefix = "mopl.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        // 노드가 Redis 에서 한 번에 가져오는 토큰 수
+        @DefaultValue("5") int leaseSize,
+        // 가져온 토큰의 로컬 유효 시간, 쓰지 못한 토큰은 버려진다
+        @DefaultValue("1s") Duration leaseTtl,
+        @DefaultValue List<Rule> rules,
+        // STOMP SEND 프레임에 적용되는 사용자 별 제한
+        Limit stomp
+) {
+    public record Rule(
+            String name,
+            String path,
+            // 비어 있으면 모든 HTTP 메서드에 적용
+            String method,
+            Limit user,
+            Limit ip
+    ) {
+    }
+
+    public record Limit(
+            long capacity,
+            double refillPerSecond
+    ) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.codeit.mopl.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 토큰 버킷 기반 요청 제한.
+ * 노드는 Redis 에서 토큰을 leaseSize 만큼 한 번에 가져와(lease) 로컬에서 소진하므로,
+ * 대부분의 검사는 Redis 를 거치지 않는다. 노드 당 초과 허용량은 키 별로 최대 leaseSize - 1 개다.
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS: bucketKey / ARGV: capacity, refillPerSecond, requested -> {granted, retryAfterMillis}
+    private static final RedisScript<List> TAKE_TOKENS_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill / 1000)
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / refill) + 1000)
+            local retryAfter = 0
+            if granted == 0 then
+              retryAfter = math.ceil((1 - tokens) * 1000 / refill)
+            end
+            return {granted, retryAfter}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int leaseSize;
+    private final Cache<String, Lease> leases;
+
+    public RedisRateLimiter(StringRedisTemplate stringRedisTemplate,
+                            MeterRegistry meterRegistry,
+                            RateLimitProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.leaseSize = Math.max(1, properties.leaseSize());
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(properties.leaseTtl())
+                .build();
+    }
+
+    public RateLimitDecision tryAcquire(String ruleName, String bucket, RateLimitProperties.Limit limit) {
+        String key = KEY_PREFIX + ruleName + ":" + bucket;
+
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null && lease.tryTake()) {
+            record(ruleName, "lease");
+            return RateLimitDecision.allow();
+        }
+
+        List<Object> result;
+        try {
+            long requested = Math.min(leaseSize, limit.capacity());
+            result = stringRedisTemplate.execute(TAKE_TOKENS_SCRIPT, List.of(key),
+                    String.valueOf(limit.capacity()), String.valueOf(limit.refillPerSecond()), String.valueOf(requested));
+        } catch (Exception e) {
+            // 요청 제한 때문에 서비스 전체가 멈추지 않도록 Redis 장애 시에는 통과시킨다
+            log.warn("[RateLimit] Redis 토큰 버킷 조회 실패, 요청 허용 key = {}, msg = {}", key, e.getMessage());
+            record(ruleName, "fail_open");
+            return RateLimitDecision.allow();
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        if (granted > 0) {
+            leases.put(key, new Lease(granted - 1));
+            record(ruleName, "redis");
+            return RateLimitDecision.allow();
+        }
+        leases.invalidate(key);
+        record(ruleName, "rejected");
+        return RateLimitDecision.reject(((Number) result.get(1)).longValue());
+    }
+
+    private void record(String ruleName, String result) {
+        meterRegistry.counter("ratelimit.requests", "rule", ruleName, "result", result).increment();
+    }
+
+    private static final class Lease {
+        private final AtomicLong remaining;
+
+        private Lease(long remaining) {
+            this.remaining = new AtomicLong(remaining);
+        }
+
+        private boolean tryTake() {
+            return remaining.getAndUpdate(value -> value > 0 ? value - 1 : value) > 0;
+        }
+    }
+}
@@ -18,13 +18,21 @@ import java.util.Map;
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        CustomUserDetails cached = userPrincipalCache.get(email);
+        if (cached != null) {
+            return cached;
+        }
+        // 잠긴 회원은 findUserByEmail 에서 예외가 발생하므로 캐싱되지 않는다
         User user = findUserByEmail(email);
         UserDto userDto = userMapper.toDto(user);
         String password = user.getPassword();
-        return new CustomUserDetails(userDto,password);
+        CustomUserDetails userDetails = new CustomUserDetails(userDto,password);
+        userPrincipalCache.put(userDetails);
+        return userDetails;
     }
 
     private User findUserByEmail(String email) {
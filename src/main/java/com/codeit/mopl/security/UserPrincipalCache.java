@@ -0,0 +1,94 @@
+package com.codeit.mopl.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인증된 요청마다 반복되는 회원 조회 + 매핑을 줄이기 위한 CustomUserDetails 캐시.
+ * 이메일로 조회하고, 회원 정보가 바뀌면 userId 기준으로 모든 노드에서 제거한다.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    public static final String EVICTION_CHANNEL = "security-principal-evict";
+    private static final String CACHE_NAME = "security.principal-cache";
+
+    private final Cache<String, CustomUserDetails> principalsByEmail;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChannelTopic evictionTopic = new ChannelTopic(EVICTION_CHANNEL);
+
+    public UserPrincipalCache(StringRedisTemplate stringRedisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${security.principal-cache.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.principalsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalsByEmail, CACHE_NAME);
+    }
+
+    public CustomUserDetails get(String email) {
+        return principalsByEmail.getIfPresent(email);
+    }
+
+    public void put(CustomUserDetails userDetails) {
+        principalsByEmail.put(userDetails.getUsername(), userDetails);
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션 안에서 호출되었다면 커밋 이후에 한 번 더 제거한다.
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐싱하는 경우를 막기 위함이다.
+     */
+    public void evict(UUID userId) {
+        evictAndPublish(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndPublish(userId);
+                }
+            });
+        }
+    }
+
+    // RedisMessageListenerContainer -> 다른 노드에서 발행된 제거 메시지 수신
+    public void onMessage(String userId) {
+        evictLocal(UUID.fromString(userId));
+        log.debug("[Security] principal 캐시 제거 메시지 수신 userId = {}", userId);
+    }
+
+    public ChannelTopic getEvictionTopic() {
+        return evictionTopic;
+    }
+
+    private void evictAndPublish(UUID userId) {
+        evictLocal(userId);
+        try {
+            stringRedisTemplate.convertAndSend(evictionTopic.getTopic(), userId.toString());
+        } catch (Exception e) {
+            log.warn("[Security] principal 캐시 제거 메시지 발행 실패 userId = {}, msg = {}", userId, e.getMessage());
+        }
+    }
+
+    private void evictLocal(UUID userId) {
+        // 관리자 작업에서만 발생하므로 이메일 역색인 없이 값 기준으로 제거한다
+        principalsByEmail.asMap().values()
+                .removeIf(userDetails -> userId.equals(userDetails.getUser().id()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.codeit.mopl.security.jwt;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서명, 타입, 만료 검증을 모두 통과한 JWT 의 클레임 스냅샷.
+ * 한 번 파싱한 결과를 필터, 레지스트리, 인터셉터가 공유한다.
+ * claims 는 원본 클레임 전체로, 토큰 재발급 시 다시 파싱하지 않고 그대로 옮겨 담는 데 쓴다.
+ */
+public record VerifiedJwt(
+        String token,
+        String subject,
+        UUID userId,
+        String roles,
+        String type,
+        Instant expiresAt,
+        Map<String, Object> claims
+) {
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,45 @@
+package com.codeit.mopl.security.jwt.filter;
+
+import com.codeit.mopl.security.jwt.VerifiedJwt;
+import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 한 요청 안에서 AccessToken 검증 결과를 request attribute 로 공유한다.
+ * RateLimitFilter 와 JwtAuthenticationFilter 중 먼저 실행된 쪽이 검증하고, 뒤의 필터는 성공 / 실패 결과를 그대로 재사용한다.
+ */
+public final class AccessTokenVerification {
+
+  static final String ATTRIBUTE = AccessTokenVerification.class.getName();
+
+  private AccessTokenVerification() {
+  }
+
+  /**
+   * @throws RuntimeException 검증 실패 시, 같은 요청에서 이미 실패한 토큰이면 저장된 예외를 다시 던진다
+   */
+  public static VerifiedJwt verify(HttpServletRequest request, String token, JwtTokenProvider jwtTokenProvider) {
+    if (request.getAttribute(ATTRIBUTE) instanceof Result cached && cached.token().equals(token)) {
+      return cached.get();
+    }
+
+    Result result;
+    try {
+      result = new Result(token, jwtTokenProvider.verifyAccessToken(token), null);
+    } catch (RuntimeException e) {
+      result = new Result(token, null, e);
+    }
+    request.setAttribute(ATTRIBUTE, result);
+    return result.get();
+  }
+
+  private record Result(String token, VerifiedJwt verifiedJwt, RuntimeException failure) {
+
+    VerifiedJwt get() {
+      if (failure != null) {
+        throw failure;
+      }
+      return verifiedJwt;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.codeit.mopl.security.jwt.filter;
 
 import com.codeit.mopl.exception.auth.AuthErrorCode;
 import com.codeit.mopl.exception.auth.InvalidTokenException;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
 import com.codeit.mopl.security.jwt.registry.JwtRegistry;
 import jakarta.servlet.FilterChain;
@@ -31,14 +32,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
-            String token = request.getHeader("Authorization").replace("Bearer ", "");
-            if (!jwtRegistry.hasActiveJwtInformationByAccessToken(token)) {
+            String token = request.getHeader("Authorization").substring(7);
+            // 서명, 만료 검증과 클레임 추출을 한 번의 파싱으로 처리, RateLimitFilter 가 먼저 검증했으면 그 결과를 쓴다
+            VerifiedJwt verifiedJwt = AccessTokenVerification.verify(request, token, jwtTokenProvider);
+            if (!jwtRegistry.hasActiveJwtInformationByAccessToken(verifiedJwt)) {
                 log.warn("[JWT 인증] Access Token이 유효하지 않음");
                 throw new InvalidTokenException(AuthErrorCode.TOKEN_INVALID, Map.of("type", "accessToken"));
             }
-            jwtTokenProvider.verifyJws(token);
-            String email = jwtTokenProvider.getEmail(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(verifiedJwt.subject());
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities()
             );
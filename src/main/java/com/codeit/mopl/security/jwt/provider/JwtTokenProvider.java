@@ -1,18 +1,19 @@
 package com.codeit.mopl.security.jwt.provider;
 
+import com.codeit.mopl.exception.auth.AuthErrorCode;
+import com.codeit.mopl.exception.auth.InvalidTokenException;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import com.nimbusds.jwt.proc.ExpiredJWTException;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.text.ParseException;
 import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
@@ -20,21 +21,38 @@ import java.util.UUID;
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+
     @Getter
-    @Value("${jwt.key}")
-    private String secretKey;
+    private final String secretKey;
     @Getter
-    @Value("${jwt.access-token-expiration-minutes}")
-    private int accessTokenExpirationMinutes;
+    private final int accessTokenExpirationMinutes;
     @Getter
-    @Value("${jwt.refresh-token-expiration-minutes}")
-    private int refreshTokenExpirationMinutes;
+    private final int refreshTokenExpirationMinutes;
+
+    // MACSigner, MACVerifier 는 thread-safe 하므로 요청마다 새로 만들지 않고 재사용한다
+    private final JWSSigner signer;
+    private final JWSVerifier verifier;
+
+    public JwtTokenProvider(@Value("${jwt.key}") String secretKey,
+                            @Value("${jwt.access-token-expiration-minutes}") int accessTokenExpirationMinutes,
+                            @Value("${jwt.refresh-token-expiration-minutes}") int refreshTokenExpirationMinutes) {
+        this.secretKey = secretKey;
+        this.accessTokenExpirationMinutes = accessTokenExpirationMinutes;
+        this.refreshTokenExpirationMinutes = refreshTokenExpirationMinutes;
+        try {
+            byte[] secret = secretKey.getBytes(StandardCharsets.UTF_8);
+            this.signer = new MACSigner(secret);
+            this.verifier = new MACVerifier(secret);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("JWT 서명 키 초기화 실패", e);
+        }
+    }
 
     public String generateAccessToken(Map<String, Object> claims, String subject) {
         log.info("[JWT] AccessToken 발급 시도 subject = {}", subject);
         try {
-            JWSSigner signer = new MACSigner(secretKey.getBytes(StandardCharsets.UTF_8));
-
             Date expiration = new Date(System.currentTimeMillis() + accessTokenExpirationMinutes * 1000 * 60);
 
             JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
@@ -62,8 +80,6 @@ public class JwtTokenProvider {
     public String generateRefreshToken(Map<String, Object> claims, String subject) {
         log.info("[JWT] RefreshToken 발급 시도 subject = {}", subject);
         try {
-            JWSSigner signer = new MACSigner(secretKey.getBytes(StandardCharsets.UTF_8));
-
             Date expiration = new Date(System.currentTimeMillis() + refreshTokenExpirationMinutes * 60 * 1000);
 
             JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
@@ -91,7 +107,6 @@ public class JwtTokenProvider {
     public Map<String, Object> getClaims(String token) {
         try {
             SignedJWT signedJWT = SignedJWT.parse(token);
-            JWSVerifier verifier = new MACVerifier(secretKey.getBytes(StandardCharsets.UTF_8));
 
             if (!signedJWT.verify(verifier)) {
                 throw new RuntimeException("JWT 검증 실패");
@@ -104,62 +119,78 @@ public class JwtTokenProvider {
         }
     }
 
-    public void verifyJws(String jws) {
-        log.info("JWS 검증 시도");
-        try {
-            SignedJWT jwt = SignedJWT.parse(jws);
-            jwt.verify(new MACVerifier(secretKey.getBytes(StandardCharsets.UTF_8)));
-            if (jwt.getJWTClaimsSet().getExpirationTime().before(new Date())) {
-                throw new ExpiredJWTException("Access Token Expired");
-            }
-            log.info("[JWT] JWS 검증 성공");
-        } catch (Exception e) {
-            throw new RuntimeException("JWT 검증 실패", e);
-        }
+    public VerifiedJwt verifyAccessToken(String token) {
+        return verify(token, ACCESS_TYPE);
     }
 
-    public String getEmail(String token) throws ParseException {
-        SignedJWT jwt = SignedJWT.parse(token);
-        String email = jwt.getJWTClaimsSet()
-                .getClaim("sub").toString();
-        return email;
+    public VerifiedJwt verifyRefreshToken(String token) {
+        return verify(token, REFRESH_TYPE);
     }
 
-    public boolean validateAccessToken(String token) throws JOSEException {
-        JWSVerifier accessTokenVerifier = new MACVerifier(secretKey.getBytes(StandardCharsets.UTF_8));
-        return validateToken(token, accessTokenVerifier, "access");
+    public boolean validateAccessToken(String token) {
+        return validateToken(token, ACCESS_TYPE);
     }
 
-    public boolean validateRefreshToken(String token) throws JOSEException {
-        JWSVerifier refreshTokenVerifier = new MACVerifier(secretKey.getBytes(StandardCharsets.UTF_8));
-        return validateToken(token, refreshTokenVerifier, "refresh");
+    public boolean validateRefreshToken(String token) {
+        return validateToken(token, REFRESH_TYPE);
     }
 
-    private boolean validateToken(String token, JWSVerifier verifier, String expectedType) {
+    /**
+     * 토큰을 한 번만 파싱하여 서명, 타입, 만료를 검증하고 클레임 스냅샷을 반환한다.
+     */
+    private VerifiedJwt verify(String token, String expectedType) {
+        SignedJWT signedJWT;
+        JWTClaimsSet claimsSet;
         try {
-            SignedJWT signedJWT = SignedJWT.parse(token);
-
+            signedJWT = SignedJWT.parse(token);
             if (!signedJWT.verify(verifier)) {
                 log.debug("[JWT] JWT signature verification failed for {} token", expectedType);
-                return false;
+                throw invalidToken(expectedType, "signature");
             }
+            claimsSet = signedJWT.getJWTClaimsSet();
+        } catch (InvalidTokenException e) {
+            throw e;
+        } catch (Exception e) {
+            log.debug("[JWT] JWT {} token 파싱 실패 msg = {}", expectedType, e.getMessage());
+            throw invalidToken(expectedType, "malformed");
+        }
 
-            String tokenType = (String) signedJWT.getJWTClaimsSet().getClaim("type");
-            if (!expectedType.equals(tokenType)) {
-                log.debug("[JWT] JWT token type mismatch: expected {}, got {}", expectedType, tokenType);
-                return false;
-            }
+        Object tokenType = claimsSet.getClaim("type");
+        if (!expectedType.equals(tokenType)) {
+            log.debug("[JWT] JWT token type mismatch: expected {}, got {}", expectedType, tokenType);
+            throw invalidToken(expectedType, "type");
+        }
 
-            Date expirationTime = signedJWT.getJWTClaimsSet().getExpirationTime();
-            if (expirationTime == null || expirationTime.before(new Date())) {
-                log.debug("[JWT] JWT {} token 만료됨", expectedType);
-                return false;
-            }
+        Date expirationTime = claimsSet.getExpirationTime();
+        if (expirationTime == null || expirationTime.before(new Date())) {
+            log.debug("[JWT] JWT {} token 만료됨", expectedType);
+            throw invalidToken(expectedType, "expired");
+        }
 
+        Object userId = claimsSet.getClaim("userId");
+        Object roles = claimsSet.getClaim("roles");
+        return new VerifiedJwt(
+                token,
+                claimsSet.getSubject(),
+                userId != null ? UUID.fromString(userId.toString()) : null,
+                roles != null ? roles.toString() : null,
+                expectedType,
+                expirationTime.toInstant(),
+                claimsSet.getClaims()
+        );
+    }
+
+    private boolean validateToken(String token, String expectedType) {
+        try {
+            verify(token, expectedType);
             return true;
         } catch (Exception e) {
             log.debug("[JWT] JWT {} token 검증 실패 msg = {}", expectedType, e.getMessage());
             return false;
         }
     }
+
+    private InvalidTokenException invalidToken(String type, String reason) {
+        return new InvalidTokenException(AuthErrorCode.TOKEN_INVALID, Map.of("type", type, "reason", reason));
+    }
 }
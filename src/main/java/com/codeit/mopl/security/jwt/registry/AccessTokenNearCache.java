@@ -0,0 +1,77 @@
+package com.codeit.mopl.security.jwt.registry;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 검증에 성공한 AccessToken 을 노드 로컬에 잠시 보관하는 near-cache.
+ * 토큰이 폐기되면 Redis pub/sub 으로 모든 노드에 무효화 메시지를 전파한다.
+ * 메시지가 유실되더라도 expire-after-write 이후에는 Redis 를 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenNearCache {
+
+    public static final String INVALIDATION_CHANNEL = "jwt-invalidation";
+    private static final String CACHE_NAME = "jwt.access-token.near-cache";
+
+    private final Cache<String, Boolean> cache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChannelTopic invalidationTopic = new ChannelTopic(INVALIDATION_CHANNEL);
+
+    public AccessTokenNearCache(StringRedisTemplate stringRedisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${jwt.near-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${jwt.near-cache.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean contains(String accessToken) {
+        return cache.getIfPresent(accessToken) != null;
+    }
+
+    public void put(String accessToken) {
+        cache.put(accessToken, Boolean.TRUE);
+    }
+
+    /**
+     * 로컬 캐시에서 제거한 뒤 다른 노드에도 무효화를 전파한다.
+     * Redis 가 동작하지 않는 경우에도 로컬 캐시는 반드시 비운다.
+     */
+    public void invalidate(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+        cache.invalidate(accessToken);
+        try {
+            stringRedisTemplate.convertAndSend(invalidationTopic.getTopic(), accessToken);
+        } catch (Exception e) {
+            log.warn("[JWT] near-cache 무효화 메시지 발행 실패 msg = {}", e.getMessage());
+        }
+    }
+
+    // RedisMessageListenerContainer -> 다른 노드에서 발행된 무효화 메시지 수신
+    public void onMessage(String accessToken) {
+        cache.invalidate(accessToken);
+        log.debug("[JWT] near-cache 무효화 메시지 수신");
+    }
+
+    public ChannelTopic getInvalidationTopic() {
+        return invalidationTopic;
+    }
+}
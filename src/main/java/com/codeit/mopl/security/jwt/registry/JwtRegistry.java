@@ -1,7 +1,7 @@
 package com.codeit.mopl.security.jwt.registry;
 
 import com.codeit.mopl.security.jwt.JwtInformation;
-import com.nimbusds.jose.JOSEException;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 
 import java.util.UUID;
 
@@ -9,8 +9,7 @@ public interface JwtRegistry {
     void registerJwtInformation(JwtInformation jwtInformation);
     void invalidateJwtInformationByUserId(UUID userId);
     boolean hasActiveJwtInformationByUserId(UUID userId);
-    boolean hasActiveJwtInformationByAccessToken(String accessToken);
+    boolean hasActiveJwtInformationByAccessToken(VerifiedJwt accessToken);
     boolean hasActiveJwtInformationByRefreshToken(String refreshToken);
     void rotateJwtInformation(String refreshToken, JwtInformation newJwtInformation);
-    void clearExpiredJwtInformation() throws JOSEException;
 }
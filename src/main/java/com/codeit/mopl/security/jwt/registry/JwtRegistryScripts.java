@@ -0,0 +1,109 @@
+package com.codeit.mopl.security.jwt.registry;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * RedisJwtRegistry 의 등록 / 교체 / 무효화를 원자적으로 처리하는 Lua 스크립트.
+ * 쓰기 스크립트는 {상태, 이전 AccessToken, 이전 RefreshToken, 이전 형식 여부} 를 반환한다.
+ *
+ * 스크립트가 건드리는 키는 모두 KEYS 로 넘긴다 (Redis Cluster 에서 스크립트 안에서 만든 키 이름은 라우팅되지 않는다).
+ * 이전 토큰 키는 READ_TOKEN_KEYS 로 먼저 읽어 넘기고, 그 사이 세션이 바뀌었으면 CONFLICT 를 반환해 호출 측이 다시 읽는다.
+ *
+ * jwt:user:{userId} 해시 필드
+ * - access, refresh : 토큰 원문 (near-cache 무효화용)
+ * - accessKey, refreshKey : 토큰 별 키 이름
+ */
+final class JwtRegistryScripts {
+
+    static final String OK = "OK";
+    static final String NOT_FOUND = "NOT_FOUND";
+    static final String MISMATCH = "MISMATCH";
+    static final String CONFLICT = "CONFLICT";
+
+    // 세션 읽기, 이전 토큰 키 확인 / 삭제, 새 세션 기록 (쓰기 스크립트 공통)
+    private static final String COMMON = """
+            local function readSession(userKey)
+              local keyType = redis.call('TYPE', userKey)['ok']
+              if keyType == 'hash' then
+                local s = redis.call('HMGET', userKey, 'access', 'refresh', 'accessKey', 'refreshKey')
+                return {s[1] or '', s[2] or '', s[3] or '', s[4] or '', '0'}
+              elseif keyType == 'string' then
+                -- 해시 도입 전 형식 (JwtInformation JSON), 토큰 키 이름은 호출 측에서 계산해 정리한다
+                local info = cjson.decode(redis.call('GET', userKey))
+                return {info['accessToken'] or '', info['refreshToken'] or '', '', '', '1'}
+              end
+              return nil
+            end
+            -- KEYS[first], KEYS[first + 1] 은 호출 측이 미리 읽은 이전 토큰 키 (없으면 생략)
+            local function sameTokenKeys(session, first)
+              return session[3] == (KEYS[first] or '') and session[4] == (KEYS[first + 1] or '')
+            end
+            local function dropTokens(first)
+              if KEYS[first] then redis.call('DEL', KEYS[first]) end
+              if KEYS[first + 1] then redis.call('DEL', KEYS[first + 1]) end
+            end
+            local function writeSession(userKey, accessKey, refreshKey, args)
+              redis.call('SET', accessKey, args[1], 'PX', args[4])
+              redis.call('SET', refreshKey, args[1], 'PX', args[5])
+              redis.call('DEL', userKey)
+              redis.call('HSET', userKey, 'access', args[2], 'refresh', args[3],
+                'accessKey', accessKey, 'refreshKey', refreshKey)
+              redis.call('PEXPIRE', userKey, args[6])
+            end
+            """;
+
+    /**
+     * 쓰기 스크립트에 넘길 이전 토큰 키. 해시 형식이 아니면 빈 목록.
+     * KEYS: userKey
+     */
+    static final RedisScript<List> READ_TOKEN_KEYS = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1])['ok'] ~= 'hash' then return {} end
+            local s = redis.call('HMGET', KEYS[1], 'accessKey', 'refreshKey')
+            if not s[1] or not s[2] then return {} end
+            return {s[1], s[2]}
+            """, List.class);
+
+    /**
+     * KEYS: userKey, accessKey, refreshKey, [previousAccessKey, previousRefreshKey]
+     * ARGV: userId, accessToken, refreshToken, accessTtlMillis, refreshTtlMillis, userTtlMillis
+     */
+    static final RedisScript<List> REGISTER = new DefaultRedisScript<>(COMMON + """
+            local old = readSession(KEYS[1]) or {'', '', '', '', '0'}
+            if not sameTokenKeys(old, 4) then return {'CONFLICT'} end
+            dropTokens(4)
+            writeSession(KEYS[1], KEYS[2], KEYS[3], ARGV)
+            return {'OK', old[1], old[2], old[5]}
+            """, List.class);
+
+    /**
+     * KEYS: userKey, accessKey, refreshKey, [previousAccessKey, previousRefreshKey]
+     * ARGV: userId, accessToken, refreshToken, accessTtlMillis, refreshTtlMillis, userTtlMillis, presentedRefreshToken
+     */
+    static final RedisScript<List> ROTATE = new DefaultRedisScript<>(COMMON + """
+            local old = readSession(KEYS[1])
+            if not old then return {'NOT_FOUND'} end
+            if not sameTokenKeys(old, 4) then return {'CONFLICT'} end
+            if old[2] ~= ARGV[7] then return {'MISMATCH'} end
+            dropTokens(4)
+            writeSession(KEYS[1], KEYS[2], KEYS[3], ARGV)
+            return {'OK', old[1], old[2], old[5]}
+            """, List.class);
+
+    /**
+     * KEYS: userKey, [previousAccessKey, previousRefreshKey]
+     */
+    static final RedisScript<List> INVALIDATE = new DefaultRedisScript<>(COMMON + """
+            local old = readSession(KEYS[1])
+            if not old then return {'NOT_FOUND'} end
+            if not sameTokenKeys(old, 2) then return {'CONFLICT'} end
+            dropTokens(2)
+            redis.call('DEL', KEYS[1])
+            return {'OK', old[1], old[2], old[5]}
+            """, List.class);
+
+    private JwtRegistryScripts() {
+    }
+}
@@ -0,0 +1,40 @@
+package com.codeit.mopl.security.jwt.registry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 별 Redis 키 생성.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용해 키 길이를 고정하고 원문 노출을 막는다.
+ */
+final class JwtTokenKeys {
+
+    static final String ACCESS_TOKEN_KEY_PREFIX = "jwt:access:";
+    static final String REFRESH_TOKEN_KEY_PREFIX = "jwt:refresh:";
+
+    // 토큰 별 키 도입 이전의 전역 Set (LegacyJwtIndexMigration 에서만 사용)
+    static final String LEGACY_ACCESS_TOKEN_INDEX_KEY = "jwt:access_tokens";
+    static final String LEGACY_REFRESH_TOKEN_INDEX_KEY = "jwt:refresh_tokens";
+
+    private JwtTokenKeys() {
+    }
+
+    static String accessKey(String accessToken) {
+        return ACCESS_TOKEN_KEY_PREFIX + sha256(accessToken);
+    }
+
+    static String refreshKey(String refreshToken) {
+        return REFRESH_TOKEN_KEY_PREFIX + sha256(refreshToken);
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없음", e);
+        }
+    }
+}
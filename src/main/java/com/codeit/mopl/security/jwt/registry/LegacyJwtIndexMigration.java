@@ -0,0 +1,178 @@
+package com.codeit.mopl.security.jwt.registry;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * jwt:access_tokens / jwt:refresh_tokens 전역 Set 을 토큰 별 TTL 키로 옮긴다.
+ * 이전이 끝나기 전까지 RedisJwtRegistry 는 토큰 별 키 miss 시 전역 Set 을 함께 조회한다.
+ *
+ * Set 을 SSCAN 페이지 단위로 읽고, 페이지마다 쓰기 / 재확인 / 되돌리기를 각각 한 번의 파이프라인으로 보낸다.
+ * 만료 시각은 서명 검증 없이 클레임에서 바로 읽는다 (이미 서버가 발급해 저장한 토큰).
+ */
+@Slf4j
+@Component
+public class LegacyJwtIndexMigration {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int pageSize;
+    private final Counter scannedCounter;
+    private final Counter migratedCounter;
+    private final Counter removedCounter;
+
+    private volatile boolean completed = false;
+
+    public LegacyJwtIndexMigration(RedisTemplate<String, Object> redisTemplate,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.legacy-migration.page-size:500}") int pageSize) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.pageSize = pageSize;
+        this.scannedCounter = meterRegistry.counter("jwt.legacy_migration.tokens", "result", "scanned");
+        this.migratedCounter = meterRegistry.counter("jwt.legacy_migration.tokens", "result", "migrated");
+        this.removedCounter = meterRegistry.counter("jwt.legacy_migration.tokens", "result", "removed");
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            long access = migrateIndex(JwtTokenKeys.LEGACY_ACCESS_TOKEN_INDEX_KEY, JwtTokenKeys::accessKey);
+            long refresh = migrateIndex(JwtTokenKeys.LEGACY_REFRESH_TOKEN_INDEX_KEY, JwtTokenKeys::refreshKey);
+            completed = true;
+            log.info("[Redis] 토큰 인덱스 이전 완료 access = {}, refresh = {}", access, refresh);
+        } catch (Exception e) {
+            // 이전이 끝나지 않으면 전역 Set fallback 을 계속 사용한다
+            log.warn("[Redis] 토큰 인덱스 이전 실패, 전역 Set fallback 유지 msg = {}", e.getMessage());
+        }
+    }
+
+    private long migrateIndex(String legacyKey, Function<String, String> tokenKey) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(legacyKey))) {
+            return 0;
+        }
+        long migrated = 0;
+        List<String> page = new ArrayList<>(pageSize);
+        ScanOptions options = ScanOptions.scanOptions().count(pageSize).build();
+        try (Cursor<Object> cursor = redisTemplate.opsForSet().scan(legacyKey, options)) {
+            while (cursor.hasNext()) {
+                if (cursor.next() instanceof String token) {
+                    page.add(token);
+                }
+                if (page.size() >= pageSize) {
+                    migrated += migratePage(legacyKey, page, tokenKey);
+                    page.clear();
+                }
+            }
+        }
+        if (!page.isEmpty()) {
+            migrated += migratePage(legacyKey, page, tokenKey);
+        }
+        redisTemplate.delete(legacyKey);
+        return migrated;
+    }
+
+    private long migratePage(String legacyKey, List<String> tokens, Function<String, String> tokenKey) {
+        scannedCounter.increment(tokens.size());
+
+        List<String> liveTokens = new ArrayList<>(tokens.size());
+        List<String> keys = new ArrayList<>(tokens.size());
+        List<LegacyToken> entries = new ArrayList<>(tokens.size());
+        long now = System.currentTimeMillis();
+        for (String token : tokens) {
+            LegacyToken entry = decode(token, now);
+            if (entry == null) {
+                continue;
+            }
+            liveTokens.add(token);
+            keys.add(tokenKey.apply(token));
+            entries.add(entry);
+        }
+        removedCounter.increment(tokens.size() - liveTokens.size());
+        if (liveTokens.isEmpty()) {
+            return 0;
+        }
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (int i = 0; i < keys.size(); i++) {
+                    LegacyToken entry = entries.get(i);
+                    operations.opsForValue().set(keys.get(i), entry.userId(), entry.ttl());
+                }
+                return null;
+            }
+        });
+
+        // 이전 도중 로그아웃 등으로 Set 에서 제거되었다면 방금 만든 키도 되돌린다
+        List<Object> memberships = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String token : liveTokens) {
+                    operations.opsForSet().isMember(legacyKey, token);
+                }
+                return null;
+            }
+        });
+        List<String> revokedKeys = new ArrayList<>();
+        for (int i = 0; i < memberships.size(); i++) {
+            if (!Boolean.TRUE.equals(memberships.get(i))) {
+                revokedKeys.add(keys.get(i));
+            }
+        }
+        if (!revokedKeys.isEmpty()) {
+            stringRedisTemplate.delete(revokedKeys);
+            removedCounter.increment(revokedKeys.size());
+        }
+        int migrated = liveTokens.size() - revokedKeys.size();
+        migratedCounter.increment(migrated);
+        return migrated;
+    }
+
+    private LegacyToken decode(String token, long now) {
+        try {
+            JWTClaimsSet claims = SignedJWT.parse(token).getJWTClaimsSet();
+            Date expiration = claims.getExpirationTime();
+            Object userId = claims.getClaim("userId");
+            if (expiration == null || userId == null || expiration.getTime() <= now) {
+                return null;
+            }
+            return new LegacyToken(userId.toString(), Duration.ofMillis(expiration.getTime() - now));
+        } catch (Exception e) {
+            log.debug("[Redis] 이전 대상 토큰 파싱 실패, 스킵 msg = {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record LegacyToken(String userId, Duration ttl) {
+    }
+}
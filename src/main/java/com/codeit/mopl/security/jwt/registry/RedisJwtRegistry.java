@@ -5,23 +5,21 @@ import com.codeit.mopl.exception.auth.AuthErrorCode;
 import com.codeit.mopl.exception.auth.JwtInformationNotFoundException;
 import com.codeit.mopl.exception.auth.RefreshTokenMismatchException;
 import com.codeit.mopl.security.jwt.JwtInformation;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
-import com.codeit.mopl.security.jwt.provider.RedisLockProvider;
-import com.nimbusds.jose.JOSEException;
 import io.lettuce.core.RedisConnectionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,120 +29,46 @@ import java.util.UUID;
 public class RedisJwtRegistry implements JwtRegistry {
 
     private static final String USER_JWT_KEY_PREFIX = "jwt:user:";
-    private static final String ACCESS_TOKEN_INDEX_KEY = "jwt:access_tokens";
-    private static final String REFRESH_TOKEN_INDEX_KEY = "jwt:refresh_tokens";
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    private static final int MAX_SCRIPT_ATTEMPTS = 3;
 
     private final JwtTokenProvider jwtTokenProvider;
     private final ApplicationEventPublisher eventPublisher;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisLockProvider redisLockProvider;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AccessTokenNearCache accessTokenNearCache;
+    private final LegacyJwtIndexMigration legacyJwtIndexMigration;
 
-    @Retryable(retryFor = RedisLockProvider.RedisLockAcquisitionException.class,
-            maxAttempts = 10,
-            backoff = @Backoff(delay = 100, multiplier = 2))
     @Override
     public void registerJwtInformation(JwtInformation jwtInformation) {
-        String userKey = getUserKey(jwtInformation.getUserDto().id());
-        String lockKey = jwtInformation.getUserDto().id().toString();
-
-        boolean lockAcquired = false;
-
+        UUID userId = jwtInformation.getUserDto().id();
         try {
-            try {
-                redisLockProvider.acquireLock(lockKey);
-                lockAcquired = true;
-            } catch (Exception e) {
-                if (isRedisDown(e)) {
-                    log.error("[Redis] Redis가 동작 중이 아님, lock 획득 실패 userId={}",
-                            jwtInformation.getUserDto().id(), e);
-                    return;
-                }
+            List<String> result = executeWrite(JwtRegistryScripts.REGISTER, userId,
+                    jwtInformation.getAccessToken(), jwtInformation.getRefreshToken());
+            releasePreviousTokens(result);
+        } catch (Exception e) {
+            if (isRedisDown(e)) {
+                log.error("[Redis] Redis가 동작 중이 아님. userId={}", userId, e);
+            } else {
                 throw e;
             }
-
-            try {
-                Object oldestToken = redisTemplate.opsForValue().get(userKey);
-                if (oldestToken instanceof JwtInformation oldToken) {
-                    removeTokenIndex(oldToken.getAccessToken(), oldToken.getRefreshToken());
-                }
-
-                redisTemplate.opsForValue().set(userKey, jwtInformation);
-                redisTemplate.expire(userKey, DEFAULT_TTL);
-                addTokenIndex(jwtInformation.getAccessToken(), jwtInformation.getRefreshToken());
-
-            } catch (Exception e) {
-                if (isRedisDown(e)) {
-                    log.error("[Redis] Redis가 동작 중이 아님. userId={}",
-                            jwtInformation.getUserDto().id(), e);
-                } else {
-                    throw e;
-                }
-            }
-
         } finally {
-            if (lockAcquired) {
-                try {
-                    redisLockProvider.releaseLock(lockKey);
-                } catch (Exception e) {
-                    if (isRedisDown(e)) {
-                        log.error("[Redis] Redis가 동작 중이 아님, lock 해제 실패 userId={}",
-                                jwtInformation.getUserDto().id(), e);
-                    } else {
-                        throw e;
-                    }
-                }
-            }
-            eventPublisher.publishEvent(
-                    new UserLogInOutEvent(jwtInformation.getUserDto().id(), true)
-            );
+            eventPublisher.publishEvent(new UserLogInOutEvent(userId, true));
         }
     }
 
     @Override
     public void invalidateJwtInformationByUserId(UUID userId) {
-        String userKey = getUserKey(userId);
-        String lockKey = userId.toString();
-
-        boolean lockAcquired = false;
-
         try {
-            try {
-                redisLockProvider.acquireLock(lockKey);
-                lockAcquired = true;
-            } catch (Exception e) {
-                if (isRedisDown(e)) {
-                    log.error("[Redis] Redis가 동작 중이 아님, lock 획득 실패 userId={}", userId, e);
-                    return;
-                }
+            List<String> result = executeWithTokenKeys(JwtRegistryScripts.INVALIDATE, getUserKey(userId), List.of());
+            releasePreviousTokens(result);
+        } catch (Exception e) {
+            if (isRedisDown(e)) {
+                log.error("[Redis] Redis가 동작중이 아님, 토큰 정리 스킵 userId={}", userId, e);
+            } else {
                 throw e;
             }
-            try {
-                Object objToken = redisTemplate.opsForValue().get(userKey);
-                if (objToken instanceof JwtInformation token) {
-                    removeTokenIndex(token.getAccessToken(), token.getRefreshToken());
-                }
-
-                redisTemplate.delete(userKey);
-            } catch (Exception e) {
-                if (isRedisDown(e)) {
-                    log.error("[Redis] Redis가 동작중이 아님, 토큰 정리 스킵 userId={}", userId, e);
-                } else {
-                    throw e;
-                }
-            }
         } finally {
-            if (lockAcquired) {
-                try {
-                    redisLockProvider.releaseLock(lockKey);
-                } catch (Exception e) {
-                    if (isRedisDown(e)) {
-                        log.error("[Redis] Redis가 동작중이 아님, lock 해제 실패 userId={}", userId, e);
-                    } else {
-                        throw e;
-                    }
-                }
-            }
             eventPublisher.publishEvent(new UserLogInOutEvent(userId, false));
         }
     }
@@ -153,7 +77,7 @@ public class RedisJwtRegistry implements JwtRegistry {
     public boolean hasActiveJwtInformationByUserId(UUID userId) {
         String userKey = getUserKey(userId);
         try {
-            return redisTemplate.opsForValue().get(userKey) != null;
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(userKey));
         } catch (Exception e) {
             if (isRedisDown(e)) {
                 log.error("[Redis] Redis가 동작 중이 아님, userId={}", userId, e);
@@ -165,19 +89,23 @@ public class RedisJwtRegistry implements JwtRegistry {
     }
 
     @Override
-    public boolean hasActiveJwtInformationByAccessToken(String accessToken) {
+    public boolean hasActiveJwtInformationByAccessToken(VerifiedJwt verifiedJwt) {
+        String accessToken = verifiedJwt.token();
+        if (accessTokenNearCache.contains(accessToken)) {
+            return true;
+        }
         try {
-            return Boolean.TRUE.equals(
-                    redisTemplate.opsForSet().isMember(ACCESS_TOKEN_INDEX_KEY, accessToken)
-            );
+            boolean active = Boolean.TRUE.equals(stringRedisTemplate.hasKey(JwtTokenKeys.accessKey(accessToken)))
+                    || isLegacyMember(JwtTokenKeys.LEGACY_ACCESS_TOKEN_INDEX_KEY, accessToken);
+            if (active) {
+                accessTokenNearCache.put(accessToken);
+            }
+            return active;
         } catch (Exception e) {
             if (isRedisDown(e)) {
+                // 서명, 만료는 호출 측에서 이미 검증했으므로 다시 파싱하지 않는다
                 log.error("[Redis] Redis가 동작 중이 아님, AccessToken 검증만 실행", e);
-                try {
-                    return jwtTokenProvider.validateAccessToken(accessToken);
-                } catch (JOSEException jse) {
-                    return false;
-                }
+                return !verifiedJwt.isExpired();
             }
             log.error("[Redis] AccessToken 검증 중 예기치 못한 예외", e);
             return false;
@@ -187,137 +115,118 @@ public class RedisJwtRegistry implements JwtRegistry {
     @Override
     public boolean hasActiveJwtInformationByRefreshToken(String refreshToken) {
         try {
-            return Boolean.TRUE.equals(
-                    redisTemplate.opsForSet().isMember(REFRESH_TOKEN_INDEX_KEY, refreshToken)
-            );
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(JwtTokenKeys.refreshKey(refreshToken)))
+                    || isLegacyMember(JwtTokenKeys.LEGACY_REFRESH_TOKEN_INDEX_KEY, refreshToken);
         } catch (Exception e) {
             if (isRedisDown(e)) {
                 log.error("[Redis] Redis가 동작중이 아님, RefreshToken 검증만 실행", e);
-                try {
-                    return jwtTokenProvider.validateRefreshToken(refreshToken);
-                } catch (JOSEException jse) {
-                    return false;
-                }
+                return jwtTokenProvider.validateRefreshToken(refreshToken);
             }
             log.error("[Redis] RefreshToken 검증 중 예기치 못한 예외", e);
             return false;
         }
     }
 
-    @Retryable(retryFor = RedisLockProvider.RedisLockAcquisitionException.class, maxAttempts = 10,
-            backoff = @Backoff(delay = 100, multiplier = 2))
     @Override
     public void rotateJwtInformation(String refreshToken, JwtInformation newJwtInformation) {
-        String userKey = getUserKey(newJwtInformation.getUserDto().id());
-        String lockKey = newJwtInformation.getUserDto().id().toString();
-
-        boolean lockAcquired = false;
-
+        UUID userId = newJwtInformation.getUserDto().id();
+        String userKey = getUserKey(userId);
+        List<String> result;
         try {
-            try {
-                redisLockProvider.acquireLock(lockKey);
-                lockAcquired = true;
-            } catch (Exception e) {
-                if (isRedisDown(e)) {
-                    log.error("[Redis] Redis가 동작 중이 아님, lock 획득 실패 userId={}",
-                            newJwtInformation.getUserDto().id(), e);
-                    return;
-                }
-                throw e;
-            }
-
-            try {
-                Object oldToken = redisTemplate.opsForValue().get(userKey);
-                if (!(oldToken instanceof JwtInformation jwtInformation)) {
-                    throw new JwtInformationNotFoundException(AuthErrorCode.JWT_INFORMATION_NOT_FOUND, Map.of("userKey", userKey));
-                }
-                if (!jwtInformation.getRefreshToken().equals(refreshToken)) {
-                    throw new RefreshTokenMismatchException(AuthErrorCode.REFRESH_TOKEN_MISMATCH, Map.of("userKey", userKey));
-                }
-
-                removeTokenIndex(jwtInformation.getAccessToken(), jwtInformation.getRefreshToken());
-                jwtInformation.rotate(newJwtInformation.getAccessToken(), newJwtInformation.getRefreshToken());
-                redisTemplate.opsForValue().set(userKey, jwtInformation);
-                addTokenIndex(newJwtInformation.getAccessToken(), newJwtInformation.getRefreshToken());
-                redisTemplate.expire(userKey, DEFAULT_TTL);
-
-            } catch (Exception e) {
-                if (isRedisDown(e)) {
-                    log.error("[Redis] Redis가 동작 중이 아님, userId={}",
-                            newJwtInformation.getUserDto().id(), e);
-                    return;
-                }
-                throw e;
-            }
-
-        } finally {
-            if (lockAcquired) {
-                try {
-                    redisLockProvider.releaseLock(lockKey);
-                } catch (Exception e) {
-                    if (isRedisDown(e)) {
-                        log.error("[Redis] Redis가 동작 중이 아님, lock 해제 실패 userId={}",
-                                newJwtInformation.getUserDto().id(), e);
-                    } else {
-                        throw e;
-                    }
-                }
-            }
-        }
-    }
-
-    @Scheduled(fixedDelay = 1000 * 60 * 5)
-    @Override
-    public void clearExpiredJwtInformation() throws JOSEException {
-        ScanOptions options = ScanOptions.scanOptions()
-                .match(USER_JWT_KEY_PREFIX + "*")
-                .count(100)
-                .build();
-
-        try (Cursor<String> cursor = redisTemplate.scan(options)) {
-            while (cursor.hasNext()) {
-                String userKey = cursor.next();
-                try {
-                    Object token = redisTemplate.opsForValue().get(userKey);
-                    if (token instanceof JwtInformation jwtInformation) {
-                        boolean isExpired =
-                                !jwtTokenProvider.validateAccessToken(jwtInformation.getAccessToken()) ||
-                                        !jwtTokenProvider.validateRefreshToken(jwtInformation.getRefreshToken());
-                        if (isExpired) {
-                            removeTokenIndex(jwtInformation.getAccessToken(), jwtInformation.getRefreshToken());
-                            redisTemplate.delete(userKey);
-                        }
-                    }
-                } catch (Exception e) {
-                    if (isRedisDown(e)) {
-                        log.warn("[Redis] Redis가 동작 중이 아님, key={} 정리 스킵", userKey, e);
-                        break;
-                    }
-                    log.warn("[Redis] Token 정리 중 예외 발생, 정리 스킵 userKey = {}, msg = {}",
-                            userKey, e.getMessage());
-                }
-            }
+            result = executeWrite(JwtRegistryScripts.ROTATE, userId,
+                    newJwtInformation.getAccessToken(), newJwtInformation.getRefreshToken(), refreshToken);
         } catch (Exception e) {
             if (isRedisDown(e)) {
-                log.warn("[Redis] Redis가 동작 중이 아님, 전체 정리 작업 스킵", e);
+                log.error("[Redis] Redis가 동작 중이 아님, userId={}", userId, e);
                 return;
             }
             throw e;
         }
+
+        String status = result.get(0);
+        if (JwtRegistryScripts.NOT_FOUND.equals(status)) {
+            throw new JwtInformationNotFoundException(AuthErrorCode.JWT_INFORMATION_NOT_FOUND, Map.of("userKey", userKey));
+        }
+        if (JwtRegistryScripts.MISMATCH.equals(status)) {
+            throw new RefreshTokenMismatchException(AuthErrorCode.REFRESH_TOKEN_MISMATCH, Map.of("userKey", userKey));
+        }
+        releasePreviousTokens(result);
     }
 
     private String getUserKey(UUID userId) {
         return USER_JWT_KEY_PREFIX + userId.toString();
     }
 
-    private void addTokenIndex(String accessToken, String refreshToken) {
-        redisTemplate.opsForSet().add(ACCESS_TOKEN_INDEX_KEY, accessToken);
-        redisTemplate.opsForSet().add(REFRESH_TOKEN_INDEX_KEY, refreshToken);
+    // 토큰 별 키는 토큰 만료 시각에 맞춰 Redis 가 직접 만료시키므로 별도 정리 작업이 필요 없다
+    private List<String> executeWrite(RedisScript<List> script, UUID userId,
+                                      String accessToken, String refreshToken, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                userId.toString(),
+                accessToken,
+                refreshToken,
+                String.valueOf(Duration.ofMinutes(jwtTokenProvider.getAccessTokenExpirationMinutes()).toMillis()),
+                String.valueOf(Duration.ofMinutes(jwtTokenProvider.getRefreshTokenExpirationMinutes()).toMillis()),
+                String.valueOf(DEFAULT_TTL.toMillis())
+        ));
+        args.addAll(List.of(extraArgs));
+        return executeWithTokenKeys(script, getUserKey(userId),
+                List.of(JwtTokenKeys.accessKey(accessToken), JwtTokenKeys.refreshKey(refreshToken)), args.toArray());
     }
 
-    private void removeTokenIndex(String accessToken, String refreshToken) {
-        redisTemplate.opsForSet().remove(ACCESS_TOKEN_INDEX_KEY, accessToken);
-        redisTemplate.opsForSet().remove(REFRESH_TOKEN_INDEX_KEY, refreshToken);
+    /**
+     * 이전 토큰 키를 먼저 읽어 KEYS 에 붙여 실행한다. 그 사이 다른 요청이 세션을 바꿨으면(CONFLICT) 다시 읽는다.
+     * KEYS = userKey, newKeys..., [이전 AccessToken 키, 이전 RefreshToken 키]
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> executeWithTokenKeys(RedisScript<List> script, String userKey, List<String> newKeys,
+                                              Object... args) {
+        for (int attempt = 1; attempt <= MAX_SCRIPT_ATTEMPTS; attempt++) {
+            List<String> keys = new ArrayList<>();
+            keys.add(userKey);
+            keys.addAll(newKeys);
+            keys.addAll(stringRedisTemplate.execute(JwtRegistryScripts.READ_TOKEN_KEYS, List.of(userKey)));
+
+            List<String> result = stringRedisTemplate.execute(script, keys, args);
+            if (result == null || !JwtRegistryScripts.CONFLICT.equals(result.get(0))) {
+                return result;
+            }
+            log.debug("[Redis] 세션이 동시에 변경되어 다시 시도 userKey={}, attempt={}", userKey, attempt);
+        }
+        throw new IllegalStateException("JWT 세션이 계속 동시에 변경됨 userKey=" + userKey);
+    }
+
+    /**
+     * 스크립트가 반환한 이전 토큰을 정리한다.
+     * 토큰 별 키 삭제는 스크립트 안에서 끝나고, 여기서는 해시 도입 전 세션과 전역 Set, near-cache 만 처리한다.
+     */
+    private void releasePreviousTokens(List<String> result) {
+        if (result == null || !JwtRegistryScripts.OK.equals(result.get(0))) {
+            return;
+        }
+        String accessToken = result.get(1);
+        String refreshToken = result.get(2);
+        boolean previousFormat = "1".equals(result.get(3));
+        try {
+            if (previousFormat) {
+                stringRedisTemplate.delete(List.of(JwtTokenKeys.accessKey(accessToken), JwtTokenKeys.refreshKey(refreshToken)));
+            }
+            if (!legacyJwtIndexMigration.isCompleted()) {
+                redisTemplate.opsForSet().remove(JwtTokenKeys.LEGACY_ACCESS_TOKEN_INDEX_KEY, accessToken);
+                redisTemplate.opsForSet().remove(JwtTokenKeys.LEGACY_REFRESH_TOKEN_INDEX_KEY, refreshToken);
+            }
+        } finally {
+            // 인덱스 제거 이후에 전파해야 다른 노드가 폐기된 토큰을 다시 캐싱하지 않는다
+            if (!accessToken.isEmpty()) {
+                accessTokenNearCache.invalidate(accessToken);
+            }
+        }
+    }
+
+    private boolean isLegacyMember(String legacyKey, String token) {
+        if (legacyJwtIndexMigration.isCompleted()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(legacyKey, token));
     }
 
     private boolean isRedisDown(Throwable e) {
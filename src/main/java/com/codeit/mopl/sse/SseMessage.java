@@ -1,11 +1,14 @@
 package com.codeit.mopl.sse;
 
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 
 @Getter
 @AllArgsConstructor
@@ -14,6 +17,16 @@ public class SseMessage {
   private UUID eventId;      // 고유 이벤트 ID
   private UUID receiverId;   // 어떤 사용자에게 보낸 이벤트인지
   private String eventName;  // 이벤트 이름 (예: "notifications.created")
-  private Object data;       // 전송한 실제 데이터 (ex: NotificationDto)
+  private Object data;       // 전송한 실제 데이터 (ex: NotificationDto), 다른 노드 / Stream 에서 온 이벤트는 null
   private Instant createdAt; // 생성 시각
+  private long sequence;     // 수신자 별로 단조 증가하는 순번, Stream 에서 읽은 이벤트는 -1
+  private byte[] frame;      // 저장 시점에 한 번 인코딩한 SSE 프레임 (id, event, data)
+
+  /**
+   * 미리 인코딩한 프레임을 emitter 에 그대로 쓸 수 있는 형태로 반환한다.
+   * emitter 마다 다시 직렬화하지 않고 바이트만 복사된다.
+   */
+  public Set<DataWithMediaType> getFrameData() {
+    return Set.of(new DataWithMediaType(frame, MediaType.TEXT_EVENT_STREAM));
+  }
 }
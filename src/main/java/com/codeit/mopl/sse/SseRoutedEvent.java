@@ -0,0 +1,16 @@
+package com.codeit.mopl.sse;
+
+import java.util.UUID;
+
+/**
+ * 다른 노드의 emitter 로 전달하기 위해 노드 채널에 발행하는 SSE 이벤트.
+ * 보내는 노드에서 저장과 인코딩을 마친 프레임을 그대로 전달한다.
+ */
+public record SseRoutedEvent(
+    UUID receiverId,
+    UUID eventId,
+    String eventName,
+    String frame
+) {
+
+}
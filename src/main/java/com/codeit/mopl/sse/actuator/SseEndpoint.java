@@ -0,0 +1,65 @@
+package com.codeit.mopl.sse.actuator;
+
+import com.codeit.mopl.sse.repository.SseEmitterRegistry;
+import com.codeit.mopl.sse.service.SseEmitterWriter;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * /actuator/sse : 이 노드에서 대기 중인 이벤트가 많은 수신자 목록.
+ * 송신 큐에 쌓인 이벤트(pending)가 많은 순, 같으면 재전송 버퍼 크기 순으로 정렬한다.
+ * 수신자 ID 가 노출되므로 SecurityConfig 에서 ADMIN 만 접근할 수 있다.
+ */
+@Component
+@Endpoint(id = "sse")
+@RequiredArgsConstructor
+public class SseEndpoint {
+
+  private static final int DEFAULT_LIMIT = 20;
+
+  private final SseEmitterRegistry sseEmitterRegistry;
+  private final SseEmitterWriter sseEmitterWriter;
+
+  @ReadOperation
+  public SseSummary summary(@Nullable Integer limit) {
+    Map<UUID, Integer> pendingCounts = sseEmitterWriter.getPendingCounts();
+    Map<UUID, Integer> bufferedCounts = sseEmitterRegistry.getBufferedCounts();
+    Map<UUID, List<SseEmitter>> emitters = sseEmitterRegistry.getData();
+
+    Set<UUID> receiverIds = new HashSet<>(pendingCounts.keySet());
+    receiverIds.addAll(bufferedCounts.keySet());
+    receiverIds.addAll(emitters.keySet());
+
+    List<ReceiverStats> top = receiverIds.stream()
+        .map(receiverId -> new ReceiverStats(
+            receiverId,
+            emitters.getOrDefault(receiverId, List.of()).size(),
+            pendingCounts.getOrDefault(receiverId, 0),
+            bufferedCounts.getOrDefault(receiverId, 0)))
+        .sorted(Comparator.comparingInt(ReceiverStats::pendingEvents)
+            .thenComparingInt(ReceiverStats::bufferedEvents)
+            .reversed())
+        .limit(limit != null && limit > 0 ? limit : DEFAULT_LIMIT)
+        .toList();
+
+    return new SseSummary(emitters.size(), receiverIds.size(), top);
+  }
+
+  public record SseSummary(int connectedReceivers, int trackedReceivers, List<ReceiverStats> topReceivers) {
+
+  }
+
+  public record ReceiverStats(UUID receiverId, int emitters, int pendingEvents, int bufferedEvents) {
+
+  }
+}
@@ -1,20 +1,34 @@
 package com.codeit.mopl.sse.repository;
 
 import com.codeit.mopl.sse.SseMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+@Slf4j
 @Component
 public class SseEmitterRegistry {
 
@@ -22,9 +36,48 @@ public class SseEmitterRegistry {
   private final ConcurrentMap<UUID, List<SseEmitter>> data = new ConcurrentHashMap<>();
   // UUID: 수신자의 ID
 
-  private final ConcurrentMap<UUID, ConcurrentLinkedDeque<UUID>> queuesByReceiverId = new ConcurrentHashMap<>();
-
-  private final Map<UUID, SseMessage> messages = new ConcurrentHashMap<>();
+  // 재연결 시 재전송할 이벤트 (수신자 별 링 버퍼)
+  private final ConcurrentMap<UUID, SseReplayBuffer> buffersByReceiverId = new ConcurrentHashMap<>();
+  // 마지막 추가 순서로 정렬한 수신자 (전체 한도 초과 시 가장 오래 쓰이지 않은 버퍼부터 버린다)
+  private final LinkedHashMap<UUID, Boolean> recentReceivers = new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicLong totalEvents = new AtomicLong();
+  private final AtomicLong totalBytes = new AtomicLong();
+
+  private final ObjectMapper objectMapper;
+  private final SseReplayStream sseReplayStream;
+  private final int capacityPerReceiver;
+  private final long globalCapacity;
+  private final Duration maxAge;
+  private final Counter evictedCounter;
+  private final Timer replayTimer;
+
+  public SseEmitterRegistry(ObjectMapper objectMapper,
+      SseReplayStream sseReplayStream,
+      MeterRegistry meterRegistry,
+      @Value("${sse.replay.capacity-per-receiver:100}") int capacityPerReceiver,
+      @Value("${sse.replay.global-capacity:100000}") long globalCapacity,
+      @Value("${sse.replay.max-age:10m}") Duration maxAge) {
+    this.objectMapper = objectMapper;
+    this.sseReplayStream = sseReplayStream;
+    this.capacityPerReceiver = capacityPerReceiver;
+    this.globalCapacity = globalCapacity;
+    this.maxAge = maxAge;
+    this.evictedCounter = meterRegistry.counter("sse.replay.evicted");
+    this.replayTimer = meterRegistry.timer("sse.replay.latency");
+    Gauge.builder("sse.replay.events", totalEvents, AtomicLong::get)
+        .description("재전송 버퍼에 보관 중인 이벤트 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.replay.receivers", buffersByReceiverId, ConcurrentMap::size)
+        .description("재전송 버퍼를 가진 수신자 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.replay.bytes", totalBytes, AtomicLong::get)
+        .description("재전송 버퍼에 보관 중인 인코딩된 프레임 크기 합")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("sse.receivers.connected", data, ConcurrentMap::size)
+        .description("이 노드에 SSE 연결을 가진 수신자 수")
+        .register(meterRegistry);
+  }
 
   public void addEmitter(UUID receiverId, SseEmitter emitter) {
     data.computeIfAbsent(receiverId, id -> new CopyOnWriteArrayList<>())
@@ -41,47 +94,152 @@ public class SseEmitterRegistry {
     }
   }
 
-  public SseMessage addNewEvent(UUID receiverId, String eventName, Object eventData) {
-    UUID eventId = UUID.randomUUID();
-    SseMessage sseMessage =
-        new SseMessage(eventId, receiverId, eventName, eventData, Instant.now());
+  public boolean hasEmitters(UUID receiverId) {
+    List<SseEmitter> emitters = data.get(receiverId);
+    return emitters != null && !emitters.isEmpty();
+  }
 
-    ConcurrentLinkedDeque<UUID> queue =
-        queuesByReceiverId.computeIfAbsent(receiverId, id -> new ConcurrentLinkedDeque<>());
-    queue.addLast(eventId);
+  /**
+   * 이벤트를 Redis Stream 과 로컬 버퍼에 저장한다. 이벤트 ID 는 Stream ID 에서 만들고,
+   * Redis 장애 시에는 무작위 ID 로 로컬 버퍼에만 저장한다.
+   */
+  public SseMessage addNewEvent(UUID receiverId, String eventName, Object eventData) {
+    // 직렬화는 락 밖에서 한 번만 하고, 실시간 전송과 재전송 모두 이 프레임을 그대로 쓴다
+    String payload = serialize(eventName, eventData);
+    UUID eventId = sseReplayStream.append(receiverId, eventName, payload);
+    if (eventId == null) {
+      eventId = UUID.randomUUID();
+    }
+    return appendLocal(eventId, receiverId, eventName, eventData, encodeFrame(eventId, eventName, payload));
+  }
 
-    messages.put(eventId, sseMessage);
-    return sseMessage;
+  /**
+   * 다른 노드가 저장해 전달한 이벤트를 로컬 버퍼에도 보관한다 (Redis 장애 시 재전송용).
+   */
+  public SseMessage addRoutedEvent(UUID receiverId, UUID eventId, String eventName, byte[] frame) {
+    return appendLocal(eventId, receiverId, eventName, null, frame);
   }
 
-  public List<SseMessage> getNewEvents(UUID receiverId, UUID lastEventId) {
-    Deque<UUID> eventIdQueue = queuesByReceiverId.get(receiverId);
-    List<SseMessage> result = new ArrayList<>();
+  private SseMessage appendLocal(UUID eventId, UUID receiverId, String eventName, Object eventData, byte[] frame) {
+    SseMessage[] saved = new SseMessage[1];
+    // compute 안에서 추가해야 비어 있는 버퍼를 정리하는 작업과 겹치지 않는다
+    buffersByReceiverId.compute(receiverId, (id, current) -> {
+      SseReplayBuffer target = current != null
+          ? current
+          : new SseReplayBuffer(capacityPerReceiver, totalEvents, totalBytes, evictedCounter);
+      saved[0] = target.append(eventId, receiverId, eventName, eventData, frame, Instant.now());
+      synchronized (recentReceivers) {
+        recentReceivers.put(id, Boolean.TRUE);
+      }
+      return target;
+    });
 
-    if (eventIdQueue == null) {
-      return result;
-    }
+    evictLeastRecentBuffers(receiverId);
+    return saved[0];
+  }
 
-      boolean foundLast = false;
+  /**
+   * 전체 한도를 넘으면 가장 오래 이벤트가 추가되지 않은 수신자의 버퍼부터 통째로 버린다.
+   * 이번에 추가한 수신자의 버퍼는 남긴다 (해당 수신자만 남았는데 넘치면 수신자 별 한도가 이미 막는다).
+   */
+  private void evictLeastRecentBuffers(UUID currentReceiverId) {
+    while (totalEvents.get() > globalCapacity) {
+      UUID eldest = pollEldestReceiver(currentReceiverId);
+      if (eldest == null) {
+        return;
+      }
+      buffersByReceiverId.computeIfPresent(eldest, (id, buffer) -> {
+        buffer.clear();
+        return null;
+      });
+    }
+  }
 
-    for (UUID eventId : eventIdQueue) {
-      if (!foundLast) {
-        if (eventId.equals(lastEventId)) {
-          foundLast = true;
+  private UUID pollEldestReceiver(UUID exceptReceiverId) {
+    synchronized (recentReceivers) {
+      Iterator<UUID> iterator = recentReceivers.keySet().iterator();
+      while (iterator.hasNext()) {
+        UUID receiverId = iterator.next();
+        if (!receiverId.equals(exceptReceiverId)) {
+          iterator.remove();
+          return receiverId;
         }
-        continue;
       }
+      return null;
+    }
+  }
 
-      // lastEventId 이후 이벤트
-      SseMessage message = messages.get(eventId);
-      if (message == null) {
-        continue;
+  private String serialize(String eventName, Object eventData) {
+    if (eventData instanceof String text) {
+      return text;
+    }
+    try {
+      return objectMapper.writeValueAsString(eventData);
+    } catch (JsonProcessingException e) {
+      log.error("[SSE] 이벤트 직렬화 실패, eventName = {}", eventName, e);
+      throw new IllegalArgumentException("SSE 이벤트 직렬화 실패: " + eventName, e);
+    }
+  }
+
+  // SseEmitter.event().id().name().data() 가 만드는 것과 같은 형식의 프레임
+  private byte[] encodeFrame(UUID eventId, String eventName, String payload) {
+    String frame = "id:" + eventId + "\n"
+        + "event:" + eventName + "\n"
+        + "data:" + payload.replace("\n", "\ndata:") + "\n\n";
+    return frame.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Redis Stream 을 기준으로 lastEventId 이후 이벤트를 읽는다. 로컬 버퍼는 다른 노드가 저장한 이벤트나
+   * 로컬 버퍼에서 밀려난 이벤트를 모를 수 있으므로, Stream 으로 답할 수 없을 때(Redis 장애, 로컬 ID)만 사용한다.
+   */
+  public List<SseMessage> getNewEvents(UUID receiverId, UUID lastEventId) {
+    return replayTimer.record(() -> {
+      List<SseReplayStream.Entry> entries = sseReplayStream.readAfter(receiverId, lastEventId);
+      if (entries == null) {
+        SseReplayBuffer buffer = buffersByReceiverId.get(receiverId);
+        List<SseMessage> local = buffer == null ? null : buffer.after(lastEventId, Instant.now().minus(maxAge));
+        return local != null ? local : List.of();
       }
+      List<SseMessage> result = new ArrayList<>(entries.size());
+      for (SseReplayStream.Entry entry : entries) {
+        result.add(new SseMessage(entry.eventId(), receiverId, entry.eventName(), null, entry.createdAt(), -1,
+            encodeFrame(entry.eventId(), entry.eventName(), entry.payload())));
+      }
+      return result;
+    });
+  }
+
+  /**
+   * 수신자 별 재전송 버퍼에 보관 중인 이벤트 수
+   */
+  public Map<UUID, Integer> getBufferedCounts() {
+    Map<UUID, Integer> counts = new HashMap<>();
+    buffersByReceiverId.forEach((receiverId, buffer) -> counts.put(receiverId, buffer.size()));
+    return counts;
+  }
 
-      if (receiverId.equals(message.getReceiverId())) {
-        result.add(message);
+  @Scheduled(fixedDelay = 1000 * 60)
+  public void evictExpired() {
+    Instant expiredBefore = Instant.now().minus(maxAge);
+    long evicted = 0;
+    for (UUID receiverId : buffersByReceiverId.keySet()) {
+      SseReplayBuffer buffer = buffersByReceiverId.get(receiverId);
+      if (buffer == null) {
+        continue;
       }
+      evicted += buffer.evictExpired(expiredBefore);
+      buffersByReceiverId.computeIfPresent(receiverId, (id, current) -> {
+        if (current.size() > 0) {
+          return current;
+        }
+        synchronized (recentReceivers) {
+          recentReceivers.remove(id);
+        }
+        return null;
+      });
     }
-    return result;
+    log.debug("[SSE] 재전송 버퍼 정리 완료, evicted = {}, receivers = {}, events = {}",
+        evicted, buffersByReceiverId.size(), totalEvents.get());
   }
 }
@@ -0,0 +1,107 @@
+package com.codeit.mopl.sse.repository;
+
+import com.codeit.mopl.sse.SseMessage;
+import io.micrometer.core.instrument.Counter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수신자 한 명의 재전송용 이벤트를 담는 고정 크기 링 버퍼.
+ * 순번(sequence)은 수신자 별로 단조 증가하며, eventId -> 순번 인덱스로 재전송 시작 위치를 바로 찾는다.
+ */
+final class SseReplayBuffer {
+
+  private final SseMessage[] slots;
+  private final Map<UUID, Long> sequenceByEventId = new HashMap<>();
+  private final AtomicLong totalEvents;
+  private final AtomicLong totalBytes;
+  private final Counter evictedCounter;
+
+  private long firstSequence = 0; // 보관 중인 가장 오래된 순번
+  private long nextSequence = 0;  // 다음에 부여할 순번
+
+  SseReplayBuffer(int capacity, AtomicLong totalEvents, AtomicLong totalBytes, Counter evictedCounter) {
+    this.slots = new SseMessage[capacity];
+    this.totalEvents = totalEvents;
+    this.totalBytes = totalBytes;
+    this.evictedCounter = evictedCounter;
+  }
+
+  synchronized SseMessage append(UUID eventId, UUID receiverId, String eventName, Object data,
+      byte[] frame, Instant now) {
+    if (size() == slots.length) {
+      evictOldest();
+    }
+    SseMessage message =
+        new SseMessage(eventId, receiverId, eventName, data, now, nextSequence, frame);
+    slots[index(nextSequence)] = message;
+    sequenceByEventId.put(message.getEventId(), nextSequence);
+    nextSequence++;
+    totalEvents.incrementAndGet();
+    totalBytes.addAndGet(frame.length);
+    return message;
+  }
+
+  /**
+   * lastEventId 이후의 이벤트를 순서대로 반환한다. lastEventId 가 이미 밀려났거나 모르는 값이면 null.
+   */
+  synchronized List<SseMessage> after(UUID lastEventId, Instant expiredBefore) {
+    evictExpired(expiredBefore);
+    Long lastSequence = sequenceByEventId.get(lastEventId);
+    if (lastSequence == null) {
+      return null;
+    }
+    List<SseMessage> result = new ArrayList<>((int) (nextSequence - lastSequence - 1));
+    for (long sequence = lastSequence + 1; sequence < nextSequence; sequence++) {
+      result.add(slots[index(sequence)]);
+    }
+    return result;
+  }
+
+  synchronized int evictExpired(Instant expiredBefore) {
+    int evicted = 0;
+    while (size() > 0 && slots[index(firstSequence)].getCreatedAt().isBefore(expiredBefore)) {
+      evictOldest();
+      evicted++;
+    }
+    return evicted;
+  }
+
+  synchronized void evictOldest() {
+    if (size() == 0) {
+      return;
+    }
+    int index = index(firstSequence);
+    sequenceByEventId.remove(slots[index].getEventId());
+    totalBytes.addAndGet(-slots[index].getFrame().length);
+    slots[index] = null;
+    firstSequence++;
+    totalEvents.decrementAndGet();
+    evictedCounter.increment();
+  }
+
+  /**
+   * 전체 한도 초과로 버퍼를 통째로 버릴 때 사용한다.
+   */
+  synchronized int clear() {
+    int evicted = 0;
+    while (size() > 0) {
+      evictOldest();
+      evicted++;
+    }
+    return evicted;
+  }
+
+  synchronized int size() {
+    return (int) (nextSequence - firstSequence);
+  }
+
+  private int index(long sequence) {
+    return (int) (sequence % slots.length);
+  }
+}
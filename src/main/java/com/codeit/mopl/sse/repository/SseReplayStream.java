@@ -0,0 +1,130 @@
+package com.codeit.mopl.sse.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신자 별 재전송 이벤트를 Redis Stream 에 보관한다. 노드 재시작이나 다른 노드로 재연결해도 Last-Event-ID 이후를 받을 수 있다.
+ *
+ * sse:stream:{receiverId} -> XADD MAXLEN ~ capacity-per-receiver, 마지막 추가 후 max-age 가 지나면 키 만료
+ *
+ * 클라이언트에 내려가는 이벤트 ID(UUID)는 Stream ID(ms-seq)를 그대로 담는다 (상위 64bit = ms, 하위 64bit = seq).
+ */
+@Slf4j
+@Component
+public class SseReplayStream {
+
+  private static final String STREAM_KEY_PREFIX = "sse:stream:";
+  private static final String FIELD_EVENT_NAME = "eventName";
+  private static final String FIELD_PAYLOAD = "payload";
+
+  /**
+   * KEYS: streamKey
+   * ARGV: maxLength, ttlMillis, eventName, payload
+   */
+  private static final RedisScript<String> APPEND = new DefaultRedisScript<>("""
+      local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*',
+        'eventName', ARGV[3], 'payload', ARGV[4])
+      redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      return id
+      """, String.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final int maxLength;
+  private final Duration maxAge;
+
+  public SseReplayStream(StringRedisTemplate stringRedisTemplate,
+      @Value("${sse.replay.capacity-per-receiver:100}") int maxLength,
+      @Value("${sse.replay.max-age:10m}") Duration maxAge) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.maxLength = maxLength;
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * @return Stream ID 를 담은 이벤트 ID, Redis 장애 시 null
+   */
+  public UUID append(UUID receiverId, String eventName, String payload) {
+    try {
+      String recordId = stringRedisTemplate.execute(APPEND, List.of(key(receiverId)),
+          String.valueOf(maxLength), String.valueOf(maxAge.toMillis()), eventName, payload);
+      return recordId == null ? null : toEventId(RecordId.of(recordId));
+    } catch (Exception e) {
+      log.warn("[SSE] 재전송 Stream 저장 실패, 로컬 버퍼만 사용 receiverId = {}, msg = {}", receiverId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * lastEventId 이후의 이벤트를 순서대로 반환한다.
+   * Stream 에서 발급한 ID 가 아니거나(Redis 장애 중 로컬에만 저장된 이벤트) Redis 장애 시 Stream 으로 답할 수 없으므로 null.
+   */
+  public List<Entry> readAfter(UUID receiverId, UUID lastEventId) {
+    Instant expiredBefore = Instant.now().minus(maxAge);
+    if (!isStreamEventId(lastEventId, expiredBefore)) {
+      return null;
+    }
+    try {
+      List<MapRecord<String, String, String>> records = stringRedisTemplate.<String, String>opsForStream()
+          .range(key(receiverId),
+              Range.of(Bound.exclusive(toRecordId(lastEventId).getValue()), Bound.unbounded()),
+              Limit.limit().count(maxLength));
+      if (records == null || records.isEmpty()) {
+        return List.of();
+      }
+      List<Entry> entries = new ArrayList<>(records.size());
+      for (MapRecord<String, String, String> record : records) {
+        Instant createdAt = Instant.ofEpochMilli(record.getId().getTimestamp());
+        if (createdAt.isBefore(expiredBefore)) {
+          continue;
+        }
+        Map<String, String> fields = record.getValue();
+        entries.add(new Entry(toEventId(record.getId()), fields.get(FIELD_EVENT_NAME), fields.get(FIELD_PAYLOAD), createdAt));
+      }
+      return entries;
+    } catch (Exception e) {
+      log.warn("[SSE] 재전송 Stream 조회 실패, 로컬 버퍼 사용 receiverId = {}, msg = {}", receiverId, e.getMessage());
+      return null;
+    }
+  }
+
+  static UUID toEventId(RecordId recordId) {
+    return new UUID(recordId.getTimestamp(), recordId.getSequence());
+  }
+
+  static RecordId toRecordId(UUID eventId) {
+    return RecordId.of(eventId.getMostSignificantBits(), eventId.getLeastSignificantBits());
+  }
+
+  // 무작위 UUID 는 상위 64bit 가 보관 기간 안의 시각일 가능성이 사실상 없다
+  private boolean isStreamEventId(UUID eventId, Instant expiredBefore) {
+    long timestamp = eventId.getMostSignificantBits();
+    long sequence = eventId.getLeastSignificantBits();
+    return sequence >= 0
+        && timestamp >= expiredBefore.toEpochMilli()
+        && timestamp <= System.currentTimeMillis() + Duration.ofMinutes(1).toMillis();
+  }
+
+  private String key(UUID receiverId) {
+    return STREAM_KEY_PREFIX + receiverId;
+  }
+
+  public record Entry(UUID eventId, String eventName, String payload, Instant createdAt) {
+
+  }
+}
@@ -0,0 +1,302 @@
+package com.codeit.mopl.sse.service;
+
+import com.codeit.mopl.sse.SseMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * emitter 별 송신 큐에 이벤트를 넣고, 공용 writer 풀이 큐를 비운다.
+ * 호출 스레드(Kafka consumer 등)는 큐 적재만 하므로 클라이언트 네트워크 상태와 무관하게 일정한 시간이 걸린다.
+ * 큐가 가득 찬 느린 클라이언트와 writer 풀이 포화되어 drain 을 예약하지 못한 클라이언트는 연결을 끊는다
+ * (재연결 시 Last-Event-ID 로 재전송 받음).
+ *
+ * 한 번의 drain 은 최대 maxFramesPerDrain 개만 쓰고 남은 이벤트는 다시 예약해 다른 emitter 에 차례를 넘긴다.
+ * 한 프레임 쓰기가 write-timeout 을 넘겨 막혀 있으면 watchdog 이 송신 큐를 버리고 연결을 종료한다.
+ *
+ * 재연결 시에는 pause 로 실시간 이벤트를 쌓아 두기만 하다가, resume 으로 재전송 이벤트를 그 앞에 넣고 drain 을 시작한다.
+ * 재전송과 실시간 이벤트가 같은 송신 큐로 나가므로 클라이언트는 항상 오래된 이벤트부터 받는다.
+ */
+@Slf4j
+@Component
+public class SseEmitterWriter implements DisposableBean {
+
+  private final Executor sseWriterExecutor;
+  private final int queueCapacity;
+  private final int maxFramesPerDrain;
+  private final long writeTimeoutMillis;
+  private final Map<SseEmitter, Outbox> outboxes = new ConcurrentHashMap<>();
+  private final Counter slowConsumerCounter;
+  private final Counter writeTimeoutCounter;
+  private final SseMetrics sseMetrics;
+  // 막힌 쓰기가 emitter 의 write lock 을 쥐고 있을 수 있어 종료는 watchdog 스레드가 아닌 별도 스레드에서 한다
+  private final ExecutorService closer;
+
+  public SseEmitterWriter(@Qualifier("sseWriterExecutor") Executor sseWriterExecutor,
+      MeterRegistry meterRegistry,
+      SseMetrics sseMetrics,
+      @Value("${sse.writer.queue-capacity:64}") int queueCapacity,
+      @Value("${sse.writer.max-frames-per-drain:16}") int maxFramesPerDrain,
+      @Value("${sse.writer.write-timeout:10s}") Duration writeTimeout) {
+    this.sseWriterExecutor = sseWriterExecutor;
+    this.sseMetrics = sseMetrics;
+    this.queueCapacity = queueCapacity;
+    this.maxFramesPerDrain = maxFramesPerDrain;
+    this.writeTimeoutMillis = writeTimeout.toMillis();
+    CustomizableThreadFactory closerThreadFactory = new CustomizableThreadFactory("sseWriter-closer-");
+    closerThreadFactory.setDaemon(true);
+    this.closer = Executors.newCachedThreadPool(closerThreadFactory);
+    this.slowConsumerCounter = meterRegistry.counter("sse.writer.slow_consumer");
+    this.writeTimeoutCounter = meterRegistry.counter("sse.writer.write_timeout");
+    Gauge.builder("sse.writer.outboxes", outboxes, Map::size)
+        .description("송신 큐를 가진 emitter 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param event 인코딩이 끝난 프레임 (SseEventBuilder#build), 재전송 저장소에 없는 이벤트 (heartbeat 등)
+   */
+  public void enqueue(UUID receiverId, SseEmitter emitter, String eventName, Set<DataWithMediaType> event) {
+    enqueue(receiverId, emitter, null, eventName, event);
+  }
+
+  /**
+   * @param eventId 재전송 저장소의 이벤트 id, 재연결 중 재전송 목록과 겹치는 이벤트를 한 번만 보내는 데 쓴다
+   * @param event   인코딩이 끝난 프레임 (SseMessage#getFrameData)
+   */
+  public void enqueue(UUID receiverId, SseEmitter emitter, UUID eventId, String eventName,
+      Set<DataWithMediaType> event) {
+    Outbox outbox = outboxes.computeIfAbsent(emitter, e -> new Outbox(receiverId, e, queueCapacity));
+    if (eventId != null && outbox.replayedIds.contains(eventId)) {
+      // 재전송 목록으로 이미 보낸 이벤트가 늦게 전달된 경우
+      return;
+    }
+    if (!outbox.queue.offer(new Pending(eventId, eventName, event, System.nanoTime(), false))) {
+      log.warn("[SSE] 송신 큐 초과, 느린 클라이언트 연결 종료 receiverId = {}, emitter = {}",
+          receiverId, System.identityHashCode(emitter));
+      slowConsumerCounter.increment();
+      sseMetrics.failed(eventName);
+      release(emitter);
+      emitter.completeWithError(new IllegalStateException("SSE 송신 큐 초과"));
+      return;
+    }
+    sseMetrics.enqueued(eventName);
+    schedule(outbox);
+  }
+
+  /**
+   * emitter 를 레지스트리에 등록하기 전에 호출한다. resume 전까지 들어온 실시간 이벤트는 송신 큐에 쌓기만 하고 쓰지 않는다.
+   */
+  public void pause(UUID receiverId, SseEmitter emitter) {
+    outboxes.computeIfAbsent(emitter, e -> new Outbox(receiverId, e, queueCapacity)).paused = true;
+  }
+
+  /**
+   * 재전송 이벤트를 쌓여 있던 실시간 이벤트보다 앞에 넣고 drain 을 시작한다.
+   * 재전송 목록에 이미 들어 있는 실시간 이벤트는 송신 큐에서 뺀다.
+   */
+  public void resume(SseEmitter emitter, List<SseMessage> replayEvents) {
+    Outbox outbox = outboxes.get(emitter);
+    if (outbox == null) {
+      // 재전송 전에 이미 종료된 연결
+      return;
+    }
+    Set<UUID> replayedIds = new HashSet<>();
+    long now = System.nanoTime();
+    for (SseMessage message : replayEvents) {
+      replayedIds.add(message.getEventId());
+      outbox.replay.add(new Pending(message.getEventId(), message.getEventName(), message.getFrameData(), now, true));
+    }
+    outbox.replayedIds = replayedIds;
+    outbox.queue.removeIf(pending -> pending.eventId() != null && replayedIds.contains(pending.eventId()));
+    outbox.paused = false;
+    schedule(outbox);
+  }
+
+  /**
+   * 수신자 별로 아직 쓰지 못하고 송신 큐에 남아 있는 이벤트 수
+   */
+  public Map<UUID, Integer> getPendingCounts() {
+    Map<UUID, Integer> pending = new HashMap<>();
+    for (Outbox outbox : outboxes.values()) {
+      pending.merge(outbox.receiverId, outbox.replay.size() + outbox.queue.size(), Integer::sum);
+    }
+    return pending;
+  }
+
+  /**
+   * 마지막으로 전송에 성공한 시각 (epoch millis). 성공한 적이 없으면 0, 송신 큐가 없으면 -1.
+   */
+  public long getLastWriteAt(SseEmitter emitter) {
+    Outbox outbox = outboxes.get(emitter);
+    return outbox == null ? -1 : outbox.lastWriteAt;
+  }
+
+  // emitter 가 종료되면 SseService 에서 호출
+  public void release(SseEmitter emitter) {
+    Outbox outbox = outboxes.remove(emitter);
+    if (outbox != null) {
+      outbox.closed = true;
+      outbox.replay.clear();
+      outbox.queue.clear();
+    }
+  }
+
+  /**
+   * 한 프레임 쓰기가 write-timeout 이상 끝나지 않은 연결을 종료한다.
+   * 송신 큐를 버려 막힌 쓰기가 풀리면 drain 이 바로 끝나고, 재연결 시 Last-Event-ID 로 재전송 받는다.
+   */
+  @Scheduled(fixedDelayString = "${sse.writer.watchdog-interval-ms:1000}")
+  public void closeBlockedWrites() {
+    long now = System.currentTimeMillis();
+    for (Outbox outbox : outboxes.values()) {
+      long startedAt = outbox.writeStartedAt;
+      if (startedAt == 0 || now - startedAt < writeTimeoutMillis) {
+        continue;
+      }
+      log.warn("[SSE] 전송이 {}ms 이상 막힘, 연결 종료 receiverId = {}, emitter = {}, pending = {}",
+          now - startedAt, outbox.receiverId, System.identityHashCode(outbox.emitter), outbox.pendingCount());
+      writeTimeoutCounter.increment();
+      failPending(outbox);
+      release(outbox.emitter);
+      closer.execute(() -> outbox.emitter.completeWithError(new IllegalStateException("SSE 전송 시간 초과")));
+    }
+  }
+
+  private void schedule(Outbox outbox) {
+    // 재전송 준비 중이면 resume 에서 예약한다
+    if (outbox.paused) {
+      return;
+    }
+    // emitter 당 하나의 drain 작업만 실행되어 전송 순서가 유지된다
+    if (!outbox.draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      sseWriterExecutor.execute(() -> drain(outbox));
+    } catch (RejectedExecutionException e) {
+      // 다음 enqueue 가 오지 않으면 큐에 남은 이벤트가 영영 전송되지 않으므로 연결을 끊고
+      // 재연결 시 Last-Event-ID 로 재전송 받게 한다
+      log.warn("[SSE] writer 풀 포화, 연결 종료 receiverId = {}, pending = {}",
+          outbox.receiverId, outbox.pendingCount());
+      failPending(outbox);
+      release(outbox.emitter);
+      outbox.draining.set(false);
+      outbox.emitter.completeWithError(e);
+    }
+  }
+
+  private void drain(Outbox outbox) {
+    try {
+      Pending event;
+      int written = 0;
+      // 한 emitter 가 writer 스레드를 오래 잡지 않도록 maxFramesPerDrain 개까지만 쓰고 나머지는 다시 예약한다
+      while (written < maxFramesPerDrain && !outbox.closed && (event = outbox.poll()) != null) {
+        outbox.writeStartedAt = System.currentTimeMillis();
+        try {
+          outbox.emitter.send(event.frame());
+          outbox.lastWriteAt = System.currentTimeMillis();
+          if (event.replay()) {
+            sseMetrics.replayed(event.eventName());
+          } else {
+            sseMetrics.delivered(event.eventName(), event.enqueuedAt());
+          }
+          written++;
+        } catch (Exception e) {
+          sseMetrics.failed(event.eventName());
+          if (outbox.closed) {
+            // watchdog 이 이미 종료한 연결
+            return;
+          }
+          // 클라이언트가 탭 닫음 / 네트워크 끊김 -> onCompletion 에서 레지스트리 정리
+          log.info("[SSE] 클라이언트 연결 종료로 전송 실패, receiverId = {}, reason = {}",
+              outbox.receiverId, e.getMessage());
+          release(outbox.emitter);
+          outbox.emitter.completeWithError(e);
+          return;
+        } finally {
+          outbox.writeStartedAt = 0;
+        }
+      }
+    } finally {
+      outbox.draining.set(false);
+    }
+    // 남은 이벤트, drain 종료와 enqueue 사이에 들어온 이벤트 처리
+    if (!outbox.closed && outbox.pendingCount() > 0) {
+      schedule(outbox);
+    }
+  }
+
+  private void failPending(Outbox outbox) {
+    Pending event;
+    while ((event = outbox.poll()) != null) {
+      sseMetrics.failed(event.eventName());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    closer.shutdown();
+  }
+
+  private static final class Outbox {
+    private final UUID receiverId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Pending> queue;
+    // 재연결 시 실시간 이벤트보다 먼저 보낼 재전송 이벤트, 수신자 별 재전송 용량으로 크기가 제한된다
+    private final Queue<Pending> replay = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile long lastWriteAt;
+    // 쓰는 중인 프레임의 시작 시각, 쓰는 중이 아니면 0
+    private volatile long writeStartedAt;
+    private volatile boolean closed;
+    private volatile boolean paused;
+    private volatile Set<UUID> replayedIds = Set.of();
+
+    private Outbox(UUID receiverId, SseEmitter emitter, int capacity) {
+      this.receiverId = receiverId;
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    private Pending poll() {
+      Pending event = replay.poll();
+      return event != null ? event : queue.poll();
+    }
+
+    private int pendingCount() {
+      return replay.size() + queue.size();
+    }
+  }
+
+  private record Pending(UUID eventId, String eventName, Set<DataWithMediaType> frame, long enqueuedAt,
+      boolean replay) {
+
+  }
+}
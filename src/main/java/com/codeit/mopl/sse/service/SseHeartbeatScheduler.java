@@ -0,0 +1,142 @@
+package com.codeit.mopl.sse.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 연결마다 hashed wheel timer 로 heartbeat 를 예약한다.
+ * 연결 시점에 따라 만료 시각이 흩어지므로 한 tick 에는 (연결 수 / 주기) 만큼만 처리된다.
+ * 마지막 전송 성공 시각이 stale-after 를 넘은 연결은 종료한다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler implements DisposableBean {
+
+  private static final Set<DataWithMediaType> PING = SseEmitter.event()
+      .name("ping")
+      .data("keep-alive")
+      .reconnectTime(10_000L)
+      .build();
+
+  private final SseEmitterWriter sseEmitterWriter;
+  private final Timer timer;
+  private final long intervalMillis;
+  private final long staleAfterMillis;
+  private final Map<SseEmitter, Connection> connections = new ConcurrentHashMap<>();
+
+  @Autowired
+  public SseHeartbeatScheduler(SseEmitterWriter sseEmitterWriter,
+      MeterRegistry meterRegistry,
+      @Value("${sse.heartbeat.interval:15s}") Duration interval,
+      @Value("${sse.heartbeat.stale-after:45s}") Duration staleAfter) {
+    this(sseEmitterWriter, meterRegistry, interval, staleAfter,
+        new HashedWheelTimer(new DefaultThreadFactory("sse-heartbeat", true),
+            100, TimeUnit.MILLISECONDS, 512));
+  }
+
+  public SseHeartbeatScheduler(SseEmitterWriter sseEmitterWriter,
+      MeterRegistry meterRegistry,
+      Duration interval,
+      Duration staleAfter,
+      Timer timer) {
+    this.sseEmitterWriter = sseEmitterWriter;
+    this.timer = timer;
+    this.intervalMillis = interval.toMillis();
+    this.staleAfterMillis = staleAfter.toMillis();
+
+    Gauge.builder("sse.connections.active", connections, Map::size)
+        .description("heartbeat 대상 SSE 연결 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.connections.stale", this, SseHeartbeatScheduler::countStale)
+        .description("heartbeat 주기 이상 전송에 성공하지 못한 SSE 연결 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param onStale 연결이 stale 로 판단되어 종료될 때 실행할 정리 작업
+   */
+  public void register(UUID receiverId, SseEmitter emitter, Runnable onStale) {
+    Connection connection = new Connection(receiverId, emitter, onStale);
+    connections.put(emitter, connection);
+    schedule(connection);
+  }
+
+  public void unregister(SseEmitter emitter) {
+    Connection connection = connections.remove(emitter);
+    if (connection != null && connection.timeout != null) {
+      connection.timeout.cancel();
+    }
+  }
+
+  private void schedule(Connection connection) {
+    connection.timeout = timer.newTimeout(t -> beat(connection), intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  // wheel 스레드에서 실행되므로 송신 큐 적재까지만 하고 바로 반환한다
+  private void beat(Connection connection) {
+    if (connections.get(connection.emitter) != connection) {
+      return;
+    }
+    long idle = System.currentTimeMillis() - lastWriteAt(connection);
+    if (idle >= staleAfterMillis) {
+      log.info("[SSE] heartbeat 응답 없음, 연결 종료 receiverId = {}, emitter = {}, idleMs = {}",
+          connection.receiverId, System.identityHashCode(connection.emitter), idle);
+      unregister(connection.emitter);
+      try {
+        connection.emitter.complete();
+      } finally {
+        connection.onStale.run();
+      }
+      return;
+    }
+    sseEmitterWriter.enqueue(connection.receiverId, connection.emitter, "ping", PING);
+    schedule(connection);
+  }
+
+  private long lastWriteAt(Connection connection) {
+    return Math.max(connection.registeredAt, sseEmitterWriter.getLastWriteAt(connection.emitter));
+  }
+
+  private double countStale() {
+    long now = System.currentTimeMillis();
+    return connections.values().stream()
+        .filter(connection -> now - lastWriteAt(connection) > intervalMillis)
+        .count();
+  }
+
+  @Override
+  public void destroy() {
+    timer.stop();
+  }
+
+  private static final class Connection {
+    private final UUID receiverId;
+    private final SseEmitter emitter;
+    private final Runnable onStale;
+    private final long registeredAt = System.currentTimeMillis();
+    private volatile Timeout timeout;
+
+    private Connection(UUID receiverId, SseEmitter emitter, Runnable onStale) {
+      this.receiverId = receiverId;
+      this.emitter = emitter;
+      this.onStale = onStale;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.codeit.mopl.sse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 이벤트 처리 meter 모음. 이벤트 이름 별로 태그를 단다 (이벤트 이름은 고정된 몇 가지뿐이다).
+ *
+ * - sse.events{event, result=enqueued|delivered|failed|replayed}
+ * - sse.send.latency{event} : 송신 큐 적재부터 emitter 쓰기 완료까지
+ * - sse.replay.batch.size   : 재연결 한 번에 재전송한 이벤트 수
+ */
+@Component
+public class SseMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, EventMeters> metersByEventName = new ConcurrentHashMap<>();
+  private final DistributionSummary replayBatchSize;
+
+  public SseMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.replayBatchSize = DistributionSummary.builder("sse.replay.batch.size")
+        .description("재연결 한 번에 재전송한 이벤트 수")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  public void enqueued(String eventName) {
+    meters(eventName).enqueued.increment();
+  }
+
+  public void delivered(String eventName, long enqueuedAtNanos) {
+    EventMeters meters = meters(eventName);
+    meters.delivered.increment();
+    meters.latency.record(System.nanoTime() - enqueuedAtNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void failed(String eventName) {
+    meters(eventName).failed.increment();
+  }
+
+  public void replayed(String eventName) {
+    meters(eventName).replayed.increment();
+  }
+
+  public void replayBatch(int size) {
+    replayBatchSize.record(size);
+  }
+
+  private EventMeters meters(String eventName) {
+    String name = eventName != null ? eventName : "unknown";
+    return metersByEventName.computeIfAbsent(name, this::register);
+  }
+
+  private EventMeters register(String eventName) {
+    return new EventMeters(
+        meterRegistry.counter("sse.events", "event", eventName, "result", "enqueued"),
+        meterRegistry.counter("sse.events", "event", eventName, "result", "delivered"),
+        meterRegistry.counter("sse.events", "event", eventName, "result", "failed"),
+        meterRegistry.counter("sse.events", "event", eventName, "result", "replayed"),
+        Timer.builder("sse.send.latency")
+            .tag("event", eventName)
+            .description("송신 큐 적재부터 emitter 쓰기 완료까지 걸린 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+    );
+  }
+
+  private record EventMeters(Counter enqueued, Counter delivered, Counter failed, Counter replayed, Timer latency) {
+
+  }
+}
@@ -0,0 +1,105 @@
+package com.codeit.mopl.sse.service;
+
+import com.codeit.mopl.sse.SseMessage;
+import com.codeit.mopl.sse.SseRoutedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 수신자가 어느 노드에 SSE 로 연결되어 있는지 Redis 에 기록하고,
+ * 이벤트를 해당 노드의 전용 채널로만 전달한다 (전체 노드 broadcast X).
+ *
+ * sse:route:{receiverId} -> 연결을 가진 노드 ID Set
+ * sse:node:{nodeId}      -> 노드 전용 pub/sub 채널
+ */
+@Slf4j
+@Component
+public class SseNodeRouter {
+
+  private static final String ROUTE_KEY_PREFIX = "sse:route:";
+  private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+  // emitter timeout(30분)보다 길게 잡아, 비정상 종료된 노드의 경로는 만료로 정리되게 한다
+  private static final Duration ROUTE_TTL = Duration.ofMinutes(35);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  @Getter
+  private final String nodeId;
+  @Getter
+  private final ChannelTopic nodeTopic;
+
+  public SseNodeRouter(StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${sse.node-id:}") String nodeId) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+    this.nodeTopic = new ChannelTopic(NODE_CHANNEL_PREFIX + this.nodeId);
+  }
+
+  public void register(UUID receiverId) {
+    String key = ROUTE_KEY_PREFIX + receiverId;
+    try {
+      stringRedisTemplate.opsForSet().add(key, nodeId);
+      stringRedisTemplate.expire(key, ROUTE_TTL);
+    } catch (Exception e) {
+      log.warn("[SSE] 연결 경로 등록 실패, receiverId = {}, msg = {}", receiverId, e.getMessage());
+    }
+  }
+
+  public void unregister(UUID receiverId) {
+    try {
+      stringRedisTemplate.opsForSet().remove(ROUTE_KEY_PREFIX + receiverId, nodeId);
+    } catch (Exception e) {
+      log.warn("[SSE] 연결 경로 삭제 실패, receiverId = {}, msg = {}", receiverId, e.getMessage());
+    }
+  }
+
+  /**
+   * 수신자의 연결을 가진 노드 목록. Redis 장애 시 빈 목록을 반환해 로컬 전송으로 처리되게 한다.
+   */
+  public Set<String> findNodes(UUID receiverId) {
+    try {
+      Set<String> nodes = stringRedisTemplate.opsForSet().members(ROUTE_KEY_PREFIX + receiverId);
+      return nodes != null ? nodes : Set.of();
+    } catch (Exception e) {
+      log.warn("[SSE] 연결 경로 조회 실패, 로컬 전송으로 처리 receiverId = {}, msg = {}", receiverId, e.getMessage());
+      return Set.of();
+    }
+  }
+
+  /**
+   * @return 대상 노드가 채널을 구독 중이어서 전달된 경우 true. 구독자가 없으면(노드 비정상 종료) 경로에서 지우고 false
+   */
+  public boolean forward(String targetNodeId, SseMessage message) {
+    UUID receiverId = message.getReceiverId();
+    String eventName = message.getEventName();
+    try {
+      SseRoutedEvent event = new SseRoutedEvent(receiverId, message.getEventId(), eventName,
+          new String(message.getFrame(), StandardCharsets.UTF_8));
+      Long subscribers = stringRedisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + targetNodeId,
+          objectMapper.writeValueAsString(event));
+      if (subscribers != null && subscribers == 0) {
+        // 경로 TTL 이 끝날 때까지 죽은 노드로 계속 보내지 않도록 바로 정리한다
+        stringRedisTemplate.opsForSet().remove(ROUTE_KEY_PREFIX + receiverId, targetNodeId);
+        log.info("[SSE] 구독 중이 아닌 노드 경로 삭제, targetNodeId = {}, receiverId = {}", targetNodeId, receiverId);
+        return false;
+      }
+      log.debug("[SSE] 이벤트 노드 전달, targetNodeId = {}, receiverId = {}, eventName = {}", targetNodeId, receiverId, eventName);
+      return true;
+    } catch (Exception e) {
+      log.warn("[SSE] 이벤트 노드 전달 실패, targetNodeId = {}, receiverId = {}, msg = {}", targetNodeId, receiverId, e.getMessage());
+      return false;
+    }
+  }
+}
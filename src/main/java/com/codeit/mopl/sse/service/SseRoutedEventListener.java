@@ -0,0 +1,29 @@
+package com.codeit.mopl.sse.service;
+
+import com.codeit.mopl.sse.SseRoutedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/*
+   다른 노드가 이 노드의 채널(sse:node:{nodeId})로 전달한 SSE 이벤트를 받아 로컬 emitter 로 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRoutedEventListener {
+
+  private final ObjectMapper objectMapper;
+  private final SseService sseService;
+
+  public void onMessage(String message) {
+    try {
+      SseRoutedEvent event = objectMapper.readValue(message, SseRoutedEvent.class);
+      sseService.deliverRouted(event);
+    } catch (JsonProcessingException e) {
+      log.error("[SSE] 노드 전달 이벤트 역직렬화 실패: {}", message, e);
+    }
+  }
+}
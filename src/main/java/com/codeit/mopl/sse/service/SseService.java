@@ -2,15 +2,15 @@ package com.codeit.mopl.sse.service;
 
 import com.codeit.mopl.sse.SseCloseReason;
 import com.codeit.mopl.sse.SseMessage;
+import com.codeit.mopl.sse.SseRoutedEvent;
 import com.codeit.mopl.sse.repository.SseEmitterRegistry;
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -20,6 +20,10 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class SseService {
 
   private final SseEmitterRegistry sseEmitterRegistry;
+  private final SseNodeRouter sseNodeRouter;
+  private final SseEmitterWriter sseEmitterWriter;
+  private final SseHeartbeatScheduler sseHeartbeatScheduler;
+  private final SseMetrics sseMetrics;
 
   // 30분짜리 emitter
   private static final long DEFAULT_TIMEOUT = 1000L * 60 * 30;
@@ -33,12 +37,17 @@ public class SseService {
     AtomicReference<SseCloseReason> closeReason =
         new AtomicReference<>(SseCloseReason.CLIENT_CLOSED);
 
-    // 레지스트리에 저장
+    // 재전송이 끝날 때까지 실시간 이벤트는 송신 큐에 쌓기만 하고 쓰지 않는다
+    sseEmitterWriter.pause(receiverId, emitter);
+
+    // 레지스트리에 저장하고, 다른 노드가 이 노드로 이벤트를 보낼 수 있도록 경로 등록
     sseEmitterRegistry.addEmitter(receiverId, emitter);
+    sseNodeRouter.register(receiverId);
+    sseHeartbeatScheduler.register(receiverId, emitter, () -> removeEmitter(receiverId, emitter));
 
     emitter.onTimeout(() -> {
       closeReason.set(SseCloseReason.TIMEOUT);
-      sseEmitterRegistry.removeEmitter(receiverId, emitter);
+      removeEmitter(receiverId, emitter);
       log.warn("[SSE] emitter timeout, receiverId = {}, emitter = {}",
           receiverId, System.identityHashCode(emitter));
     });
@@ -50,7 +59,7 @@ public class SseService {
     });
 
     emitter.onCompletion(() -> {
-      sseEmitterRegistry.removeEmitter(receiverId, emitter);
+      removeEmitter(receiverId, emitter);
       log.info("[SSE] emitter completion, receiverId = {}, emitter = {}, reason = {}",
           receiverId, System.identityHashCode(emitter), closeReason.get());
     });
@@ -62,121 +71,106 @@ public class SseService {
       log.info("[SSE] connect 이벤트 전송 성공, receiverId = {}, eventId = {}", receiverId, eventId);
     } catch (Exception e) {
       log.warn("[SSE] SSE 이벤트 전송 실패, receiverId = {}, errorMessage = {}", receiverId, e.getMessage());
-      sseEmitterRegistry.removeEmitter(receiverId, emitter);
+      removeEmitter(receiverId, emitter);
     }
 
     if (lastEventId != null) {
       reSend(receiverId, lastEventId, emitter);
+    } else {
+      sseEmitterWriter.resume(emitter, List.of());
     }
 
     log.info("[SSE] SSE 연결 종료, receiverId = {}, emitter = {}", receiverId, System.identityHashCode(emitter));
     return emitter;
   }
 
-  public void send(UUID receiverId, String eventName, Object data) {
-    log.info("[SSE] SSE 이벤트 전송 시작, receiverId = {}, eventName = {}, data = {}", receiverId, eventName, data);
-    SseMessage saved = sseEmitterRegistry.addNewEvent(receiverId, eventName, data);
-
+  /**
+   * 로그아웃 시 이 노드에 있는 수신자의 모든 연결을 닫는다.
+   * 연결 종료와 같은 정리(레지스트리, 송신 큐, heartbeat, 노드 경로)를 바로 하고, 이후 onCompletion 의 정리는 중복 없이 끝난다.
+   */
+  public void disconnect(UUID receiverId) {
     List<SseEmitter> emitters = sseEmitterRegistry.getData().get(receiverId);
     if (emitters == null || emitters.isEmpty()) {
-      log.debug("[SSE] 활성화된 연결이 없음. receiverId = {}", receiverId);
-      log.info("[SSE] SSE 이벤트 전송 종료");
+      log.debug("[SSE] 닫을 연결이 없음, receiverId = {}", receiverId);
       return;
     }
-
     for (SseEmitter emitter : List.copyOf(emitters)) {
-      try {
-        emitter.send(
-            SseEmitter.event()
-                .id(saved.getEventId().toString())
-                .name(saved.getEventName())
-                .data(saved.getData())
-        );
-
-        log.debug("[SSE] SSE 이벤트 전송 성공 receiverId = {}, eventId = {}, eventName = {}",
-            receiverId, saved.getEventId(), saved.getEventName());
-
-      } catch (IOException | IllegalStateException e) {
-        // 클라이언트가 탭 닫음 / 네트워크 끊김 같은 정상 종료 케이스
-        log.info("[SSE] 클라이언트 연결 종료로 전송 실패, receiverId = {}, eventId = {}, reason = {}",
-            receiverId, saved.getEventId(), e.getMessage());
-        sseEmitterRegistry.removeEmitter(receiverId, emitter);
-
-      } catch (Exception e) {
-        // 진짜 이상한 케이스만 에러로
-        log.error("[SSE] 예기치 못한 SSE 전송 예외, receiverId = {}, eventId = {}",
-            receiverId, saved.getEventId(), e);
-        sseEmitterRegistry.removeEmitter(receiverId, emitter);
+      removeEmitter(receiverId, emitter);
+      emitter.complete();
+      log.info("[SSE] emitter 종료, receiverId = {}, emitter = {}, reason = {}",
+          receiverId, System.identityHashCode(emitter), SseCloseReason.SERVER_COMPLETE);
+    }
+  }
+
+  /**
+   * 이벤트를 재전송 저장소(Redis Stream)에 한 번 저장한 뒤, 수신자의 연결을 가진 노드로만 전달한다.
+   * 전달에 실패한 노드(구독자 없음 포함)의 클라이언트는 재연결 시 Last-Event-ID 로 받아간다.
+   */
+  public void send(UUID receiverId, String eventName, Object data) {
+    log.info("[SSE] SSE 이벤트 전송 시작, receiverId = {}, eventName = {}, data = {}", receiverId, eventName, data);
+    SseMessage saved = sseEmitterRegistry.addNewEvent(receiverId, eventName, data);
+
+    Set<String> nodeIds = sseNodeRouter.findNodes(receiverId);
+    for (String nodeId : nodeIds) {
+      if (!nodeId.equals(sseNodeRouter.getNodeId())) {
+        sseNodeRouter.forward(nodeId, saved);
       }
-      // 여기서 return 하지 말고 다음 emitter들도 계속 시도
     }
 
+    // 경로 조회에 실패했을 수도 있으므로 경로가 없으면 로컬 연결도 확인한다
+    if (nodeIds.isEmpty() || nodeIds.contains(sseNodeRouter.getNodeId())) {
+      deliver(receiverId, saved);
+    }
     log.info("[SSE] SSE 이벤트 전송 종료");
   }
 
-  public void reSend(UUID receiverId, UUID lastEventId, SseEmitter emitter) {
-    log.info("[SSE] SSE 이벤트 재전송 시작, receiverId = {}, lastEventId = {}", receiverId, lastEventId);
-    List<SseMessage> newEvents = sseEmitterRegistry.getNewEvents(receiverId, lastEventId);
+  /**
+   * 다른 노드에서 저장을 마치고 전달한 이벤트를 이 노드의 emitter 로 전송한다.
+   */
+  public void deliverRouted(SseRoutedEvent event) {
+    SseMessage saved = sseEmitterRegistry.addRoutedEvent(event.receiverId(), event.eventId(), event.eventName(),
+        event.frame().getBytes(StandardCharsets.UTF_8));
+    deliver(event.receiverId(), saved);
+  }
 
-    if (newEvents.isEmpty()) {
-      log.info("[SSE] 재전송할 신규 이벤트 없음, receiverId = {}, lastEventId = {}", receiverId, lastEventId);
+  private void deliver(UUID receiverId, SseMessage saved) {
+    List<SseEmitter> emitters = sseEmitterRegistry.getData().get(receiverId);
+    if (emitters == null || emitters.isEmpty()) {
+      log.debug("[SSE] 활성화된 연결이 없음. receiverId = {}", receiverId);
       return;
     }
 
-    for (SseMessage message : newEvents) {
-      try {
-        emitter.send(
-            SseEmitter.event()
-                .id(message.getEventId().toString())
-                .name(message.getEventName())
-                .data(message.getData())
-        );
-
-        log.debug("[SSE] SSE 이벤트 재전송 성공 receiverId = {}, eventId = {}, eventName = {}",
-            receiverId, message.getEventId(), message.getEventName());
-
-      } catch (Exception e) {
-        log.warn("[SSE] SSE 이벤트 재전송 실패 receiverId = {}, reason = {}", receiverId, e.getMessage());
-        sseEmitterRegistry.removeEmitter(receiverId, emitter);
-      }
+    // 전송은 writer 풀에서 처리하고, 여기서는 emitter 별 송신 큐에 적재만 한다
+    // 프레임은 저장 시점에 한 번 인코딩되어 모든 emitter 가 같은 바이트를 공유한다
+    for (SseEmitter emitter : List.copyOf(emitters)) {
+      sseEmitterWriter.enqueue(receiverId, emitter, saved.getEventId(), saved.getEventName(), saved.getFrameData());
     }
-    log.info("[SSE] SSE 이벤트 재전송 종료, receiverId = {}, lastEventId = {}", receiverId, lastEventId);
   }
 
-  @Scheduled(fixedDelay = 1000 * 60 * 30) // 30분마다 실행
-  public void cleanUp() {
-    log.debug("[SSE] CLEANUP 시작");
-
-    for (Map.Entry<UUID, List<SseEmitter>> entry : sseEmitterRegistry.getData().entrySet()) {
-      UUID receiverId = entry.getKey();
-      List<SseEmitter> emitters = entry.getValue();
-
-      if (emitters == null || emitters.isEmpty()) {
-        continue;
-      }
-
-      for (SseEmitter emitter : emitters) {
-        if (!ping(emitter)) {
-          emitter.complete();
-          sseEmitterRegistry.removeEmitter(receiverId, emitter);
-        }
-      }
+  /**
+   * 재전송 이벤트를 emitter 의 송신 큐에 실시간 이벤트보다 먼저 넣는다.
+   * 쓰기는 writer 풀에서 하며, 첫 전송 실패에서 연결을 종료하고 남은 이벤트는 버린다.
+   */
+  public void reSend(UUID receiverId, UUID lastEventId, SseEmitter emitter) {
+    log.info("[SSE] SSE 이벤트 재전송 시작, receiverId = {}, lastEventId = {}", receiverId, lastEventId);
+    List<SseMessage> newEvents = List.of();
+    try {
+      newEvents = sseEmitterRegistry.getNewEvents(receiverId, lastEventId);
+      sseMetrics.replayBatch(newEvents.size());
+    } finally {
+      // 조회에 실패해도 쌓여 있는 실시간 이벤트는 내보낸다
+      sseEmitterWriter.resume(emitter, newEvents);
     }
-
-    log.debug("[SSE] CLEANUP 종료");
+    log.info("[SSE] SSE 이벤트 재전송 적재 완료, receiverId = {}, lastEventId = {}, size = {}",
+        receiverId, lastEventId, newEvents.size());
   }
 
-  private boolean ping(SseEmitter sseEmitter) {
-    try {
-      sseEmitter.send(
-          SseEmitter.event()
-              .name("ping")
-              .data("keep-alive")
-              .reconnectTime(10_000L)
-      );
-      return true;
-    } catch (Exception e) {
-      return false;
+  private void removeEmitter(UUID receiverId, SseEmitter emitter) {
+    sseEmitterRegistry.removeEmitter(receiverId, emitter);
+    sseEmitterWriter.release(emitter);
+    sseHeartbeatScheduler.unregister(emitter);
+    if (!sseEmitterRegistry.hasEmitters(receiverId)) {
+      sseNodeRouter.unregister(receiverId);
     }
   }
 }
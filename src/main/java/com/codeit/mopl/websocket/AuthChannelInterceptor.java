@@ -1,6 +1,7 @@
 package com.codeit.mopl.websocket;
+import com.codeit.mopl.exception.auth.InvalidTokenException;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
-import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
@@ -45,7 +46,8 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
       try {
         // 토큰 유효성 검사
         if (StringUtils.hasText(jwt)) {
-          String userEmail = jwtTokenProvider.getEmail(jwt);
+          VerifiedJwt verifiedJwt = jwtTokenProvider.verifyAccessToken(jwt);
+          String userEmail = verifiedJwt.subject();
           UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
 
           UsernamePasswordAuthenticationToken authenticationToken =
@@ -57,7 +59,7 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
           // STOMP 세션에 인증 정보 설정
           accessor.setUser(authenticationToken);
           log.info("[WebSocket] STOMP 인증 성공. userEmail = {}, sessionId = {}", userEmail, accessor.getSessionId());        }
-      } catch (AuthenticationException | JwtException e) {
+      } catch (AuthenticationException | InvalidTokenException e) {
         log.warn("[WebSocket] STOMP CONNECT: Authorization 헤더에 JWT 토큰이 없습니다.");
         // 커스텀 exception
         throw new AuthenticationException("JWT 토큰이 필요합니다.", e) {};
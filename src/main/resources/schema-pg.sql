@@ -84,6 +84,9 @@ CREATE TABLE IF NOT EXISTS playlist_subscriptions
     UNIQUE (subscriber_id, playlist_id)
     );
 
+-- 구독자 fan-out 은 playlist_id 로 subscriber_id 를 keyset 페이지로 읽는다
+CREATE INDEX IF NOT EXISTS idx_playlist_subscriptions_playlist_subscriber ON playlist_subscriptions (playlist_id, subscriber_id);
+
 -- NOTIFICATIONS TABLE
 CREATE TABLE IF NOT EXISTS notifications
 (
@@ -163,6 +166,9 @@ CREATE TABLE IF NOT EXISTS follows
     UNIQUE (follower_id, followee_id)
     );
 
+-- 팔로워 fan-out 은 followee_id 로 follower_id 를 keyset 페이지로 읽는다
+CREATE INDEX IF NOT EXISTS idx_follows_followee_follower ON follows (followee_id, follower_id);
+
 -- WATCHING SESSION TABLE
 CREATE TABLE IF NOT EXISTS watching_sessions
 (
@@ -188,3 +194,27 @@ CREATE TABLE IF NOT EXISTS processed_events
 
     UNIQUE(event_id, event_type)
     );
+
+-- 보관 기간이 지난 행을 EventType 별로 지운다 (ProcessedEventRetentionJob)
+CREATE INDEX IF NOT EXISTS idx_processed_events_type_created_at ON processed_events (event_type, created_at);
+
+-- OUTBOX EVENT
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    created_at TIMESTAMPZ NOT NULL DEFAULT now(),
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    payload BYTEA NOT NULL,
+    codec VARCHAR(32) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    trace_id VARCHAR(255),
+    priority INT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPZ,
+    sent_at TIMESTAMPZ,
+    failed_at TIMESTAMPZ
+    );
+
+-- 릴레이는 미발행, 미보류 행만 priority, created_at 순으로 읽는다
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (priority, created_at) WHERE sent_at IS NULL AND failed_at IS NULL;
@@ -9,6 +9,7 @@ import com.codeit.mopl.domain.user.entity.User;
 import com.codeit.mopl.domain.user.repository.UserRepository;
 import com.codeit.mopl.event.entity.EventType;
 import com.codeit.mopl.event.entity.ProcessedEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
 import com.codeit.mopl.event.repository.ProcessedEventRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,6 +58,9 @@ public class CancelledEventRetryJobE2ETest {
     @MockitoBean
     private ProcessedEventRepository processedEventRepository;
 
+    @MockitoBean
+    private IdempotencyGuard idempotencyGuard;
+
     private User follower;
     private User followee;
 
@@ -103,7 +107,7 @@ public class CancelledEventRetryJobE2ETest {
         follow.setRetryCount(0);
         followRepository.saveAndFlush(follow);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(follow.getId()), eq(EventType.FOLLOWER_DECREASE)))
+        given(idempotencyGuard.isProcessed(eq(follow.getId()), eq(EventType.FOLLOWER_DECREASE)))
                 .willReturn(false);
 
         // when
@@ -156,7 +160,7 @@ public class CancelledEventRetryJobE2ETest {
         follow.setRetryCount(0);
         followRepository.saveAndFlush(follow);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(follow.getId()), eq(EventType.FOLLOWER_DECREASE)))
+        given(idempotencyGuard.isProcessed(eq(follow.getId()), eq(EventType.FOLLOWER_DECREASE)))
                 .willReturn(false);
 
         doThrow(new RuntimeException("save processed event failed"))
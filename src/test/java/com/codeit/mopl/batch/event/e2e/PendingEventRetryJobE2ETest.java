@@ -9,6 +9,7 @@ import com.codeit.mopl.domain.user.entity.User;
 import com.codeit.mopl.domain.user.repository.UserRepository;
 import com.codeit.mopl.event.entity.EventType;
 import com.codeit.mopl.event.entity.ProcessedEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
 import com.codeit.mopl.event.repository.ProcessedEventRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +57,9 @@ public class PendingEventRetryJobE2ETest {
     @MockitoBean
     private ProcessedEventRepository processedEventRepository;
 
+    @MockitoBean
+    private IdempotencyGuard idempotencyGuard;
+
     private User follower;
     private User followee;
 
@@ -102,7 +106,7 @@ public class PendingEventRetryJobE2ETest {
         follow.setRetryCount(0);
         followRepository.saveAndFlush(follow);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(follow.getId()), eq(EventType.FOLLOWER_INCREASE)))
+        given(idempotencyGuard.isProcessed(eq(follow.getId()), eq(EventType.FOLLOWER_INCREASE)))
                 .willReturn(false);
 
         // when
@@ -158,7 +162,7 @@ public class PendingEventRetryJobE2ETest {
         follow.setRetryCount(0);
         followRepository.saveAndFlush(follow);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(follow.getId()), eq(EventType.FOLLOWER_INCREASE)))
+        given(idempotencyGuard.isProcessed(eq(follow.getId()), eq(EventType.FOLLOWER_INCREASE)))
                 .willReturn(false);
 
         doThrow(new RuntimeException("save processed event failed"))
@@ -188,7 +192,7 @@ public class PendingEventRetryJobE2ETest {
         follow.setRetryCount(Follow.MAX_RETRY_COUNT - 1);
         followRepository.saveAndFlush(follow);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(follow.getId()), eq(EventType.FOLLOWER_INCREASE)))
+        given(idempotencyGuard.isProcessed(eq(follow.getId()), eq(EventType.FOLLOWER_INCREASE)))
                 .willReturn(false);
 
         doThrow(new RuntimeException("save processed event failed"))
@@ -5,9 +5,9 @@ import com.codeit.mopl.domain.user.dto.response.UserDto;
 import com.codeit.mopl.domain.user.entity.Role;
 import com.codeit.mopl.domain.user.repository.UserRepository;
 import com.codeit.mopl.event.event.MailSendEvent;
-import com.codeit.mopl.exception.auth.InvalidTokenException;
 import com.codeit.mopl.exception.user.UserNotFoundException;
 import com.codeit.mopl.mail.utils.PasswordUtils;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
 import jakarta.mail.MessagingException;
 import java.time.Instant;
@@ -21,7 +21,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -78,81 +77,44 @@ public class AuthServiceTest {
         then(publisher).should(times(0)).publishEvent(any(MailSendEvent.class));
     }
 
-    @DisplayName("유효기간이 만료되지 않았으면 액세스 토큰 재발급에 성공한다")
+    @DisplayName("검증된 refresh 토큰의 클레임을 다시 파싱하지 않고 그대로 넘겨 액세스 토큰을 재발급한다")
     @Test
-    void reissueAccessTokenShouldSucceed() throws MessagingException {
+    void reissueAccessTokenShouldSucceed() {
         // given
         UUID userId = UUID.randomUUID();
         UserDto userDto = new UserDto(userId, Instant.now(), "test@test.com", "test", null, Role.USER, false);
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", userId);
-        Date exp = new Date(System.currentTimeMillis() + 2 * 60 * 1000);
-        claims.put("exp", exp);
-        given(jwtTokenProvider.generateAccessToken(claims, userDto.email())).willReturn("ACCESS_TOKEN");
+        VerifiedJwt refreshToken = verifiedRefreshToken(userId);
+        given(jwtTokenProvider.generateAccessToken(refreshToken.claims(), userDto.email())).willReturn("ACCESS_TOKEN");
 
         // when
-        String accessToken = authService.reissueAccessToken(claims, userDto);
+        String accessToken = authService.reissueAccessToken(refreshToken, userDto);
 
         // then
         assertEquals("ACCESS_TOKEN", accessToken);
+        then(jwtTokenProvider).should(never()).getClaims(any());
     }
 
-    @DisplayName("유효기간이 만료되었을 경우 액세스 토큰 재발급에 실패하고 InvalidTokenException을 반환한다.")
+    @DisplayName("검증된 refresh 토큰의 클레임을 다시 파싱하지 않고 그대로 넘겨 리프레시 토큰을 재발급한다")
     @Test
-    void reissueAccessTokenShouldFailWhenInvalidToken() throws MessagingException {
-        // given
-        UserDto userDto = new UserDto(UUID.randomUUID(), Instant.now(), "test@test.com", "test", null, Role.USER, false);
-        Map<String, Object> claims = new HashMap<>();
-        Date exp = new Date(System.currentTimeMillis() - 2 * 60 * 1000);
-        claims.put("exp", exp);
-
-        // when
-        InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> {
-            authService.reissueAccessToken(claims, userDto);
-        });
-
-        // then
-        assertEquals("검증되지 않은 토큰입니다.", exception.getErrorCode().getMessage());
-        assertEquals(HttpStatus.UNAUTHORIZED, exception.getErrorCode().getStatus());
-        assertEquals("access", exception.getDetails().get("type"));
-    }
-
-    @DisplayName("유효기간이 만료되지 않았으면 리프레시 토큰 재발급에 성공한다")
-    @Test
-    void reissueRefreshTokenShouldSucceed() throws MessagingException {
+    void reissueRefreshTokenShouldSucceed() {
         // given
         UUID userId = UUID.randomUUID();
         UserDto userDto = new UserDto(userId, Instant.now(), "test@test.com", "test", null, Role.USER, false);
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", userId);
-        Date exp = new Date(System.currentTimeMillis() + 2 * 60 * 1000);
-        claims.put("exp", exp);
-        given(jwtTokenProvider.generateRefreshToken(claims, userDto.email())).willReturn("REFRESH_TOKEN");
+        VerifiedJwt refreshToken = verifiedRefreshToken(userId);
+        given(jwtTokenProvider.generateRefreshToken(refreshToken.claims(), userDto.email())).willReturn("REFRESH_TOKEN");
 
         // when
-        String refreshToken = authService.reissueRefreshToken(claims, userDto);
+        String newRefreshToken = authService.reissueRefreshToken(refreshToken, userDto);
 
         // then
-        assertEquals("REFRESH_TOKEN", refreshToken);
+        assertEquals("REFRESH_TOKEN", newRefreshToken);
+        then(jwtTokenProvider).should(never()).getClaims(any());
     }
 
-    @DisplayName("유효기간이 만료되었을 경우 액세스 토큰 재발급에 실패하고 InvalidTokenException을 반환한다.")
-    @Test
-    void reissueRefreshTokenShouldFailWhenInvalidToken() throws MessagingException {
-        // given
-        UserDto userDto = new UserDto(UUID.randomUUID(), Instant.now(), "test@test.com", "test", null, Role.USER, false);
-        Map<String, Object> claims = new HashMap<>();
-        Date exp = new Date(System.currentTimeMillis() - 2 * 60 * 1000);
-        claims.put("exp", exp);
-
-        // when
-        InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> {
-            authService.reissueRefreshToken(claims, userDto);
-        });
-
-        // then
-        assertEquals("검증되지 않은 토큰입니다.", exception.getErrorCode().getMessage());
-        assertEquals(HttpStatus.UNAUTHORIZED, exception.getErrorCode().getStatus());
-        assertEquals("refresh", exception.getDetails().get("type"));
+    private VerifiedJwt verifiedRefreshToken(UUID userId) {
+        Instant expiresAt = Instant.now().plusSeconds(120);
+        Map<String, Object> claims = Map.of("userId", userId.toString(), "roles", "USER", "type", "refresh",
+                "exp", Date.from(expiresAt));
+        return new VerifiedJwt("refresh", "test@test.com", userId, "USER", "refresh", expiresAt, claims);
     }
 }
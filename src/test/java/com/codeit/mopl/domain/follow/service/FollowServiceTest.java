@@ -14,6 +14,7 @@ import com.codeit.mopl.event.entity.EventType;
 import com.codeit.mopl.event.entity.ProcessedEvent;
 import com.codeit.mopl.event.event.FollowerDecreaseEvent;
 import com.codeit.mopl.event.event.FollowerIncreaseEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
 import com.codeit.mopl.event.repository.ProcessedEventRepository;
 import com.codeit.mopl.exception.follow.*;
 import com.codeit.mopl.exception.user.UserNotFoundException;
@@ -59,6 +60,9 @@ class FollowServiceTest {
     @Mock
     private ProcessedEventRepository processedEventRepository;
 
+    @Mock
+    private IdempotencyGuard idempotencyGuard;
+
     @InjectMocks
     private FollowService followService;
 
@@ -210,7 +214,7 @@ class FollowServiceTest {
         ReflectionTestUtils.setField(follow, "id", followId);
         follow.setFollowStatus(FollowStatus.CONFIRM);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_INCREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_INCREASE)))
                 .willReturn(true);
 
         // when
@@ -233,7 +237,7 @@ class FollowServiceTest {
         UUID followeeId = UUID.randomUUID();
         UUID followId = UUID.randomUUID();
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_INCREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_INCREASE)))
                 .willReturn(false);
 
         given(followRepository.findByIdForUpdate(eq(followId))).willReturn(Optional.empty());
@@ -252,7 +256,7 @@ class FollowServiceTest {
         UUID followeeId = UUID.randomUUID();
         UUID followId = UUID.randomUUID();
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_INCREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_INCREASE)))
                 .willReturn(false);
 
         given(followRepository.findByIdForUpdate(eq(followId))).willReturn(Optional.of(new Follow()));
@@ -499,7 +503,7 @@ class FollowServiceTest {
         ReflectionTestUtils.setField(follow, "id", followId);
         follow.setFollowStatus(FollowStatus.CANCELLED);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
                 .willReturn(false);
 
         given(followRepository.findByIdForUpdate(eq(followId))).willReturn(Optional.of(follow));
@@ -528,7 +532,7 @@ class FollowServiceTest {
         ReflectionTestUtils.setField(follow, "id", followId);
         follow.setFollowStatus(FollowStatus.CANCELLED);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
                 .willReturn(true);
 
         // when
@@ -551,7 +555,7 @@ class FollowServiceTest {
         UUID followId = UUID.randomUUID();
         UUID followeeId = UUID.randomUUID();
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
                 .willReturn(false);
 
         given(followRepository.findByIdForUpdate(eq(followId))).willReturn(Optional.empty());
@@ -573,7 +577,7 @@ class FollowServiceTest {
         ReflectionTestUtils.setField(follow, "id", followId);
         follow.setFollowStatus(FollowStatus.CANCELLED);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
                 .willReturn(false);
 
         given(followRepository.findByIdForUpdate(eq(followId))).willReturn(Optional.of(follow));
@@ -599,7 +603,7 @@ class FollowServiceTest {
         ReflectionTestUtils.setField(follow, "id", followId);
         follow.setFollowStatus(FollowStatus.CANCELLED);
 
-        given(processedEventRepository.existsByEventIdAndEventType(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
+        given(idempotencyGuard.isProcessed(eq(followId), eq(EventType.FOLLOWER_DECREASE)))
                 .willReturn(false);
 
         given(followRepository.findByIdForUpdate(eq(followId))).willReturn(Optional.of(follow));
@@ -1,33 +1,47 @@
 package com.codeit.mopl.domain.notification.service;
 
-import com.codeit.mopl.domain.follow.entity.Follow;
+import com.codeit.mopl.domain.follow.repository.FollowRepository;
 import com.codeit.mopl.domain.notification.entity.Level;
 import com.codeit.mopl.domain.notification.mapper.NotificationMapper;
 import com.codeit.mopl.domain.notification.repository.NotificationRepository;
-import com.codeit.mopl.domain.follow.repository.FollowRepository;
+import com.codeit.mopl.domain.notification.template.NotificationLane;
+import com.codeit.mopl.domain.playlist.subscription.repository.SubscriptionRepository;
 import com.codeit.mopl.domain.user.entity.User;
 import com.codeit.mopl.domain.user.repository.UserRepository;
+import com.codeit.mopl.event.event.FollowerNotificationChunkEvent;
+import com.codeit.mopl.event.event.NotificationBulkCreateEvent;
 import com.codeit.mopl.event.event.PlayListCreateEvent;
+import com.codeit.mopl.event.event.PlaylistContentAddedEvent;
+import com.codeit.mopl.event.event.SubscriberNotificationChunkEvent;
 import com.codeit.mopl.event.event.WatchingSessionCreateEvent;
 import com.codeit.mopl.sse.service.SseService;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import static com.codeit.mopl.domain.notification.service.KeysetChunkFanout.FIRST_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FollowCreateNotificationTest {
 
+  private static final int CHUNK_SIZE = 2;
+
   @Mock
   private FollowRepository followRepository;
 
@@ -40,10 +54,6 @@ class FollowCreateNotificationTest {
   @Mock
   private NotificationMapper notificationMapper;
 
-  @Spy
-  @InjectMocks
-  private NotificationService notificationService;
-
   @Mock
   private ApplicationEventPublisher eventPublisher;
 
@@ -53,135 +63,220 @@ class FollowCreateNotificationTest {
   @Mock
   private StringRedisTemplate stringRedisTemplate;
 
+  @Mock
+  private SubscriptionRepository subscriptionRepository;
+
+  private NotificationService notificationService;
+
+  @BeforeEach
+  void setUp() {
+    KeysetChunkFanout keysetChunkFanout = new KeysetChunkFanout(eventPublisher, CHUNK_SIZE);
+    FollowerNotificationFanout followerNotificationFanout =
+        new FollowerNotificationFanout(followRepository, keysetChunkFanout);
+    SubscriberNotificationFanout subscriberNotificationFanout =
+        new SubscriberNotificationFanout(subscriptionRepository, keysetChunkFanout);
+    notificationService = new NotificationService(notificationRepository, notificationMapper, sseService,
+        userRepository, eventPublisher, stringRedisTemplate, followerNotificationFanout, subscriberNotificationFanout);
+  }
+
   @Test
-  @DisplayName("notifyFollowersOnPlaylistCreated - 팔로워 각각에게 알림이 발송된다")
-  void notifyFollowersOnPlaylistCreated_sendsNotificationsToFollowers() {
+  @DisplayName("notifyFollowersOnPlaylistCreated - 팔로워를 청크 크기로 나눠 keyset 경계마다 청크 이벤트를 발행한다")
+  void notifyFollowersOnPlaylistCreated_publishesChunks() {
     // given
     UUID ownerId = UUID.randomUUID();
     UUID playlistId = UUID.randomUUID();
     String playlistTitle = "내 플레이리스트";
+    PlayListCreateEvent event = new PlayListCreateEvent(playlistId, ownerId, playlistTitle);
 
-    PlayListCreateEvent event =
-        new PlayListCreateEvent(playlistId, ownerId, playlistTitle);
+    UUID follower1Id = UUID.randomUUID();
+    UUID follower2Id = UUID.randomUUID();
+    UUID follower3Id = UUID.randomUUID();
+    when(followRepository.findFollowerIdsAfter(ownerId, FIRST_ID, CHUNK_SIZE))
+        .thenReturn(List.of(follower1Id, follower2Id));
+    when(followRepository.findFollowerIdsAfter(ownerId, follower2Id, CHUNK_SIZE))
+        .thenReturn(List.of(follower3Id));
 
-    // 팔로워/팔로이 유저 모킹
     User followee = mock(User.class);
     when(followee.getName()).thenReturn("관리자 유저");
+    when(userRepository.findById(ownerId)).thenReturn(Optional.of(followee));
 
-    User follower1 = mock(User.class);
-    User follower2 = mock(User.class);
-    UUID follower1Id = UUID.randomUUID();
-    UUID follower2Id = UUID.randomUUID();
-    when(follower1.getId()).thenReturn(follower1Id);
-    when(follower2.getId()).thenReturn(follower2Id);
-
-    Follow follow1 = mock(Follow.class);
-    Follow follow2 = mock(Follow.class);
+    // when
+    notificationService.notifyFollowersOnPlaylistCreated(event);
 
-    when(follow1.getFollower()).thenReturn(follower1);
-    when(follow1.getFollowee()).thenReturn(followee);
+    // then
+    ArgumentCaptor<FollowerNotificationChunkEvent> captor = ArgumentCaptor.forClass(FollowerNotificationChunkEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(captor.capture());
+    List<FollowerNotificationChunkEvent> chunks = captor.getAllValues();
+
+    assertThat(chunks.get(0).afterFollowerId()).isEqualTo(FIRST_ID);
+    assertThat(chunks.get(0).lastFollowerId()).isEqualTo(follower2Id);
+    assertThat(chunks.get(1).afterFollowerId()).isEqualTo(follower2Id);
+    assertThat(chunks.get(1).lastFollowerId()).isEqualTo(follower3Id);
+    assertThat(chunks.get(0).chunkId()).isNotEqualTo(chunks.get(1).chunkId());
+
+    assertThat(chunks.get(0).title()).isEqualTo("새 플레이리스트가 추가됐어요");
+    assertThat(chunks.get(0).content()).isEqualTo("관리자 유저님이 새로운 플레이리스트 " + playlistTitle + "를 만들었어요!");
+
+    // 팔로워 엔티티 / 유저를 팔로워마다 읽지 않는다
+    verify(userRepository, times(1)).findById(any());
+    verify(followRepository, never()).findByFolloweeId(any());
+  }
 
-    when(follow2.getFollower()).thenReturn(follower2);
-    when(follow2.getFollowee()).thenReturn(followee);
+  @Test
+  @DisplayName("notifyFollowersOnWatchingEvent - 팔로워가 없으면 유저 조회도, 청크 발행도 하지 않는다")
+  void notifyFollowersOnWatchingEvent_noFollowers() {
+    // given
+    UUID ownerId = UUID.randomUUID();
+    WatchingSessionCreateEvent event =
+        new WatchingSessionCreateEvent(UUID.randomUUID(), ownerId, "실시간 콘텐츠 제목");
+    when(followRepository.findFollowerIdsAfter(ownerId, FIRST_ID, CHUNK_SIZE)).thenReturn(List.of());
 
-    when(followRepository.findByFolloweeId(ownerId))
-        .thenReturn(List.of(follow1, follow2));
+    // when
+    notificationService.notifyFollowersOnWatchingEvent(event);
 
-    // 현재 구현 로그 기준으로 기대값 맞추기
-    String expectedTitle = "새 플레이리스트가 추가됐어요";
-    String expectedContent =
-        "관리자 유저님이 새로운 플레이리스트 " + playlistTitle + "를 만들었어요!";
+    // then
+    verify(userRepository, never()).findById(any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
 
-    // createNotification 내부에서 userRepository.findById(...) 사용하므로 스텁
-    when(userRepository.findById(follower1Id))
-        .thenReturn(Optional.of(follower1));
-    when(userRepository.findById(follower2Id))
-        .thenReturn(Optional.of(follower2));
+  @Test
+  @DisplayName("deliverFollowerNotificationChunk - 범위 안의 팔로워를 페이지마다 일괄 insert 하고 캐시는 SCAN 한 번으로 비운다")
+  @SuppressWarnings("unchecked")
+  void deliverFollowerNotificationChunk_bulkInsertsPerPage() {
+    // given
+    UUID followeeId = UUID.randomUUID();
+    UUID follower1Id = UUID.randomUUID();
+    UUID follower2Id = UUID.randomUUID();
+    UUID lastId = UUID.randomUUID();
+    FollowerNotificationChunkEvent chunk = new FollowerNotificationChunkEvent(UUID.randomUUID(), followeeId,
+        FIRST_ID, lastId, "title", "content", Level.INFO);
+
+    when(followRepository.findFollowerIdsBetween(followeeId, FIRST_ID, lastId, CHUNK_SIZE))
+        .thenReturn(List.of(follower1Id, follower2Id));
+    when(followRepository.findFollowerIdsBetween(followeeId, follower2Id, lastId, CHUNK_SIZE))
+        .thenReturn(List.of());
+    when(notificationRepository.insertAll(eq(List.of(follower1Id, follower2Id)), eq("title"), eq("content"),
+        eq(Level.INFO), any())).thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+    String cachedKey = NotificationService.NOTIFICATIONS_FIRST_PAGE + "::" + follower1Id + ":20:DESCENDING:CREATED_AT";
+    String otherKey = NotificationService.NOTIFICATIONS_FIRST_PAGE + "::" + UUID.randomUUID() + ":20:DESCENDING:CREATED_AT";
+    Cursor<String> cursor = mock(Cursor.class);
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn(cachedKey, otherKey);
+    when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
 
     // when
-    notificationService.notifyFollowersOnPlaylistCreated(event);
+    notificationService.deliverFollowerNotificationChunk(chunk);
 
     // then
-    verify(followRepository, times(1)).findByFolloweeId(ownerId);
-
-    // 각 팔로워에게 알림이 한 번씩 발행되는지 검증
-    verify(notificationService, times(1))
-        .createNotification(
-            eq(follower1Id),
-            eq(expectedTitle),
-            eq(expectedContent),
-            eq(Level.INFO)
-        );
-
-    verify(notificationService, times(1))
-        .createNotification(
-            eq(follower2Id),
-            eq(expectedTitle),
-            eq(expectedContent),
-            eq(Level.INFO)
-        );
+    verify(notificationRepository, times(1)).insertAll(any(), any(), any(), any(), any());
+    verify(userRepository, never()).findById(any());
+    verify(stringRedisTemplate, never()).keys(any());
+    verify(stringRedisTemplate).delete(List.of(cachedKey));
+
+    // 수신자마다가 아니라 페이지마다 이벤트 하나
+    ArgumentCaptor<NotificationBulkCreateEvent> captor = ArgumentCaptor.forClass(NotificationBulkCreateEvent.class);
+    verify(eventPublisher, times(1)).publishEvent(captor.capture());
+    assertThat(captor.getValue().lane()).isEqualTo(NotificationLane.BULK);
+    assertThat(captor.getValue().notifications())
+        .extracting(notificationDto -> notificationDto.receiverId())
+        .containsExactly(follower1Id, follower2Id);
+    verify(followRepository, never()).findFollowerIdsAfter(any(), any(), anyInt());
   }
 
   @Test
-  @DisplayName("notifyFollowersOnWatchingEvent - 팔로워 각각에게 알림이 발송된다")
-  void notifyFollowersOnWatchingEvent_sendsNotificationsToFollowers() {
+  @DisplayName("notifySubscribersOnContentAdded - 구독자를 청크 크기로 나눠 keyset 경계마다 청크 이벤트만 발행한다")
+  void notifySubscribersOnContentAdded_publishesChunks() {
     // given
+    UUID eventId = UUID.randomUUID();
+    UUID playlistId = UUID.randomUUID();
     UUID ownerId = UUID.randomUUID();
-    UUID watchingSessionId = UUID.randomUUID();
-    String contentTitle = "실시간 콘텐츠 제목";
+    UUID subscriber1Id = UUID.randomUUID();
+    UUID subscriber2Id = UUID.randomUUID();
+    UUID subscriber3Id = UUID.randomUUID();
+    PlaylistContentAddedEvent event = new PlaylistContentAddedEvent(eventId, playlistId, ownerId, "title", "content");
 
-    WatchingSessionCreateEvent event =
-        new WatchingSessionCreateEvent(watchingSessionId, ownerId, contentTitle);
-
-    User followee = mock(User.class);
-    when(followee.getName()).thenReturn("관리자 유저");
+    when(subscriptionRepository.findSubscriberIdsAfter(playlistId, FIRST_ID, CHUNK_SIZE))
+        .thenReturn(List.of(subscriber1Id, subscriber2Id));
+    when(subscriptionRepository.findSubscriberIdsAfter(playlistId, subscriber2Id, CHUNK_SIZE))
+        .thenReturn(List.of(subscriber3Id));
 
-    User follower1 = mock(User.class);
-    User follower2 = mock(User.class);
-    UUID follower1Id = UUID.randomUUID();
-    UUID follower2Id = UUID.randomUUID();
-    when(follower1.getId()).thenReturn(follower1Id);
-    when(follower2.getId()).thenReturn(follower2Id);
+    // when
+    notificationService.notifySubscribersOnContentAdded(event);
 
-    Follow follow1 = mock(Follow.class);
-    Follow follow2 = mock(Follow.class);
+    // then
+    ArgumentCaptor<SubscriberNotificationChunkEvent> captor =
+        ArgumentCaptor.forClass(SubscriberNotificationChunkEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(captor.capture());
+    List<SubscriberNotificationChunkEvent> chunks = captor.getAllValues();
+
+    assertThat(chunks.get(0).afterSubscriberId()).isEqualTo(FIRST_ID);
+    assertThat(chunks.get(0).lastSubscriberId()).isEqualTo(subscriber2Id);
+    assertThat(chunks.get(1).afterSubscriberId()).isEqualTo(subscriber2Id);
+    assertThat(chunks.get(1).lastSubscriberId()).isEqualTo(subscriber3Id);
+    assertThat(chunks.get(0).chunkId()).isNotEqualTo(chunks.get(1).chunkId());
+    assertThat(chunks.get(0).ownerId()).isEqualTo(ownerId);
+    assertThat(chunks.get(0).title()).isEqualTo("title");
+
+    // 원본 이벤트 처리에서는 insert 하지 않는다
+    verify(notificationRepository, never()).insertAll(any(), any(), any(), any(), any());
+    verify(subscriptionRepository, never()).findByPlaylistId(any());
+  }
 
-    when(follow1.getFollower()).thenReturn(follower1);
-    when(follow1.getFollowee()).thenReturn(followee);
+  @Test
+  @DisplayName("notifySubscribersOnContentAdded - 같은 원본 이벤트를 다시 처리하면 같은 청크 id 가 나온다")
+  void notifySubscribersOnContentAdded_deterministicChunkIds() {
+    // given
+    UUID playlistId = UUID.randomUUID();
+    PlaylistContentAddedEvent event =
+        new PlaylistContentAddedEvent(UUID.randomUUID(), playlistId, UUID.randomUUID(), "title", "content");
+    when(subscriptionRepository.findSubscriberIdsAfter(playlistId, FIRST_ID, CHUNK_SIZE))
+        .thenReturn(List.of(UUID.randomUUID()));
 
-    when(follow2.getFollower()).thenReturn(follower2);
-    when(follow2.getFollowee()).thenReturn(followee);
+    // when
+    notificationService.notifySubscribersOnContentAdded(event);
+    notificationService.notifySubscribersOnContentAdded(event);
 
-    when(followRepository.findByFolloweeId(ownerId))
-        .thenReturn(List.of(follow1, follow2));
+    // then
+    ArgumentCaptor<SubscriberNotificationChunkEvent> captor =
+        ArgumentCaptor.forClass(SubscriberNotificationChunkEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(captor.capture());
+    assertThat(captor.getAllValues().get(0).chunkId()).isEqualTo(captor.getAllValues().get(1).chunkId());
+  }
 
-    // createNotification 내부에서 userRepository.findById(...) 사용하므로 스텁
-    when(userRepository.findById(follower1Id))
-        .thenReturn(Optional.of(follower1));
-    when(userRepository.findById(follower2Id))
-        .thenReturn(Optional.of(follower2));
+  @Test
+  @DisplayName("deliverSubscriberNotificationChunk - 범위 안의 구독자를 소유자만 빼고 일괄 insert 한다")
+  @SuppressWarnings("unchecked")
+  void deliverSubscriberNotificationChunk_bulkInsertsWithoutOwner() {
+    // given
+    UUID playlistId = UUID.randomUUID();
+    UUID ownerId = UUID.randomUUID();
+    UUID subscriberId = UUID.randomUUID();
+    SubscriberNotificationChunkEvent chunk = new SubscriberNotificationChunkEvent(UUID.randomUUID(), playlistId,
+        ownerId, FIRST_ID, subscriberId, "title", "content", Level.INFO);
+
+    when(subscriptionRepository.findSubscriberIdsBetween(playlistId, FIRST_ID, subscriberId, CHUNK_SIZE))
+        .thenReturn(List.of(ownerId, subscriberId));
+    when(subscriptionRepository.findSubscriberIdsBetween(playlistId, subscriberId, subscriberId, CHUNK_SIZE))
+        .thenReturn(List.of());
+    when(notificationRepository.insertAll(eq(List.of(subscriberId)), eq("title"), eq("content"),
+        eq(Level.INFO), any())).thenReturn(List.of(UUID.randomUUID()));
+    Cursor<String> cursor = mock(Cursor.class);
+    when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
 
     // when
-    notificationService.notifyFollowersOnWatchingEvent(event);
+    notificationService.deliverSubscriberNotificationChunk(chunk);
 
     // then
-    verify(followRepository, times(1)).findByFolloweeId(ownerId);
-
-    // 시청 알림은 메시지 포맷이 바뀔 수 있으니, content 안에 contentTitle 이 포함되는지만 확인
-    verify(notificationService, times(1))
-        .createNotification(
-            eq(follower1Id),
-            anyString(),
-            contains(contentTitle),
-            eq(Level.INFO)
-        );
-
-    verify(notificationService, times(1))
-        .createNotification(
-            eq(follower2Id),
-            anyString(),
-            contains(contentTitle),
-            eq(Level.INFO)
-        );
+    verify(notificationRepository, times(1)).insertAll(any(), any(), any(), any(), any());
+    verify(userRepository, never()).findById(any());
+
+    ArgumentCaptor<NotificationBulkCreateEvent> captor = ArgumentCaptor.forClass(NotificationBulkCreateEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue().lane()).isEqualTo(NotificationLane.BULK);
+    assertThat(captor.getValue().notifications())
+        .extracting(notificationDto -> notificationDto.receiverId())
+        .containsExactly(subscriberId);
+    verify(subscriptionRepository, never()).findSubscriberIdsAfter(any(), any(), anyInt());
   }
 }
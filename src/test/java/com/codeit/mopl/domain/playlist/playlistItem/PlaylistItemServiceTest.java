@@ -3,29 +3,29 @@ package com.codeit.mopl.domain.playlist.playlistItem;
 import com.codeit.mopl.domain.base.BaseEntity;
 import com.codeit.mopl.domain.content.entity.Content;
 import com.codeit.mopl.domain.content.repository.ContentRepository;
-import com.codeit.mopl.domain.notification.entity.Level;
-import com.codeit.mopl.domain.notification.service.NotificationService;
 import com.codeit.mopl.domain.playlist.entity.Playlist;
 import com.codeit.mopl.domain.playlist.playlistitem.entity.PlaylistItem;
 import com.codeit.mopl.domain.playlist.playlistitem.repository.PlaylistItemRepository;
 import com.codeit.mopl.domain.playlist.playlistitem.service.PlaylistItemService;
 import com.codeit.mopl.domain.playlist.repository.PlaylistRepository;
-import com.codeit.mopl.domain.playlist.subscription.entity.Subscription;
-import com.codeit.mopl.domain.playlist.subscription.repository.SubscriptionRepository;
 import com.codeit.mopl.domain.user.entity.User;
+import com.codeit.mopl.event.event.PlaylistContentAddedEvent;
 import com.codeit.mopl.exception.playlist.PlaylistNotFoundException;
 import com.codeit.mopl.exception.playlist.PlaylistUpdateForbiddenException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.lang.reflect.Field;
 import java.util.*;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -39,8 +39,7 @@ public class PlaylistItemServiceTest {
     @Mock private PlaylistItemRepository playlistItemRepository;
     @Mock private PlaylistRepository playlistRepository;
     @Mock private ContentRepository contentRepository;
-    @Mock private SubscriptionRepository subscriptionRepository;
-    @Mock private NotificationService notificationService;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private PlaylistItemService playlistItemService;
 
@@ -67,20 +66,8 @@ public class PlaylistItemServiceTest {
             Content content = new Content();
             content.setTitle("테스트 콘텐츠");
 
-            UUID subscriberId = UUID.randomUUID();
-            User subscriber = new User();
-            setId(subscriber, subscriberId);
-
-            Subscription subscription = Subscription.builder()
-                    .playlist(playlist)
-                    .subscriber(subscriber)
-                    .build();
-
             given(playlistRepository.findById(playlistId)).willReturn(Optional.ofNullable(playlist));
             given(contentRepository.findById(contentId)).willReturn(Optional.ofNullable(content));
-            given(subscriptionRepository.findByPlaylistId(playlistId))
-                    .willReturn(List.of(subscription));
-            PlaylistItem playlistItem = new PlaylistItem(playlist, content);
 
             //when
             playlistItemService.addContent(playlistId, contentId, ownerId);
@@ -88,13 +75,15 @@ public class PlaylistItemServiceTest {
             //then
             verify(playlistRepository).findById(playlistId);
             verify(contentRepository).findById(contentId);
-            verify(subscriptionRepository).findByPlaylistId(playlistId);
-            verify(notificationService).createNotification(
-                    eq(subscriberId),
-                    eq("구독한 플레이리스트에 새로운 콘텐츠 추가"),
-                    any(String.class),
-                    eq(Level.INFO)
-            );
+
+            // 구독자 수와 상관없이 이벤트 하나만 발행한다
+            ArgumentCaptor<PlaylistContentAddedEvent> captor = ArgumentCaptor.forClass(PlaylistContentAddedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            PlaylistContentAddedEvent event = captor.getValue();
+            assertThat(event.eventId()).isNotNull();
+            assertThat(event.playlistId()).isEqualTo(playlistId);
+            assertThat(event.ownerId()).isEqualTo(ownerId);
+            assertThat(event.title()).isEqualTo("구독한 플레이리스트에 새로운 콘텐츠 추가");
         }
 
         @Test
@@ -112,8 +101,7 @@ public class PlaylistItemServiceTest {
                     () -> playlistItemService.addContent(nonExistentPlaylistId, contentId, ownerId));
             verify(playlistRepository).findById(nonExistentPlaylistId);
             verify(playlistItemRepository,never()).save(any());
-            verify(subscriptionRepository, never()).findByPlaylistId(any());
-            verify(notificationService, never()).createNotification(any(), any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
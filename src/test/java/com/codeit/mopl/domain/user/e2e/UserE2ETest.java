@@ -78,7 +78,7 @@ public class UserE2ETest {
     private PasswordUtils passwordUtils;
 
     @MockitoBean
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @MockitoSpyBean
     private OAuth2UserService oAuth2UserService;
@@ -92,7 +92,7 @@ public class UserE2ETest {
         willDoNothing().given(javaMailSender).send(any(MimeMessage.class));
         given(kafkaTemplate.send(any(ProducerRecord.class)))
                 .willAnswer(invocation -> {
-                    ProducerRecord<String, String> record = invocation.getArgument(0);
+                    ProducerRecord<String, byte[]> record = invocation.getArgument(0);
                     MailSendEvent event = objectMapper.readValue(
                             record.value(),
                             MailSendEvent.class
@@ -14,6 +14,7 @@ import com.codeit.mopl.exception.user.UserEmailAlreadyExistsException;
 import com.codeit.mopl.exception.user.UserNotFoundException;
 import com.codeit.mopl.mail.utils.PasswordUtils;
 import com.codeit.mopl.s3.S3Storage;
+import com.codeit.mopl.security.UserPrincipalCache;
 import com.codeit.mopl.security.jwt.registry.JwtRegistry;
 import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
@@ -72,6 +73,9 @@ public class UserServiceTest {
     @Mock
     private PasswordUtils passwordUtils;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -175,6 +179,7 @@ public class UserServiceTest {
 
         // then
         assertEquals(true, findUser.isLocked());
+        verify(userPrincipalCache).evict(userId);
     }
 
     @DisplayName("유저의 이름 혹은 프로필 이미지가 주어졌을때 null이 아닌 값을 추가하거나 변경한다.")
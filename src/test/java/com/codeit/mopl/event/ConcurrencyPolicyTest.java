@@ -0,0 +1,62 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.autoscale.ConcurrencyPolicy;
+import com.codeit.mopl.event.autoscale.ConcurrencyPolicy.ScalingDecision;
+import com.codeit.mopl.event.autoscale.KafkaAutoscaleProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyPolicyTest {
+
+  private final ConcurrencyPolicy concurrencyPolicy = new ConcurrencyPolicy(new KafkaAutoscaleProperties(
+      true, List.of("notification-create-batch"), 1, 12, 1000, 100, 3, Duration.ofMillis(500), Duration.ofMinutes(2)));
+
+  @Test
+  @DisplayName("lag 이 스레드 당 허용치를 넘으면 절반만큼 늘린다")
+  void highLag_scalesUp() {
+    ScalingDecision decision = concurrencyPolicy.decide(4, 10_000, 50, 0, false, 12);
+
+    assertThat(decision.reason()).isEqualTo("up");
+    assertThat(decision.target()).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("늘릴 때 할당된 파티션 수를 넘지 않는다")
+  void highLag_cappedByPartitions() {
+    ScalingDecision decision = concurrencyPolicy.decide(3, 10_000, 50, 0, false, 3);
+
+    assertThat(decision.reason()).isEqualTo("max");
+    assertThat(decision.target()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("핸들러 처리 시간이 상한을 넘으면 lag 이 커도 늘리지 않는다")
+  void slowHandler_holds() {
+    ScalingDecision decision = concurrencyPolicy.decide(3, 10_000, 900, 0, false, 12);
+
+    assertThat(decision.reason()).isEqualTo("latency");
+    assertThat(decision.target()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("lag 이 낮은 상태가 연속으로 유지되어야 하나 줄인다")
+  void lowLag_scalesDownAfterStreak() {
+    assertThat(concurrencyPolicy.decide(3, 10, 10, 2, false, 12).reason()).isEqualTo("steady");
+
+    ScalingDecision decision = concurrencyPolicy.decide(3, 10, 10, 3, false, 12);
+    assertThat(decision.reason()).isEqualTo("down");
+    assertThat(decision.target()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("최소 concurrency 아래로는 줄이지 않고, 쿨다운 중에는 조정하지 않는다")
+  void bounds_andCooldown() {
+    assertThat(concurrencyPolicy.decide(1, 0, 0, 10, false, 12).target()).isEqualTo(1);
+    assertThat(concurrencyPolicy.decide(3, 10_000, 50, 0, true, 12).reason()).isEqualTo("cooldown");
+  }
+}
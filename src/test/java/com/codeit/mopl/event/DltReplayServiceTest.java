@@ -0,0 +1,177 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.dto.DltReplayResult;
+import com.codeit.mopl.event.retry.DltReplayService;
+import com.codeit.mopl.event.retry.KafkaRetryTopics;
+import com.codeit.mopl.exception.global.InvalidInputValueException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DltReplayServiceTest {
+
+  private static final String TOPIC = "mopl-mail-send";
+  private static final String DLT = TOPIC + KafkaRetryTopics.DLT_SUFFIX;
+
+  @Mock
+  private ConsumerFactory<String, byte[]> consumerFactory;
+
+  @Mock
+  private Consumer<String, byte[]> consumer;
+
+  @Mock
+  private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  private DltReplayService dltReplayService;
+
+  @BeforeEach
+  void setUp() {
+    dltReplayService = new DltReplayService(consumerFactory, kafkaTemplate, new SimpleMeterRegistry(),
+        1000, Duration.ofMillis(100), Duration.ofSeconds(1));
+  }
+
+  @Test
+  @DisplayName("DLT 레코드를 DLT / 시도 횟수 헤더만 빼고 원본 토픽으로 보낸 뒤 오프셋을 커밋한다")
+  @SuppressWarnings("unchecked")
+  void replay_republishesWithOriginalHeaders() {
+    // given
+    givenDltRecords(dltRecord(5L, "key-1"));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    DltReplayResult result = dltReplayService.replay(TOPIC, 100);
+
+    // then
+    assertThat(result.replayed()).isEqualTo(1);
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    ProducerRecord<String, byte[]> record = captor.getValue();
+    assertThat(record.topic()).isEqualTo(TOPIC);
+    assertThat(record.key()).isEqualTo("key-1");
+    assertThat(new String(record.headers().lastHeader("x-trace-id").value(), StandardCharsets.UTF_8))
+        .isEqualTo("trace-1");
+    assertThat(record.headers().lastHeader("kafka_dlt-original-topic")).isNull();
+    assertThat(record.headers().lastHeader(KafkaRetryTopics.ATTEMPT_HEADER)).isNull();
+    verify(consumer).commitSync(Map.of(new TopicPartition(DLT, 0), new OffsetAndMetadata(6L)));
+  }
+
+  @Test
+  @DisplayName("limit 만큼만 재발행하고 그 위치까지만 커밋한다")
+  @SuppressWarnings("unchecked")
+  void replay_stopsAtLimit() {
+    // given
+    givenDltRecords(dltRecord(0L, "key-1"), dltRecord(1L, "key-2"));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    DltReplayResult result = dltReplayService.replay(TOPIC, 1);
+
+    // then
+    assertThat(result.replayed()).isEqualTo(1);
+    verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+    verify(consumer).commitSync(Map.of(new TopicPartition(DLT, 0), new OffsetAndMetadata(1L)));
+  }
+
+  @Test
+  @DisplayName("재발행에 실패하면 오프셋을 커밋하지 않는다")
+  @SuppressWarnings("unchecked")
+  void replay_sendFailure_doesNotCommit() {
+    // given
+    givenDltRecords(dltRecord(0L, "key-1"));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SEND_FAIL")));
+
+    // when & then
+    assertThatThrownBy(() -> dltReplayService.replay(TOPIC, 100))
+        .isInstanceOf(IllegalStateException.class);
+    verify(consumer, never()).commitSync(anyMap());
+  }
+
+  @Test
+  @DisplayName("재시도 토픽이 없는 배치 리스너 토픽의 DLT 도 재발행한다")
+  @SuppressWarnings("unchecked")
+  void replay_batchListenerTopic() {
+    // given
+    String topic = "mopl-notification-create";
+    String dlt = topic + KafkaRetryTopics.DLT_SUFFIX;
+    when(consumerFactory.createConsumer(eq("mopl-dlt-replay"), isNull(), isNull(), any(Properties.class)))
+        .thenReturn(consumer);
+    when(consumer.partitionsFor(dlt)).thenReturn(List.of(new PartitionInfo(dlt, 0, null, null, null)));
+    when(consumer.poll(any(Duration.class)))
+        .thenReturn(new ConsumerRecords<>(Map.of(new TopicPartition(dlt, 0),
+            List.of(new ConsumerRecord<>(dlt, 0, 3L, "key-1", "{}".getBytes(StandardCharsets.UTF_8))))))
+        .thenReturn(ConsumerRecords.empty());
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    DltReplayResult result = dltReplayService.replay(topic, 100);
+
+    // then
+    assertThat(result.replayed()).isEqualTo(1);
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    assertThat(captor.getValue().topic()).isEqualTo(topic);
+    verify(consumer).commitSync(Map.of(new TopicPartition(dlt, 0), new OffsetAndMetadata(4L)));
+  }
+
+  @Test
+  @DisplayName("DLT 로 레코드를 보내지 않는 토픽은 InvalidInputValueException")
+  void replay_unknownTopic() {
+    assertThatThrownBy(() -> dltReplayService.replay("mopl-unknown", 100))
+        .isInstanceOf(InvalidInputValueException.class);
+    verifyNoInteractions(consumerFactory, kafkaTemplate);
+  }
+
+  @SafeVarargs
+  private void givenDltRecords(ConsumerRecord<String, byte[]>... records) {
+    when(consumerFactory.createConsumer(eq("mopl-dlt-replay"), isNull(), isNull(), any(Properties.class)))
+        .thenReturn(consumer);
+    when(consumer.partitionsFor(DLT)).thenReturn(List.of(new PartitionInfo(DLT, 0, null, null, null)));
+    when(consumer.poll(any(Duration.class)))
+        .thenReturn(new ConsumerRecords<>(Map.of(new TopicPartition(DLT, 0), List.of(records))))
+        .thenReturn(ConsumerRecords.empty());
+  }
+
+  private ConsumerRecord<String, byte[]> dltRecord(long offset, String key) {
+    ConsumerRecord<String, byte[]> record =
+        new ConsumerRecord<>(DLT, 0, offset, key, "{}".getBytes(StandardCharsets.UTF_8));
+    record.headers().add("x-trace-id", "trace-1".getBytes(StandardCharsets.UTF_8));
+    record.headers().add("kafka_dlt-original-topic", TOPIC.getBytes(StandardCharsets.UTF_8));
+    record.headers().add(KafkaRetryTopics.ATTEMPT_HEADER, "4".getBytes(StandardCharsets.UTF_8));
+    return record;
+  }
+}
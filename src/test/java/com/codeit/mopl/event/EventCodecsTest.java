@@ -0,0 +1,92 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.domain.notification.dto.NotificationDto;
+import com.codeit.mopl.domain.notification.entity.Level;
+import com.codeit.mopl.event.codec.EncodedEvent;
+import com.codeit.mopl.event.codec.EventCodecs;
+import com.codeit.mopl.event.event.NotificationCreateEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCodecsTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private final NotificationCreateEvent event = new NotificationCreateEvent(new NotificationDto(
+      UUID.randomUUID(), Instant.parse("2026-01-01T00:00:00Z"), UUID.randomUUID(),
+      "새 플레이리스트", "팔로우한 사용자가 새 플레이리스트를 만들었습니다.", Level.INFO));
+
+  @Test
+  @DisplayName("Smile 로 인코딩한 이벤트를 헤더의 코덱으로 다시 읽는다")
+  void smile_roundTrip() throws Exception {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    EventCodecs eventCodecs = new EventCodecs(objectMapper, meterRegistry, EventCodecs.SMILE_V1);
+
+    // when
+    EncodedEvent encoded = eventCodecs.encode(event);
+    NotificationCreateEvent decoded = eventCodecs.decode(record(encoded.payload(), encoded.codec()),
+        NotificationCreateEvent.class);
+
+    // then
+    assertThat(encoded.codec()).isEqualTo(EventCodecs.SMILE_V1);
+    assertThat(decoded).isEqualTo(event);
+    assertThat(meterRegistry.get("kafka.event.payload.bytes")
+        .tag("codec", EventCodecs.SMILE_V1).summary().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("코덱 헤더가 없는 레코드는 JSON 으로 읽는다")
+  void missingHeader_decodesAsJson() throws Exception {
+    // given
+    EventCodecs eventCodecs = new EventCodecs(objectMapper, new SimpleMeterRegistry(), EventCodecs.SMILE_V1);
+    byte[] json = objectMapper.writeValueAsBytes(event);
+
+    // when
+    NotificationCreateEvent decoded = eventCodecs.decode(record(json, null), NotificationCreateEvent.class);
+
+    // then
+    assertThat(decoded).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("Smile 페이로드는 같은 이벤트의 JSON 보다 작다")
+  void smile_isSmallerThanJson() throws Exception {
+    // given
+    EventCodecs json = new EventCodecs(objectMapper, new SimpleMeterRegistry(), EventCodecs.JSON);
+    EventCodecs smile = new EventCodecs(objectMapper, new SimpleMeterRegistry(), EventCodecs.SMILE_V1);
+
+    // when & then
+    assertThat(smile.encode(event).payload().length).isLessThan(json.encode(event).payload().length);
+  }
+
+  @Test
+  @DisplayName("알 수 없는 코덱 헤더는 IllegalArgumentException")
+  void unknownCodec_throws() {
+    // given
+    EventCodecs eventCodecs = new EventCodecs(objectMapper, new SimpleMeterRegistry(), EventCodecs.JSON);
+
+    // when & then
+    assertThatThrownBy(() -> eventCodecs.decode(record(new byte[0], "avro-v1"), NotificationCreateEvent.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ConsumerRecord<String, byte[]> record(byte[] payload, String codec) {
+    ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("mopl-notification-create", 0, 0L, null, payload);
+    if (codec != null) {
+      record.headers().add(new RecordHeader(EventCodecs.CODEC_HEADER, codec.getBytes(StandardCharsets.UTF_8)));
+    }
+    return record;
+  }
+}
@@ -1,11 +1,12 @@
 package com.codeit.mopl.event;
 
 import com.codeit.mopl.domain.follow.service.FollowService;
+import com.codeit.mopl.event.codec.EventCodecs;
 import com.codeit.mopl.event.consumer.FollowEventKafkaConsumer;
 import com.codeit.mopl.event.event.FollowerDecreaseEvent;
 import com.codeit.mopl.event.event.FollowerIncreaseEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -30,7 +32,7 @@ class FollowEventKafkaConsumerTest {
     FollowService followService;
 
     @Mock
-    ObjectMapper objectMapper;
+    EventCodecs eventCodecs;
 
     @Mock
     private Acknowledgment ack;
@@ -39,12 +41,12 @@ class FollowEventKafkaConsumerTest {
     @DisplayName("팔로워 증가 이벤트 처리 성공")
     void onFollowerIncrease_Success() throws Exception {
         // given
-        String json = "{...}";
+        ConsumerRecord<String, byte[]> json = record("{...}");
         UUID followId = UUID.randomUUID();
         UUID followeeId = UUID.randomUUID();
         FollowerIncreaseEvent event = new FollowerIncreaseEvent(followId, followeeId);
 
-        given(objectMapper.readValue(json, FollowerIncreaseEvent.class)).willReturn(event);
+        given(eventCodecs.decode(json, FollowerIncreaseEvent.class)).willReturn(event);
 
         // when
         followEventKafkaConsumer.onFollowerIncrease(json, ack);
@@ -58,8 +60,8 @@ class FollowEventKafkaConsumerTest {
     @DisplayName("팔로워 증가 이벤트 처리 실패 - JSON 역직렬화 실패 시 팔로워 증가시키지 않고 ack 호출")
     void onFollowerIncrease_JsonDeserializeFail() throws Exception {
         // given
-        String json = "{invalid json}";
-        given(objectMapper.readValue(json, FollowerIncreaseEvent.class))
+        ConsumerRecord<String, byte[]> json = record("{invalid json}");
+        given(eventCodecs.decode(json, FollowerIncreaseEvent.class))
                 .willThrow(JsonProcessingException.class);
 
         // when
@@ -74,12 +76,12 @@ class FollowEventKafkaConsumerTest {
     @DisplayName("팔로워 증가 이벤트 처리 실패 - 서비스 예외 발생시 ack 호출하지 않음")
     void onFollowerIncrease_ServiceFail_ShouldThrowException() throws Exception {
         // given
-        String json = "{...}";
+        ConsumerRecord<String, byte[]> json = record("{...}");
         UUID followId = UUID.randomUUID();
         UUID followeeId = UUID.randomUUID();
         FollowerIncreaseEvent event = new FollowerIncreaseEvent(followId, followeeId);
 
-        given(objectMapper.readValue(json, FollowerIncreaseEvent.class))
+        given(eventCodecs.decode(json, FollowerIncreaseEvent.class))
                 .willReturn(event);
 
         doThrow(new RuntimeException("service error"))
@@ -97,12 +99,12 @@ class FollowEventKafkaConsumerTest {
     @DisplayName("팔로워 감소 이벤트 처리 성공")
     void onFollowerDecrease_Success() throws Exception {
         // given
-        String json = "{...}";
+        ConsumerRecord<String, byte[]> json = record("{...}");
         UUID followId = UUID.randomUUID();
         UUID followeeId = UUID.randomUUID();
         FollowerDecreaseEvent event = new FollowerDecreaseEvent(followId, followeeId);
 
-        given(objectMapper.readValue(json, FollowerDecreaseEvent.class))
+        given(eventCodecs.decode(json, FollowerDecreaseEvent.class))
                 .willReturn(event);
 
         // when
@@ -117,8 +119,8 @@ class FollowEventKafkaConsumerTest {
     @DisplayName("팔로워 감소 이벤트 처리 실패 - JSON 역직렬화 실패 시 팔로워 감소시키지 않고 ack 호출")
     void onFollowerDecrease_JsonDeserializeFail() throws Exception {
         // given
-        String json = "{invalid json}";
-        given(objectMapper.readValue(json, FollowerDecreaseEvent.class))
+        ConsumerRecord<String, byte[]> json = record("{invalid json}");
+        given(eventCodecs.decode(json, FollowerDecreaseEvent.class))
                 .willThrow(JsonProcessingException.class);
 
         // when
@@ -133,12 +135,12 @@ class FollowEventKafkaConsumerTest {
     @DisplayName("팔로워 감소 이벤트 처리 실패 - 서비스 예외 발생 시 ack 호출하지 않음")
     void onFollowerDecrease_ServiceFail_ShouldThrowException() throws Exception {
         // given
-        String json = "{...}";
+        ConsumerRecord<String, byte[]> json = record("{...}");
         UUID followId = UUID.randomUUID();
         UUID followeeId = UUID.randomUUID();
         FollowerDecreaseEvent event = new FollowerDecreaseEvent(followId, followeeId);
 
-        given(objectMapper.readValue(json, FollowerDecreaseEvent.class))
+        given(eventCodecs.decode(json, FollowerDecreaseEvent.class))
                 .willReturn(event);
 
         doThrow(new RuntimeException("service error"))
@@ -151,4 +153,8 @@ class FollowEventKafkaConsumerTest {
 
         verify(ack, never()).acknowledge();
     }
-}
\ No newline at end of file
+
+    private static ConsumerRecord<String, byte[]> record(String value) {
+        return new ConsumerRecord<>("mopl-test", 0, 0L, null, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.entity.EventType;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
+import com.codeit.mopl.event.idempotency.ProcessedEventRetentionProperties;
+import com.codeit.mopl.event.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyGuardTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private ProcessedEventRepository processedEventRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private IdempotencyGuard idempotencyGuard;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    idempotencyGuard = new IdempotencyGuard(stringRedisTemplate, processedEventRepository, meterRegistry,
+        Duration.ofDays(7), new ProcessedEventRetentionProperties(true, Duration.ofDays(7), null, 5000, 100));
+  }
+
+  @Test
+  @DisplayName("TTL 이 가장 긴 보관 기간보다 짧으면 기동하지 않는다")
+  void ttlShorterThanRetentionWindow_failsFast() {
+    ProcessedEventRetentionProperties properties = new ProcessedEventRetentionProperties(true, Duration.ofDays(7),
+        Map.of(EventType.MAIL_SEND, Duration.ofDays(14)), 5000, 100);
+
+    assertThatThrownBy(() -> new IdempotencyGuard(stringRedisTemplate, processedEventRepository, meterRegistry,
+        Duration.ofDays(7), properties))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("처음 보는 이벤트는 테이블을 조회하지 않는다")
+  void firstSeen_skipsTable() {
+    // given
+    UUID eventId = UUID.randomUUID();
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.setIfAbsent(eq("idempotency:MAIL_SEND:" + eventId), eq("1"), any(Duration.class)))
+        .willReturn(true);
+
+    // when
+    boolean processed = idempotencyGuard.isProcessed(eventId, EventType.MAIL_SEND);
+
+    // then
+    assertThat(processed).isFalse();
+    verify(processedEventRepository, never()).existsByEventIdAndEventType(any(), any());
+    assertThat(meterRegistry.counter("idempotency.checks", "result", "first_seen").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("선점에 실패하면 테이블을 기준으로 판단한다")
+  void claimFailed_checksTable() {
+    // given
+    UUID eventId = UUID.randomUUID();
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.setIfAbsent(any(), any(), any(Duration.class))).willReturn(false);
+    given(processedEventRepository.existsByEventIdAndEventType(eventId, EventType.MAIL_SEND)).willReturn(false);
+
+    // when
+    boolean processed = idempotencyGuard.isProcessed(eventId, EventType.MAIL_SEND);
+
+    // then
+    assertThat(processed).isFalse();
+    assertThat(meterRegistry.counter("idempotency.checks", "result", "false_positive").count()).isEqualTo(1);
+    assertThat(meterRegistry.get("idempotency.false_positive.ratio").gauge().value()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("processed_events.lookup")
+        .tags("event_type", "MAIL_SEND", "mode", "single").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Redis 가 동작하지 않으면 테이블만으로 판단한다")
+  void redisDown_fallsBackToTable() {
+    // given
+    UUID eventId = UUID.randomUUID();
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+        .willThrow(new RedisConnectionFailureException("redis down"));
+    given(processedEventRepository.existsByEventIdAndEventType(eventId, EventType.MAIL_SEND)).willReturn(true);
+
+    // when
+    boolean processed = idempotencyGuard.isProcessed(eventId, EventType.MAIL_SEND);
+
+    // then
+    assertThat(processed).isTrue();
+    assertThat(meterRegistry.counter("idempotency.checks", "result", "fallback").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("배치 확인은 선점에 실패한 ID 만 테이블에서 조회한다")
+  @SuppressWarnings("unchecked")
+  void findProcessed_queriesOnlyCandidates() {
+    // given
+    UUID fresh = UUID.randomUUID();
+    UUID seen = UUID.randomUUID();
+    given(stringRedisTemplate.executePipelined(any(SessionCallback.class))).willReturn(List.of(true, false));
+    given(processedEventRepository.findProcessedEventIds(EventType.NOTIFICATION_CREATED, List.of(seen)))
+        .willReturn(List.of(seen));
+
+    // when
+    Set<UUID> processed = idempotencyGuard.findProcessed(EventType.NOTIFICATION_CREATED, List.of(fresh, seen));
+
+    // then
+    assertThat(processed).containsExactly(seen);
+    assertThat(meterRegistry.counter("idempotency.checks", "result", "first_seen").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("idempotency.checks", "result", "duplicate").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("processed_events.dedupe.hits", "event_type", "NOTIFICATION_CREATED").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("배치의 모든 ID 선점에 성공하면 테이블을 조회하지 않는다")
+  @SuppressWarnings("unchecked")
+  void findProcessed_allFresh_skipsTable() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(SessionCallback.class))).willReturn(List.of(true, true));
+
+    // when
+    Set<UUID> processed = idempotencyGuard.findProcessed(EventType.NOTIFICATION_CREATED,
+        List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+    // then
+    assertThat(processed).isEmpty();
+    verify(processedEventRepository, never()).findProcessedEventIds(any(), anyCollection());
+  }
+}
@@ -0,0 +1,92 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.autoscale.KafkaAutoscaleProperties;
+import com.codeit.mopl.event.autoscale.KafkaConcurrencyAutoscaler;
+import com.codeit.mopl.event.metrics.KafkaLagMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaConcurrencyAutoscalerTest {
+
+  private static final String LISTENER_ID = "notification-create-batch";
+  private static final String GROUP = "mopl-notification";
+  private static final String TOPIC = "mopl-notification-create";
+  private static final List<TopicPartition> ASSIGNED = List.of(
+      new TopicPartition(TOPIC, 0), new TopicPartition(TOPIC, 1),
+      new TopicPartition(TOPIC, 2), new TopicPartition(TOPIC, 3));
+
+  @Mock
+  private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+  @Mock
+  private KafkaLagMonitor kafkaLagMonitor;
+
+  @Mock
+  private ConcurrentMessageListenerContainer<String, byte[]> container;
+
+  private SimpleMeterRegistry meterRegistry;
+  private KafkaConcurrencyAutoscaler autoscaler;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    KafkaAutoscaleProperties properties = new KafkaAutoscaleProperties(
+        true, List.of(LISTENER_ID), 1, 12, 1000, 100, 3, Duration.ofMillis(500), Duration.ofMinutes(2));
+    autoscaler = new KafkaConcurrencyAutoscaler(kafkaListenerEndpointRegistry, kafkaLagMonitor, meterRegistry, properties);
+
+    when(kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID)).thenReturn(container);
+    when(container.isRunning()).thenReturn(true);
+    when(container.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC));
+    when(container.getGroupId()).thenReturn(GROUP);
+    when(container.getConcurrency()).thenReturn(2);
+    when(container.getAssignedPartitions()).thenReturn(ASSIGNED);
+  }
+
+  @Test
+  @DisplayName("이 노드에 할당된 파티션의 lag 이 크면 concurrency 를 늘리고 컨테이너를 다시 시작한다")
+  void evaluate_assignedLagHigh_scalesUp() {
+    // given
+    when(kafkaLagMonitor.partitionLag(GROUP, ASSIGNED)).thenReturn(5_000L);
+
+    // when
+    autoscaler.evaluate();
+
+    // then
+    verify(container).stop(any(Runnable.class));
+    assertThat(meterRegistry.counter("kafka.listener.scaling", "listener", LISTENER_ID, "decision", "up").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("그룹 전체 lag 이 커도 이 노드 파티션의 lag 이 작으면 늘리지 않는다")
+  void evaluate_assignedLagLow_holds() {
+    // given : 다른 노드의 파티션에만 lag 이 쌓여 있는 상황
+    when(kafkaLagMonitor.partitionLag(GROUP, ASSIGNED)).thenReturn(500L);
+
+    // when
+    autoscaler.evaluate();
+
+    // then
+    verify(container, never()).stop(any(Runnable.class));
+    assertThat(meterRegistry.find("kafka.listener.scaling").counter()).isNull();
+  }
+}
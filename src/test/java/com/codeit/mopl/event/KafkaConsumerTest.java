@@ -1,26 +1,25 @@
 package com.codeit.mopl.event;
 
 import com.codeit.mopl.domain.follow.service.FollowService;
-import com.codeit.mopl.domain.message.directmessage.dto.DirectMessageDto;
-import com.codeit.mopl.domain.notification.dto.NotificationDto;
 import com.codeit.mopl.domain.notification.entity.Level;
 import com.codeit.mopl.domain.notification.service.NotificationService;
 import com.codeit.mopl.domain.notification.template.NotificationMessage;
 import com.codeit.mopl.domain.notification.template.NotificationTemplate;
 import com.codeit.mopl.domain.notification.template.context.RoleChangedContext;
 import com.codeit.mopl.domain.user.entity.Role;
+import com.codeit.mopl.event.codec.EventCodecs;
 import com.codeit.mopl.event.consumer.KafkaConsumer;
 import com.codeit.mopl.event.entity.EventType;
 import com.codeit.mopl.event.entity.ProcessedEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
 import com.codeit.mopl.event.event.*;
 import com.codeit.mopl.event.repository.ProcessedEventRepository;
 import com.codeit.mopl.mail.service.MailService;
 import com.codeit.mopl.mail.utils.RedisStoreUtils;
-import com.codeit.mopl.sse.repository.SseEmitterRegistry;
 import com.codeit.mopl.sse.service.SseService;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.mail.MessagingException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,14 +27,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,7 +41,7 @@ import static org.mockito.Mockito.*;
 class KafkaConsumerTest {
 
   @Mock
-  private ObjectMapper objectMapper;
+  private EventCodecs eventCodecs;
 
   @Mock
   private NotificationService notificationService;
@@ -56,26 +52,11 @@ class KafkaConsumerTest {
   @Mock
   private Acknowledgment ack;
 
-  @Mock
-  private NotificationCreateEvent notificationCreateEvent;
-
-  @Mock
-  private NotificationDto notificationDto;
-
   @Mock
   private SseService sseService;
 
-  @Mock
-  private SseEmitterRegistry sseEmitterRegistry;
-
   private KafkaConsumer kafkaConsumer;
 
-  @Mock
-  private DirectMessageCreateEvent directMessageCreateEvent;
-
-  @Mock
-  private DirectMessageDto directMessageDto;
-
   @Mock
   private PlayListCreateEvent playListCreateEvent;
 
@@ -88,110 +69,100 @@ class KafkaConsumerTest {
   @Mock
   private MailService mailService;
 
+  @Mock
+  private IdempotencyGuard idempotencyGuard;
+
   @BeforeEach
   void setUp() {
-    kafkaConsumer = new KafkaConsumer(objectMapper, notificationService, processedEventRepository, sseService, sseEmitterRegistry, mailService, redisStoreUtils);
+    kafkaConsumer = new KafkaConsumer(eventCodecs, notificationService, processedEventRepository, sseService, mailService, redisStoreUtils, idempotencyGuard);
   }
 
   @Test
-  @DisplayName("정상 이벤트 처리 - 아직 처리되지 않은 이벤트면 notificationService 호출 후 processedEvent 저장, ack 호출")
-  void onNotificationCreated_success() throws Exception {
+  @DisplayName("플레이리스트 생성 - 아직 처리되지 않은 이벤트면 notifyFollowersOnPlaylistCreated 호출, processedEvent 저장, ack 호출")
+  void onPlayListCreated_success() throws Exception {
     // given
-    String json = "{\"id\":\"dummy\"}";
-    UUID eventId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"id\":\"playlist\"}");
+    UUID playListId = UUID.randomUUID();
 
-    when(objectMapper.readValue(json, NotificationCreateEvent.class))
-        .thenReturn(notificationCreateEvent);
-    when(notificationCreateEvent.notificationDto())
-        .thenReturn(notificationDto);
-    when(notificationDto.id())
-        .thenReturn(eventId);
+    when(eventCodecs.decode(json, PlayListCreateEvent.class))
+        .thenReturn(playListCreateEvent);
+    when(playListCreateEvent.playListId())
+        .thenReturn(playListId);
 
-    // 아직 처리되지 않은 이벤트
-    when(processedEventRepository.findByEventIdAndEventType(eventId, EventType.NOTIFICATION_CREATED))
-        .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(playListId, EventType.PLAY_LIST_CREATED)).thenReturn(false);
 
     // when
-    kafkaConsumer.onNotificationCreated(json, ack);
+    kafkaConsumer.onPlayListCreated(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(eventId, EventType.NOTIFICATION_CREATED);
-    verify(notificationService).sendNotification(notificationDto);
+    verify(idempotencyGuard).isProcessed(playListId, EventType.PLAY_LIST_CREATED);
+    verify(notificationService).notifyFollowersOnPlaylistCreated(playListCreateEvent);
     verify(processedEventRepository).save(any(ProcessedEvent.class));
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("이미 처리된 이벤트 - 조회 결과 존재하면 notificationService 호출 안 하고 ack만 호출")
-  void onNotificationCreated_idempotent() throws Exception {
+  @DisplayName("플레이리스트 생성 - 이미 처리된 이벤트면 followService 호출 안 하고 ack만 호출")
+  void onPlayListCreated_idempotent() throws Exception {
     // given
-    String json = "{\"id\":\"dummy\"}";
-    UUID eventId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"id\":\"playlist\"}");
+    UUID playListId = UUID.randomUUID();
 
-    when(objectMapper.readValue(json, NotificationCreateEvent.class))
-        .thenReturn(notificationCreateEvent);
-    when(notificationCreateEvent.notificationDto())
-        .thenReturn(notificationDto);
-    when(notificationDto.id())
-        .thenReturn(eventId);
+    when(eventCodecs.decode(json, PlayListCreateEvent.class))
+        .thenReturn(playListCreateEvent);
+    when(playListCreateEvent.playListId())
+        .thenReturn(playListId);
 
-    // 이미 처리된 이벤트(조회 시 Optional.of)
-    when(processedEventRepository.findByEventIdAndEventType(eventId, EventType.NOTIFICATION_CREATED))
-        .thenReturn(Optional.of(new ProcessedEvent(eventId, EventType.NOTIFICATION_CREATED)));
+    when(idempotencyGuard.isProcessed(playListId, EventType.PLAY_LIST_CREATED)).thenReturn(true);
 
     // when
-    kafkaConsumer.onNotificationCreated(json, ack);
+    kafkaConsumer.onPlayListCreated(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(eventId, EventType.NOTIFICATION_CREATED);
-    // 새로운 저장/서비스 호출 없음
+    verify(idempotencyGuard).isProcessed(playListId, EventType.PLAY_LIST_CREATED);
+    verify(notificationService, never()).notifyFollowersOnPlaylistCreated(any());
     verify(processedEventRepository, never()).save(any());
-    verify(notificationService, never()).sendNotification(any());
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("JSON 역직렬화 실패 - repository, service 모두 호출 안 하고 ack만 호출")
-  void onNotificationCreated_jsonDeserializeFail() throws Exception {
+  @DisplayName("플레이리스트 생성 - JSON 역직렬화 실패 시 followService, repository 호출 없이 ack만 호출")
+  void onPlayListCreated_jsonDeserializeFail() throws Exception {
     // given
-    String invalidJson = "INVALID_JSON";
+    ConsumerRecord<String, byte[]> invalidJson = record("INVALID_JSON");
 
-    when(objectMapper.readValue(invalidJson, NotificationCreateEvent.class))
+    when(eventCodecs.decode(invalidJson, PlayListCreateEvent.class))
         .thenThrow(new JsonProcessingException("fail") {});
 
     // when
-    kafkaConsumer.onNotificationCreated(invalidJson, ack);
+    kafkaConsumer.onPlayListCreated(invalidJson, ack);
 
     // then
-    verify(processedEventRepository, never()).findByEventIdAndEventType(any(), any());
+    verify(idempotencyGuard, never()).isProcessed(any(), any());
     verify(processedEventRepository, never()).save(any());
-    verify(notificationService, never()).sendNotification(any());
+    verify(notificationService, never()).notifyFollowersOnPlaylistCreated(any());
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("기타 예외 발생 - ack 호출하지 않고 예외 전파")
-  void onNotificationCreated_unexpectedException() throws Exception {
+  @DisplayName("플레이리스트 생성 - 기타 예외 발생 시 ack 호출 없이 예외 전파")
+  void onPlayListCreated_unexpectedException() throws Exception {
     // given
-    String json = "{\"id\":\"dummy\"}";
-    UUID eventId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"id\":\"playlist\"}");
+    UUID playListId = UUID.randomUUID();
 
-    when(objectMapper.readValue(json, NotificationCreateEvent.class))
-        .thenReturn(notificationCreateEvent);
-    when(notificationCreateEvent.notificationDto())
-        .thenReturn(notificationDto);
-    when(notificationDto.id())
-        .thenReturn(eventId);
+    when(eventCodecs.decode(json, PlayListCreateEvent.class))
+        .thenReturn(playListCreateEvent);
+    when(playListCreateEvent.playListId())
+        .thenReturn(playListId);
 
-    when(processedEventRepository.findByEventIdAndEventType(eventId, EventType.NOTIFICATION_CREATED))
-        .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(playListId, EventType.PLAY_LIST_CREATED)).thenReturn(false);
 
-    // notificationService 내부에서 예외 발생한다고 가정
     doThrow(new RuntimeException("unexpected"))
-        .when(notificationService).sendNotification(notificationDto);
+        .when(notificationService).notifyFollowersOnPlaylistCreated(playListCreateEvent);
 
     // when & then
-    assertThatThrownBy(() -> kafkaConsumer.onNotificationCreated(json, ack))
+    assertThatThrownBy(() -> kafkaConsumer.onPlayListCreated(json, ack))
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("unexpected");
 
@@ -199,100 +170,91 @@ class KafkaConsumerTest {
   }
 
   @Test
-  @DisplayName("DM 생성 - 아직 처리되지 않은 이벤트면 sendDirectMessage 호출 후 processedEvent 저장, ack 호출")
-  void onDirectMessageCreated_success() throws Exception {
+  @DisplayName("WatchingSession 생성 - 아직 처리되지 않은 이벤트면 notifyFollowersOnWatchingEvent 호출, processedEvent 저장, ack 호출")
+  void onWatchingSessionCreated_success() throws Exception {
     // given
-    String json = "{\"id\":\"dm\"}";
-    UUID eventId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"id\":\"watchingSession\"}");
+    UUID watchingSessionId = UUID.randomUUID();
 
-    when(objectMapper.readValue(json, DirectMessageCreateEvent.class))
-        .thenReturn(directMessageCreateEvent);
-    when(directMessageCreateEvent.directMessageDto())
-        .thenReturn(directMessageDto);
-    when(directMessageDto.id())
-        .thenReturn(eventId);
+    when(eventCodecs.decode(json, WatchingSessionCreateEvent.class))
+        .thenReturn(watchingSessionCreateEvent);
+    when(watchingSessionCreateEvent.watchingSessionId())
+        .thenReturn(watchingSessionId);
 
-    when(processedEventRepository.findByEventIdAndEventType(eventId, EventType.DIRECT_MESSAGE_CREATED))
-        .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(watchingSessionId, EventType.WATCH_SESSION_CREATED)).thenReturn(false);
 
     // when
-    kafkaConsumer.onDirectMessageCreated(json, ack);
+    kafkaConsumer.onWatchingSessionCreated(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(eventId, EventType.DIRECT_MESSAGE_CREATED);
-    verify(notificationService).sendDirectMessage(directMessageDto);
+    verify(idempotencyGuard).isProcessed(watchingSessionId, EventType.WATCH_SESSION_CREATED);
+    verify(notificationService).notifyFollowersOnWatchingEvent(watchingSessionCreateEvent);
     verify(processedEventRepository).save(any(ProcessedEvent.class));
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("DM 생성 - 이미 처리된 이벤트면 sendDirectMessage 호출 안 하고 ack만 호출")
-  void onDirectMessageCreated_idempotent() throws Exception {
+  @DisplayName("WatchingSession 생성 - 이미 처리된 이벤트면 followService 호출 안 하고 ack만 호출")
+  void onWatchingSessionCreated_idempotent() throws Exception {
     // given
-    String json = "{\"id\":\"dm\"}";
-    UUID eventId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"id\":\"watchingSession\"}");
+    UUID watchingSessionId = UUID.randomUUID();
 
-    when(objectMapper.readValue(json, DirectMessageCreateEvent.class))
-        .thenReturn(directMessageCreateEvent);
-    when(directMessageCreateEvent.directMessageDto())
-        .thenReturn(directMessageDto);
-    when(directMessageDto.id())
-        .thenReturn(eventId);
+    when(eventCodecs.decode(json, WatchingSessionCreateEvent.class))
+        .thenReturn(watchingSessionCreateEvent);
+    when(watchingSessionCreateEvent.watchingSessionId())
+        .thenReturn(watchingSessionId);
 
-    when(processedEventRepository.findByEventIdAndEventType(eventId, EventType.DIRECT_MESSAGE_CREATED))
-        .thenReturn(Optional.of(new ProcessedEvent(eventId, EventType.DIRECT_MESSAGE_CREATED)));
+    when(idempotencyGuard.isProcessed(watchingSessionId, EventType.WATCH_SESSION_CREATED)).thenReturn(true);
 
     // when
-    kafkaConsumer.onDirectMessageCreated(json, ack);
+    kafkaConsumer.onWatchingSessionCreated(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(eventId, EventType.DIRECT_MESSAGE_CREATED);
-    verify(notificationService, never()).sendDirectMessage(any());
+    verify(idempotencyGuard).isProcessed(watchingSessionId, EventType.WATCH_SESSION_CREATED);
+    verify(notificationService, never()).notifyFollowersOnWatchingEvent(any());
     verify(processedEventRepository, never()).save(any());
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("DM 생성 - JSON 역직렬화 실패 시 repository, service 호출 없이 ack만 호출")
-  void onDirectMessageCreated_jsonDeserializeFail() throws Exception {
+  @DisplayName("WatchingSession 생성 - JSON 역직렬화 실패 시 followService, repository 호출 없이 ack만 호출")
+  void onWatchingSessionCreated_jsonDeserializeFail() throws Exception {
     // given
-    String invalidJson = "INVALID_JSON";
+    ConsumerRecord<String, byte[]> invalidJson = record("INVALID_JSON");
 
-    when(objectMapper.readValue(invalidJson, DirectMessageCreateEvent.class))
+    when(eventCodecs.decode(invalidJson, WatchingSessionCreateEvent.class))
         .thenThrow(new JsonProcessingException("fail") {});
 
     // when
-    kafkaConsumer.onDirectMessageCreated(invalidJson, ack);
+    kafkaConsumer.onWatchingSessionCreated(invalidJson, ack);
 
     // then
-    verify(processedEventRepository, never()).findByEventIdAndEventType(any(), any());
+    verify(idempotencyGuard, never()).isProcessed(any(), any());
     verify(processedEventRepository, never()).save(any());
-    verify(notificationService, never()).sendDirectMessage(any());
+    verify(notificationService, never()).notifyFollowersOnWatchingEvent(any());
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("DM 생성 - 기타 예외 발생 시 ack 호출 없이 예외 전파")
-  void onDirectMessageCreated_unexpectedException() throws Exception {
+  @DisplayName("WatchingSession 생성 - 기타 예외 발생 시 ack 호출 없이 예외 전파")
+  void onWatchingSessionCreated_unexpectedException() throws Exception {
     // given
-    String json = "{\"id\":\"dm\"}";
-    UUID eventId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"id\":\"watchingSession\"}");
+    UUID watchingSessionId = UUID.randomUUID();
 
-    when(objectMapper.readValue(json, DirectMessageCreateEvent.class))
-        .thenReturn(directMessageCreateEvent);
-    when(directMessageCreateEvent.directMessageDto())
-        .thenReturn(directMessageDto);
-    when(directMessageDto.id())
-        .thenReturn(eventId);
+    when(eventCodecs.decode(json, WatchingSessionCreateEvent.class))
+        .thenReturn(watchingSessionCreateEvent);
+    when(watchingSessionCreateEvent.watchingSessionId())
+        .thenReturn(watchingSessionId);
 
-    when(processedEventRepository.findByEventIdAndEventType(eventId, EventType.DIRECT_MESSAGE_CREATED))
-        .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(watchingSessionId, EventType.WATCH_SESSION_CREATED)).thenReturn(false);
 
     doThrow(new RuntimeException("unexpected"))
-        .when(notificationService).sendDirectMessage(directMessageDto);
+        .when(notificationService).notifyFollowersOnWatchingEvent(watchingSessionCreateEvent);
 
     // when & then
-    assertThatThrownBy(() -> kafkaConsumer.onDirectMessageCreated(json, ack))
+    assertThatThrownBy(() -> kafkaConsumer.onWatchingSessionCreated(json, ack))
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("unexpected");
 
@@ -300,216 +262,145 @@ class KafkaConsumerTest {
   }
 
   @Test
-  @DisplayName("플레이리스트 생성 - 아직 처리되지 않은 이벤트면 notifyFollowersOnPlaylistCreated 호출, processedEvent 저장, ack 호출")
-  void onPlayListCreated_success() throws Exception {
+  @DisplayName("팔로워 알림 청크 - 아직 처리되지 않은 청크면 deliverFollowerNotificationChunk 호출, processedEvent 저장, ack 호출")
+  void onFollowerNotificationChunk_success() throws Exception {
     // given
-    String json = "{\"id\":\"playlist\"}";
-    UUID playListId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"chunkId\":\"chunk\"}");
+    FollowerNotificationChunkEvent event = new FollowerNotificationChunkEvent(UUID.randomUUID(), UUID.randomUUID(),
+        UUID.randomUUID(), UUID.randomUUID(), "title", "content", Level.INFO);
 
-    when(objectMapper.readValue(json, PlayListCreateEvent.class))
-        .thenReturn(playListCreateEvent);
-    when(playListCreateEvent.playListId())
-        .thenReturn(playListId);
-
-    when(processedEventRepository.findByEventIdAndEventType(playListId, EventType.PLAY_LIST_CREATED))
-        .thenReturn(Optional.empty());
+    when(eventCodecs.decode(json, FollowerNotificationChunkEvent.class)).thenReturn(event);
+    when(idempotencyGuard.isProcessed(event.chunkId(), EventType.FOLLOWER_NOTIFICATION_CHUNK)).thenReturn(false);
 
     // when
-    kafkaConsumer.onPlayListCreated(json, ack);
+    kafkaConsumer.onFollowerNotificationChunk(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(playListId, EventType.PLAY_LIST_CREATED);
-    verify(notificationService).notifyFollowersOnPlaylistCreated(playListCreateEvent);
+    verify(notificationService).deliverFollowerNotificationChunk(event);
     verify(processedEventRepository).save(any(ProcessedEvent.class));
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("플레이리스트 생성 - 이미 처리된 이벤트면 followService 호출 안 하고 ack만 호출")
-  void onPlayListCreated_idempotent() throws Exception {
+  @DisplayName("팔로워 알림 청크 - 이미 처리된 청크면 알림을 만들지 않고 ack만 호출")
+  void onFollowerNotificationChunk_idempotent() throws Exception {
     // given
-    String json = "{\"id\":\"playlist\"}";
-    UUID playListId = UUID.randomUUID();
-
-    when(objectMapper.readValue(json, PlayListCreateEvent.class))
-        .thenReturn(playListCreateEvent);
-    when(playListCreateEvent.playListId())
-        .thenReturn(playListId);
+    ConsumerRecord<String, byte[]> json = record("{\"chunkId\":\"chunk\"}");
+    FollowerNotificationChunkEvent event = new FollowerNotificationChunkEvent(UUID.randomUUID(), UUID.randomUUID(),
+        UUID.randomUUID(), UUID.randomUUID(), "title", "content", Level.INFO);
 
-    when(processedEventRepository.findByEventIdAndEventType(playListId, EventType.PLAY_LIST_CREATED))
-        .thenReturn(Optional.of(new ProcessedEvent(playListId, EventType.PLAY_LIST_CREATED)));
+    when(eventCodecs.decode(json, FollowerNotificationChunkEvent.class)).thenReturn(event);
+    when(idempotencyGuard.isProcessed(event.chunkId(), EventType.FOLLOWER_NOTIFICATION_CHUNK)).thenReturn(true);
 
     // when
-    kafkaConsumer.onPlayListCreated(json, ack);
+    kafkaConsumer.onFollowerNotificationChunk(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(playListId, EventType.PLAY_LIST_CREATED);
-    verify(notificationService, never()).notifyFollowersOnPlaylistCreated(any());
+    verify(notificationService, never()).deliverFollowerNotificationChunk(any());
     verify(processedEventRepository, never()).save(any());
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("플레이리스트 생성 - JSON 역직렬화 실패 시 followService, repository 호출 없이 ack만 호출")
-  void onPlayListCreated_jsonDeserializeFail() throws Exception {
+  @DisplayName("플레이리스트 콘텐츠 추가 - 처리되지 않은 이벤트면 notifySubscribersOnContentAdded 호출, processedEvent 저장, ack 호출")
+  void onPlaylistContentAdded_success() throws Exception {
     // given
-    String invalidJson = "INVALID_JSON";
+    ConsumerRecord<String, byte[]> json = record("{\"eventId\":\"event\"}");
+    PlaylistContentAddedEvent event = new PlaylistContentAddedEvent(UUID.randomUUID(), UUID.randomUUID(),
+        UUID.randomUUID(), "title", "content");
 
-    when(objectMapper.readValue(invalidJson, PlayListCreateEvent.class))
-        .thenThrow(new JsonProcessingException("fail") {});
+    when(eventCodecs.decode(json, PlaylistContentAddedEvent.class)).thenReturn(event);
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.PLAYLIST_CONTENT_ADDED)).thenReturn(false);
 
     // when
-    kafkaConsumer.onPlayListCreated(invalidJson, ack);
+    kafkaConsumer.onPlaylistContentAdded(json, ack);
 
     // then
-    verify(processedEventRepository, never()).findByEventIdAndEventType(any(), any());
-    verify(processedEventRepository, never()).save(any());
-    verify(notificationService, never()).notifyFollowersOnPlaylistCreated(any());
+    verify(notificationService).notifySubscribersOnContentAdded(event);
+    verify(processedEventRepository).save(any(ProcessedEvent.class));
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("플레이리스트 생성 - 기타 예외 발생 시 ack 호출 없이 예외 전파")
-  void onPlayListCreated_unexpectedException() throws Exception {
-    // given
-    String json = "{\"id\":\"playlist\"}";
-    UUID playListId = UUID.randomUUID();
-
-    when(objectMapper.readValue(json, PlayListCreateEvent.class))
-        .thenReturn(playListCreateEvent);
-    when(playListCreateEvent.playListId())
-        .thenReturn(playListId);
-
-    when(processedEventRepository.findByEventIdAndEventType(playListId, EventType.PLAY_LIST_CREATED))
-        .thenReturn(Optional.empty());
-
-    doThrow(new RuntimeException("unexpected"))
-        .when(notificationService).notifyFollowersOnPlaylistCreated(playListCreateEvent);
-
-    // when & then
-    assertThatThrownBy(() -> kafkaConsumer.onPlayListCreated(json, ack))
-        .isInstanceOf(RuntimeException.class)
-        .hasMessageContaining("unexpected");
-
-    verify(ack, never()).acknowledge();
-  }
-
-  @Test
-  @DisplayName("WatchingSession 생성 - 아직 처리되지 않은 이벤트면 notifyFollowersOnWatchingEvent 호출, processedEvent 저장, ack 호출")
-  void onWatchingSessionCreated_success() throws Exception {
+  @DisplayName("플레이리스트 콘텐츠 추가 - 이미 처리된 이벤트면 알림을 만들지 않고 ack만 호출")
+  void onPlaylistContentAdded_idempotent() throws Exception {
     // given
-    String json = "{\"id\":\"watchingSession\"}";
-    UUID watchingSessionId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"eventId\":\"event\"}");
+    PlaylistContentAddedEvent event = new PlaylistContentAddedEvent(UUID.randomUUID(), UUID.randomUUID(),
+        UUID.randomUUID(), "title", "content");
 
-    when(objectMapper.readValue(json, WatchingSessionCreateEvent.class))
-        .thenReturn(watchingSessionCreateEvent);
-    when(watchingSessionCreateEvent.watchingSessionId())
-        .thenReturn(watchingSessionId);
-
-    when(processedEventRepository.findByEventIdAndEventType(watchingSessionId, EventType.WATCH_SESSION_CREATED))
-        .thenReturn(Optional.empty());
+    when(eventCodecs.decode(json, PlaylistContentAddedEvent.class)).thenReturn(event);
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.PLAYLIST_CONTENT_ADDED)).thenReturn(true);
 
     // when
-    kafkaConsumer.onWatchingSessionCreated(json, ack);
+    kafkaConsumer.onPlaylistContentAdded(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(watchingSessionId, EventType.WATCH_SESSION_CREATED);
-    verify(notificationService).notifyFollowersOnWatchingEvent(watchingSessionCreateEvent);
-    verify(processedEventRepository).save(any(ProcessedEvent.class));
+    verify(notificationService, never()).notifySubscribersOnContentAdded(any());
+    verify(processedEventRepository, never()).save(any());
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("WatchingSession 생성 - 이미 처리된 이벤트면 followService 호출 안 하고 ack만 호출")
-  void onWatchingSessionCreated_idempotent() throws Exception {
+  @DisplayName("구독자 알림 청크 - 아직 처리되지 않은 청크면 deliverSubscriberNotificationChunk 호출, processedEvent 저장, ack 호출")
+  void onSubscriberNotificationChunk_success() throws Exception {
     // given
-    String json = "{\"id\":\"watchingSession\"}";
-    UUID watchingSessionId = UUID.randomUUID();
+    ConsumerRecord<String, byte[]> json = record("{\"chunkId\":\"chunk\"}");
+    SubscriberNotificationChunkEvent event = new SubscriberNotificationChunkEvent(UUID.randomUUID(),
+        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "title", "content", Level.INFO);
 
-    when(objectMapper.readValue(json, WatchingSessionCreateEvent.class))
-        .thenReturn(watchingSessionCreateEvent);
-    when(watchingSessionCreateEvent.watchingSessionId())
-        .thenReturn(watchingSessionId);
-
-    when(processedEventRepository.findByEventIdAndEventType(watchingSessionId, EventType.WATCH_SESSION_CREATED))
-        .thenReturn(Optional.of(new ProcessedEvent(watchingSessionId, EventType.WATCH_SESSION_CREATED)));
+    when(eventCodecs.decode(json, SubscriberNotificationChunkEvent.class)).thenReturn(event);
+    when(idempotencyGuard.isProcessed(event.chunkId(), EventType.SUBSCRIBER_NOTIFICATION_CHUNK)).thenReturn(false);
 
     // when
-    kafkaConsumer.onWatchingSessionCreated(json, ack);
+    kafkaConsumer.onSubscriberNotificationChunk(json, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(watchingSessionId, EventType.WATCH_SESSION_CREATED);
-    verify(notificationService, never()).notifyFollowersOnWatchingEvent(any());
-    verify(processedEventRepository, never()).save(any());
+    verify(notificationService).deliverSubscriberNotificationChunk(event);
+    verify(processedEventRepository).save(any(ProcessedEvent.class));
     verify(ack).acknowledge();
   }
 
   @Test
-  @DisplayName("WatchingSession 생성 - JSON 역직렬화 실패 시 followService, repository 호출 없이 ack만 호출")
-  void onWatchingSessionCreated_jsonDeserializeFail() throws Exception {
+  @DisplayName("구독자 알림 청크 - 이미 처리된 청크면 알림을 만들지 않고 ack만 호출")
+  void onSubscriberNotificationChunk_idempotent() throws Exception {
     // given
-    String invalidJson = "INVALID_JSON";
+    ConsumerRecord<String, byte[]> json = record("{\"chunkId\":\"chunk\"}");
+    SubscriberNotificationChunkEvent event = new SubscriberNotificationChunkEvent(UUID.randomUUID(),
+        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "title", "content", Level.INFO);
 
-    when(objectMapper.readValue(invalidJson, WatchingSessionCreateEvent.class))
-        .thenThrow(new JsonProcessingException("fail") {});
+    when(eventCodecs.decode(json, SubscriberNotificationChunkEvent.class)).thenReturn(event);
+    when(idempotencyGuard.isProcessed(event.chunkId(), EventType.SUBSCRIBER_NOTIFICATION_CHUNK)).thenReturn(true);
 
     // when
-    kafkaConsumer.onWatchingSessionCreated(invalidJson, ack);
+    kafkaConsumer.onSubscriberNotificationChunk(json, ack);
 
     // then
-    verify(processedEventRepository, never()).findByEventIdAndEventType(any(), any());
+    verify(notificationService, never()).deliverSubscriberNotificationChunk(any());
     verify(processedEventRepository, never()).save(any());
-    verify(notificationService, never()).notifyFollowersOnWatchingEvent(any());
     verify(ack).acknowledge();
   }
 
-  @Test
-  @DisplayName("WatchingSession 생성 - 기타 예외 발생 시 ack 호출 없이 예외 전파")
-  void onWatchingSessionCreated_unexpectedException() throws Exception {
-    // given
-    String json = "{\"id\":\"watchingSession\"}";
-    UUID watchingSessionId = UUID.randomUUID();
-
-    when(objectMapper.readValue(json, WatchingSessionCreateEvent.class))
-        .thenReturn(watchingSessionCreateEvent);
-    when(watchingSessionCreateEvent.watchingSessionId())
-        .thenReturn(watchingSessionId);
-
-    when(processedEventRepository.findByEventIdAndEventType(watchingSessionId, EventType.WATCH_SESSION_CREATED))
-        .thenReturn(Optional.empty());
-
-    doThrow(new RuntimeException("unexpected"))
-        .when(notificationService).notifyFollowersOnWatchingEvent(watchingSessionCreateEvent);
-
-    // when & then
-    assertThatThrownBy(() -> kafkaConsumer.onWatchingSessionCreated(json, ack))
-        .isInstanceOf(RuntimeException.class)
-        .hasMessageContaining("unexpected");
-
-    verify(ack, never()).acknowledge();
-  }
-
   @Test
   @DisplayName("메일 발송 - 아직 처리되지 않은 이벤트면 Redis 저장 및 메일 발송, processedEvent 저장, ack 호출")
   void mailSend_success() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     MailSendEvent event = new MailSendEvent(
             UUID.randomUUID(),
             "test@example.com",
             "tempPw"
     );
 
-    when(objectMapper.readValue(kafkaEventJson, MailSendEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, MailSendEvent.class))
             .thenReturn(event);
-    when(processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.MAIL_SEND))
-            .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.MAIL_SEND)).thenReturn(false);
 
     // when
     kafkaConsumer.onMailSend(kafkaEventJson, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(event.eventId(), EventType.MAIL_SEND);
+    verify(idempotencyGuard).isProcessed(event.eventId(), EventType.MAIL_SEND);
     verify(redisStoreUtils).storeTempPassword(anyString(),anyString());
     verify(mailService).sendMail(anyString(),anyString());
     verify(processedEventRepository).save(any(ProcessedEvent.class));
@@ -520,24 +411,23 @@ class KafkaConsumerTest {
   @DisplayName("메일 발송 - 이미 처리된 이벤트면 이후 동작 안 하고 ack만 호출")
   void onMailSend_idempotent() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     MailSendEvent event = new MailSendEvent(
             UUID.randomUUID(),
             "test@example.com",
             "tempPw"
     );
 
-    when(objectMapper.readValue(kafkaEventJson, MailSendEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, MailSendEvent.class))
             .thenReturn(event);
 
-    when(processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.MAIL_SEND))
-            .thenReturn(Optional.of(new ProcessedEvent(event.eventId(), EventType.MAIL_SEND)));
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.MAIL_SEND)).thenReturn(true);
 
     // when
     kafkaConsumer.onMailSend(kafkaEventJson, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(event.eventId(), EventType.MAIL_SEND);
+    verify(idempotencyGuard).isProcessed(event.eventId(), EventType.MAIL_SEND);
     verify(mailService, never()).sendMail(anyString(),anyString());
     verify(redisStoreUtils, never()).storeTempPassword(anyString(),anyString());
     verify(processedEventRepository, never()).save(any());
@@ -548,16 +438,16 @@ class KafkaConsumerTest {
   @DisplayName("메일 발송 - JSON 역직렬화 실패 시 이후 동작 없이 ack만 호출")
   void onMailSend_jsonDeserializeFail() throws Exception {
     // given
-    String invalidJson = "INVALID_JSON";
+    ConsumerRecord<String, byte[]> invalidJson = record("INVALID_JSON");
 
-    when(objectMapper.readValue(invalidJson, MailSendEvent.class))
+    when(eventCodecs.decode(invalidJson, MailSendEvent.class))
             .thenThrow(new JsonProcessingException("fail") {});
 
     // when
     kafkaConsumer.onMailSend(invalidJson, ack);
 
     // then
-    verify(processedEventRepository, never()).findByEventIdAndEventType(any(), any());
+    verify(idempotencyGuard, never()).isProcessed(any(), any());
     verify(processedEventRepository, never()).save(any());
     verify(mailService, never()).sendMail(anyString(),anyString());
     verify(redisStoreUtils, never()).storeTempPassword(anyString(),anyString());
@@ -568,18 +458,17 @@ class KafkaConsumerTest {
   @DisplayName("메일 발송 - 메일 발송 중 예외 발생 시 ack 호출 없이 예외 전파")
   void onMailSend_messagingException() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     MailSendEvent event = new MailSendEvent(
             UUID.randomUUID(),
             "test@example.com",
             "tempPw"
     );
 
-    when(objectMapper.readValue(kafkaEventJson, MailSendEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, MailSendEvent.class))
             .thenReturn(event);
 
-    when(processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.MAIL_SEND))
-            .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.MAIL_SEND)).thenReturn(false);
 
     doThrow(new MessagingException("unexpected"))
             .when(mailService).sendMail(anyString(),anyString());
@@ -596,18 +485,17 @@ class KafkaConsumerTest {
   @DisplayName("메일 발송 - 기타 예외 발생 시 ack 호출 없이 예외 전파")
   void onMailSend_unexpectedException() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     MailSendEvent event = new MailSendEvent(
             UUID.randomUUID(),
             "test@example.com",
             "tempPw"
     );
 
-    when(objectMapper.readValue(kafkaEventJson, MailSendEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, MailSendEvent.class))
             .thenReturn(event);
 
-    when(processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.MAIL_SEND))
-            .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.MAIL_SEND)).thenReturn(false);
 
     doThrow(new RuntimeException("unexpected"))
             .when(mailService).sendMail(anyString(),anyString());
@@ -624,7 +512,7 @@ class KafkaConsumerTest {
   @DisplayName("알림 생성 - 아직 처리되지 않은 이벤트면 권한 변경 알림 생성, processedEvent 저장, ack 호출")
   void onNotificationCreate_success() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     UUID eventId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
     UserRoleUpdateEvent event = new UserRoleUpdateEvent(
@@ -634,16 +522,15 @@ class KafkaConsumerTest {
             Role.ADMIN
     );
 
-    when(objectMapper.readValue(kafkaEventJson, UserRoleUpdateEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, UserRoleUpdateEvent.class))
             .thenReturn(event);
-    when(processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.NOTIFICATION_CREATE))
-            .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.NOTIFICATION_CREATE)).thenReturn(false);
     doNothing().when(notificationService).createNotification(any(UUID.class), anyString(), anyString(), any(Level.class));
     // when
     kafkaConsumer.onNotificationCreate(kafkaEventJson, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(event.eventId(), EventType.NOTIFICATION_CREATE);
+    verify(idempotencyGuard).isProcessed(event.eventId(), EventType.NOTIFICATION_CREATE);
     verify(processedEventRepository).save(any(ProcessedEvent.class));
     verify(ack).acknowledge();
   }
@@ -652,7 +539,7 @@ class KafkaConsumerTest {
   @DisplayName("권한 변경 알림 생성 - 이미 처리된 이벤트면 이후 동작 안 하고 ack만 호출")
   void onNotificationCreate_idempotent() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     UUID eventId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
     UserRoleUpdateEvent event = new UserRoleUpdateEvent(
@@ -662,17 +549,16 @@ class KafkaConsumerTest {
             Role.ADMIN
     );
 
-    when(objectMapper.readValue(kafkaEventJson, UserRoleUpdateEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, UserRoleUpdateEvent.class))
             .thenReturn(event);
 
-    when(processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.NOTIFICATION_CREATE))
-            .thenReturn(Optional.of(new ProcessedEvent(event.eventId(), EventType.NOTIFICATION_CREATE)));
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.NOTIFICATION_CREATE)).thenReturn(true);
 
     // when
     kafkaConsumer.onNotificationCreate(kafkaEventJson, ack);
 
     // then
-    verify(processedEventRepository).findByEventIdAndEventType(event.eventId(), EventType.NOTIFICATION_CREATE);
+    verify(idempotencyGuard).isProcessed(event.eventId(), EventType.NOTIFICATION_CREATE);
     verify(processedEventRepository, never()).save(any());
     verify(ack).acknowledge();
   }
@@ -681,16 +567,16 @@ class KafkaConsumerTest {
   @DisplayName("권한 변경 알림 생성 - JSON 역직렬화 실패 시 이후 동작 없이 ack만 호출")
   void onNotificationCreate_jsonDeserializeFail() throws Exception {
     // given
-    String invalidJson = "INVALID_JSON";
+    ConsumerRecord<String, byte[]> invalidJson = record("INVALID_JSON");
 
-    when(objectMapper.readValue(invalidJson, UserRoleUpdateEvent.class))
+    when(eventCodecs.decode(invalidJson, UserRoleUpdateEvent.class))
             .thenThrow(new JsonProcessingException("fail") {});
 
     // when
     kafkaConsumer.onNotificationCreate(invalidJson, ack);
 
     // then
-    verify(processedEventRepository, never()).findByEventIdAndEventType(any(), any());
+    verify(idempotencyGuard, never()).isProcessed(any(), any());
     verify(processedEventRepository, never()).save(any());
     verify(ack).acknowledge();
   }
@@ -699,7 +585,7 @@ class KafkaConsumerTest {
   @DisplayName("권한 변경 알림 생성 - 기타 예외 발생 시 ack 호출 없이 예외 전파")
   void onNotificationCreate_unexpectedException() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     UUID eventId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
     UserRoleUpdateEvent event = new UserRoleUpdateEvent(
@@ -708,11 +594,10 @@ class KafkaConsumerTest {
             Role.USER,
             Role.ADMIN
     );
-    when(objectMapper.readValue(kafkaEventJson, UserRoleUpdateEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, UserRoleUpdateEvent.class))
             .thenReturn(event);
 
-    when(processedEventRepository.findByEventIdAndEventType(event.eventId(), EventType.NOTIFICATION_CREATE))
-            .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(event.eventId(), EventType.NOTIFICATION_CREATE)).thenReturn(false);
 
     doThrow(new RuntimeException("unexpected"))
             .when(notificationService).createNotification(any(UUID.class), anyString(), anyString(), any(Level.class));
@@ -726,26 +611,24 @@ class KafkaConsumerTest {
   }
 
   @Test
-  @DisplayName("유저 로그인 - status true(로그인) 시 SseService 연결, ack 호출")
+  @DisplayName("유저 로그인 - status true(로그인) 시 요청 없는 SSE 연결을 만들지 않고 ack 호출")
   void onUserLogInOutEventLogIn_success() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     UUID userId = UUID.randomUUID();
     UserLogInOutEvent event = new UserLogInOutEvent(
             userId,
             true
     );
 
-    when(objectMapper.readValue(kafkaEventJson, UserLogInOutEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, UserLogInOutEvent.class))
             .thenReturn(event);
-    SseEmitter emitter = mock(SseEmitter.class);
-    when(sseService.connect(event.userId(),null)).thenReturn(emitter);
 
     // when
     kafkaConsumer.onUserLogInOutEvent(kafkaEventJson, ack);
 
     // then
-    verify(sseService,times(1)).connect(event.userId(),null);
+    verify(sseService, never()).connect(any(), any());
     verify(ack).acknowledge();
   }
 
@@ -753,24 +636,20 @@ class KafkaConsumerTest {
   @DisplayName("유저 로그아웃 - status false (로그아웃) 시 SseEmitter 정리, ack 호출")
   void onUserLogInOutEventLogOut_success() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     UUID userId = UUID.randomUUID();
     UserLogInOutEvent event = new UserLogInOutEvent(
             userId,
             false
     );
-    when(objectMapper.readValue(kafkaEventJson, UserLogInOutEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, UserLogInOutEvent.class))
             .thenReturn(event);
-    SseEmitter emitter = mock(SseEmitter.class);
-    ConcurrentMap<UUID, List<SseEmitter>> data = mock(ConcurrentMap.class);
 
-    when(sseEmitterRegistry.getData()).thenReturn(data);
-    when(data.remove(userId)).thenReturn(List.of(emitter));
     // when
     kafkaConsumer.onUserLogInOutEvent(kafkaEventJson, ack);
 
     // then
-    verify(sseEmitterRegistry.getData()).remove(event.userId());
+    verify(sseService).disconnect(event.userId());
     verify(ack).acknowledge();
   }
 
@@ -778,37 +657,36 @@ class KafkaConsumerTest {
   @DisplayName("유저 로그인/로그아웃 - JSON 역직렬화 실패 시 이후 동작 없이 ack만 호출")
   void onUserLoginOutEvent_jsonDeserializeFail() throws Exception {
     // given
-    String invalidJson = "INVALID_JSON";
+    ConsumerRecord<String, byte[]> invalidJson = record("INVALID_JSON");
 
-    when(objectMapper.readValue(invalidJson, UserLogInOutEvent.class))
+    when(eventCodecs.decode(invalidJson, UserLogInOutEvent.class))
             .thenThrow(new JsonProcessingException("fail") {});
 
     // when
     kafkaConsumer.onUserLogInOutEvent(invalidJson, ack);
 
     // then
-    verify(sseEmitterRegistry, never()).getData();
-    verify(sseService,never()).connect(any(), any());
+    verify(sseService, never()).disconnect(any());
     verify(ack).acknowledge();
   }
 
   @Test
   @DisplayName("유저 로그인/로그아웃 - 기타 예외 발생 시 ack 호출 없이 예외 전파 " +
-          "로그인 시 상황으로 테스트 진행")
+          "로그아웃 시 상황으로 테스트 진행")
   void onUserLogInOutEvent_unexpectedException() throws Exception {
     // given
-    String kafkaEventJson = "\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("\"eventId\"=\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"");
     UUID userId = UUID.randomUUID();
     UserLogInOutEvent event = new UserLogInOutEvent(
             userId,
-            true
+            false
     );
-    when(objectMapper.readValue(kafkaEventJson, UserLogInOutEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, UserLogInOutEvent.class))
             .thenReturn(event);
 
 
     doThrow(new RuntimeException("unexpected"))
-            .when(sseService).connect(event.userId(),null);
+            .when(sseService).disconnect(event.userId());
 
     // when & then
     assertThatThrownBy(() -> kafkaConsumer.onUserLogInOutEvent(kafkaEventJson, ack))
@@ -817,4 +695,8 @@ class KafkaConsumerTest {
 
     verify(ack, never()).acknowledge();
   }
+
+  private static ConsumerRecord<String, byte[]> record(String value) {
+    return new ConsumerRecord<>("mopl-test", 0, 0L, null, value.getBytes(StandardCharsets.UTF_8));
+  }
 }
@@ -5,29 +5,35 @@ import com.codeit.mopl.domain.follow.repository.FollowRepository;
 import com.codeit.mopl.domain.follow.service.FollowService;
 import com.codeit.mopl.domain.message.directmessage.dto.DirectMessageDto;
 import com.codeit.mopl.domain.notification.dto.NotificationDto;
+import com.codeit.mopl.domain.notification.entity.Level;
 import com.codeit.mopl.domain.notification.service.NotificationService;
+import com.codeit.mopl.domain.notification.template.NotificationLane;
 import com.codeit.mopl.domain.user.entity.User;
+import com.codeit.mopl.event.codec.EncodedEvent;
+import com.codeit.mopl.event.codec.EventCodecs;
 import com.codeit.mopl.event.consumer.KafkaConsumer;
 import com.codeit.mopl.event.entity.EventType;
+import com.codeit.mopl.event.entity.OutboxEvent;
 import com.codeit.mopl.event.entity.ProcessedEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
 import com.codeit.mopl.event.event.DirectMessageCreateEvent;
 import com.codeit.mopl.event.event.FollowerDecreaseEvent;
 import com.codeit.mopl.event.event.FollowerIncreaseEvent;
+import com.codeit.mopl.event.event.FollowerNotificationChunkEvent;
+import com.codeit.mopl.event.event.NotificationBulkCreateEvent;
 import com.codeit.mopl.event.event.NotificationCreateEvent;
 import com.codeit.mopl.event.event.PlayListCreateEvent;
+import com.codeit.mopl.event.event.PlaylistContentAddedEvent;
+import com.codeit.mopl.event.event.SubscriberNotificationChunkEvent;
 import com.codeit.mopl.event.event.WatchingSessionCreateEvent;
 import com.codeit.mopl.event.listener.KafkaEventListener;
+import com.codeit.mopl.event.repository.OutboxEventRepository;
 import com.codeit.mopl.event.repository.ProcessedEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.header.Header;
-import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,9 +43,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.MDC;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.SendResult;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,16 +54,19 @@ import static org.mockito.Mockito.*;
 class KafkaEventListenerTest {
 
   @Mock
-  private KafkaTemplate<String, String> kafkaTemplate;
+  private OutboxEventRepository outboxEventRepository;
 
   @Mock
-  private ObjectMapper objectMapper;
+  private EventCodecs eventCodecs;
 
   private KafkaEventListener kafkaEventListener;
 
   @Mock
   private ProcessedEventRepository processedEventRepository;
 
+  @Mock
+  private IdempotencyGuard idempotencyGuard;
+
   @Mock
   private Acknowledgment ack;
 
@@ -89,13 +96,13 @@ class KafkaEventListenerTest {
 
   @BeforeEach
   void setUp() {
-    kafkaEventListener = new KafkaEventListener(kafkaTemplate, objectMapper);
+    kafkaEventListener = new KafkaEventListener(outboxEventRepository, eventCodecs);
     MDC.clear();
   }
 
   @Test
-  @DisplayName("NotificationCreateEvent 발생 시 JSON 직렬화 후 Kafka 전송, 헤더 포함")
-  void onNotificationCreateEvent_shouldSendKafkaMessageWithHeaders() throws Exception {
+  @DisplayName("NotificationCreateEvent 발생 시 JSON 직렬화 후 outbox 저장, 추적 정보 포함")
+  void onNotificationCreateEvent_shouldSaveOutboxEventWithTrace() throws Exception {
     // given
     NotificationDto dto = mock(NotificationDto.class);
     UUID id = UUID.randomUUID();
@@ -106,13 +113,7 @@ class KafkaEventListenerTest {
     when(event.notificationDto()).thenReturn(dto);
 
     String expectedJson = "{\"test\":\"json\"}";
-    when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
-
-    // KafkaTemplate.send(...) 이 CompletableFuture 를 반환하도록 stubbing
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-        (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    when(eventCodecs.encode(event)).thenReturn(encoded(expectedJson));
 
     // MDC traceId 세팅
     String traceId = "trace-123";
@@ -122,223 +123,210 @@ class KafkaEventListenerTest {
     kafkaEventListener.on(event);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> recordCaptor =
-        ArgumentCaptor.forClass(ProducerRecord.class);
+    ArgumentCaptor<OutboxEvent> recordCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
 
-    verify(kafkaTemplate, times(1)).send(recordCaptor.capture());
+    verify(outboxEventRepository, times(1)).save(recordCaptor.capture());
 
-    ProducerRecord<String, String> sentRecord = recordCaptor.getValue();
+    OutboxEvent sentRecord = recordCaptor.getValue();
 
     // topic / key / value 검증
-    assertThat(sentRecord.topic()).isEqualTo("mopl-notification-create");
-    assertThat(sentRecord.key()).isEqualTo(id.toString());
-    assertThat(sentRecord.value()).isEqualTo(expectedJson);
-
-    // 헤더 검증
-    Headers headers = sentRecord.headers();
-
-    Header traceIdHeader = headers.lastHeader("x-trace-id");
-    assertThat(traceIdHeader).isNotNull();
-    assertThat(new String(traceIdHeader.value(), StandardCharsets.UTF_8))
-        .isEqualTo(traceId);
-
-    Header eventTypeHeader = headers.lastHeader("x-event-type");
-    assertThat(eventTypeHeader).isNotNull();
-    assertThat(new String(eventTypeHeader.value(), StandardCharsets.UTF_8))
-        .isEqualTo(event.getClass().getSimpleName());
+    assertThat(sentRecord.getTopic()).isEqualTo("mopl-notification-create");
+    assertThat(sentRecord.getMessageKey()).isEqualTo(id.toString());
+    assertThat(sentRecord.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
+
+    // 발행 시 헤더로 옮겨질 추적 정보 검증
+    assertThat(sentRecord.getTraceId()).isEqualTo(traceId);
+    assertThat(sentRecord.getEventType()).isEqualTo(event.getClass().getSimpleName());
   }
 
   @Test
-  @DisplayName("FollowerIncreaseEvent 발생 시 Kafka 메시지 전송 성공")
-  void onFollowerIncreaseEvent_shouldSendKafkaMessageWithHeaders() throws Exception {
+  @DisplayName("BULK lane 의 NotificationCreateEvent 는 bulk 토픽으로, 낮은 우선순위로 outbox 저장")
+  void onBulkNotificationCreateEvent_shouldSaveToBulkTopic() throws Exception {
     // given
-    UUID followId = UUID.randomUUID();
-    UUID followeeId = UUID.randomUUID();
-    FollowerIncreaseEvent event = new FollowerIncreaseEvent(followId, followeeId);
+    NotificationDto dto = mock(NotificationDto.class);
+    UUID id = UUID.randomUUID();
+    when(dto.id()).thenReturn(id);
 
-    String expectedJson = "{\"event\":\"increase\"}";
-    when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
+    NotificationCreateEvent event = new NotificationCreateEvent(dto, NotificationLane.BULK);
+    when(eventCodecs.encode(event)).thenReturn(encoded("{}"));
 
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-            (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    // when
+    kafkaEventListener.on(event);
 
-    MDC.put("requestId", "trace-456");
+    // then
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
+
+    OutboxEvent record = captor.getValue();
+    assertThat(record.getTopic()).isEqualTo("mopl-notification-create-bulk");
+    assertThat(record.getMessageKey()).isEqualTo(id.toString());
+    assertThat(record.getPriority()).isEqualTo(OutboxEvent.BULK_PRIORITY);
+  }
+
+  @Test
+  @DisplayName("NotificationBulkCreateEvent 는 수신자마다 NotificationCreateEvent 레코드로 나눠 saveAll 한 번으로 저장")
+  @SuppressWarnings("unchecked")
+  void onNotificationBulkCreateEvent_shouldSaveAllOutboxEventsAtOnce() throws Exception {
+    // given
+    NotificationDto first = new NotificationDto(UUID.randomUUID(), null, UUID.randomUUID(), "title", "content", Level.INFO);
+    NotificationDto second = new NotificationDto(UUID.randomUUID(), null, UUID.randomUUID(), "title", "content", Level.INFO);
+    NotificationBulkCreateEvent event = new NotificationBulkCreateEvent(List.of(first, second), NotificationLane.BULK);
+    when(eventCodecs.encode(any(NotificationCreateEvent.class))).thenReturn(encoded("{}"));
 
     // when
     kafkaEventListener.on(event);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
-    verify(kafkaTemplate).send(captor.capture());
-
-    ProducerRecord<String, String> record = captor.getValue();
-    assertThat(record.topic()).isEqualTo("mopl-follower-increase");
-    assertThat(record.key()).isEqualTo(followeeId.toString());
-    assertThat(record.value()).isEqualTo(expectedJson);
-
-    Header typeHeader = record.headers().lastHeader("x-event-type");
-    assertThat(typeHeader).isNotNull();
-    assertThat(new String(typeHeader.value(), StandardCharsets.UTF_8))
-            .isEqualTo(event.getClass().getSimpleName());
+    ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+    verify(outboxEventRepository).saveAll(captor.capture());
+    verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+
+    assertThat(captor.getValue())
+        .allMatch(record -> record.getTopic().equals("mopl-notification-create-bulk")
+            && record.getPriority() == OutboxEvent.BULK_PRIORITY
+            && record.getEventType().equals(NotificationCreateEvent.class.getSimpleName()))
+        .extracting(OutboxEvent::getMessageKey)
+        .containsExactly(first.id().toString(), second.id().toString());
   }
 
   @Test
-  @DisplayName("FollowerDecreaseEvent 발생 시 Kafka 메시지 전송 성공")
-  void onFollowerDecreaseEvent_shouldSendKafkaMessageWithHeaders() throws Exception {
+  @DisplayName("PlaylistContentAddedEvent 는 플레이리스트 id 를 키로, 낮은 우선순위로 outbox 저장")
+  void onPlaylistContentAddedEvent_shouldSaveOutboxEvent() throws Exception {
     // given
-    UUID followId = UUID.randomUUID();
-    UUID followeeId = UUID.randomUUID();
-    FollowerDecreaseEvent event = new FollowerDecreaseEvent(followId, followeeId);
+    UUID playlistId = UUID.randomUUID();
+    PlaylistContentAddedEvent event =
+        new PlaylistContentAddedEvent(UUID.randomUUID(), playlistId, UUID.randomUUID(), "title", "content");
+    when(eventCodecs.encode(event)).thenReturn(encoded("{}"));
 
-    String expectedJson = "{\"event\":\"decrease\"}";
-    when(objectMapper.writeValueAsString(event)).thenReturn(expectedJson);
+    // when
+    kafkaEventListener.on(event);
 
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-            (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    // then
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
 
-    MDC.put("requestId", "trace-456");
+    OutboxEvent record = captor.getValue();
+    assertThat(record.getTopic()).isEqualTo("mopl-playlist-content-added");
+    assertThat(record.getMessageKey()).isEqualTo(playlistId.toString());
+    assertThat(record.getPriority()).isEqualTo(OutboxEvent.BULK_PRIORITY);
+  }
+
+  @Test
+  @DisplayName("FollowerNotificationChunkEvent 는 청크 id 를 키로, 낮은 우선순위로 outbox 저장")
+  void onFollowerNotificationChunkEvent_shouldSaveOutboxEventKeyedByChunk() throws Exception {
+    // given
+    UUID chunkId = UUID.randomUUID();
+    FollowerNotificationChunkEvent event = new FollowerNotificationChunkEvent(chunkId, UUID.randomUUID(),
+        UUID.randomUUID(), UUID.randomUUID(), "title", "content", Level.INFO);
+    when(eventCodecs.encode(event)).thenReturn(encoded("{}"));
 
     // when
     kafkaEventListener.on(event);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
-    verify(kafkaTemplate).send(captor.capture());
-
-    ProducerRecord<String, String> record = captor.getValue();
-    assertThat(record.topic()).isEqualTo("mopl-follower-decrease");
-    assertThat(record.key()).isEqualTo(followeeId.toString());
-    assertThat(record.value()).isEqualTo(expectedJson);
-
-    Header typeHeader = record.headers().lastHeader("x-event-type");
-    assertThat(typeHeader).isNotNull();
-    assertThat(new String(typeHeader.value(), StandardCharsets.UTF_8))
-            .isEqualTo(event.getClass().getSimpleName());
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
+
+    OutboxEvent record = captor.getValue();
+    assertThat(record.getTopic()).isEqualTo("mopl-notification-fanout-chunk");
+    assertThat(record.getMessageKey()).isEqualTo(chunkId.toString());
+    assertThat(record.getPriority()).isEqualTo(OutboxEvent.BULK_PRIORITY);
   }
 
   @Test
-  @DisplayName("JSON 직렬화 실패 시 카프카 메시지 전송이 수행되지 않음")
-  void send_shouldNotCallKafka_whenJsonSerializationFails() throws Exception {
+  @DisplayName("SubscriberNotificationChunkEvent 는 청크 id 를 키로, 낮은 우선순위로 outbox 저장")
+  void onSubscriberNotificationChunkEvent_shouldSaveOutboxEventKeyedByChunk() throws Exception {
     // given
-    UUID followId = UUID.randomUUID();
-    UUID followeeId = UUID.randomUUID();
-    FollowerIncreaseEvent event = new FollowerIncreaseEvent(followId, followeeId);
-
-    when(objectMapper.writeValueAsString(event))
-            .thenThrow(new JsonProcessingException("serialize error") {});
+    UUID chunkId = UUID.randomUUID();
+    SubscriberNotificationChunkEvent event = new SubscriberNotificationChunkEvent(chunkId, UUID.randomUUID(),
+        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "title", "content", Level.INFO);
+    when(eventCodecs.encode(event)).thenReturn(encoded("{}"));
 
     // when
     kafkaEventListener.on(event);
 
     // then
-    verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
+
+    OutboxEvent record = captor.getValue();
+    assertThat(record.getTopic()).isEqualTo("mopl-notification-subscriber-chunk");
+    assertThat(record.getMessageKey()).isEqualTo(chunkId.toString());
+    assertThat(record.getPriority()).isEqualTo(OutboxEvent.BULK_PRIORITY);
   }
 
   @Test
-  @DisplayName("카프카 메시지 전송 실패 시 whenComplete 예외 로그 흐름 수행 테스트")
-  void send_shouldHandleKafkaSendFailure() throws Exception {
+  @DisplayName("FollowerIncreaseEvent 발생 시 outbox 저장 성공")
+  void onFollowerIncreaseEvent_shouldSaveOutboxEvent() throws Exception {
     // given
     UUID followId = UUID.randomUUID();
     UUID followeeId = UUID.randomUUID();
     FollowerIncreaseEvent event = new FollowerIncreaseEvent(followId, followeeId);
-    when(objectMapper.writeValueAsString(event)).thenReturn("{}");
 
-    CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    String expectedJson = "{\"event\":\"increase\"}";
+    when(eventCodecs.encode(event)).thenReturn(encoded(expectedJson));
+
+    MDC.put("requestId", "trace-456");
 
     // when
     kafkaEventListener.on(event);
 
-    // future 실패 강제 발생
-    Exception ex = new RuntimeException("SEND_FAIL");
-    future.completeExceptionally(ex);
-
     // then
-    verify(kafkaTemplate).send(any(ProducerRecord.class));
-    assertThat(future.isCompletedExceptionally()).isTrue();
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
+
+    OutboxEvent record = captor.getValue();
+    assertThat(record.getTopic()).isEqualTo("mopl-follower-increase");
+    assertThat(record.getMessageKey()).isEqualTo(followeeId.toString());
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
+
+    assertThat(record.getEventType()).isEqualTo(event.getClass().getSimpleName());
   }
 
   @Test
-  @DisplayName("DM 생성 이벤트가 처음 처리되는 경우: 알림 전송, ProcessedEvent 저장, ack 호출")
-  void onDirectMessageCreated_firstTime_shouldSendNotificationAndSaveProcessedEventAndAck()
-      throws Exception {
-
+  @DisplayName("FollowerDecreaseEvent 발생 시 outbox 저장 성공")
+  void onFollowerDecreaseEvent_shouldSaveOutboxEvent() throws Exception {
     // given
-    String kafkaEventJson = "{\"test\":\"json\"}";
-
-    DirectMessageDto dto = mock(DirectMessageDto.class);
-    UUID dmId = UUID.randomUUID();
-    when(dto.id()).thenReturn(dmId);
-
-    DirectMessageCreateEvent event = mock(DirectMessageCreateEvent.class);
-    when(event.directMessageDto()).thenReturn(dto);
+    UUID followId = UUID.randomUUID();
+    UUID followeeId = UUID.randomUUID();
+    FollowerDecreaseEvent event = new FollowerDecreaseEvent(followId, followeeId);
 
-    when(objectMapper.readValue(kafkaEventJson, DirectMessageCreateEvent.class))
-        .thenReturn(event);
+    String expectedJson = "{\"event\":\"decrease\"}";
+    when(eventCodecs.encode(event)).thenReturn(encoded(expectedJson));
 
-    when(processedEventRepository.findByEventIdAndEventType(dmId, EventType.DIRECT_MESSAGE_CREATED))
-        .thenReturn(Optional.empty());
+    MDC.put("requestId", "trace-456");
 
     // when
-    kafkaConsumer.onDirectMessageCreated(kafkaEventJson, ack);
+    kafkaEventListener.on(event);
 
     // then
-    // 1) 이미 처리 여부 조회
-    verify(processedEventRepository, times(1))
-        .findByEventIdAndEventType(dmId, EventType.DIRECT_MESSAGE_CREATED);
-
-    // 2) 알림 서비스 호출
-    verify(notificationService, times(1)).sendDirectMessage(dto);
-
-    // 3) ProcessedEvent 저장 내용 검증
-    ArgumentCaptor<ProcessedEvent> processedEventCaptor =
-        ArgumentCaptor.forClass(ProcessedEvent.class);
-
-    verify(processedEventRepository, times(1))
-        .save(processedEventCaptor.capture());
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
 
-    ProcessedEvent saved = processedEventCaptor.getValue();
-    assertThat(saved.getEventId()).isEqualTo(dmId);
-    assertThat(saved.getEventType()).isEqualTo(EventType.DIRECT_MESSAGE_CREATED);
+    OutboxEvent record = captor.getValue();
+    assertThat(record.getTopic()).isEqualTo("mopl-follower-decrease");
+    assertThat(record.getMessageKey()).isEqualTo(followeeId.toString());
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
 
-    // 4) ack 호출
-    verify(ack, times(1)).acknowledge();
+    assertThat(record.getEventType()).isEqualTo(event.getClass().getSimpleName());
   }
 
   @Test
-  @DisplayName("이미 처리된 DM 생성 이벤트이면 다시 처리하지 않고 ack만 호출")
-  void onDirectMessageCreated_alreadyProcessed_shouldOnlyAck() throws Exception {
+  @DisplayName("JSON 직렬화 실패 시 outbox 저장이 수행되지 않음")
+  void send_shouldNotSaveOutbox_whenJsonSerializationFails() throws Exception {
     // given
-    String kafkaEventJson = "{\"test\":\"json\"}";
-
-    DirectMessageDto dto = mock(DirectMessageDto.class);
-    UUID dmId = UUID.randomUUID();
-    when(dto.id()).thenReturn(dmId);
-
-    DirectMessageCreateEvent event = mock(DirectMessageCreateEvent.class);
-    when(event.directMessageDto()).thenReturn(dto);
-
-    when(objectMapper.readValue(kafkaEventJson, DirectMessageCreateEvent.class))
-        .thenReturn(event);
+    UUID followId = UUID.randomUUID();
+    UUID followeeId = UUID.randomUUID();
+    FollowerIncreaseEvent event = new FollowerIncreaseEvent(followId, followeeId);
 
-    ProcessedEvent existing = new ProcessedEvent(dmId, EventType.DIRECT_MESSAGE_CREATED);
-    when(processedEventRepository.findByEventIdAndEventType(dmId, EventType.DIRECT_MESSAGE_CREATED))
-        .thenReturn(Optional.of(existing));
+    when(eventCodecs.encode(event))
+            .thenThrow(new JsonProcessingException("serialize error") {});
 
     // when
-    kafkaConsumer.onDirectMessageCreated(kafkaEventJson, ack);
+    kafkaEventListener.on(event);
 
     // then
-    // 알림 및 save 는 호출되지 않는다
-    verify(notificationService, never()).sendDirectMessage(any());
-    verify(processedEventRepository, never()).save(any());
-
-    // ack 는 호출됨
-    verify(ack, times(1)).acknowledge();
+    verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
   }
 
   @Test
@@ -353,27 +341,21 @@ class KafkaEventListenerTest {
         .thenReturn(dmId);
 
     String expectedJson = "{\"event\":\"dm\"}";
-    when(objectMapper.writeValueAsString(directMessageCreateEvent))
-        .thenReturn(expectedJson);
-
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-        (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    when(eventCodecs.encode(directMessageCreateEvent))
+        .thenReturn(encoded(expectedJson));
 
     // when
     kafkaEventListener.on(directMessageCreateEvent);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
-        ArgumentCaptor.forClass(ProducerRecord.class);
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
 
-    verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> record = captor.getValue();
+    verify(outboxEventRepository).save(captor.capture());
+    OutboxEvent record = captor.getValue();
 
-    assertThat(record.topic()).isEqualTo("mopl-directMessage-create");
-    assertThat(record.key()).isEqualTo(dmId.toString());
-    assertThat(record.value()).isEqualTo(expectedJson);
+    assertThat(record.getTopic()).isEqualTo("mopl-directMessage-create");
+    assertThat(record.getMessageKey()).isEqualTo(dmId.toString());
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
   }
 
   @Test
@@ -386,27 +368,21 @@ class KafkaEventListenerTest {
         .thenReturn(null);
 
     String expectedJson = "{\"event\":\"dm\"}";
-    when(objectMapper.writeValueAsString(directMessageCreateEvent))
-        .thenReturn(expectedJson);
-
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-        (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    when(eventCodecs.encode(directMessageCreateEvent))
+        .thenReturn(encoded(expectedJson));
 
     // when
     kafkaEventListener.on(directMessageCreateEvent);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
-        ArgumentCaptor.forClass(ProducerRecord.class);
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
 
-    verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> record = captor.getValue();
+    verify(outboxEventRepository).save(captor.capture());
+    OutboxEvent record = captor.getValue();
 
-    assertThat(record.topic()).isEqualTo("mopl-directMessage-create");
-    assertThat(record.key()).isNull();                // ★ key null 확인
-    assertThat(record.value()).isEqualTo(expectedJson);
+    assertThat(record.getTopic()).isEqualTo("mopl-directMessage-create");
+    assertThat(record.getMessageKey()).isNull();                // ★ key null 확인
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
   }
 
   @Test
@@ -419,27 +395,21 @@ class KafkaEventListenerTest {
         .thenReturn(playlistId);
 
     String expectedJson = "{\"event\":\"playlist\"}";
-    when(objectMapper.writeValueAsString(playListCreateEvent))
-        .thenReturn(expectedJson);
-
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-        (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    when(eventCodecs.encode(playListCreateEvent))
+        .thenReturn(encoded(expectedJson));
 
     // when
     kafkaEventListener.on(playListCreateEvent);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
-        ArgumentCaptor.forClass(ProducerRecord.class);
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
 
-    verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> record = captor.getValue();
+    verify(outboxEventRepository).save(captor.capture());
+    OutboxEvent record = captor.getValue();
 
-    assertThat(record.topic()).isEqualTo("mopl-playList-create");
-    assertThat(record.key()).isEqualTo(playlistId.toString());
-    assertThat(record.value()).isEqualTo(expectedJson);
+    assertThat(record.getTopic()).isEqualTo("mopl-playList-create");
+    assertThat(record.getMessageKey()).isEqualTo(playlistId.toString());
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
   }
 
   @Test
@@ -450,27 +420,21 @@ class KafkaEventListenerTest {
         .thenReturn(null);
 
     String expectedJson = "{\"event\":\"playlist\"}";
-    when(objectMapper.writeValueAsString(playListCreateEvent))
-        .thenReturn(expectedJson);
-
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-        (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    when(eventCodecs.encode(playListCreateEvent))
+        .thenReturn(encoded(expectedJson));
 
     // when
     kafkaEventListener.on(playListCreateEvent);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
-        ArgumentCaptor.forClass(ProducerRecord.class);
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
 
-    verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> record = captor.getValue();
+    verify(outboxEventRepository).save(captor.capture());
+    OutboxEvent record = captor.getValue();
 
-    assertThat(record.topic()).isEqualTo("mopl-playList-create");
-    assertThat(record.key()).isNull();
-    assertThat(record.value()).isEqualTo(expectedJson);
+    assertThat(record.getTopic()).isEqualTo("mopl-playList-create");
+    assertThat(record.getMessageKey()).isNull();
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
   }
 
   @Test
@@ -483,27 +447,21 @@ class KafkaEventListenerTest {
         .thenReturn(watchingSessionId);
 
     String expectedJson = "{\"event\":\"watching\"}";
-    when(objectMapper.writeValueAsString(watchingSessionCreateEvent))
-        .thenReturn(expectedJson);
-
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-        (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    when(eventCodecs.encode(watchingSessionCreateEvent))
+        .thenReturn(encoded(expectedJson));
 
     // when
     kafkaEventListener.on(watchingSessionCreateEvent);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
-        ArgumentCaptor.forClass(ProducerRecord.class);
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
 
-    verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> record = captor.getValue();
+    verify(outboxEventRepository).save(captor.capture());
+    OutboxEvent record = captor.getValue();
 
-    assertThat(record.topic()).isEqualTo("mopl-watchingSession-create");
-    assertThat(record.key()).isEqualTo(watchingSessionId.toString());
-    assertThat(record.value()).isEqualTo(expectedJson);
+    assertThat(record.getTopic()).isEqualTo("mopl-watchingSession-create");
+    assertThat(record.getMessageKey()).isEqualTo(watchingSessionId.toString());
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
   }
 
   @Test
@@ -514,54 +472,47 @@ class KafkaEventListenerTest {
         .thenReturn(null);
 
     String expectedJson = "{\"event\":\"watching\"}";
-    when(objectMapper.writeValueAsString(watchingSessionCreateEvent))
-        .thenReturn(expectedJson);
-
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, String>> future =
-        (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+    when(eventCodecs.encode(watchingSessionCreateEvent))
+        .thenReturn(encoded(expectedJson));
 
     // when
     kafkaEventListener.on(watchingSessionCreateEvent);
 
     // then
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
-        ArgumentCaptor.forClass(ProducerRecord.class);
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
 
-    verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> record = captor.getValue();
+    verify(outboxEventRepository).save(captor.capture());
+    OutboxEvent record = captor.getValue();
 
-    assertThat(record.topic()).isEqualTo("mopl-watchingSession-create");
-    assertThat(record.key()).isNull();
-    assertThat(record.value()).isEqualTo(expectedJson);
+    assertThat(record.getTopic()).isEqualTo("mopl-watchingSession-create");
+    assertThat(record.getMessageKey()).isNull();
+    assertThat(record.getPayload()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8));
   }
 
   @Test
   @DisplayName("플레이리스트 생성 이벤트 처음 처리: 팔로워 알림 전송, ProcessedEvent 저장, ack 호출")
   void onPlayListCreated_firstTime_shouldNotifyFollowersAndSaveProcessedEventAndAck() throws Exception {
     // given
-    String kafkaEventJson = "{\"test\":\"json\"}";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("{\"test\":\"json\"}");
     UUID playlistId = UUID.randomUUID();
 
     PlayListCreateEvent event = mock(PlayListCreateEvent.class);
     when(event.playListId()).thenReturn(playlistId);
 
-    when(objectMapper.readValue(kafkaEventJson, PlayListCreateEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, PlayListCreateEvent.class))
         .thenReturn(event);
 
     // 아직 처리되지 않은 이벤트
-    when(processedEventRepository.findByEventIdAndEventType(
-        playlistId, EventType.PLAY_LIST_CREATED))
-        .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(
+        playlistId, EventType.PLAY_LIST_CREATED)).thenReturn(false);
 
     // when
     kafkaConsumer.onPlayListCreated(kafkaEventJson, ack);
 
     // then
     // 1) idempotency 조회
-    verify(processedEventRepository, times(1))
-        .findByEventIdAndEventType(playlistId, EventType.PLAY_LIST_CREATED);
+    verify(idempotencyGuard, times(1))
+        .isProcessed(playlistId, EventType.PLAY_LIST_CREATED);
 
     // 2) 팔로워 알림 위임
     verify(notificationService, times(1))
@@ -579,27 +530,26 @@ class KafkaEventListenerTest {
   @DisplayName("시청 세션 시작 이벤트 처음 처리: 팔로워 알림 전송, ProcessedEvent 저장, ack 호출")
   void onWatchingSessionCreated_firstTime_shouldNotifyFollowersAndSaveProcessedEventAndAck() throws Exception {
     // given
-    String kafkaEventJson = "{\"test\":\"json\"}";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("{\"test\":\"json\"}");
     UUID watchingSessionId = UUID.randomUUID();
 
     WatchingSessionCreateEvent event = mock(WatchingSessionCreateEvent.class);
     when(event.watchingSessionId()).thenReturn(watchingSessionId);
 
-    when(objectMapper.readValue(kafkaEventJson, WatchingSessionCreateEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, WatchingSessionCreateEvent.class))
         .thenReturn(event);
 
     // 아직 처리되지 않은 이벤트
-    when(processedEventRepository.findByEventIdAndEventType(
-        watchingSessionId, EventType.WATCH_SESSION_CREATED))
-        .thenReturn(Optional.empty());
+    when(idempotencyGuard.isProcessed(
+        watchingSessionId, EventType.WATCH_SESSION_CREATED)).thenReturn(false);
 
     // when
     kafkaConsumer.onWatchingSessionCreated(kafkaEventJson, ack);
 
     // then
     // 1) idempotency 조회
-    verify(processedEventRepository, times(1))
-        .findByEventIdAndEventType(watchingSessionId, EventType.WATCH_SESSION_CREATED);
+    verify(idempotencyGuard, times(1))
+        .isProcessed(watchingSessionId, EventType.WATCH_SESSION_CREATED);
 
     // 2) 팔로워 알림 위임
     verify(notificationService, times(1))
@@ -617,18 +567,16 @@ class KafkaEventListenerTest {
   @DisplayName("이미 처리된 플레이리스트 생성 이벤트이면 다시 처리하지 않고 ack만 호출")
   void onPlayListCreated_alreadyProcessed_shouldOnlyAck() throws Exception {
     // given
-    String kafkaEventJson = "{\"test\":\"json\"}";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("{\"test\":\"json\"}");
     UUID playlistId = UUID.randomUUID();
 
     PlayListCreateEvent event = mock(PlayListCreateEvent.class);
     when(event.playListId()).thenReturn(playlistId);
 
-    when(objectMapper.readValue(kafkaEventJson, PlayListCreateEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, PlayListCreateEvent.class))
         .thenReturn(event);
 
-    ProcessedEvent existing = new ProcessedEvent(playlistId, EventType.PLAY_LIST_CREATED);
-    when(processedEventRepository.findByEventIdAndEventType(playlistId, EventType.PLAY_LIST_CREATED))
-        .thenReturn(Optional.of(existing));
+    when(idempotencyGuard.isProcessed(playlistId, EventType.PLAY_LIST_CREATED)).thenReturn(true);
 
     // when
     kafkaConsumer.onPlayListCreated(kafkaEventJson, ack);
@@ -643,18 +591,16 @@ class KafkaEventListenerTest {
   @DisplayName("이미 처리된 시청 세션 시작 이벤트이면 다시 처리하지 않고 ack만 호출")
   void onWatchingSessionCreated_alreadyProcessed_shouldOnlyAck() throws Exception {
     // given
-    String kafkaEventJson = "{\"test\":\"json\"}";
+    ConsumerRecord<String, byte[]> kafkaEventJson = record("{\"test\":\"json\"}");
     UUID watchingSessionId = UUID.randomUUID();
 
     WatchingSessionCreateEvent event = mock(WatchingSessionCreateEvent.class);
     when(event.watchingSessionId()).thenReturn(watchingSessionId);
 
-    when(objectMapper.readValue(kafkaEventJson, WatchingSessionCreateEvent.class))
+    when(eventCodecs.decode(kafkaEventJson, WatchingSessionCreateEvent.class))
         .thenReturn(event);
 
-    ProcessedEvent existing = new ProcessedEvent(watchingSessionId, EventType.WATCH_SESSION_CREATED);
-    when(processedEventRepository.findByEventIdAndEventType(watchingSessionId, EventType.WATCH_SESSION_CREATED))
-        .thenReturn(Optional.of(existing));
+    when(idempotencyGuard.isProcessed(watchingSessionId, EventType.WATCH_SESSION_CREATED)).thenReturn(true);
 
     // when
     kafkaConsumer.onWatchingSessionCreated(kafkaEventJson, ack);
@@ -664,4 +610,12 @@ class KafkaEventListenerTest {
     verify(processedEventRepository, never()).save(any());
     verify(ack, times(1)).acknowledge();
   }
+
+  private static ConsumerRecord<String, byte[]> record(String value) {
+    return new ConsumerRecord<>("mopl-test", 0, 0L, null, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static EncodedEvent encoded(String json) {
+    return new EncodedEvent(EventCodecs.JSON, json.getBytes(StandardCharsets.UTF_8));
+  }
 }
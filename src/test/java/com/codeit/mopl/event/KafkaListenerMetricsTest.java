@@ -0,0 +1,97 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.metrics.KafkaListenerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KafkaListenerMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private KafkaListenerMetrics kafkaListenerMetrics;
+
+  @SuppressWarnings("unchecked")
+  private final Consumer<Object, Object> consumer = mock(Consumer.class);
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    kafkaListenerMetrics = new KafkaListenerMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("단건 리스너 성공 시 핸들러 처리 시간과 end-to-end 지연을 기록한다")
+  void record_success() {
+    // given
+    ConsumerRecord<Object, Object> record = record("mopl-mail-send", System.currentTimeMillis() - 1000);
+
+    // when
+    kafkaListenerMetrics.intercept(record, consumer);
+    kafkaListenerMetrics.success(record, consumer);
+    kafkaListenerMetrics.afterRecord(record, consumer);
+
+    // then
+    assertThat(meterRegistry.get("kafka.listener.handler.duration")
+        .tags("topic", "mopl-mail-send", "result", "success").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("kafka.event.e2e.latency")
+        .tag("topic", "mopl-mail-send").timer().totalTime(TimeUnit.MILLISECONDS))
+        .isGreaterThanOrEqualTo(1000);
+  }
+
+  @Test
+  @DisplayName("단건 리스너 실패 시 result=failure 로 기록하고 end-to-end 지연은 기록하지 않는다")
+  void record_failure() {
+    // given
+    ConsumerRecord<Object, Object> record = record("mopl-mail-send", System.currentTimeMillis());
+
+    // when
+    kafkaListenerMetrics.intercept(record, consumer);
+    kafkaListenerMetrics.failure(record, new RuntimeException("fail"), consumer);
+    kafkaListenerMetrics.afterRecord(record, consumer);
+
+    // then
+    assertThat(meterRegistry.get("kafka.listener.handler.duration")
+        .tags("topic", "mopl-mail-send", "result", "failure").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.find("kafka.event.e2e.latency").timer()).isNull();
+  }
+
+  @Test
+  @DisplayName("배치 리스너는 배치 한 번을 핸들러 한 번으로 기록하고 레코드마다 end-to-end 지연을 기록한다")
+  void batch_success() {
+    // given
+    long now = System.currentTimeMillis();
+    ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Map.of(
+        new TopicPartition("mopl-notification-create", 0),
+        List.of(record("mopl-notification-create", now), record("mopl-notification-create", now))));
+
+    // when
+    kafkaListenerMetrics.intercept(records, consumer);
+    kafkaListenerMetrics.success(records, consumer);
+
+    // then
+    assertThat(meterRegistry.get("kafka.listener.handler.duration")
+        .tags("topic", "mopl-notification-create", "result", "success").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("kafka.event.e2e.latency")
+        .tag("topic", "mopl-notification-create").timer().count()).isEqualTo(2);
+  }
+
+  private ConsumerRecord<Object, Object> record(String topic, long timestamp) {
+    return new ConsumerRecord<>(topic, 0, 0L, timestamp, TimestampType.CREATE_TIME, 0, 0,
+        null, new byte[0], new RecordHeaders(), Optional.empty());
+  }
+}
@@ -0,0 +1,193 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.domain.message.directmessage.dto.DirectMessageDto;
+import com.codeit.mopl.domain.notification.dto.NotificationDto;
+import com.codeit.mopl.domain.notification.service.NotificationService;
+import com.codeit.mopl.domain.notification.template.NotificationLane;
+import com.codeit.mopl.event.codec.EventCodecs;
+import com.codeit.mopl.event.consumer.NotificationBatchKafkaConsumer;
+import com.codeit.mopl.event.entity.EventType;
+import com.codeit.mopl.event.entity.ProcessedEvent;
+import com.codeit.mopl.event.event.DirectMessageCreateEvent;
+import com.codeit.mopl.event.event.NotificationCreateEvent;
+import com.codeit.mopl.event.idempotency.IdempotencyGuard;
+import com.codeit.mopl.event.lane.NotificationLaneGate;
+import com.codeit.mopl.event.lane.NotificationLaneProperties;
+import com.codeit.mopl.event.repository.ProcessedEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBatchKafkaConsumerTest {
+
+  @Mock
+  private EventCodecs eventCodecs;
+
+  @Mock
+  private NotificationService notificationService;
+
+  @Mock
+  private ProcessedEventRepository processedEventRepository;
+
+  @Mock
+  private IdempotencyGuard idempotencyGuard;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+  @Mock
+  private Acknowledgment ack;
+
+  private NotificationBatchKafkaConsumer consumer;
+
+  @BeforeEach
+  void setUp() {
+    NotificationLaneGate notificationLaneGate = new NotificationLaneGate(new NotificationLaneProperties(
+        Duration.ofMillis(500), Duration.ofSeconds(10), 200, 2, Duration.ofMillis(10), Duration.ofMillis(50)),
+        new SimpleMeterRegistry());
+    consumer = new NotificationBatchKafkaConsumer(eventCodecs, notificationService, processedEventRepository, idempotencyGuard,
+        new TransactionTemplate(transactionManager), deadLetterPublishingRecoverer, notificationLaneGate);
+  }
+
+  @Test
+  @DisplayName("알림 배치 - 한 번의 IN 조회로 중복을 거르고 나머지를 처리한 뒤 saveAll, ack 한 번 호출")
+  void onNotificationsCreated_dedupesWithSingleQuery() throws Exception {
+    // given
+    UUID newId = UUID.randomUUID();
+    UUID processedId = UUID.randomUUID();
+    NotificationDto newDto = notificationDto(newId);
+    NotificationDto processedDto = notificationDto(processedId);
+
+    ConsumerRecord<String, byte[]> newRecord = record("mopl-notification-create", "new");
+    ConsumerRecord<String, byte[]> dupRecord = record("mopl-notification-create", "dup");
+
+    when(eventCodecs.decode(newRecord, NotificationCreateEvent.class)).thenReturn(new NotificationCreateEvent(newDto));
+    when(eventCodecs.decode(dupRecord, NotificationCreateEvent.class)).thenReturn(new NotificationCreateEvent(processedDto));
+    when(idempotencyGuard.findProcessed(eq(EventType.NOTIFICATION_CREATED), anyCollection()))
+        .thenReturn(Set.of(processedId));
+
+    // when
+    consumer.onNotificationsCreated(List.of(newRecord, dupRecord), ack);
+
+    // then
+    verify(idempotencyGuard, times(1)).findProcessed(eq(EventType.NOTIFICATION_CREATED), anyCollection());
+    verify(notificationService).sendNotification(newDto);
+    verify(notificationService, never()).sendNotification(processedDto);
+    verify(processedEventRepository).saveAll(anyList());
+    verify(transactionManager, times(1)).commit(any());
+    verify(ack, times(1)).acknowledge();
+  }
+
+  @Test
+  @DisplayName("알림 배치 - JSON 역직렬화 실패 레코드는 건너뛰고 ack 호출")
+  void onNotificationsCreated_skipsInvalidJson() throws Exception {
+    // given
+    ConsumerRecord<String, byte[]> invalidRecord = record("mopl-notification-create", "INVALID_JSON");
+    when(eventCodecs.decode(invalidRecord, NotificationCreateEvent.class))
+        .thenThrow(new JsonProcessingException("fail") {});
+
+    // when
+    consumer.onNotificationsCreated(List.of(invalidRecord), ack);
+
+    // then
+    verify(idempotencyGuard, never()).findProcessed(any(), anyCollection());
+    verify(notificationService, never()).sendNotification(any());
+    verify(ack).acknowledge();
+  }
+
+  @Test
+  @DisplayName("DM 배치 - 배치 처리 실패 시 레코드 별로 다시 처리하고 실패한 레코드만 DLT 로 보낸다")
+  void onDirectMessagesCreated_fallsBackPerRecord() throws Exception {
+    // given
+    UUID okId = UUID.randomUUID();
+    UUID badId = UUID.randomUUID();
+    DirectMessageDto okDto = directMessageDto(okId);
+    DirectMessageDto badDto = directMessageDto(badId);
+    ConsumerRecord<String, byte[]> okRecord = record("mopl-directMessage-create", "ok");
+    ConsumerRecord<String, byte[]> badRecord = record("mopl-directMessage-create", "bad");
+
+    when(eventCodecs.decode(okRecord, DirectMessageCreateEvent.class)).thenReturn(new DirectMessageCreateEvent(okDto));
+    when(eventCodecs.decode(badRecord, DirectMessageCreateEvent.class)).thenReturn(new DirectMessageCreateEvent(badDto));
+    when(idempotencyGuard.findProcessed(eq(EventType.DIRECT_MESSAGE_CREATED), anyCollection()))
+        .thenReturn(Set.of());
+    RuntimeException failure = new RuntimeException("fail");
+    doThrow(failure).when(notificationService).sendDirectMessage(badDto);
+
+    // when
+    consumer.onDirectMessagesCreated(List.of(okRecord, badRecord), ack);
+
+    // then
+    verify(notificationService, times(2)).sendDirectMessage(okDto); // 배치 시도 + 레코드 별 재처리
+    verify(processedEventRepository).save(any(ProcessedEvent.class));
+    verify(deadLetterPublishingRecoverer).accept(badRecord, failure);
+    verify(deadLetterPublishingRecoverer, never()).accept(eq(okRecord), any());
+    verify(ack).acknowledge();
+  }
+
+  @Test
+  @DisplayName("BULK 알림 배치 - 청크 크기로 나눠 청크마다 중복 조회 / 커밋하고 ack 는 한 번 호출")
+  void onBulkNotificationsCreated_processesInChunks() throws Exception {
+    // given
+    List<ConsumerRecord<String, byte[]>> records = List.of(
+        record("mopl-notification-create-bulk", "1"),
+        record("mopl-notification-create-bulk", "2"),
+        record("mopl-notification-create-bulk", "3"));
+    for (ConsumerRecord<String, byte[]> record : records) {
+      when(eventCodecs.decode(record, NotificationCreateEvent.class))
+          .thenReturn(new NotificationCreateEvent(notificationDto(UUID.randomUUID()), NotificationLane.BULK));
+    }
+    when(idempotencyGuard.findProcessed(eq(EventType.NOTIFICATION_CREATED), anyCollection()))
+        .thenReturn(Set.of());
+
+    // when
+    consumer.onBulkNotificationsCreated(records, ack);
+
+    // then
+    verify(idempotencyGuard, times(2)).findProcessed(eq(EventType.NOTIFICATION_CREATED), anyCollection());
+    verify(notificationService, times(3)).sendNotification(any());
+    verify(transactionManager, times(2)).commit(any());
+    verify(ack, times(1)).acknowledge();
+  }
+
+  private ConsumerRecord<String, byte[]> record(String topic, String value) {
+    return new ConsumerRecord<>(topic, 0, 0L, null, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private NotificationDto notificationDto(UUID id) {
+    NotificationDto dto = mock(NotificationDto.class);
+    when(dto.id()).thenReturn(id);
+    return dto;
+  }
+
+  private DirectMessageDto directMessageDto(UUID id) {
+    DirectMessageDto dto = mock(DirectMessageDto.class);
+    when(dto.id()).thenReturn(id);
+    return dto;
+  }
+}
@@ -0,0 +1,101 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.lane.NotificationLaneGate;
+import com.codeit.mopl.event.lane.NotificationLaneProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class NotificationLaneGateTest {
+
+  private final MutableClock clock = new MutableClock();
+  private SimpleMeterRegistry meterRegistry;
+  private NotificationLaneGate notificationLaneGate;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    notificationLaneGate = new NotificationLaneGate(new NotificationLaneProperties(
+        Duration.ofMillis(500), Duration.ofSeconds(10), 200, 50, Duration.ofMillis(10), Duration.ofMillis(30)),
+        meterRegistry, clock);
+  }
+
+  @Test
+  @DisplayName("INTERACTIVE 지연이 예산 안이면 BULK 는 기다리지 않는다")
+  void withinBudget_doesNotThrottle() {
+    notificationLaneGate.recordInteractive(List.of(record(clock.millis() - 100)));
+
+    notificationLaneGate.awaitBulkTurn();
+
+    assertThat(notificationLaneGate.interactiveOverBudget()).isFalse();
+    assertThat(meterRegistry.counter("notification.lane.bulk.throttled").count()).isZero();
+  }
+
+  @Test
+  @DisplayName("INTERACTIVE 지연이 예산을 넘으면 BULK 는 최대 대기 시간까지 양보한다")
+  void overBudget_throttlesUpToMaxWait() {
+    notificationLaneGate.recordInteractive(List.of(record(clock.millis() - 2000)));
+
+    notificationLaneGate.awaitBulkTurn();
+
+    assertThat(notificationLaneGate.interactiveOverBudget()).isTrue();
+    assertThat(meterRegistry.counter("notification.lane.bulk.throttled").count()).isEqualTo(1);
+    assertThat(meterRegistry.get("notification.lane.bulk.wait").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("지연은 EWMA 로 반영되고, INTERACTIVE 레코드가 한동안 없으면 0 으로 본다")
+  void ewma_andIdle() {
+    notificationLaneGate.recordInteractive(List.of(record(clock.millis() - 1000)));
+    notificationLaneGate.recordInteractive(List.of(record(clock.millis())));
+
+    assertThat(notificationLaneGate.interactiveLatencyMillis()).isCloseTo(800.0, within(0.001));
+
+    clock.advance(Duration.ofSeconds(11));
+    assertThat(notificationLaneGate.interactiveLatencyMillis()).isZero();
+    assertThat(notificationLaneGate.interactiveOverBudget()).isFalse();
+  }
+
+  private ConsumerRecord<String, byte[]> record(long timestamp) {
+    return new ConsumerRecord<>("mopl-notification-create", 0, 0L, timestamp, TimestampType.CREATE_TIME, 0, 0,
+        null, new byte[0], new RecordHeaders(), Optional.empty());
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now = Instant.now();
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
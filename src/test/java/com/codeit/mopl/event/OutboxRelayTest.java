@@ -0,0 +1,175 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.codec.EventCodecs;
+import com.codeit.mopl.event.entity.OutboxEvent;
+import com.codeit.mopl.event.outbox.OutboxRelay;
+import com.codeit.mopl.event.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private OutboxRelay outboxRelay;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    outboxRelay = new OutboxRelay(outboxEventRepository, kafkaTemplate, new TransactionTemplate(transactionManager),
+        meterRegistry, 2, Duration.ofSeconds(1), Duration.ofDays(3), 3, Duration.ofSeconds(1), Duration.ofMinutes(5));
+  }
+
+  @Test
+  @DisplayName("미발행 이벤트를 헤더와 함께 발행하고 sent_at 을 채운다")
+  @SuppressWarnings("unchecked")
+  void relay_sendsPendingEventsAndMarksSent() {
+    // given
+    OutboxEvent event = outboxEvent("mopl-follower-increase", "key-1", "trace-1");
+    when(outboxEventRepository.findPendingForUpdate(eq(2), any())).thenReturn(List.of(event));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    verify(kafkaTemplate).flush();
+    ProducerRecord<String, byte[]> record = captor.getValue();
+    assertThat(record.topic()).isEqualTo("mopl-follower-increase");
+    assertThat(record.key()).isEqualTo("key-1");
+    assertThat(new String(record.headers().lastHeader("x-trace-id").value(), StandardCharsets.UTF_8))
+        .isEqualTo("trace-1");
+    assertThat(new String(record.headers().lastHeader("x-event-type").value(), StandardCharsets.UTF_8))
+        .isEqualTo("FollowerIncreaseEvent");
+    assertThat(new String(record.headers().lastHeader(EventCodecs.CODEC_HEADER).value(), StandardCharsets.UTF_8))
+        .isEqualTo(EventCodecs.JSON);
+
+    verify(outboxEventRepository).markSent(eq(List.of(event.getId())), any());
+    verify(outboxEventRepository, never()).scheduleRetry(anyCollection(), any());
+    assertThat(meterRegistry.counter("outbox.events", "result", "sent").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("발행에 실패한 이벤트는 sent_at 을 채우지 않고 attempts 를 올려 backoff 후에 다시 보낸다")
+  @SuppressWarnings("unchecked")
+  void relay_failedSend_schedulesRetry() {
+    // given
+    OutboxEvent sent = outboxEvent("mopl-follower-increase", "key-1", "trace-1");
+    OutboxEvent failed = outboxEvent("mopl-follower-increase", "key-2", null);
+    when(outboxEventRepository.findPendingForUpdate(eq(2), any())).thenReturn(List.of(sent, failed));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SEND_FAIL")));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(outboxEventRepository).markSent(eq(List.of(sent.getId())), any());
+    ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+    verify(outboxEventRepository).scheduleRetry(eq(List.of(failed.getId())), nextAttemptAt.capture());
+    assertThat(nextAttemptAt.getValue()).isAfter(Instant.now());
+    verify(outboxEventRepository, never()).markFailed(anyCollection(), any());
+    // 실패가 있으면 가득 찬 배치여도 이어서 조회하지 않는다
+    verify(outboxEventRepository, times(1)).findPendingForUpdate(anyInt(), any());
+    assertThat(meterRegistry.counter("outbox.events", "result", "failed").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("최대 시도 횟수에 도달한 이벤트는 failed_at 을 채워 더 이상 읽지 않게 보류한다")
+  @SuppressWarnings("unchecked")
+  void relay_failedSendAtMaxAttempts_parksEvent() {
+    // given
+    OutboxEvent failed = outboxEvent("mopl-follower-increase", "key-1", null);
+    ReflectionTestUtils.setField(failed, "attempts", 2);
+    when(outboxEventRepository.findPendingForUpdate(eq(2), any())).thenReturn(List.of(failed));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SEND_FAIL")));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(outboxEventRepository).markFailed(eq(List.of(failed.getId())), any());
+    verify(outboxEventRepository, never()).scheduleRetry(anyCollection(), any());
+    assertThat(meterRegistry.counter("outbox.events", "result", "parked").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("가득 찬 배치를 모두 보냈으면 밀린 이벤트를 이어서 발행한다")
+  @SuppressWarnings("unchecked")
+  void relay_fullBatch_continuesUntilDrained() {
+    // given
+    when(outboxEventRepository.findPendingForUpdate(eq(2), any()))
+        .thenReturn(List.of(outboxEvent("t", "k1", null), outboxEvent("t", "k2", null)))
+        .thenReturn(List.of(outboxEvent("t", "k3", null)));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(outboxEventRepository, times(2)).findPendingForUpdate(eq(2), any());
+    verify(kafkaTemplate, times(3)).send(any(ProducerRecord.class));
+  }
+
+  @Test
+  @DisplayName("미발행 이벤트가 없으면 Kafka 를 호출하지 않는다")
+  void relay_noPendingEvents() {
+    // given
+    when(outboxEventRepository.findPendingForUpdate(eq(2), any())).thenReturn(List.of());
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  private OutboxEvent outboxEvent(String topic, String key, String traceId) {
+    OutboxEvent event = new OutboxEvent(topic, key, "{}".getBytes(StandardCharsets.UTF_8), EventCodecs.JSON,
+        "FollowerIncreaseEvent", traceId);
+    ReflectionTestUtils.setField(event, "id", UUID.randomUUID());
+    return event;
+  }
+}
@@ -0,0 +1,111 @@
+package com.codeit.mopl.event;
+
+import com.codeit.mopl.event.entity.EventType;
+import com.codeit.mopl.event.idempotency.ProcessedEventRetentionJob;
+import com.codeit.mopl.event.idempotency.ProcessedEventRetentionProperties;
+import com.codeit.mopl.event.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventRetentionJobTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-10T00:00:00Z");
+
+  @Mock
+  private ProcessedEventRepository processedEventRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private ProcessedEventRetentionJob retentionJob;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    ProcessedEventRetentionProperties properties = new ProcessedEventRetentionProperties(true, Duration.ofDays(7),
+        Map.of(EventType.MAIL_SEND, Duration.ofDays(14)), 2, 3);
+    retentionJob = new ProcessedEventRetentionJob(processedEventRepository, new TransactionTemplate(transactionManager),
+        meterRegistry, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("EventType 별 보관 기간이 지난 행을 배치 단위로 지우고 배치가 덜 차면 멈춘다")
+  void purge_deletesInBatchesPerEventType() {
+    // given
+    when(processedEventRepository.deleteExpired(anyString(), any(Instant.class), anyInt())).thenReturn(0);
+    when(processedEventRepository.deleteExpired(eq("MAIL_SEND"), any(Instant.class), eq(2))).thenReturn(2, 1);
+    when(processedEventRepository.countByEventType())
+        .thenReturn(List.<Object[]>of(new Object[]{EventType.MAIL_SEND, 5L}));
+
+    // when
+    retentionJob.purge();
+
+    // then
+    verify(processedEventRepository, times(2))
+        .deleteExpired("MAIL_SEND", NOW.minus(Duration.ofDays(14)), 2);
+    verify(processedEventRepository).deleteExpired("NOTIFICATION_CREATE", NOW.minus(Duration.ofDays(7)), 2);
+    assertThat(meterRegistry.get("processed_events.retention.deleted")
+        .tag("event_type", "MAIL_SEND").counter().count()).isEqualTo(3);
+    assertThat(meterRegistry.get("processed_events.rows").tag("event_type", "MAIL_SEND").gauge().value())
+        .isEqualTo(5);
+    assertThat(meterRegistry.get("processed_events.rows").tag("event_type", "NOTIFICATION_CREATE").gauge().value())
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("한 주기에 지우는 배치 수는 max-batches-per-type 을 넘지 않는다")
+  void purge_stopsAtMaxBatches() {
+    // given
+    when(processedEventRepository.deleteExpired(anyString(), any(Instant.class), anyInt())).thenReturn(0);
+    when(processedEventRepository.deleteExpired(eq("MAIL_SEND"), any(Instant.class), eq(2))).thenReturn(2);
+
+    // when
+    retentionJob.purge();
+
+    // then
+    verify(processedEventRepository, times(3)).deleteExpired(eq("MAIL_SEND"), any(Instant.class), eq(2));
+    assertThat(meterRegistry.get("processed_events.retention.deleted")
+        .tag("event_type", "MAIL_SEND").counter().count()).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("비활성화되어 있으면 아무것도 지우지 않는다")
+  void purge_disabled() {
+    // given
+    retentionJob = new ProcessedEventRetentionJob(processedEventRepository, new TransactionTemplate(transactionManager),
+        meterRegistry, new ProcessedEventRetentionProperties(false, Duration.ofDays(7), null, 2, 3));
+
+    // when
+    retentionJob.purge();
+
+    // then
+    verify(processedEventRepository, never()).deleteExpired(anyString(), any(Instant.class), anyInt());
+  }
+}
@@ -1,11 +1,14 @@
 package com.codeit.mopl.event;
 
 import com.codeit.mopl.domain.user.entity.Role;
+import com.codeit.mopl.event.codec.EncodedEvent;
+import com.codeit.mopl.event.codec.EventCodecs;
+import com.codeit.mopl.event.entity.OutboxEvent;
 import com.codeit.mopl.event.event.UserLogInOutEvent;
 import com.codeit.mopl.event.event.UserRoleUpdateEvent;
 import com.codeit.mopl.event.listener.KafkaEventListener;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.kafka.clients.producer.ProducerRecord;
+import com.codeit.mopl.event.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +17,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.MDC;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -26,19 +26,17 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class UserKafkaEventListenerTest {
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private OutboxEventRepository outboxEventRepository;
     @Mock
-    private ObjectMapper objectMapper;
+    private EventCodecs eventCodecs;
 
     @InjectMocks
     private KafkaEventListener kafkaEventListener;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws JsonProcessingException {
         MDC.put("requestId", UUID.randomUUID().toString());
-        CompletableFuture<SendResult<String, String>> future =
-                (CompletableFuture<SendResult<String, String>>) mock(CompletableFuture.class);
-        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+        when(eventCodecs.encode(any())).thenReturn(new EncodedEvent(EventCodecs.JSON, new byte[0]));
     }
     @Test
     @DisplayName("UserRoleUpdateEventListener")
@@ -56,7 +54,7 @@ public class UserKafkaEventListenerTest {
         kafkaEventListener.on(event);
 
         // then
-        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        verify(outboxEventRepository, times(1)).save(any(OutboxEvent.class));
     }
 
     @Test
@@ -72,6 +70,6 @@ public class UserKafkaEventListenerTest {
         kafkaEventListener.on(event);
 
         // then
-        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        verify(outboxEventRepository, times(1)).save(any(OutboxEvent.class));
     }
 }
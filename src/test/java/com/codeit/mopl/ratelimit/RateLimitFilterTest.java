@@ -0,0 +1,157 @@
+package com.codeit.mopl.ratelimit;
+
+import com.codeit.mopl.exception.auth.AuthErrorCode;
+import com.codeit.mopl.exception.auth.InvalidTokenException;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
+import com.codeit.mopl.security.jwt.filter.JwtAuthenticationFilter;
+import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
+import com.codeit.mopl.security.jwt.registry.JwtRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitFilterTest {
+    private static final RateLimitProperties.Limit USER_LIMIT = new RateLimitProperties.Limit(10, 1);
+    private static final RateLimitProperties.Limit IP_LIMIT = new RateLimitProperties.Limit(100, 10);
+
+    @Mock
+    private RedisRateLimiter rateLimiter;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private JwtRegistry jwtRegistry;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule("contents", "/api/contents/**", null, USER_LIMIT, IP_LIMIT);
+        RateLimitProperties properties = new RateLimitProperties(true, 5, Duration.ofSeconds(1), List.of(rule), null);
+        filter = new RateLimitFilter(rateLimiter, jwtTokenProvider, properties, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("검증을 통과한 AccessToken 의 userId 로 사용자 버킷을 적용한다.")
+    @Test
+    void userBucketFromVerifiedToken() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(jwtTokenProvider.verifyAccessToken("valid"))
+                .willReturn(new VerifiedJwt("valid", "test@test.com", userId, "USER", "access", Instant.now().plusSeconds(60),
+                        Map.of()));
+        given(rateLimiter.tryAcquire(any(), any(), any())).willReturn(RateLimitDecision.allow());
+
+        // when
+        filter.doFilter(request("Bearer valid"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(rateLimiter).tryAcquire("contents", "user:" + userId, USER_LIMIT);
+        verify(rateLimiter).tryAcquire(eq("contents"), startsWith("ip:"), eq(IP_LIMIT));
+    }
+
+    @DisplayName("검증에 실패한 토큰의 userId 클레임으로는 사용자 버킷을 잡지 않고 IP 버킷만 적용한다.")
+    @Test
+    void ipBucketOnlyForUnverifiedToken() throws Exception {
+        // given
+        given(jwtTokenProvider.verifyAccessToken("forged"))
+                .willThrow(new InvalidTokenException(AuthErrorCode.TOKEN_INVALID, Map.of("reason", "signature")));
+        given(rateLimiter.tryAcquire(any(), any(), any())).willReturn(RateLimitDecision.allow());
+
+        // when
+        filter.doFilter(request("Bearer forged"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(rateLimiter, never()).tryAcquire(any(), startsWith("user:"), any());
+        verify(rateLimiter).tryAcquire("contents", "ip:10.0.0.1", IP_LIMIT);
+    }
+
+    @DisplayName("RateLimitFilter 가 검증한 AccessToken 을 JwtAuthenticationFilter 가 재사용해 요청당 한 번만 파싱한다.")
+    @Test
+    void authenticationFilterReusesVerifiedToken() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        VerifiedJwt verifiedJwt = new VerifiedJwt("valid", "test@test.com", userId, "USER", "access",
+                Instant.now().plusSeconds(60), Map.of());
+        given(jwtTokenProvider.verifyAccessToken("valid")).willReturn(verifiedJwt);
+        given(rateLimiter.tryAcquire(any(), any(), any())).willReturn(RateLimitDecision.allow());
+        given(jwtRegistry.hasActiveJwtInformationByAccessToken(verifiedJwt)).willReturn(true);
+        given(userDetailsService.loadUserByUsername("test@test.com"))
+                .willReturn(User.withUsername("test@test.com").password("pw").roles("USER").build());
+        JwtAuthenticationFilter authenticationFilter =
+                new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, jwtRegistry);
+        MockHttpServletRequest request = request("Bearer valid");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                authenticationFilter.doFilter(req, res, new MockFilterChain()));
+
+        // then
+        verify(jwtTokenProvider, times(1)).verifyAccessToken("valid");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @DisplayName("검증에 실패한 AccessToken 은 실패 결과도 공유해 JwtAuthenticationFilter 가 다시 파싱하지 않는다.")
+    @Test
+    void authenticationFilterReusesVerificationFailure() throws Exception {
+        // given
+        InvalidTokenException failure =
+                new InvalidTokenException(AuthErrorCode.TOKEN_INVALID, Map.of("reason", "signature"));
+        given(jwtTokenProvider.verifyAccessToken("forged")).willThrow(failure);
+        given(rateLimiter.tryAcquire(any(), any(), any())).willReturn(RateLimitDecision.allow());
+        JwtAuthenticationFilter authenticationFilter =
+                new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, jwtRegistry);
+        MockHttpServletRequest request = request("Bearer forged");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                authenticationFilter.doFilter(req, res, new MockFilterChain()));
+
+        // then
+        verify(jwtTokenProvider, times(1)).verifyAccessToken("forged");
+        assertThat(request.getAttribute("exception")).isSameAs(failure);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contents");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
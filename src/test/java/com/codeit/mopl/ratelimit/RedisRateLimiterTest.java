@@ -0,0 +1,82 @@
+package com.codeit.mopl.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisRateLimiterTest {
+    private static final RateLimitProperties.Limit LIMIT = new RateLimitProperties.Limit(10, 1);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(true, 3, Duration.ofSeconds(10), List.of(), null);
+        rateLimiter = new RedisRateLimiter(stringRedisTemplate, new SimpleMeterRegistry(), properties);
+    }
+
+    @DisplayName("Redis 에서 가져온 토큰을 모두 쓰기 전까지는 Redis 를 다시 조회하지 않는다.")
+    @Test
+    void consumeLeaseLocally() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willReturn(List.of(3L, 0L));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("contents", "user:1", LIMIT).allowed());
+        }
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+
+    @DisplayName("버킷이 비어 있으면 Retry-After 초와 함께 거절한다.")
+    @Test
+    void rejectWhenBucketEmpty() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willReturn(List.of(0L, 1500L));
+
+        // when
+        RateLimitDecision decision = rateLimiter.tryAcquire("contents", "ip:127.0.0.1", LIMIT);
+
+        // then
+        assertFalse(decision.allowed());
+        assertEquals(2, decision.retryAfterSeconds());
+    }
+
+    @DisplayName("Redis 가 동작하지 않으면 요청을 통과시킨다.")
+    @Test
+    void failOpenWhenRedisDown() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+
+        // when & then
+        assertTrue(rateLimiter.tryAcquire("contents", "user:1", LIMIT).allowed());
+    }
+}
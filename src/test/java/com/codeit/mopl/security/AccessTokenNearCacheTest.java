@@ -0,0 +1,85 @@
+package com.codeit.mopl.security;
+
+import com.codeit.mopl.security.jwt.registry.AccessTokenNearCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class AccessTokenNearCacheTest {
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private AccessTokenNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new AccessTokenNearCache(stringRedisTemplate, new SimpleMeterRegistry(), 100, Duration.ofSeconds(30));
+    }
+
+    @DisplayName("검증된 토큰을 캐싱하면 이후 조회에서 hit 한다.")
+    @Test
+    void putAndContains() {
+        // when
+        nearCache.put("ACCESS_TOKEN");
+
+        // then
+        assertTrue(nearCache.contains("ACCESS_TOKEN"));
+        assertFalse(nearCache.contains("OTHER_TOKEN"));
+    }
+
+    @DisplayName("토큰을 무효화하면 로컬 캐시에서 제거하고 다른 노드로 무효화 메시지를 발행한다.")
+    @Test
+    void invalidatePublishesMessage() {
+        // given
+        nearCache.put("ACCESS_TOKEN");
+
+        // when
+        nearCache.invalidate("ACCESS_TOKEN");
+
+        // then
+        assertFalse(nearCache.contains("ACCESS_TOKEN"));
+        verify(stringRedisTemplate).convertAndSend(AccessTokenNearCache.INVALIDATION_CHANNEL, "ACCESS_TOKEN");
+    }
+
+    @DisplayName("무효화 메시지 발행에 실패해도 로컬 캐시는 비워진다.")
+    @Test
+    void invalidateWhenPublishFails() {
+        // given
+        nearCache.put("ACCESS_TOKEN");
+        willThrow(new RuntimeException("redis down"))
+                .given(stringRedisTemplate).convertAndSend(anyString(), anyString());
+
+        // when
+        nearCache.invalidate("ACCESS_TOKEN");
+
+        // then
+        assertFalse(nearCache.contains("ACCESS_TOKEN"));
+    }
+
+    @DisplayName("다른 노드에서 무효화 메시지를 수신하면 로컬 캐시에서 제거한다.")
+    @Test
+    void onMessage() {
+        // given
+        nearCache.put("ACCESS_TOKEN");
+
+        // when
+        nearCache.onMessage("ACCESS_TOKEN");
+
+        // then
+        assertFalse(nearCache.contains("ACCESS_TOKEN"));
+    }
+}
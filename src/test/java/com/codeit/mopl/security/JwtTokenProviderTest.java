@@ -0,0 +1,86 @@
+package com.codeit.mopl.security;
+
+import com.codeit.mopl.domain.user.entity.Role;
+import com.codeit.mopl.exception.auth.InvalidTokenException;
+import com.codeit.mopl.security.jwt.VerifiedJwt;
+import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenProviderTest {
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long!!";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 30, 60);
+    }
+
+    @DisplayName("AccessToken 을 한 번 검증하면 subject, userId, roles, type, 만료시간을 모두 얻는다.")
+    @Test
+    void verifyAccessToken() {
+        // given
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenProvider.generateAccessToken(Map.of("userId", userId, "roles", Role.USER), "test@example.com");
+
+        // when
+        VerifiedJwt verifiedJwt = jwtTokenProvider.verifyAccessToken(token);
+
+        // then
+        assertEquals(token, verifiedJwt.token());
+        assertEquals("test@example.com", verifiedJwt.subject());
+        assertEquals(userId, verifiedJwt.userId());
+        assertEquals("USER", verifiedJwt.roles());
+        assertEquals("access", verifiedJwt.type());
+        assertFalse(verifiedJwt.isExpired());
+    }
+
+    @DisplayName("RefreshToken 을 AccessToken 으로 검증하면 예외가 발생한다.")
+    @Test
+    void verifyAccessTokenWithRefreshToken() {
+        // given
+        String token = jwtTokenProvider.generateRefreshToken(Map.of("userId", UUID.randomUUID(), "roles", Role.USER), "test@example.com");
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.verifyAccessToken(token));
+        assertTrue(jwtTokenProvider.validateRefreshToken(token));
+        assertFalse(jwtTokenProvider.validateAccessToken(token));
+    }
+
+    @DisplayName("AccessToken 을 RefreshToken 으로 검증하면 예외가 발생한다.")
+    @Test
+    void verifyRefreshTokenWithAccessToken() {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(Map.of("userId", UUID.randomUUID(), "roles", Role.USER), "test@example.com");
+        String refreshToken = jwtTokenProvider.generateRefreshToken(Map.of("userId", UUID.randomUUID(), "roles", Role.USER), "test@example.com");
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.verifyRefreshToken(accessToken));
+        assertEquals("refresh", jwtTokenProvider.verifyRefreshToken(refreshToken).type());
+        assertEquals("test@example.com", jwtTokenProvider.verifyRefreshToken(refreshToken).subject());
+    }
+
+    @DisplayName("다른 키로 서명된 토큰은 검증에 실패한다.")
+    @Test
+    void verifyWithDifferentKey() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider("another-secret-key-must-be-at-least-256-bits!!", 30, 60);
+        String token = otherProvider.generateAccessToken(Map.of("userId", UUID.randomUUID(), "roles", Role.USER), "test@example.com");
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.verifyAccessToken(token));
+    }
+
+    @DisplayName("형식이 잘못된 토큰은 검증에 실패한다.")
+    @Test
+    void verifyMalformedToken() {
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.verifyAccessToken("not-a-jwt"));
+    }
+}
@@ -20,7 +20,10 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UserDetailsServiceTest {
@@ -28,6 +31,8 @@ public class UserDetailsServiceTest {
     private UserRepository userRepository;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
 
     @InjectMocks
     private CustomUserDetailsService customUserDetailsService;
@@ -51,6 +56,23 @@ public class UserDetailsServiceTest {
         assertEquals("encodedPassword", userDetails.getPassword());
         assertTrue(userDetails.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+        verify(userPrincipalCache).put((CustomUserDetails) userDetails);
+    }
+
+    @DisplayName("캐싱된 회원 정보가 있으면 DB 를 조회하지 않는다.")
+    @Test
+    void loadUserByUsernameFromCache() {
+        // given
+        UserDto userDto = new UserDto(UUID.randomUUID(), Instant.now(), "test@example.com", "TEST", null, Role.USER, false);
+        CustomUserDetails cached = new CustomUserDetails(userDto, "encodedPassword");
+        given(userPrincipalCache.get("test@example.com")).willReturn(cached);
+
+        // when
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername("test@example.com");
+
+        // then
+        assertSame(cached, userDetails);
+        verify(userRepository, never()).findByEmail(any());
     }
 
     @DisplayName("로그인에 사용된 이메일이 존재하지 않는 경우 유저를 찾을 수 없다.")
@@ -76,6 +98,7 @@ public class UserDetailsServiceTest {
 
         // then
         assertEquals("계정이 잠겨있습니다.",exception.getErrorCode().getMessage());
+        verify(userPrincipalCache, never()).put(any());
     }
 
 }
@@ -3,10 +3,12 @@ package com.codeit.mopl.security.config;
 import com.codeit.mopl.domain.user.mapper.UserMapper;
 import com.codeit.mopl.domain.user.repository.UserRepository;
 import com.codeit.mopl.security.CustomUserDetailsService;
+import com.codeit.mopl.security.UserPrincipalCache;
 import com.codeit.mopl.security.jwt.filter.JwtAuthenticationFilter;
 import com.codeit.mopl.security.jwt.handler.JwtAuthenticationEntryPoint;
 import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
 import com.codeit.mopl.security.jwt.registry.JwtRegistry;
+import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
@@ -83,6 +85,7 @@ public class TestSecurityConfig {
 
     @Bean
     public UserDetailsService customUserDetailsService(UserRepository userRepository, UserMapper userMapper) {
-        return new CustomUserDetailsService(userRepository, userMapper);
+        // 슬라이스 테스트에서는 principal 캐시를 사용하지 않는다 (mock 은 항상 miss)
+        return new CustomUserDetailsService(userRepository, userMapper, Mockito.mock(UserPrincipalCache.class));
     }
 }
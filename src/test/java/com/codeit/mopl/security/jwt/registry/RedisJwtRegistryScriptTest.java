@@ -0,0 +1,234 @@
+package com.codeit.mopl.security.jwt.registry;
+
+import com.codeit.mopl.config.RedisConfig;
+import com.codeit.mopl.domain.user.dto.response.UserDto;
+import com.codeit.mopl.domain.user.entity.Role;
+import com.codeit.mopl.exception.auth.RefreshTokenMismatchException;
+import com.codeit.mopl.security.jwt.JwtInformation;
+import com.codeit.mopl.security.jwt.provider.JwtTokenProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * JwtRegistryScripts 의 Lua 스크립트와 LegacyJwtIndexMigration 을 실제 Redis 에서 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisJwtRegistryScriptTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long!!";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 30, 60);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final AccessTokenNearCache accessTokenNearCache = mock(AccessTokenNearCache.class);
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisTemplate<String, Object> redisTemplate;
+    private LegacyJwtIndexMigration legacyJwtIndexMigration;
+    private RedisJwtRegistry redisJwtRegistry;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        // 운영과 같은 직렬화 설정 (해시 도입 전 세션을 같은 형식으로 쓰기 위해)
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new RedisConfig().redisSerializer(JsonMapper.builder().findAndAddModules().build()));
+        redisTemplate.afterPropertiesSet();
+
+        legacyJwtIndexMigration = new LegacyJwtIndexMigration(redisTemplate, stringRedisTemplate, new SimpleMeterRegistry(), 2);
+        redisJwtRegistry = new RedisJwtRegistry(jwtTokenProvider, eventPublisher, redisTemplate, stringRedisTemplate,
+                accessTokenNearCache, legacyJwtIndexMigration);
+    }
+
+    @Test
+    @DisplayName("등록 -> 교체 -> 무효화 시 토큰 별 키와 세션 해시가 함께 바뀐다")
+    void register_rotate_invalidate() {
+        // given
+        UserDto user = user();
+        JwtInformation first = issue(user);
+
+        // when : 등록
+        redisJwtRegistry.registerJwtInformation(first);
+
+        // then
+        assertThat(stringRedisTemplate.type(userKey(user))).isEqualTo(DataType.HASH);
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.accessKey(first.getAccessToken()))).isTrue();
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.refreshKey(first.getRefreshToken()))).isTrue();
+        assertThat(stringRedisTemplate.getExpire(JwtTokenKeys.refreshKey(first.getRefreshToken()), TimeUnit.MINUTES))
+                .isBetween(58L, 60L);
+
+        // when : 교체
+        JwtInformation second = issue(user);
+        redisJwtRegistry.rotateJwtInformation(first.getRefreshToken(), second);
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.accessKey(first.getAccessToken()))).isFalse();
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.refreshKey(first.getRefreshToken()))).isFalse();
+        assertThat(redisJwtRegistry.hasActiveJwtInformationByRefreshToken(second.getRefreshToken())).isTrue();
+        assertThat(stringRedisTemplate.opsForHash().get(userKey(user), "refresh")).isEqualTo(second.getRefreshToken());
+        verify(accessTokenNearCache).invalidate(first.getAccessToken());
+
+        // when : 무효화
+        redisJwtRegistry.invalidateJwtInformationByUserId(user.id());
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(userKey(user))).isFalse();
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.accessKey(second.getAccessToken()))).isFalse();
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.refreshKey(second.getRefreshToken()))).isFalse();
+        verify(accessTokenNearCache).invalidate(second.getAccessToken());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 RefreshToken 으로 교체하면 MISMATCH 로 거절하고 세션을 바꾸지 않는다")
+    void rotate_withStaleRefreshToken() {
+        // given
+        UserDto user = user();
+        JwtInformation first = issue(user);
+        JwtInformation second = issue(user);
+        redisJwtRegistry.registerJwtInformation(first);
+        redisJwtRegistry.rotateJwtInformation(first.getRefreshToken(), second);
+
+        // when & then
+        assertThatThrownBy(() -> redisJwtRegistry.rotateJwtInformation(first.getRefreshToken(), issue(user)))
+                .isInstanceOf(RefreshTokenMismatchException.class);
+        assertThat(stringRedisTemplate.opsForHash().get(userKey(user), "refresh")).isEqualTo(second.getRefreshToken());
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.accessKey(second.getAccessToken()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("해시 도입 전 형식(JwtInformation JSON) 세션도 교체하고, 이전 토큰 키 / 전역 Set 항목을 정리한다")
+    void rotate_legacyFormatSession() {
+        // given : 이전 코드가 쓰던 형식 그대로 저장
+        UserDto user = user();
+        JwtInformation legacy = issue(user);
+        redisTemplate.opsForValue().set(userKey(user), legacy);
+        redisTemplate.opsForSet().add(JwtTokenKeys.LEGACY_ACCESS_TOKEN_INDEX_KEY, legacy.getAccessToken());
+        redisTemplate.opsForSet().add(JwtTokenKeys.LEGACY_REFRESH_TOKEN_INDEX_KEY, legacy.getRefreshToken());
+        stringRedisTemplate.opsForValue().set(JwtTokenKeys.accessKey(legacy.getAccessToken()), user.id().toString());
+
+        // when
+        JwtInformation next = issue(user);
+        redisJwtRegistry.rotateJwtInformation(legacy.getRefreshToken(), next);
+
+        // then
+        assertThat(stringRedisTemplate.type(userKey(user))).isEqualTo(DataType.HASH);
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.accessKey(legacy.getAccessToken()))).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(JwtTokenKeys.LEGACY_ACCESS_TOKEN_INDEX_KEY, legacy.getAccessToken()))
+                .isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(JwtTokenKeys.LEGACY_REFRESH_TOKEN_INDEX_KEY, legacy.getRefreshToken()))
+                .isFalse();
+        assertThat(redisJwtRegistry.hasActiveJwtInformationByRefreshToken(next.getRefreshToken())).isTrue();
+        verify(accessTokenNearCache).invalidate(legacy.getAccessToken());
+    }
+
+    @Test
+    @DisplayName("전역 Set 을 페이지 단위로 토큰 별 TTL 키로 옮기고, 만료된 토큰은 버린 뒤 Set 을 지운다")
+    void migrate_legacyIndexInPages() {
+        // given : page-size 2 보다 많은 토큰
+        UserDto user = user();
+        String live1 = issue(user).getAccessToken();
+        String live2 = issue(user).getAccessToken();
+        String live3 = issue(user).getAccessToken();
+        String expired = expiredAccessToken(user);
+        redisTemplate.opsForSet().add(JwtTokenKeys.LEGACY_ACCESS_TOKEN_INDEX_KEY, live1, live2, live3, expired);
+
+        // when
+        legacyJwtIndexMigration.migrate();
+
+        // then
+        assertThat(legacyJwtIndexMigration.isCompleted()).isTrue();
+        assertThat(redisTemplate.hasKey(JwtTokenKeys.LEGACY_ACCESS_TOKEN_INDEX_KEY)).isFalse();
+        for (String token : new String[]{live1, live2, live3}) {
+            assertThat(stringRedisTemplate.opsForValue().get(JwtTokenKeys.accessKey(token))).isEqualTo(user.id().toString());
+            assertThat(stringRedisTemplate.getExpire(JwtTokenKeys.accessKey(token), TimeUnit.MINUTES)).isBetween(28L, 30L);
+        }
+        assertThat(stringRedisTemplate.hasKey(JwtTokenKeys.accessKey(expired))).isFalse();
+    }
+
+    private JwtInformation issue(UserDto user) {
+        Map<String, Object> claims = Map.of("userId", user.id().toString(), "roles", user.role().name());
+        return new JwtInformation(user,
+                jwtTokenProvider.generateAccessToken(claims, user.email()),
+                jwtTokenProvider.generateRefreshToken(claims, user.email()));
+    }
+
+    // 이미 만료된 토큰은 발급 API 로 만들 수 없어 만료 시각만 과거로 둔 토큰을 직접 서명한다
+    private String expiredAccessToken(UserDto user) {
+        try {
+            SignedJWT jwt = new SignedJWT(
+                    new JWSHeader(JWSAlgorithm.HS256),
+                    new JWTClaimsSet.Builder()
+                            .subject(user.email())
+                            .claim("userId", user.id().toString())
+                            .claim("type", "access")
+                            .expirationTime(new Date(System.currentTimeMillis() - 1000))
+                            .build());
+            jwt.sign(new MACSigner(SECRET.getBytes(StandardCharsets.UTF_8)));
+            return jwt.serialize();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private UserDto user() {
+        return new UserDto(UUID.randomUUID(), Instant.now(), "test@example.com", "tester", null, Role.USER, false);
+    }
+
+    private String userKey(UserDto user) {
+        return "jwt:user:" + user.id();
+    }
+}
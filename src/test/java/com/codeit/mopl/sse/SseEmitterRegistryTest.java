@@ -0,0 +1,176 @@
+package com.codeit.mopl.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codeit.mopl.sse.repository.SseEmitterRegistry;
+import com.codeit.mopl.sse.repository.SseReplayStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SseEmitterRegistryTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SseReplayStream sseReplayStream = mock(SseReplayStream.class);
+
+  @Test
+  @DisplayName("getNewEvents - Stream 을 쓸 수 없으면 로컬 버퍼에서 lastEventId 이후의 이벤트만 순서대로 반환한다")
+  void getNewEvents_whenStreamUnavailable_returnsLocalEventsAfterLastEventId() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 10, 100, Duration.ofMinutes(10));
+    UUID receiverId = UUID.randomUUID();
+    SseMessage first = registry.addNewEvent(receiverId, "event", "1");
+    SseMessage second = registry.addNewEvent(receiverId, "event", "2");
+    SseMessage third = registry.addNewEvent(receiverId, "event", "3");
+    when(sseReplayStream.readAfter(receiverId, first.getEventId())).thenReturn(null);
+
+    // when
+    List<SseMessage> result = registry.getNewEvents(receiverId, first.getEventId());
+
+    // then
+    assertEquals(List.of(second, third), result);
+    assertTrue(second.getSequence() < third.getSequence());
+  }
+
+  @Test
+  @DisplayName("addNewEvent - 수신자 별 용량을 넘으면 가장 오래된 이벤트부터 밀어낸다")
+  void addNewEvent_evictsOldestWhenFull() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 2, 100, Duration.ofMinutes(10));
+    UUID receiverId = UUID.randomUUID();
+    SseMessage first = registry.addNewEvent(receiverId, "event", "1");
+    SseMessage second = registry.addNewEvent(receiverId, "event", "2");
+    SseMessage third = registry.addNewEvent(receiverId, "event", "3");
+    when(sseReplayStream.readAfter(any(), any())).thenReturn(null);
+
+    // when & then
+    assertTrue(registry.getNewEvents(receiverId, first.getEventId()).isEmpty());
+    assertEquals(List.of(third), registry.getNewEvents(receiverId, second.getEventId()));
+    assertEquals(2, meterRegistry.get("sse.replay.events").gauge().value());
+  }
+
+  @Test
+  @DisplayName("addNewEvent - 전체 한도를 넘으면 가장 오래 쓰이지 않은 수신자의 버퍼부터 버린다")
+  void addNewEvent_evictsLeastRecentReceiverWhenGlobalCapacityExceeded() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 10, 3, Duration.ofMinutes(10));
+    UUID idleReceiverId = UUID.randomUUID();
+    UUID activeReceiverId = UUID.randomUUID();
+    registry.addNewEvent(idleReceiverId, "event", "1");
+    registry.addNewEvent(idleReceiverId, "event", "2");
+    registry.addNewEvent(activeReceiverId, "event", "3");
+
+    // when
+    registry.addNewEvent(activeReceiverId, "event", "4");
+
+    // then
+    assertEquals(Map.of(activeReceiverId, 2), registry.getBufferedCounts());
+    assertEquals(2, meterRegistry.get("sse.replay.events").gauge().value());
+    assertEquals(2, meterRegistry.get("sse.replay.evicted").counter().count());
+  }
+
+  @Test
+  @DisplayName("evictExpired - 보관 기간이 지난 이벤트와 빈 버퍼를 정리한다")
+  void evictExpired_removesExpiredEvents() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 10, 100, Duration.ZERO);
+    UUID receiverId = UUID.randomUUID();
+    registry.addNewEvent(receiverId, "event", "1");
+
+    // when
+    registry.evictExpired();
+
+    // then
+    assertEquals(0, meterRegistry.get("sse.replay.events").gauge().value());
+    assertEquals(0, meterRegistry.get("sse.replay.receivers").gauge().value());
+  }
+
+  @Test
+  @DisplayName("addNewEvent - 저장 시점에 SSE 프레임을 한 번 인코딩한다")
+  void addNewEvent_encodesFrameOnce() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 10, 100, Duration.ofMinutes(10));
+    UUID receiverId = UUID.randomUUID();
+
+    // when
+    SseMessage message = registry.addNewEvent(receiverId, "notifications", Map.of("title", "hi"));
+
+    // then
+    String expected = "id:" + message.getEventId() + "\n"
+        + "event:notifications\n"
+        + "data:{\"title\":\"hi\"}\n\n";
+    assertEquals(expected, new String(message.getFrame(), StandardCharsets.UTF_8));
+    assertEquals(1, message.getFrameData().size());
+  }
+
+  @Test
+  @DisplayName("addNewEvent - Stream 에서 발급한 ID 를 이벤트 ID 로 사용한다")
+  void addNewEvent_usesStreamEventId() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 10, 100, Duration.ofMinutes(10));
+    UUID receiverId = UUID.randomUUID();
+    UUID streamEventId = new UUID(System.currentTimeMillis(), 0);
+    when(sseReplayStream.append(receiverId, "event", "1")).thenReturn(streamEventId);
+
+    // when
+    SseMessage message = registry.addNewEvent(receiverId, "event", "1");
+
+    // then
+    assertEquals(streamEventId, message.getEventId());
+  }
+
+  @Test
+  @DisplayName("getNewEvents - 로컬 버퍼에 없는 lastEventId 는 Stream 에서 읽는다")
+  void getNewEvents_whenLocalMiss_readsStream() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 10, 100, Duration.ofMinutes(10));
+    UUID receiverId = UUID.randomUUID();
+    UUID lastEventId = new UUID(System.currentTimeMillis(), 0);
+    UUID nextEventId = new UUID(System.currentTimeMillis(), 1);
+    when(sseReplayStream.readAfter(receiverId, lastEventId))
+        .thenReturn(List.of(new SseReplayStream.Entry(nextEventId, "event", "2", Instant.now())));
+
+    // when
+    List<SseMessage> result = registry.getNewEvents(receiverId, lastEventId);
+
+    // then
+    assertEquals(1, result.size());
+    assertEquals(nextEventId, result.get(0).getEventId());
+    assertEquals("id:" + nextEventId + "\nevent:event\ndata:2\n\n",
+        new String(result.get(0).getFrame(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("getNewEvents - 로컬 버퍼에 lastEventId 가 있어도 Stream 결과를 기준으로 반환한다")
+  void getNewEvents_whenLocalHit_usesStream() {
+    // given
+    SseEmitterRegistry registry = new SseEmitterRegistry(objectMapper, sseReplayStream, meterRegistry, 10, 100, Duration.ofMinutes(10));
+    UUID receiverId = UUID.randomUUID();
+    UUID firstEventId = new UUID(System.currentTimeMillis(), 0);
+    UUID otherNodeEventId = new UUID(System.currentTimeMillis(), 1);
+    when(sseReplayStream.append(receiverId, "event", "1")).thenReturn(firstEventId);
+    SseMessage first = registry.addNewEvent(receiverId, "event", "1");
+    // 다른 노드가 Stream 에만 저장한 이벤트
+    when(sseReplayStream.readAfter(receiverId, first.getEventId()))
+        .thenReturn(List.of(new SseReplayStream.Entry(otherNodeEventId, "event", "2", Instant.now())));
+
+    // when
+    List<SseMessage> result = registry.getNewEvents(receiverId, first.getEventId());
+
+    // then
+    assertEquals(1, result.size());
+    assertEquals(otherNodeEventId, result.get(0).getEventId());
+  }
+}
@@ -0,0 +1,272 @@
+package com.codeit.mopl.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codeit.mopl.sse.SseServiceTest.TestEmitter;
+import com.codeit.mopl.sse.service.SseEmitterWriter;
+import com.codeit.mopl.sse.service.SseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseEmitterWriterTest {
+
+  private static final int MAX_FRAMES_PER_DRAIN = 2;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("enqueue - writer 풀에서 적재 순서대로 전송한다")
+  void enqueue_drainsInOrder() {
+    // given
+    SseEmitterWriter writer = writer(Runnable::run, 8);
+    TestEmitter emitter = new TestEmitter(false);
+    UUID receiverId = UUID.randomUUID();
+
+    // when
+    writer.enqueue(receiverId, emitter, "event", SseEmitter.event().name("a").build());
+    writer.enqueue(receiverId, emitter, "event", SseEmitter.event().name("b").build());
+
+    // then
+    assertEquals(2, emitter.sendCount);
+    assertFalse(emitter.completeWithErrorCalled);
+    assertEquals(2.0, meterRegistry.counter("sse.events", "event", "event", "result", "delivered").count());
+    assertEquals(2, meterRegistry.get("sse.send.latency").timer().count());
+  }
+
+  @Test
+  @DisplayName("enqueue - 전송 중 IOException 발생 시 emitter를 에러로 종료한다")
+  void enqueue_whenIOException_completesWithError() {
+    // given
+    SseEmitterWriter writer = writer(Runnable::run, 8);
+    TestEmitter brokenEmitter = new TestEmitter(true);
+
+    // when
+    writer.enqueue(UUID.randomUUID(), brokenEmitter, "event", SseEmitter.event().name("a").build());
+
+    // then
+    assertEquals(1, brokenEmitter.sendCount);
+    assertTrue(brokenEmitter.completeWithErrorCalled);
+  }
+
+  @Test
+  @DisplayName("enqueue - 송신 큐가 가득 차면 느린 클라이언트로 보고 연결을 종료한다")
+  void enqueue_whenQueueFull_disconnectsSlowConsumer() {
+    // given
+    List<Runnable> pending = new ArrayList<>();
+    Executor stalled = pending::add; // drain 이 실행되지 않는 상황
+    SseEmitterWriter writer = writer(stalled, 2);
+    TestEmitter slowEmitter = new TestEmitter(false);
+    UUID receiverId = UUID.randomUUID();
+
+    // when
+    writer.enqueue(receiverId, slowEmitter, "event", SseEmitter.event().name("a").build());
+    writer.enqueue(receiverId, slowEmitter, "event", SseEmitter.event().name("b").build());
+    writer.enqueue(receiverId, slowEmitter, "event", SseEmitter.event().name("c").build());
+
+    // then
+    assertEquals(1, pending.size());
+    assertEquals(0, slowEmitter.sendCount);
+    assertTrue(slowEmitter.completeWithErrorCalled);
+    assertEquals(1.0, meterRegistry.counter("sse.writer.slow_consumer").count());
+    assertEquals(1.0, meterRegistry.counter("sse.events", "event", "event", "result", "failed").count());
+  }
+
+  @Test
+  @DisplayName("enqueue - writer 풀이 drain 을 거절하면 남은 이벤트를 버리고 연결을 종료한다")
+  void enqueue_whenExecutorRejects_completesWithError() {
+    // given
+    Executor saturated = task -> {
+      throw new RejectedExecutionException("saturated");
+    };
+    SseEmitterWriter writer = writer(saturated, 8);
+    TestEmitter emitter = new TestEmitter(false);
+    UUID receiverId = UUID.randomUUID();
+
+    // when
+    writer.enqueue(receiverId, emitter, "event", SseEmitter.event().name("a").build());
+
+    // then
+    assertEquals(0, emitter.sendCount);
+    assertTrue(emitter.completeWithErrorCalled);
+    assertTrue(writer.getPendingCounts().isEmpty());
+    assertEquals(1.0, meterRegistry.counter("sse.events", "event", "event", "result", "failed").count());
+  }
+
+  @Test
+  @DisplayName("drain - 한 번에 maxFramesPerDrain 개만 쓰고 남은 이벤트는 다시 예약한다")
+  void drain_writesAtMostMaxFramesThenReschedules() {
+    // given
+    List<Runnable> tasks = new ArrayList<>();
+    SseEmitterWriter writer = writer(tasks::add, 8);
+    TestEmitter emitter = new TestEmitter(false);
+    UUID receiverId = UUID.randomUUID();
+    writer.enqueue(receiverId, emitter, "event", SseEmitter.event().name("a").build());
+    writer.enqueue(receiverId, emitter, "event", SseEmitter.event().name("b").build());
+    writer.enqueue(receiverId, emitter, "event", SseEmitter.event().name("c").build());
+
+    // when
+    tasks.remove(0).run();
+
+    // then
+    assertEquals(MAX_FRAMES_PER_DRAIN, emitter.sendCount);
+    assertEquals(1, tasks.size());
+
+    tasks.remove(0).run();
+    assertEquals(3, emitter.sendCount);
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  @DisplayName("closeBlockedWrites - write-timeout 이상 막힌 쓰기는 연결을 종료하고 다른 연결의 전송은 계속된다")
+  void closeBlockedWrites_closesBlockedEmitter() throws Exception {
+    // given
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    SseEmitterWriter writer = new SseEmitterWriter(pool, meterRegistry, new SseMetrics(meterRegistry), 8,
+        MAX_FRAMES_PER_DRAIN, Duration.ofMillis(50));
+    try {
+      BlockingEmitter blocked = new BlockingEmitter();
+      writer.enqueue(UUID.randomUUID(), blocked, "event", SseEmitter.event().name("a").build());
+      writer.enqueue(UUID.randomUUID(), blocked, "event", SseEmitter.event().name("b").build());
+      assertTrue(blocked.sending.await(1, TimeUnit.SECONDS));
+      Thread.sleep(100);
+
+      // when
+      writer.closeBlockedWrites();
+
+      // then
+      assertTrue(blocked.completedWithError.await(1, TimeUnit.SECONDS));
+      assertTrue(writer.getPendingCounts().isEmpty());
+      assertEquals(-1, writer.getLastWriteAt(blocked));
+      assertEquals(1.0, meterRegistry.counter("sse.writer.write_timeout").count());
+
+      TestEmitter healthy = new TestEmitter(false);
+      writer.enqueue(UUID.randomUUID(), healthy, "event", SseEmitter.event().name("c").build());
+      blocked.unblock.countDown();
+      pool.shutdown();
+      assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+      assertEquals(1, healthy.sendCount);
+      // 막혔던 쓰기가 풀린 뒤에도 버려진 이벤트는 쓰지 않는다
+      assertEquals(1, blocked.sendCount);
+    } finally {
+      pool.shutdownNow();
+      writer.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("resume - pause 중 쌓인 실시간 이벤트보다 재전송 이벤트를 먼저 쓰고, 겹치는 이벤트는 한 번만 쓴다")
+  void resume_writesReplayBeforeLiveEvents() {
+    // given
+    SseEmitterWriter writer = writer(Runnable::run, 8);
+    RecordingEmitter emitter = new RecordingEmitter();
+    UUID receiverId = UUID.randomUUID();
+    SseMessage a = message(receiverId, "a");
+    SseMessage b = message(receiverId, "b");
+    SseMessage c = message(receiverId, "c");
+    writer.pause(receiverId, emitter);
+
+    // when
+    // b 는 Stream 저장 후 재전송 조회 전에 실시간으로도 전달된 이벤트
+    writer.enqueue(receiverId, emitter, b.getEventId(), b.getEventName(), b.getFrameData());
+    writer.enqueue(receiverId, emitter, c.getEventId(), c.getEventName(), c.getFrameData());
+    assertTrue(emitter.frames.isEmpty());
+    writer.resume(emitter, List.of(a, b));
+    // 재전송으로 이미 보낸 이벤트가 늦게 전달되어도 다시 쓰지 않는다
+    writer.enqueue(receiverId, emitter, b.getEventId(), b.getEventName(), b.getFrameData());
+
+    // then
+    assertEquals(List.of("a", "b", "c"), emitter.frames);
+    assertEquals(2.0, meterRegistry.counter("sse.events", "event", "event", "result", "replayed").count());
+  }
+
+  @Test
+  @DisplayName("resume - 재전송 중 첫 전송 실패에서 연결을 종료하고 남은 이벤트는 쓰지 않는다")
+  void resume_whenSendFails_stopsAtFirstFailure() {
+    // given
+    SseEmitterWriter writer = writer(Runnable::run, 8);
+    TestEmitter brokenEmitter = new TestEmitter(true);
+    UUID receiverId = UUID.randomUUID();
+    writer.pause(receiverId, brokenEmitter);
+
+    // when
+    writer.resume(brokenEmitter, List.of(message(receiverId, "a"), message(receiverId, "b")));
+
+    // then
+    assertEquals(1, brokenEmitter.sendCount);
+    assertTrue(brokenEmitter.completeWithErrorCalled);
+    assertTrue(writer.getPendingCounts().isEmpty());
+  }
+
+  private SseMessage message(UUID receiverId, String data) {
+    return new SseMessage(UUID.randomUUID(), receiverId, "event", null, Instant.now(), -1,
+        data.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private SseEmitterWriter writer(Executor executor, int queueCapacity) {
+    return new SseEmitterWriter(executor, meterRegistry, new SseMetrics(meterRegistry), queueCapacity,
+        MAX_FRAMES_PER_DRAIN, Duration.ofSeconds(10));
+  }
+
+  static class RecordingEmitter extends SseEmitter {
+    final List<String> frames = new ArrayList<>();
+
+    RecordingEmitter() {
+      super(60_000L);
+    }
+
+    @Override
+    public void send(Set<DataWithMediaType> items) {
+      for (DataWithMediaType item : items) {
+        frames.add(new String((byte[]) item.getData(), StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  // TCP 송신 버퍼가 가득 찬 클라이언트처럼 send 가 반환되지 않는 emitter
+  static class BlockingEmitter extends SseEmitter {
+    final CountDownLatch sending = new CountDownLatch(1);
+    final CountDownLatch unblock = new CountDownLatch(1);
+    final CountDownLatch completedWithError = new CountDownLatch(1);
+    volatile int sendCount = 0;
+
+    BlockingEmitter() {
+      super(60_000L);
+    }
+
+    @Override
+    public void send(Set<DataWithMediaType> items) throws IOException {
+      sendCount++;
+      sending.countDown();
+      try {
+        unblock.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      completedWithError.countDown();
+      super.completeWithError(ex);
+    }
+  }
+}
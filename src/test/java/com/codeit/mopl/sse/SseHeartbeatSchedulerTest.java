@@ -0,0 +1,114 @@
+package com.codeit.mopl.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codeit.mopl.sse.SseServiceTest.TestEmitter;
+import com.codeit.mopl.sse.service.SseEmitterWriter;
+import com.codeit.mopl.sse.service.SseHeartbeatScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class SseHeartbeatSchedulerTest {
+
+  private SseEmitterWriter sseEmitterWriter;
+  private Timer timer;
+  private Timeout timeout;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    sseEmitterWriter = mock(SseEmitterWriter.class);
+    timer = mock(Timer.class);
+    timeout = mock(Timeout.class);
+    meterRegistry = new SimpleMeterRegistry();
+    when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(timeout);
+  }
+
+  @Test
+  @DisplayName("heartbeat - 최근 전송에 성공한 연결에는 ping 을 적재하고 다시 예약한다")
+  void beat_whenHealthy_enqueuesPingAndReschedules() throws Exception {
+    // given
+    SseHeartbeatScheduler scheduler = new SseHeartbeatScheduler(
+        sseEmitterWriter, meterRegistry, Duration.ofSeconds(15), Duration.ofHours(1), timer);
+    UUID receiverId = UUID.randomUUID();
+    TestEmitter emitter = new TestEmitter(false);
+    when(sseEmitterWriter.getLastWriteAt(emitter)).thenReturn(System.currentTimeMillis());
+
+    scheduler.register(receiverId, emitter, () -> {});
+
+    // when
+    firstScheduledTask().run(timeout);
+
+    // then
+    verify(sseEmitterWriter).enqueue(eq(receiverId), eq(emitter), eq("ping"), anySet());
+    verify(timer, times(2)).newTimeout(any(TimerTask.class), eq(15_000L), eq(TimeUnit.MILLISECONDS));
+    assertFalse(emitter.completeCalled);
+    assertEquals(1.0, meterRegistry.get("sse.connections.active").gauge().value());
+  }
+
+  @Test
+  @DisplayName("heartbeat - stale-after 동안 전송에 성공하지 못한 연결은 종료한다")
+  void beat_whenStale_completesAndCleansUp() throws Exception {
+    // given
+    SseHeartbeatScheduler scheduler = new SseHeartbeatScheduler(
+        sseEmitterWriter, meterRegistry, Duration.ofSeconds(15), Duration.ZERO, timer);
+    TestEmitter emitter = new TestEmitter(false);
+    AtomicBoolean cleanedUp = new AtomicBoolean(false);
+
+    scheduler.register(UUID.randomUUID(), emitter, () -> cleanedUp.set(true));
+
+    // when
+    firstScheduledTask().run(timeout);
+
+    // then
+    assertTrue(emitter.completeCalled);
+    assertTrue(cleanedUp.get());
+    verify(sseEmitterWriter, never()).enqueue(any(), any(), any(), any());
+    assertEquals(0.0, meterRegistry.get("sse.connections.active").gauge().value());
+  }
+
+  @Test
+  @DisplayName("unregister - 예약된 heartbeat 를 취소하고 이후 실행은 무시한다")
+  void unregister_cancelsHeartbeat() throws Exception {
+    // given
+    SseHeartbeatScheduler scheduler = new SseHeartbeatScheduler(
+        sseEmitterWriter, meterRegistry, Duration.ofSeconds(15), Duration.ZERO, timer);
+    TestEmitter emitter = new TestEmitter(false);
+    scheduler.register(UUID.randomUUID(), emitter, () -> {});
+
+    // when
+    scheduler.unregister(emitter);
+    firstScheduledTask().run(timeout);
+
+    // then
+    verify(timeout).cancel();
+    assertFalse(emitter.completeCalled);
+  }
+
+  private TimerTask firstScheduledTask() {
+    ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+    verify(timer).newTimeout(captor.capture(), anyLong(), any(TimeUnit.class));
+    return captor.getValue();
+  }
+}
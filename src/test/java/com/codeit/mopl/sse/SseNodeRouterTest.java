@@ -0,0 +1,65 @@
+package com.codeit.mopl.sse;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codeit.mopl.sse.service.SseNodeRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class SseNodeRouterTest {
+
+  @SuppressWarnings("unchecked")
+  private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+  private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+  private final SseNodeRouter router = new SseNodeRouter(stringRedisTemplate, new ObjectMapper(), "node-a");
+
+  @Test
+  @DisplayName("forward - 대상 노드 채널에 구독자가 없으면 경로에서 노드를 지우고 false 를 반환한다")
+  void forward_whenNoSubscriber_removesRoute() {
+    // given
+    SseMessage message = message();
+    when(stringRedisTemplate.convertAndSend(eq("sse:node:node-b"), anyString())).thenReturn(0L);
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+
+    // when
+    boolean forwarded = router.forward("node-b", message);
+
+    // then
+    assertFalse(forwarded);
+    verify(setOperations).remove("sse:route:" + message.getReceiverId(), "node-b");
+  }
+
+  @Test
+  @DisplayName("forward - 대상 노드가 구독 중이면 경로를 유지하고 true 를 반환한다")
+  void forward_whenSubscribed_keepsRoute() {
+    // given
+    SseMessage message = message();
+    when(stringRedisTemplate.convertAndSend(eq("sse:node:node-b"), anyString())).thenReturn(1L);
+
+    // when
+    boolean forwarded = router.forward("node-b", message);
+
+    // then
+    assertTrue(forwarded);
+    verify(stringRedisTemplate, never()).opsForSet();
+  }
+
+  private SseMessage message() {
+    UUID eventId = UUID.randomUUID();
+    return new SseMessage(eventId, UUID.randomUUID(), "event", null, Instant.now(), 0,
+        ("id:" + eventId + "\nevent:event\ndata:1\n\n").getBytes(StandardCharsets.UTF_8));
+  }
+}
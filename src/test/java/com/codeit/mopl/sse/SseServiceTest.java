@@ -3,14 +3,21 @@ package com.codeit.mopl.sse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.*;
 
 import com.codeit.mopl.sse.SseMessage;
 import com.codeit.mopl.sse.repository.SseEmitterRegistry;
+import com.codeit.mopl.sse.service.SseEmitterWriter;
+import com.codeit.mopl.sse.service.SseHeartbeatScheduler;
+import com.codeit.mopl.sse.service.SseMetrics;
+import com.codeit.mopl.sse.service.SseNodeRouter;
 import com.codeit.mopl.sse.service.SseService;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -28,6 +35,18 @@ class SseServiceTest {
   @Mock
   private SseEmitterRegistry sseEmitterRegistry;
 
+  @Mock
+  private SseNodeRouter sseNodeRouter;
+
+  @Mock
+  private SseEmitterWriter sseEmitterWriter;
+
+  @Mock
+  private SseHeartbeatScheduler sseHeartbeatScheduler;
+
+  @Mock
+  private SseMetrics sseMetrics;
+
   @Spy
   @InjectMocks
   private SseService sseService;
@@ -51,7 +70,14 @@ class SseServiceTest {
     SseEmitter registered = emitterCaptor.getValue();
 
     assertSame(result, registered);
+    verify(sseHeartbeatScheduler).register(eq(receiverId), eq(registered), any(Runnable.class));
     verify(sseService, never()).reSend(any(UUID.class), any(UUID.class), any(SseEmitter.class));
+
+    // 레지스트리 등록 전에 송신 큐를 멈추고, 재전송할 것이 없으므로 바로 재개한다
+    InOrder inOrder = inOrder(sseEmitterWriter, sseEmitterRegistry);
+    inOrder.verify(sseEmitterWriter).pause(receiverId, registered);
+    inOrder.verify(sseEmitterRegistry).addEmitter(receiverId, registered);
+    inOrder.verify(sseEmitterWriter).resume(registered, List.of());
   }
 
   @Test
@@ -99,18 +125,15 @@ class SseServiceTest {
   }
 
   @Test
-  @DisplayName("send - 정상 emitter가 있으면 이벤트를 전송한다")
-  void send_withHealthyEmitters_sendsEvent() throws Exception {
+  @DisplayName("send - 정상 emitter가 있으면 writer 송신 큐에 이벤트를 적재한다")
+  void send_withHealthyEmitters_enqueuesEvent() throws Exception {
     // given
     UUID receiverId = UUID.randomUUID();
     String eventName = "test-event";
     String data = "payload";
 
-    UUID eventId = UUID.randomUUID();
     SseMessage message = mock(SseMessage.class);
-    when(message.getEventId()).thenReturn(eventId);
-    when(message.getEventName()).thenReturn(eventName);
-    when(message.getData()).thenReturn(data);
+    when(message.getFrameData()).thenReturn(Set.of());
 
     when(sseEmitterRegistry.addNewEvent(receiverId, eventName, data))
         .thenReturn(message);
@@ -126,32 +149,31 @@ class SseServiceTest {
     sseService.send(receiverId, eventName, data);
 
     // then
-    assertEquals(1, healthyEmitter.sendCount);
+    // 실제 전송은 writer 풀에서 일어나므로 호출 스레드에서는 send 하지 않는다
+    verify(sseEmitterWriter).enqueue(eq(receiverId), eq(healthyEmitter), any(), any(), anySet());
+    assertEquals(0, healthyEmitter.sendCount);
     verify(sseEmitterRegistry, never()).removeEmitter(eq(receiverId), eq(healthyEmitter));
   }
 
   @Test
-  @DisplayName("send - IOException 발생 시 emitter를 제거한다")
-  void send_whenIOException_removesEmitter() throws Exception {
+  @DisplayName("send - 수신자의 모든 emitter에 각각 적재한다")
+  void send_withMultipleEmitters_enqueuesPerEmitter() {
     // given
     UUID receiverId = UUID.randomUUID();
     String eventName = "test-event";
     String data = "payload";
 
-    // ❗ 여기에서 SseMessage의 필드도 스텁해줘야 함
-    UUID eventId = UUID.randomUUID();
     SseMessage message = mock(SseMessage.class);
-    when(message.getEventId()).thenReturn(eventId);
-    when(message.getEventName()).thenReturn(eventName);
-    when(message.getData()).thenReturn(data);
+    when(message.getFrameData()).thenReturn(Set.of());
 
     when(sseEmitterRegistry.addNewEvent(receiverId, eventName, data))
         .thenReturn(message);
 
-    TestEmitter brokenEmitter = new TestEmitter(true); // send 시 예외 던짐
+    TestEmitter first = new TestEmitter(false);
+    TestEmitter second = new TestEmitter(true);
 
     ConcurrentMap<UUID, List<SseEmitter>> map = new ConcurrentHashMap<>();
-    map.put(receiverId, new CopyOnWriteArrayList<>(List.of(brokenEmitter)));
+    map.put(receiverId, new CopyOnWriteArrayList<>(List.of(first, second)));
 
     when(sseEmitterRegistry.getData()).thenReturn(map);
 
@@ -159,14 +181,14 @@ class SseServiceTest {
     sseService.send(receiverId, eventName, data);
 
     // then
-    // IOException 발생 전까지 send()는 한 번 호출되어야 함
-    assertEquals(1, brokenEmitter.sendCount);
-    verify(sseEmitterRegistry).removeEmitter(receiverId, brokenEmitter);
+    verify(sseEmitterWriter).enqueue(eq(receiverId), eq(first), any(), any(), anySet());
+    verify(sseEmitterWriter).enqueue(eq(receiverId), eq(second), any(), any(), anySet());
+    verify(sseEmitterRegistry, never()).removeEmitter(any(), any());
   }
 
   @Test
-  @DisplayName("reSend - 신규 이벤트가 없으면 전송하지 않는다")
-  void reSend_whenNoNewEvents_doesNothing() throws Exception {
+  @DisplayName("reSend - 신규 이벤트가 없으면 빈 목록으로 송신 큐를 재개한다")
+  void reSend_whenNoNewEvents_resumesWithEmptyList() {
     // given
     UUID receiverId = UUID.randomUUID();
     UUID lastEventId = UUID.randomUUID();
@@ -181,13 +203,13 @@ class SseServiceTest {
 
     // then
     verify(sseEmitterRegistry).getNewEvents(receiverId, lastEventId);
+    verify(sseEmitterWriter).resume(emitter, List.of());
     assertEquals(0, emitter.sendCount);
-    verify(sseEmitterRegistry, never()).removeEmitter(any(), any());
   }
 
   @Test
-  @DisplayName("reSend - 신규 이벤트가 있으면 순차적으로 재전송한다")
-  void reSend_withNewEvents_sendsAll() throws Exception {
+  @DisplayName("reSend - 신규 이벤트는 connect 스레드에서 쓰지 않고 writer 송신 큐에 순서대로 넣는다")
+  void reSend_withNewEvents_resumesWriterWithReplay() {
     // given
     UUID receiverId = UUID.randomUUID();
     UUID lastEventId = UUID.randomUUID();
@@ -195,9 +217,6 @@ class SseServiceTest {
     SseMessage m1 = mock(SseMessage.class);
     SseMessage m2 = mock(SseMessage.class);
 
-    when(m1.getEventId()).thenReturn(UUID.randomUUID());
-    when(m2.getEventId()).thenReturn(UUID.randomUUID());
-
     when(sseEmitterRegistry.getNewEvents(receiverId, lastEventId))
         .thenReturn(List.of(m1, m2));
 
@@ -207,59 +226,51 @@ class SseServiceTest {
     sseService.reSend(receiverId, lastEventId, emitter);
 
     // then
-    assertEquals(2, emitter.sendCount);
-    verify(sseEmitterRegistry, never()).removeEmitter(any(), any());
+    verify(sseEmitterWriter).resume(emitter, List.of(m1, m2));
+    verify(sseMetrics).replayBatch(2);
+    assertEquals(0, emitter.sendCount);
   }
 
   @Test
-  @DisplayName("reSend - 예외 발생 시 emitter를 제거한다")
-  void reSend_whenException_removesEmitter() throws Exception {
+  @DisplayName("disconnect - 로그아웃 시 모든 연결을 종료하고 heartbeat, 송신 큐, 노드 경로를 정리한다")
+  void disconnect_unregistersHeartbeatOutboxAndRoute() {
     // given
     UUID receiverId = UUID.randomUUID();
-    UUID lastEventId = UUID.randomUUID();
+    TestEmitter first = new TestEmitter(false);
+    TestEmitter second = new TestEmitter(false);
 
-    SseMessage m1 = mock(SseMessage.class);
-    when(m1.getEventId()).thenReturn(UUID.randomUUID());
-
-    when(sseEmitterRegistry.getNewEvents(receiverId, lastEventId))
-        .thenReturn(List.of(m1));
-
-    TestEmitter brokenEmitter = new TestEmitter(true);
+    ConcurrentMap<UUID, List<SseEmitter>> map = new ConcurrentHashMap<>();
+    map.put(receiverId, new CopyOnWriteArrayList<>(List.of(first, second)));
+    when(sseEmitterRegistry.getData()).thenReturn(map);
+    when(sseEmitterRegistry.hasEmitters(receiverId)).thenReturn(true, false);
 
     // when
-    sseService.reSend(receiverId, lastEventId, brokenEmitter);
+    sseService.disconnect(receiverId);
 
     // then
-    assertEquals(1, brokenEmitter.sendCount);
-    verify(sseEmitterRegistry).removeEmitter(receiverId, brokenEmitter);
+    for (TestEmitter emitter : List.of(first, second)) {
+      verify(sseEmitterRegistry).removeEmitter(receiverId, emitter);
+      verify(sseEmitterWriter).release(emitter);
+      verify(sseHeartbeatScheduler).unregister(emitter);
+      assertTrue(emitter.completeCalled);
+    }
+    // 마지막 연결이 닫힐 때 노드 경로를 지운다
+    verify(sseNodeRouter, times(1)).unregister(receiverId);
   }
 
   @Test
-  @DisplayName("cleanUp - ping 실패 emitter는 complete 후 제거한다")
-  void cleanUp_mixedEmitters() throws Exception {
+  @DisplayName("disconnect - 이 노드에 연결이 없으면 아무것도 하지 않는다")
+  void disconnect_whenNoEmitters_doesNothing() {
     // given
     UUID receiverId = UUID.randomUUID();
-
-    TestEmitter healthy = new TestEmitter(false); // ping 성공
-    TestEmitter broken = new TestEmitter(true);   // ping 중 예외
-
-    ConcurrentMap<UUID, List<SseEmitter>> map = new ConcurrentHashMap<>();
-    map.put(receiverId, new CopyOnWriteArrayList<>(List.of(healthy, broken)));
-
-    when(sseEmitterRegistry.getData()).thenReturn(map);
+    when(sseEmitterRegistry.getData()).thenReturn(new ConcurrentHashMap<>());
 
     // when
-    sseService.cleanUp();
+    sseService.disconnect(receiverId);
 
     // then
-    assertEquals(1, healthy.sendCount);
-    assertEquals(1, broken.sendCount);
-
-    org.junit.jupiter.api.Assertions.assertTrue(broken.completeCalled);
-    verify(sseEmitterRegistry).removeEmitter(receiverId, broken);
-
-    org.junit.jupiter.api.Assertions.assertFalse(healthy.completeCalled);
-    verify(sseEmitterRegistry, never()).removeEmitter(receiverId, healthy);
+    verify(sseEmitterRegistry, never()).removeEmitter(any(), any());
+    verify(sseNodeRouter, never()).unregister(any());
   }
 
   @Test
@@ -283,6 +294,7 @@ class SseServiceTest {
   static class TestEmitter extends SseEmitter {
     int sendCount = 0;
     boolean completeCalled = false;
+    boolean completeWithErrorCalled = false;
     final boolean throwOnSend;
 
     TestEmitter(boolean throwOnSend) {
@@ -298,10 +310,24 @@ class SseServiceTest {
       }
     }
 
+    @Override
+    public void send(Set<DataWithMediaType> items) throws IOException {
+      sendCount++;
+      if (throwOnSend) {
+        throw new IOException("test send error");
+      }
+    }
+
     @Override
     public void complete() {
       completeCalled = true;
       super.complete();
     }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      completeWithErrorCalled = true;
+      super.completeWithError(ex);
+    }
   }
 }